@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteBinary;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS;
+
+/**
+ * Compares serialization and deserialization of objects with fields of fixed reference types through the default
+ * field accessors and through the accessors specialized for the field type, see
+ * {@link org.apache.ignite.IgniteSystemProperties#IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+public class JmhBinaryFieldAccessorBenchmark {
+    /** Whether field accessors specialized for the field type are used. */
+    @Param({"false", "true"})
+    private boolean specialized;
+
+    /** Node. */
+    private Ignite node;
+
+    /** Binary facade. */
+    private IgniteBinary binary;
+
+    /** Object to serialize. */
+    private Value val;
+
+    /** Object to deserialize. */
+    private BinaryObject binVal;
+
+    /**
+     * Setup.
+     */
+    @Setup
+    public void setup() {
+        System.setProperty(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS, Boolean.toString(specialized));
+
+        try {
+            TcpDiscoverySpi discoSpi = new TcpDiscoverySpi();
+
+            discoSpi.setIpFinder(new TcpDiscoveryVmIpFinder(true));
+
+            node = Ignition.start(new IgniteConfiguration()
+                .setIgniteInstanceName("node")
+                .setLocalHost("127.0.0.1")
+                .setDiscoverySpi(discoSpi));
+        }
+        finally {
+            System.clearProperty(IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS);
+        }
+
+        binary = node.binary();
+
+        val = new Value(1);
+
+        binVal = binary.toBinary(val);
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        Ignition.stopAll(true);
+    }
+
+    /**
+     * Benchmarks serialization of the object.
+     *
+     * @return Binary object.
+     */
+    @Benchmark
+    public BinaryObject serialize() {
+        return binary.toBinary(val);
+    }
+
+    /**
+     * Benchmarks deserialization of the object.
+     *
+     * @return Object.
+     */
+    @Benchmark
+    public Value deserialize() {
+        return binVal.deserialize();
+    }
+
+    /**
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        final Options options = new OptionsBuilder()
+            .include(JmhBinaryFieldAccessorBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(options).run();
+    }
+
+    /**
+     * Object with fields of fixed reference types.
+     */
+    public static class Value {
+        /** */
+        private final String str;
+
+        /** */
+        private final Integer intVal;
+
+        /** */
+        private final Long longVal;
+
+        /** */
+        private final Double doubleVal;
+
+        /** */
+        private final UUID uuid;
+
+        /** */
+        private final Date date;
+
+        /** */
+        private final BigDecimal decimal;
+
+        /** */
+        private final byte[] bytes;
+
+        /** */
+        private final long[] longs;
+
+        /**
+         * @param id ID.
+         */
+        Value(int id) {
+            str = "value-" + id;
+            intVal = id;
+            longVal = (long)id;
+            doubleVal = (double)id;
+            uuid = new UUID(id, id);
+            date = new Date(id);
+            decimal = BigDecimal.valueOf(id, 2);
+            bytes = new byte[] {1, 2, 3, 4, 5, 6, 7, 8};
+            longs = new long[] {id, id + 1, id + 2};
+        }
+    }
+}
@@ -80,12 +80,18 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
     /** */
     private static final int KEYS = 1_000_000;
 
+    /** Number of keys in a tree built from scratch. */
+    private static final int BUILD_KEYS = 100_000;
+
     /** */
     private TestTree tree;
 
     /** */
     private PageMemory pageMem;
 
+    /** */
+    private ReuseList reuseList;
+
     /**
      * Fake reuse list.
      */
@@ -134,7 +140,9 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
     public void setup() throws Exception {
         pageMem = createPageMemory();
 
-        tree = new TestTree(new FakeReuseList(), CACHE_ID, pageMem, allocateMetaPage().pageId());
+        reuseList = new FakeReuseList();
+
+        tree = new TestTree(reuseList, CACHE_ID, pageMem, allocateMetaPage().pageId());
 
         for (long l = 0; l < KEYS; l++)
             tree.put(l);
@@ -172,6 +180,52 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
         return tree.put(key);
     }
 
+    /**
+     * Builds a tree from sorted keys by per-row puts, the way trees were copied before bulk load.
+     *
+     * @throws Exception If failed.
+     * @return Tree size.
+     */
+    @Benchmark
+    public long buildByPuts() throws Exception {
+        TestTree tree = new TestTree(reuseList, CACHE_ID, pageMem, allocateMetaPage().pageId());
+
+        try {
+            for (long l = 0; l < BUILD_KEYS; l++)
+                tree.putx(l);
+
+            return tree.size();
+        }
+        finally {
+            tree.destroy();
+        }
+    }
+
+    /**
+     * Builds a tree from sorted keys bottom-up.
+     *
+     * @throws Exception If failed.
+     * @return Tree size.
+     */
+    @Benchmark
+    public long buildByBulkLoad() throws Exception {
+        TestTree tree = new TestTree(reuseList, CACHE_ID, pageMem, allocateMetaPage().pageId());
+
+        try {
+            try (BPlusTree<Long, Long>.BulkLoad load = tree.bulkLoad()) {
+                for (long l = 0; l < BUILD_KEYS; l++)
+                    load.add(l);
+
+                load.finish();
+            }
+
+            return tree.size();
+        }
+        finally {
+            tree.destroy();
+        }
+    }
+
     /**
      * Test tree.
      */
@@ -36,6 +36,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private static final long DFLT_QUERY_MEMORY_QUOTA = 0L;
 
+    /** */
+    private static final boolean DFLT_SPILL_TO_DISK_ENABLED = false;
+
     /** */
     private boolean isDflt;
 
@@ -45,6 +48,9 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
     /** */
     private long qryMemoryQuota = DFLT_QUERY_MEMORY_QUOTA;
 
+    /** */
+    private boolean spillToDiskEnabled = DFLT_SPILL_TO_DISK_ENABLED;
+
     /** {@inheritDoc} */
     @Override public String engineName() {
         return ENGINE_NAME;
@@ -108,4 +114,27 @@ public class CalciteQueryEngineConfiguration implements QueryEngineConfiguration
 
         return this;
     }
+
+    /**
+     * Gets flag indicating whether execution nodes are allowed to spill rows to disk when memory quota is exceeded.
+     *
+     * @return {@code True} if spilling to disk is enabled.
+     */
+    public boolean isSpillToDiskEnabled() {
+        return spillToDiskEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether execution nodes (sort, hash aggregate, EXCEPT and INTERSECT) are allowed to spill
+     * rows to temporary files under the work directory when per-query or global memory quota is exceeded, instead of
+     * failing the query.
+     *
+     * @param spillToDiskEnabled {@code True} to enable spilling to disk.
+     * @return {@code this} for chaining.
+     */
+    public CalciteQueryEngineConfiguration setSpillToDiskEnabled(boolean spillToDiskEnabled) {
+        this.spillToDiskEnabled = spillToDiskEnabled;
+
+        return this;
+    }
 }
@@ -360,6 +360,8 @@ public class ExchangeServiceImpl extends AbstractService implements ExchangeServ
             null,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
+            false,
             0,
             ImmutableMap.of());
     }
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.ExpressionFactoryImpl;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.ExecutionNodeMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.IoTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryTracker;
@@ -50,6 +51,7 @@ import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
 import org.apache.ignite.internal.util.lang.RunnableX;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.checkRange;
 
@@ -102,6 +104,12 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
     /** */
     private final IoTracker ioTracker;
 
+    /** Spill manager, {@code null} if spilling to disk is disabled. */
+    private final SpillManager spillMgr;
+
+    /** Whether execution nodes hand rows over to their consumers in batches. */
+    private final boolean batchMode;
+
     /** */
     private final long timeout;
 
@@ -129,6 +137,8 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         RowHandler<Row> handler,
         MemoryTracker qryMemoryTracker,
         IoTracker ioTracker,
+        @Nullable SpillManager spillMgr,
+        boolean batchMode,
         long timeout,
         Map<String, Object> params
     ) {
@@ -143,6 +153,8 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         this.handler = handler;
         this.qryMemoryTracker = qryMemoryTracker;
         this.ioTracker = ioTracker;
+        this.spillMgr = spillMgr;
+        this.batchMode = batchMode;
         this.params = params;
         this.timeout = timeout;
 
@@ -363,6 +375,21 @@ public class ExecutionContext<Row> extends AbstractQueryContext implements DataC
         return ioTracker;
     }
 
+    /**
+     * @return Spill manager or {@code null} if execution nodes are not allowed to spill rows to disk.
+     */
+    public @Nullable SpillManager spillManager() {
+        return spillMgr;
+    }
+
+    /**
+     * @return {@code True} if execution nodes hand rows over to their consumers in batches,
+     * see {@link org.apache.ignite.internal.processors.query.calcite.exec.rel.Downstream#pushBatch(List)}.
+     */
+    public boolean batchMode() {
+        return batchMode;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean equals(Object o) {
         if (this == o)
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.query.FieldsQueryCursor;
 import org.apache.ignite.cache.query.QueryCancelledException;
 import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
@@ -64,6 +66,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.ddl.DdlCommandHa
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Inbox;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Node;
 import org.apache.ignite.internal.processors.query.calcite.exec.rel.Outbox;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillManager;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.GlobalMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.IoTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryTracker;
@@ -71,6 +74,7 @@ import org.apache.ignite.internal.processors.query.calcite.exec.tracker.NoOpIoTr
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.NoOpMemoryTracker;
 import org.apache.ignite.internal.processors.query.calcite.exec.tracker.PerformanceStatisticsIoTracker;
 import org.apache.ignite.internal.processors.query.calcite.message.ErrorMessage;
+import org.apache.ignite.internal.processors.query.calcite.message.MarshallingContext;
 import org.apache.ignite.internal.processors.query.calcite.message.MessageService;
 import org.apache.ignite.internal.processors.query.calcite.message.MessageType;
 import org.apache.ignite.internal.processors.query.calcite.message.QueryStartRequest;
@@ -108,6 +112,7 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 import static java.util.Collections.singletonList;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_BATCH_MODE;
 import static org.apache.ignite.events.EventType.EVT_CACHE_QUERY_OBJECT_READ;
 import static org.apache.ignite.internal.processors.query.calcite.CalciteQueryProcessor.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.processors.query.calcite.externalize.RelJsonReader.fromJson;
@@ -117,6 +122,9 @@ import static org.apache.ignite.internal.processors.query.calcite.externalize.Re
  */
 @SuppressWarnings("TypeMayBeWeakened")
 public class ExecutionServiceImpl<Row> extends AbstractService implements ExecutionService<Row> {
+    /** Name of the work directory subfolder for spill files. */
+    public static final String SPILL_DIR = "calcite_spill";
+
     /** */
     private final DiscoveryEventListener discoLsnr;
 
@@ -186,6 +194,12 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
     /** */
     private MemoryTracker memoryTracker;
 
+    /** Spill manager, {@code null} if spilling to disk is disabled. */
+    private SpillManager spillMgr;
+
+    /** Whether execution nodes hand rows over to their consumers in batches. */
+    private boolean batchMode;
+
     /**
      * @param ctx Kernal.
      */
@@ -441,6 +455,11 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         memoryTracker = cfg.getGlobalMemoryQuota() > 0 ? new GlobalMemoryTracker(cfg.getGlobalMemoryQuota()) :
             NoOpMemoryTracker.INSTANCE;
 
+        if (cfg.isSpillToDiskEnabled())
+            spillMgr = createSpillManager(ctx);
+
+        batchMode = IgniteSystemProperties.getBoolean(IGNITE_CALCITE_EXEC_BATCH_MODE);
+
         init();
     }
 
@@ -455,6 +474,19 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
         iteratorsHolder().init();
     }
 
+    /** */
+    private SpillManager createSpillManager(GridKernalContext ctx) {
+        try {
+            File dir = U.resolveWorkDirectory(ctx.config().getWorkDirectory(),
+                SPILL_DIR + File.separator + U.maskForFileName(ctx.localNodeId().toString()), true);
+
+            return new SpillManager(dir, (MarshallingContext)messageService(), log);
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteException("Failed to create SQL spill directory", e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void tearDown() {
         eventManager().removeDiscoveryEventListener(discoLsnr, EventType.EVT_NODE_FAILED, EventType.EVT_NODE_LEFT);
@@ -608,6 +640,8 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
             handler,
             qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
             createIoTracker(locNodeId, qry.localQueryId()),
+            spillMgr,
+            batchMode,
             timeout,
             qryParams);
 
@@ -815,6 +849,8 @@ public class ExecutionServiceImpl<Row> extends AbstractService implements Execut
                 handler,
                 qry.createMemoryTracker(memoryTracker, cfg.getQueryMemoryQuota()),
                 createIoTracker(nodeId, msg.originatingQryId()),
+                spillMgr,
+                batchMode,
                 msg.timeout(),
                 Commons.parametersMap(msg.parameters())
             );
@@ -17,10 +17,12 @@
 package org.apache.ignite.internal.processors.query.calcite.exec;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
@@ -29,7 +31,8 @@ import org.apache.ignite.internal.util.typedef.X;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Runtime hash index based on on-heap hash map.
+ * Runtime hash index based on on-heap hash map. Single column keys are indexed by an open addressing hash table,
+ * which references key values and rows directly without per key wrappers and per key row lists.
  */
 public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
     /**
@@ -38,15 +41,24 @@ public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
      */
     private static final GroupKey NULL_KEY = new GroupKey(X.EMPTY_OBJECT_ARRAY);
 
+    /** Placeholder for NULL value of single column key, used if NULL values are allowed. */
+    private static final Object NULL_VAL = new Object();
+
     /** */
     protected final ExecutionContext<Row> ectx;
 
     /** */
     private final ImmutableBitSet keys;
 
-    /** Rows. */
+    /** Rows by multi column keys. */
     private final HashMap<GroupKey, List<Row>> rows;
 
+    /** Rows by single column key. */
+    private final SingleKeyTable<Row> singleKeyRows;
+
+    /** Key field for single column key, {@code -1} for multi column keys. */
+    private final int keyField;
+
     /** Allow NULL values. */
     private final boolean allowNulls;
 
@@ -64,11 +76,30 @@ public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
 
         this.keys = keys;
         this.allowNulls = allowNulls;
-        rows = new HashMap<>();
+
+        if (keys.cardinality() == 1) {
+            keyField = keys.nth(0);
+            singleKeyRows = new SingleKeyTable<>();
+            rows = null;
+        }
+        else {
+            keyField = -1;
+            singleKeyRows = null;
+            rows = new HashMap<>();
+        }
     }
 
     /** {@inheritDoc} */
     @Override public void push(Row r) {
+        if (singleKeyRows != null) {
+            Object key = singleKey(r);
+
+            if (key != null)
+                singleKeyRows.add(key, r);
+
+            return;
+        }
+
         GroupKey key = key(r);
 
         if (key == NULL_KEY)
@@ -81,7 +112,10 @@ public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
 
     /** */
     @Override public void close() {
-        rows.clear();
+        if (singleKeyRows != null)
+            singleKeyRows.clear();
+        else
+            rows.clear();
     }
 
     /** */
@@ -105,6 +139,18 @@ public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
         return b.build();
     }
 
+    /**
+     * @return Single column key of the row or {@code null} if the row should be skipped.
+     */
+    private Object singleKey(Row r) {
+        Object fieldVal = ectx.rowHandler().get(keyField, r);
+
+        if (fieldVal == null)
+            return allowNulls ? NULL_VAL : null;
+
+        return fieldVal;
+    }
+
     /**
      *
      */
@@ -126,6 +172,12 @@ public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
 
         /** {@inheritDoc} */
         @NotNull @Override public Iterator<Row> iterator() {
+            if (singleKeyRows != null) {
+                Object key = singleKey(searchRow.get());
+
+                return key == null ? Collections.emptyIterator() : singleKeyRows.find(key);
+            }
+
             GroupKey key = key(searchRow.get());
 
             if (key == NULL_KEY)
@@ -136,4 +188,153 @@ public class RuntimeHashIndex<Row> implements RuntimeIndex<Row> {
             return eqRows == null ? Collections.emptyIterator() : eqRows.iterator();
         }
     }
+
+    /**
+     * Open addressing (linear probing) hash table of single column keys to chains of rows. Rows of the same key are
+     * linked by indexes in insertion order.
+     */
+    private static class SingleKeyTable<Row> {
+        /** */
+        private static final int INIT_CAP = 16;
+
+        /** Keys by slot, {@code null} marks an empty slot. */
+        private Object[] keys = new Object[INIT_CAP];
+
+        /** Index of the first row of the chain by slot. */
+        private int[] heads = new int[INIT_CAP];
+
+        /** Index of the last row of the chain by slot. */
+        private int[] tails = new int[INIT_CAP];
+
+        /** Count of used slots. */
+        private int size;
+
+        /** Rows in insertion order. */
+        private Object[] rows = new Object[INIT_CAP];
+
+        /** Index of the next row with the same key, {@code -1} for the end of the chain. */
+        private int[] links = new int[INIT_CAP];
+
+        /** Count of rows. */
+        private int rowsCnt;
+
+        /**
+         * @param key Key.
+         * @param row Row.
+         */
+        void add(Object key, Row row) {
+            if (rowsCnt == rows.length) {
+                rows = Arrays.copyOf(rows, rowsCnt << 1);
+                links = Arrays.copyOf(links, rowsCnt << 1);
+            }
+
+            int rowIdx = rowsCnt++;
+
+            rows[rowIdx] = row;
+            links[rowIdx] = -1;
+
+            int slot = slot(keys, key);
+
+            if (keys[slot] == null) {
+                keys[slot] = key;
+                heads[slot] = rowIdx;
+                tails[slot] = rowIdx;
+
+                // Keep load factor not greater than 0.75.
+                if (++size > (keys.length >> 1) + (keys.length >> 2))
+                    rehash();
+            }
+            else {
+                links[tails[slot]] = rowIdx;
+                tails[slot] = rowIdx;
+            }
+        }
+
+        /**
+         * @param key Key.
+         * @return Rows with the given key.
+         */
+        Iterator<Row> find(Object key) {
+            int slot = slot(keys, key);
+
+            if (keys[slot] == null)
+                return Collections.emptyIterator();
+
+            int first = heads[slot];
+
+            return new Iterator<Row>() {
+                /** */
+                private int cur = first;
+
+                /** {@inheritDoc} */
+                @Override public boolean hasNext() {
+                    return cur != -1;
+                }
+
+                /** {@inheritDoc} */
+                @Override public Row next() {
+                    if (cur == -1)
+                        throw new NoSuchElementException();
+
+                    Row row = (Row)rows[cur];
+
+                    cur = links[cur];
+
+                    return row;
+                }
+            };
+        }
+
+        /** */
+        void clear() {
+            keys = new Object[INIT_CAP];
+            heads = new int[INIT_CAP];
+            tails = new int[INIT_CAP];
+            rows = new Object[INIT_CAP];
+            links = new int[INIT_CAP];
+            size = 0;
+            rowsCnt = 0;
+        }
+
+        /** Doubles the count of slots. */
+        private void rehash() {
+            Object[] oldKeys = keys;
+            int[] oldHeads = heads;
+            int[] oldTails = tails;
+
+            keys = new Object[oldKeys.length << 1];
+            heads = new int[keys.length];
+            tails = new int[keys.length];
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == null)
+                    continue;
+
+                int slot = slot(keys, oldKeys[i]);
+
+                keys[slot] = oldKeys[i];
+                heads[slot] = oldHeads[i];
+                tails[slot] = oldTails[i];
+            }
+        }
+
+        /**
+         * @param keys Keys by slot.
+         * @param key Key.
+         * @return Slot of the key or the first empty slot where the key can be placed.
+         */
+        private static int slot(Object[] keys, Object key) {
+            int mask = keys.length - 1;
+
+            // Keys are compared by SQL semantics, the same way as multi column keys.
+            int h = GroupKey.fieldHashCode(key) * 0x9E3779B9;
+
+            int slot = (h ^ (h >>> 16)) & mask;
+
+            while (keys[slot] != null && !GroupKey.fieldEquals(keys[slot], key))
+                slot = (slot + 1) & mask;
+
+            return slot;
+        }
+    }
 }
@@ -17,11 +17,12 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.exp.agg;
 
-import java.util.Arrays;
+import java.math.BigDecimal;
 import org.apache.ignite.internal.util.typedef.X;
 
 /**
- *
+ * Key of a group or of a hash join. Keys are equal if their fields are equal by SQL semantics: decimals of different
+ * scales with the same value and positive and negative floating point zeros are equal.
  */
 public class GroupKey {
     /** */
@@ -47,14 +48,75 @@ public class GroupKey {
         if (o == null || getClass() != o.getClass())
             return false;
 
-        GroupKey groupKey = (GroupKey)o;
+        Object[] otherFields = ((GroupKey)o).fields;
+
+        if (fields.length != otherFields.length)
+            return false;
+
+        for (int i = 0; i < fields.length; i++) {
+            if (!fieldEquals(fields[i], otherFields[i]))
+                return false;
+        }
 
-        return Arrays.equals(fields, groupKey.fields);
+        return true;
     }
 
     /** {@inheritDoc} */
     @Override public int hashCode() {
-        return Arrays.hashCode(fields);
+        int res = 1;
+
+        for (Object field : fields)
+            res = 31 * res + fieldHashCode(field);
+
+        return res;
+    }
+
+    /**
+     * @param f1 First field value.
+     * @param f2 Second field value.
+     * @return {@code True} if the field values are equal by SQL semantics.
+     */
+    public static boolean fieldEquals(Object f1, Object f2) {
+        if (f1 == f2)
+            return true;
+
+        if (f1 == null || f2 == null)
+            return false;
+
+        if (f1 instanceof BigDecimal && f2 instanceof BigDecimal)
+            return ((BigDecimal)f1).compareTo((BigDecimal)f2) == 0;
+
+        // Positive and negative zeros are equal, NaNs are equal to each other to fall into a single group.
+        if (f1 instanceof Double && f2 instanceof Double)
+            return (double)f1 == (double)f2 || f1.equals(f2);
+
+        if (f1 instanceof Float && f2 instanceof Float)
+            return (float)f1 == (float)f2 || f1.equals(f2);
+
+        return f1.equals(f2);
+    }
+
+    /**
+     * @param field Field value.
+     * @return Hash code of the field value consistent with {@link #fieldEquals(Object, Object)}.
+     */
+    public static int fieldHashCode(Object field) {
+        if (field == null)
+            return 0;
+
+        if (field instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal)field;
+
+            return dec.signum() == 0 ? 0 : dec.stripTrailingZeros().hashCode();
+        }
+
+        if (field instanceof Double)
+            return (double)field == 0d ? 0 : field.hashCode();
+
+        if (field instanceof Float)
+            return (float)field == 0f ? 0 : field.hashCode();
+
+        return field.hashCode();
     }
 
     /** */
@@ -49,6 +49,9 @@ public abstract class AbstractNode<Row> implements Node<Row> {
     /** */
     protected static final int IO_BATCH_CNT = IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_IO_BATCH_CNT, 4);
 
+    /** Whether rows are handed over to consumers in batches, see {@link Downstream#pushBatch(List)}. */
+    protected final boolean batchMode;
+
     /** for debug purpose */
     private volatile Thread thread;
 
@@ -77,6 +80,8 @@ public abstract class AbstractNode<Row> implements Node<Row> {
     protected AbstractNode(ExecutionContext<Row> ctx, RelDataType rowType) {
         this.ctx = ctx;
         this.rowType = rowType;
+
+        batchMode = ctx.batchMode();
     }
 
     /**
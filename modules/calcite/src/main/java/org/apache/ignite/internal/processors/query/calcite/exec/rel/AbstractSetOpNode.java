@@ -29,12 +29,19 @@ import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryQuotaExceededException;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.RowTracker;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 /**
  * Abstract execution node for set operators (EXCEPT, INTERSECT).
  */
 public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
+    /** Count of hash partitions groups are spilled to when memory quota is exceeded. */
+    private static final int SPILL_PARTITIONS = 16;
+
     /** */
     private final AggregateType type;
 
@@ -53,6 +60,9 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
     /** */
     private boolean inLoop;
 
+    /** Whether groups can be spilled to disk when memory quota is exceeded. */
+    private final boolean spillEnabled;
+
     /** */
     protected AbstractSetOpNode(ExecutionContext<Row> ctx, RelDataType rowType, AggregateType type, boolean all,
         RowFactory<Row> rowFactory, Grouping<Row> grouping) {
@@ -60,6 +70,8 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
 
         this.type = type;
         this.grouping = grouping;
+
+        spillEnabled = ctx.spillManager() != null;
     }
 
     /** {@inheritDoc} */
@@ -91,8 +103,20 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
 
         grouping.add(row, idx);
 
-        if (grouping.size() > size)
-            nodeMemoryTracker.onRowAdded(row);
+        if (grouping.size() > size) {
+            if (spillEnabled) {
+                try {
+                    nodeMemoryTracker.onRowAdded(row);
+                }
+                catch (MemoryQuotaExceededException e) {
+                    grouping.spill();
+
+                    nodeMemoryTracker.reset();
+                }
+            }
+            else
+                nodeMemoryTracker.onRowAdded(row);
+        }
         else if (grouping.size() < size)
             nodeMemoryTracker.onRowRemoved(row);
 
@@ -118,6 +142,14 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
         if (curSrcIdx >= sources().size()) {
             waiting = -1;
 
+            if (grouping.isSpilled()) {
+                // Groups remaining in memory can intersect with the spilled ones, so spill them too and then
+                // process spilled partitions one by one.
+                grouping.spill();
+
+                nodeMemoryTracker.reset();
+            }
+
             flush();
         }
         else
@@ -130,9 +162,17 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
         waiting = 0;
         curSrcIdx = 0;
         grouping.groups.clear();
+        grouping.closePartitions();
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        grouping.closePartitions();
+
+        super.closeInternal();
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         return new Downstream<Row>() {
@@ -164,7 +204,16 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
         inLoop = true;
 
         try {
-            if (requested > 0 && !grouping.isEmpty()) {
+            while (requested > 0 && !grouping.isEmpty()) {
+                if (grouping.groups.isEmpty()) {
+                    // Rows of the previous spilled partition are already sent, only one partition is kept in memory.
+                    nodeMemoryTracker.reset();
+
+                    grouping.loadNextPartition(nodeMemoryTracker);
+
+                    continue;
+                }
+
                 int toSnd = Math.min(requested, IN_BUFFER_SIZE - processed);
 
                 int size = grouping.size();
@@ -173,12 +222,14 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
 
                 int removed = size - grouping.size();
 
+                int sent = 0;
+
                 for (Row row : rows) {
                     requested--;
 
                     downstream().push(row);
 
-                    if (processed < removed)
+                    if (sent++ < removed)
                         nodeMemoryTracker.onRowRemoved(row);
 
                     processed++;
@@ -223,12 +274,27 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
         /** Processed rows count in current set. */
         protected int rowsCnt = 0;
 
+        /** */
+        private final ExecutionContext<Row> ctx;
+
+        /** Factory for rows written to spill files: group key and counters. */
+        private final RowFactory<Row> spillRowFactory;
+
+        /** Hash partitions of spilled groups. */
+        private List<SpillFile<Row>> parts;
+
+        /** Index of the next spilled partition to process. */
+        private int nextPart;
+
         /** */
         protected Grouping(ExecutionContext<Row> ctx, RowFactory<Row> rowFactory, AggregateType type, boolean all) {
             hnd = ctx.rowHandler();
+            this.ctx = ctx;
             this.type = type;
             this.all = all;
             this.rowFactory = rowFactory;
+
+            spillRowFactory = hnd.factory(Object.class, Object.class);
         }
 
         /** */
@@ -238,8 +304,11 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
 
                 addOnReducer(row);
             }
-            else if (type == AggregateType.MAP)
+            else if (type == AggregateType.MAP || isSpilled()) {
+                // Once groups are spilled, counters are collected the same way as on the map phase, since they
+                // are summed up with the spilled ones later.
                 addOnMapper(row, setIdx);
+            }
             else
                 addOnSingle(row, setIdx);
 
@@ -372,7 +441,66 @@ public abstract class AbstractSetOpNode<Row> extends MemoryTrackingNode<Row> {
 
         /** */
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && (parts == null || nextPart >= parts.size());
+        }
+
+        /** */
+        private boolean isSpilled() {
+            return parts != null;
+        }
+
+        /**
+         * Writes groups to hash partitioned spill files and clears them in memory.
+         */
+        private void spill() {
+            if (parts == null) {
+                parts = new ArrayList<>(SPILL_PARTITIONS);
+
+                for (int i = 0; i < SPILL_PARTITIONS; i++)
+                    parts.add(ctx.spillManager().createFile(ctx.queryId()));
+            }
+
+            for (Map.Entry<GroupKey, int[]> entry : groups.entrySet()) {
+                parts.get(U.safeAbs(entry.getKey().hashCode()) % SPILL_PARTITIONS)
+                    .write(spillRowFactory.create(entry.getKey(), entry.getValue()));
+            }
+
+            groups.clear();
+        }
+
+        /**
+         * Loads and sums up counters of the next spilled partition.
+         *
+         * @param tracker Memory tracker.
+         */
+        private void loadNextPartition(RowTracker<Row> tracker) {
+            assert groups.isEmpty();
+
+            try (SpillFile<Row> part = parts.get(nextPart++)) {
+                Iterator<Row> it = part.read();
+
+                while (it.hasNext()) {
+                    Row row = it.next();
+
+                    int size = groups.size();
+
+                    addOnReducer(row);
+
+                    if (groups.size() > size)
+                        tracker.onRowAdded(row);
+                }
+            }
+        }
+
+        /** */
+        private void closePartitions() {
+            if (parts != null) {
+                for (SpillFile<Row> part : parts)
+                    U.closeQuiet(part);
+            }
+
+            parts = null;
+            nextPart = 0;
         }
 
         /** */
@@ -18,12 +18,15 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.Nullable;
 
 /**
  *
@@ -35,6 +38,9 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
     /** */
     private final Deque<Row> inBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
 
+    /** Rows to be pushed to downstream at once in batch mode, {@code null} otherwise. */
+    @Nullable private final List<Row> outBatch = batchMode ? new ArrayList<>(IN_BUFFER_SIZE) : null;
+
     /** */
     private int requested;
 
@@ -82,6 +88,25 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
         filter();
     }
 
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> rows) throws Exception {
+        assert downstream() != null;
+        assert waiting >= rows.size();
+
+        checkState();
+
+        waiting -= rows.size();
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+
+            if (pred.test(row))
+                inBuf.add(row);
+        }
+
+        filter();
+    }
+
     /** {@inheritDoc} */
     @Override public void end() throws Exception {
         assert downstream() != null;
@@ -123,8 +148,25 @@ public class FilterNode<Row> extends AbstractNode<Row> implements SingleNode<Row
             while (requested > 0 && !inBuf.isEmpty()) {
                 checkState();
 
-                requested--;
-                downstream().push(inBuf.remove());
+                if (outBatch != null) {
+                    int cnt = Math.min(requested, inBuf.size());
+
+                    for (int i = 0; i < cnt; i++)
+                        outBatch.add(inBuf.remove());
+
+                    requested -= cnt;
+
+                    try {
+                        downstream().pushBatch(outBatch);
+                    }
+                    finally {
+                        outBatch.clear();
+                    }
+                }
+                else {
+                    requested--;
+                    downstream().push(inBuf.remove());
+                }
             }
         }
         finally {
@@ -35,7 +35,10 @@ import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.Accumula
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryQuotaExceededException;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.processors.query.calcite.util.Commons.negate;
@@ -44,6 +47,9 @@ import static org.apache.ignite.internal.processors.query.calcite.util.Commons.n
  *
  */
 public class HashAggregateNode<Row> extends AggregateNode<Row> {
+    /** Count of hash partitions groups are spilled to when memory quota is exceeded. */
+    private static final int SPILL_PARTITIONS = 16;
+
     /** */
     private final ImmutableBitSet grpSet;
 
@@ -59,6 +65,12 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     /** */
     private boolean inLoop;
 
+    /** Whether groups can be spilled to disk when memory quota is exceeded. */
+    private final boolean spillEnabled;
+
+    /** Whether any groups were spilled to disk. */
+    private boolean spilled;
+
     /**
      * @param ctx Execution context.
      */
@@ -87,6 +99,8 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         }
 
         grpSet = b.build();
+
+        spillEnabled = ctx.spillManager() != null;
     }
 
     /** */
@@ -122,6 +136,30 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting--;
 
+        addRow(row);
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> rows) throws Exception {
+        assert downstream() != null;
+        assert waiting >= rows.size();
+
+        checkState();
+
+        waiting -= rows.size();
+
+        for (int i = 0; i < rows.size(); i++)
+            addRow(rows.get(i));
+
+        if (waiting == 0)
+            source().request(waiting = IN_BUFFER_SIZE);
+    }
+
+    /** Adds a row to the groupings. */
+    private void addRow(Row row) {
         boolean groupingsChanged = false;
 
         for (Grouping grouping : groupings) {
@@ -147,11 +185,18 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         // aggregations (all redundant columns are dropped by optimizer earlier), so, just calculating the size of the
         // whole row we have close to real memory consumption by row referenced objects (except service structures).
         // Also we can guess size of service structures required by grouping and use it as constant row overhead.
-        if (hasAggAccum || groupingsChanged)
-            nodeMemoryTracker.onRowAdded(row);
-
-        if (waiting == 0)
-            source().request(waiting = IN_BUFFER_SIZE);
+        if (hasAggAccum || groupingsChanged) {
+            if (spillEnabled) {
+                try {
+                    nodeMemoryTracker.onRowAdded(row);
+                }
+                catch (MemoryQuotaExceededException e) {
+                    spill();
+                }
+            }
+            else
+                nodeMemoryTracker.onRowAdded(row);
+        }
     }
 
     /** {@inheritDoc} */
@@ -163,6 +208,12 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         waiting = -1;
 
+        if (spilled) {
+            // Groups remaining in memory can intersect with the spilled ones, so spill them too and then
+            // aggregate spilled partitions one by one.
+            spill();
+        }
+
         flush();
     }
 
@@ -170,10 +221,30 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
     @Override protected void rewindInternal() {
         requested = 0;
         waiting = 0;
+        spilled = false;
         groupings.forEach(Grouping::reset);
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        groupings.forEach(Grouping::closePartitions);
+
+        super.closeInternal();
+    }
+
+    /**
+     * Writes groups of all groupings to hash partitioned spill files and releases memory.
+     */
+    private void spill() {
+        for (Grouping grouping : groupings)
+            grouping.spill();
+
+        spilled = true;
+
+        nodeMemoryTracker.reset();
+    }
+
     /** */
     private void flush() throws Exception {
         if (isClosed())
@@ -244,6 +315,15 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         /** */
         private final RowHandler<Row> handler;
 
+        /** Factory for rows written to spill files: group key fields and accumulators. */
+        private final RowFactory<Row> spillRowFactory;
+
+        /** Hash partitions of spilled groups. */
+        private List<SpillFile<Row>> parts;
+
+        /** Index of the next spilled partition to aggregate. */
+        private int nextPart;
+
         /** */
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
@@ -251,6 +331,8 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
             handler = context().rowHandler();
 
+            spillRowFactory = handler.factory(Object.class, Object.class);
+
             init();
         }
 
@@ -266,9 +348,83 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
         private void reset() {
             groups.clear();
 
+            closePartitions();
+
             init();
         }
 
+        /** */
+        private void spill() {
+            if (groups.isEmpty())
+                return;
+
+            if (parts == null) {
+                parts = new ArrayList<>(SPILL_PARTITIONS);
+
+                for (int i = 0; i < SPILL_PARTITIONS; i++)
+                    parts.add(context().spillManager().createFile(context().queryId()));
+            }
+
+            for (Map.Entry<GroupKey, List<AccumulatorWrapper<Row>>> entry : groups.entrySet()) {
+                GroupKey grpKey = entry.getKey();
+
+                parts.get(U.safeAbs(grpKey.hashCode()) % SPILL_PARTITIONS)
+                    .write(spillRowFactory.create(grpKey.fields(), accumulators(entry.getValue())));
+            }
+
+            groups.clear();
+        }
+
+        /**
+         * Aggregates groups of the next non-empty spilled partition in memory.
+         *
+         * @return {@code False} if there are no more spilled partitions.
+         */
+        private boolean loadNextPartition() {
+            while (parts != null && nextPart < parts.size()) {
+                // Groups of the previous partition are already sent, only one partition is kept in memory at a time.
+                nodeMemoryTracker.reset();
+
+                try (SpillFile<Row> part = parts.get(nextPart++)) {
+                    Iterator<Row> it = part.read();
+
+                    while (it.hasNext()) {
+                        Row row = it.next();
+
+                        GroupKey grpKey = new GroupKey((Object[])handler.get(0, row));
+                        Accumulator<Row>[] accums = (Accumulator<Row>[])handler.get(1, row);
+
+                        List<AccumulatorWrapper<Row>> wrappers = groups.get(grpKey);
+
+                        if (wrappers == null) {
+                            groups.put(grpKey, wrappers = create(grpKey));
+
+                            nodeMemoryTracker.onRowAdded(row);
+                        }
+
+                        for (int i = 0; i < wrappers.size(); i++)
+                            wrappers.get(i).accumulator().apply(accums[i]);
+                    }
+                }
+
+                if (!groups.isEmpty())
+                    return true;
+            }
+
+            return false;
+        }
+
+        /** */
+        private void closePartitions() {
+            if (parts != null) {
+                for (SpillFile<Row> part : parts)
+                    U.closeQuiet(part);
+            }
+
+            parts = null;
+            nextPart = 0;
+        }
+
         /** */
         private void add(Row row) {
             if (type == AggregateType.REDUCE)
@@ -283,7 +439,7 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
          * @return Actually sent rows number.
          */
         private List<Row> getRows(int cnt) {
-            if (F.isEmpty(groups))
+            if (F.isEmpty(groups) && !loadNextPartition())
                 return Collections.emptyList();
             else if (type == AggregateType.MAP)
                 return getOnMapper(cnt);
@@ -337,15 +493,8 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
                 Map.Entry<GroupKey, List<AccumulatorWrapper<Row>>> entry = it.next();
 
                 GroupKey grpKey = entry.getKey();
-                if (hasAccumulators()) {
-                    List<AccumulatorWrapper<Row>> wrappers = entry.getValue();
-                    Accumulator<Row>[] accums = new Accumulator[wrappers.size()];
-
-                    for (int j = 0; j < wrappers.size(); j++)
-                        accums[j] = wrappers.get(j).accumulator();
-
-                    res.add(rowFactory.create(grpId, grpKey, accums));
-                }
+                if (hasAccumulators())
+                    res.add(rowFactory.create(grpId, grpKey, accumulators(entry.getValue())));
                 else
                     res.add(rowFactory.create(grpId, grpKey));
 
@@ -387,6 +536,16 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
             return res;
         }
 
+        /** */
+        private Accumulator<Row>[] accumulators(List<AccumulatorWrapper<Row>> wrappers) {
+            Accumulator<Row>[] accums = new Accumulator[wrappers.size()];
+
+            for (int j = 0; j < wrappers.size(); j++)
+                accums[j] = wrappers.get(j).accumulator();
+
+            return accums;
+        }
+
         /** */
         private List<AccumulatorWrapper<Row>> create(GroupKey key) {
             if (accFactory == null)
@@ -397,7 +556,7 @@ public class HashAggregateNode<Row> extends AggregateNode<Row> {
 
         /** */
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && (parts == null || nextPart >= parts.size());
         }
 
         /** */
@@ -0,0 +1,501 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.util.typedef.F;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Hash join node. Materializes the right (build) input into a hash table keyed by the equi-join keys and then
+ * streams the left (probe) input, looking up candidate rows by the key. The full join condition is re-checked
+ * for each candidate. Keys are compared by SQL equality, so rows with a NULL key never match: such right rows are
+ * not stored, and such left rows get no candidates, while LEFT and ANTI joins still emit them.
+ */
+public abstract class HashJoinNode<Row> extends MemoryTrackingNode<Row> {
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    protected static final int NOT_WAITING = -1;
+
+    /** */
+    protected final BiPredicate<Row, Row> cond;
+
+    /** */
+    protected final RowHandler<Row> handler;
+
+    /** Key fields of the left (probe) input. */
+    private final int[] leftKeys;
+
+    /** Key fields of the right (build) input. */
+    private final int[] rightKeys;
+
+    /** Materialized right input. */
+    private final Map<GroupKey, List<Row>> hashStore = new HashMap<>();
+
+    /** */
+    protected final Deque<Row> leftInBuf = new ArrayDeque<>(IN_BUFFER_SIZE);
+
+    /** */
+    protected int requested;
+
+    /** */
+    protected int waitingLeft;
+
+    /** */
+    protected int waitingRight;
+
+    /** */
+    protected boolean inLoop;
+
+    /** Current left row. */
+    protected Row left;
+
+    /** Right rows having the same key as the current left row. */
+    protected List<Row> rightRows;
+
+    /** Index of the next right row to check against the current left row. */
+    protected int rightIdx;
+
+    /** Whether current left row was matched or not. */
+    protected boolean matched;
+
+    /**
+     * @param ctx Execution context.
+     * @param rowType Row type.
+     * @param cond Join expression.
+     * @param leftKeys Key fields of the left input.
+     * @param rightKeys Key fields of the right input.
+     */
+    private HashJoinNode(
+        ExecutionContext<Row> ctx,
+        RelDataType rowType,
+        BiPredicate<Row, Row> cond,
+        int[] leftKeys,
+        int[] rightKeys
+    ) {
+        super(ctx, rowType, HASH_MAP_ROW_OVERHEAD);
+
+        assert leftKeys.length == rightKeys.length;
+
+        this.cond = cond;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+
+        handler = ctx.rowHandler();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void request(int rowsCnt) throws Exception {
+        assert !F.isEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop)
+            context().execute(this::doJoin, this::onError);
+    }
+
+    /** */
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        left = null;
+        rightRows = null;
+        rightIdx = 0;
+        matched = false;
+
+        hashStore.clear();
+        leftInBuf.clear();
+
+        nodeMemoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected Downstream<Row> requestDownstream(int idx) {
+        if (idx == 0)
+            return new Downstream<Row>() {
+                /** {@inheritDoc} */
+                @Override public void push(Row row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        else if (idx == 1)
+            return new Downstream<Row>() {
+                /** {@inheritDoc} */
+                @Override public void push(Row row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    /** */
+    private void pushLeft(Row row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        leftInBuf.add(row);
+
+        join();
+    }
+
+    /** */
+    private void pushRight(Row row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        if (!hasNullKey(row, rightKeys)) {
+            hashStore.computeIfAbsent(key(row, rightKeys), k -> new ArrayList<>(1)).add(row);
+
+            nodeMemoryTracker.onRowAdded(row);
+        }
+
+        if (waitingRight == 0)
+            rightSource().request(waitingRight = IN_BUFFER_SIZE);
+    }
+
+    /** */
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        join();
+    }
+
+    /** */
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        join();
+    }
+
+    /** */
+    protected Node<Row> leftSource() {
+        return sources().get(0);
+    }
+
+    /** */
+    protected Node<Row> rightSource() {
+        return sources().get(1);
+    }
+
+    /** */
+    private GroupKey key(Row row, int[] keys) {
+        GroupKey.Builder b = GroupKey.builder(keys.length);
+
+        for (int key : keys)
+            b.add(handler.get(key, row));
+
+        return b.build();
+    }
+
+    /** */
+    private boolean hasNullKey(Row row, int[] keys) {
+        for (int key : keys) {
+            if (handler.get(key, row) == null)
+                return true;
+        }
+
+        return false;
+    }
+
+    /** */
+    private List<Row> lookup(Row row) {
+        if (hasNullKey(row, leftKeys))
+            return Collections.emptyList();
+
+        List<Row> rows = hashStore.get(key(row, leftKeys));
+
+        return rows == null ? Collections.emptyList() : rows;
+    }
+
+    /** */
+    private void join() throws Exception {
+        if (waitingRight == NOT_WAITING) {
+            inLoop = true;
+            try {
+                while (requested > 0 && (left != null || !leftInBuf.isEmpty())) {
+                    checkState();
+
+                    if (left == null) {
+                        left = leftInBuf.remove();
+                        rightRows = lookup(left);
+                        rightIdx = 0;
+                        matched = false;
+                    }
+
+                    if (joinLeft()) {
+                        left = null;
+                        rightRows = null;
+                    }
+                }
+            }
+            finally {
+                inLoop = false;
+            }
+        }
+
+        if (waitingRight == 0)
+            rightSource().request(waitingRight = IN_BUFFER_SIZE);
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty())
+            leftSource().request(waitingLeft = IN_BUFFER_SIZE);
+
+        if (requested > 0 && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && left == null
+            && leftInBuf.isEmpty()) {
+            requested = 0;
+            downstream().end();
+        }
+    }
+
+    /**
+     * Joins the current left row with the right rows having the same key.
+     *
+     * @return {@code True} if the current left row is completely processed, {@code false} if processing should be
+     * resumed when more rows are requested.
+     */
+    protected abstract boolean joinLeft() throws Exception;
+
+    /** */
+    @NotNull public static <Row> HashJoinNode<Row> create(
+        ExecutionContext<Row> ctx,
+        RelDataType outputRowType,
+        RelDataType rightRowType,
+        JoinRelType joinType,
+        BiPredicate<Row, Row> cond,
+        int[] leftKeys,
+        int[] rightKeys
+    ) {
+        switch (joinType) {
+            case INNER:
+                return new InnerJoin<>(ctx, outputRowType, cond, leftKeys, rightKeys);
+
+            case LEFT: {
+                RowHandler.RowFactory<Row> rightRowFactory = ctx.rowHandler()
+                    .factory(ctx.getTypeFactory(), rightRowType);
+
+                return new LeftJoin<>(ctx, outputRowType, cond, leftKeys, rightKeys, rightRowFactory);
+            }
+
+            case SEMI:
+                return new SemiJoin<>(ctx, outputRowType, cond, leftKeys, rightKeys);
+
+            case ANTI:
+                return new AntiJoin<>(ctx, outputRowType, cond, leftKeys, rightKeys);
+
+            default:
+                throw new IllegalStateException("Join type \"" + joinType + "\" is not supported yet");
+        }
+    }
+
+    /** */
+    private static class InnerJoin<Row> extends HashJoinNode<Row> {
+        /** */
+        public InnerJoin(
+            ExecutionContext<Row> ctx,
+            RelDataType rowType,
+            BiPredicate<Row, Row> cond,
+            int[] leftKeys,
+            int[] rightKeys
+        ) {
+            super(ctx, rowType, cond, leftKeys, rightKeys);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean joinLeft() throws Exception {
+            while (requested > 0 && rightIdx < rightRows.size()) {
+                Row right = rightRows.get(rightIdx++);
+
+                if (!cond.test(left, right))
+                    continue;
+
+                requested--;
+
+                downstream().push(handler.concat(left, right));
+            }
+
+            return rightIdx == rightRows.size();
+        }
+    }
+
+    /** */
+    private static class LeftJoin<Row> extends HashJoinNode<Row> {
+        /** Right row factory. */
+        private final RowHandler.RowFactory<Row> rightRowFactory;
+
+        /** */
+        public LeftJoin(
+            ExecutionContext<Row> ctx,
+            RelDataType rowType,
+            BiPredicate<Row, Row> cond,
+            int[] leftKeys,
+            int[] rightKeys,
+            RowHandler.RowFactory<Row> rightRowFactory
+        ) {
+            super(ctx, rowType, cond, leftKeys, rightKeys);
+
+            this.rightRowFactory = rightRowFactory;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean joinLeft() throws Exception {
+            while (requested > 0 && rightIdx < rightRows.size()) {
+                Row right = rightRows.get(rightIdx++);
+
+                if (!cond.test(left, right))
+                    continue;
+
+                requested--;
+                matched = true;
+
+                downstream().push(handler.concat(left, right));
+            }
+
+            if (rightIdx < rightRows.size())
+                return false;
+
+            if (!matched) {
+                if (requested == 0)
+                    return false;
+
+                requested--;
+
+                downstream().push(handler.concat(left, rightRowFactory.create()));
+            }
+
+            return true;
+        }
+    }
+
+    /** */
+    private static class SemiJoin<Row> extends HashJoinNode<Row> {
+        /** */
+        public SemiJoin(
+            ExecutionContext<Row> ctx,
+            RelDataType rowType,
+            BiPredicate<Row, Row> cond,
+            int[] leftKeys,
+            int[] rightKeys
+        ) {
+            super(ctx, rowType, cond, leftKeys, rightKeys);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean joinLeft() throws Exception {
+            while (rightIdx < rightRows.size()) {
+                if (cond.test(left, rightRows.get(rightIdx++))) {
+                    requested--;
+
+                    downstream().push(left);
+
+                    break;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /** */
+    private static class AntiJoin<Row> extends HashJoinNode<Row> {
+        /** */
+        public AntiJoin(
+            ExecutionContext<Row> ctx,
+            RelDataType rowType,
+            BiPredicate<Row, Row> cond,
+            int[] leftKeys,
+            int[] rightKeys
+        ) {
+            super(ctx, rowType, cond, leftKeys, rightKeys);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean joinLeft() throws Exception {
+            while (rightIdx < rightRows.size()) {
+                if (cond.test(left, rightRows.get(rightIdx++)))
+                    return true;
+            }
+
+            requested--;
+
+            downstream().push(left);
+
+            return true;
+        }
+    }
+}
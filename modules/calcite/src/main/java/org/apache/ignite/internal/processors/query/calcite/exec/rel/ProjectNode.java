@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
@@ -29,6 +31,9 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
     /** */
     private final Function<Row, Row> prj;
 
+    /** Buffer of projected rows reused between batches, {@code null} while it is handed over to downstream. */
+    private List<Row> outBatch;
+
     /**
      * @param ctx Execution context.
      * @param prj Projection.
@@ -63,6 +68,31 @@ public class ProjectNode<Row> extends AbstractNode<Row> implements SingleNode<Ro
         downstream().push(prj.apply(row));
     }
 
+    /** {@inheritDoc} */
+    @Override public void pushBatch(List<Row> rows) throws Exception {
+        assert downstream() != null;
+
+        checkState();
+
+        // A new buffer is allocated only on the first batch or when downstream pushes the next batch back into this
+        // node before the current one is handed over.
+        List<Row> res = outBatch != null ? outBatch : new ArrayList<>(rows.size());
+
+        outBatch = null;
+
+        try {
+            for (int i = 0; i < rows.size(); i++)
+                res.add(prj.apply(rows.get(i)));
+
+            downstream().pushBatch(res);
+        }
+        finally {
+            res.clear();
+
+            outBatch = res;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void end() throws Exception {
         assert downstream() != null;
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
@@ -24,6 +25,7 @@ import java.util.function.Predicate;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.util.Commons;
+import org.apache.ignite.internal.util.typedef.F;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -39,6 +41,9 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
     /** */
     @Nullable private final Function<Row, Row> rowTransformer;
 
+    /** Rows to be pushed to downstream at once in batch mode, {@code null} otherwise. */
+    @Nullable private final List<Row> batch = batchMode ? new ArrayList<>(IN_BUFFER_SIZE) : null;
+
     /** */
     private Iterator<Row> it;
 
@@ -118,6 +123,9 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
     @Override protected void rewindInternal() {
         Commons.closeQuiet(it);
         it = null;
+
+        if (batch != null)
+            batch.clear();
     }
 
     /** {@inheritDoc} */
@@ -160,22 +168,36 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
             Row r = it.next();
 
             if (filter == null || filter.test(r)) {
-                requested--;
-
                 if (rowTransformer != null)
                     r = rowTransformer.apply(r);
 
-                downstream().push(r);
+                if (batch != null) {
+                    batch.add(r);
+
+                    if (batch.size() == requested)
+                        pushBatch();
+                }
+                else {
+                    requested--;
+
+                    downstream().push(r);
+                }
             }
 
-            if (++processed == IN_BUFFER_SIZE && requested > 0) {
-                // Allow others to do their job.
-                context().execute(this::push, this::onError);
+            if (++processed == IN_BUFFER_SIZE) {
+                pushBatch();
 
-                return processed;
+                if (requested > 0) {
+                    // Allow others to do their job.
+                    context().execute(this::push, this::onError);
+
+                    return processed;
+                }
             }
         }
 
+        pushBatch();
+
         if (requested > 0 && !it.hasNext()) {
             Commons.closeQuiet(it);
             it = null;
@@ -188,6 +210,21 @@ public class ScanNode<Row> extends AbstractNode<Row> implements SingleNode<Row>
         return processed;
     }
 
+    /** Pushes rows collected in batch mode to downstream. */
+    private void pushBatch() throws Exception {
+        if (F.isEmpty(batch))
+            return;
+
+        requested -= batch.size();
+
+        try {
+            downstream().pushBatch(batch);
+        }
+        finally {
+            batch.clear();
+        }
+    }
+
     /** */
     @Nullable public Predicate<Row> filter() {
         return filter;
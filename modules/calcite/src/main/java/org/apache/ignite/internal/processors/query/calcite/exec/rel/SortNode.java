@@ -18,13 +18,17 @@ package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.spill.SpillFile;
+import org.apache.ignite.internal.processors.query.calcite.exec.tracker.MemoryQuotaExceededException;
 import org.apache.ignite.internal.util.GridBoundedPriorityQueue;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -49,6 +53,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
     /** Reverse-ordered rows in case of limited sort. */
     private List<Row> reversed;
 
+    /** Rows comparator. */
+    private final Comparator<Row> comp;
+
+    /** Whether sorted runs can be spilled to disk when memory quota is exceeded. */
+    private final boolean spillEnabled;
+
+    /** Sorted runs spilled to disk. */
+    private List<SpillFile<Row>> runs;
+
+    /** Cursors over sorted runs ordered by their current rows, used to merge spilled runs. */
+    private PriorityQueue<RunCursor> mergeQueue;
+
     /**
      * @param ctx Execution context.
      * @param comp Rows comparator.
@@ -68,6 +84,11 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         limit = fetch == null ? -1 : fetch.get() + (offset == null ? 0 : offset.get());
 
+        this.comp = comp;
+
+        // Limited sort keeps at most 'limit' rows, there is no need to spill it.
+        spillEnabled = limit < 0 && ctx.spillManager() != null;
+
         if (limit < 0)
             rows = new PriorityQueue<>(comp);
         else {
@@ -92,9 +113,18 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         if (reversed != null)
             reversed.clear();
 
+        closeRuns();
+
         nodeMemoryTracker.reset();
     }
 
+    /** {@inheritDoc} */
+    @Override protected void closeInternal() {
+        closeRuns();
+
+        super.closeInternal();
+    }
+
     /** {@inheritDoc} */
     @Override protected Downstream<Row> requestDownstream(int idx) {
         if (idx != 0)
@@ -133,10 +163,20 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
         Row top = rows.peek();
 
         if (rows.add(row)) {
-            nodeMemoryTracker.onRowAdded(row);
+            if (spillEnabled) {
+                try {
+                    nodeMemoryTracker.onRowAdded(row);
+                }
+                catch (MemoryQuotaExceededException e) {
+                    spill();
+                }
+            }
+            else {
+                nodeMemoryTracker.onRowAdded(row);
 
-            if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
-                nodeMemoryTracker.onRowRemoved(top);
+                if (size == rows.size()) // Row added, but size is not changed means another (top) row is evicted.
+                    nodeMemoryTracker.onRowRemoved(top);
+            }
         }
 
         if (waiting == 0)
@@ -166,6 +206,9 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
 
         inLoop = true;
         try {
+            if (runs != null && mergeQueue == null)
+                initMerge();
+
             // Prepare final order (reversed).
             if (limit > 0 && !rows.isEmpty()) {
                 if (reversed == null)
@@ -185,16 +228,12 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 processed = 0;
             }
 
-            while (requested > 0 && (reversed == null ? !rows.isEmpty() : !reversed.isEmpty())) {
+            while (requested > 0 && hasMoreRows()) {
                 checkState();
 
                 requested--;
 
-                Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
-
-                nodeMemoryTracker.onRowRemoved(row);
-
-                downstream().push(row);
+                downstream().push(nextRow());
 
                 if (++processed >= IN_BUFFER_SIZE && requested > 0) {
                     // allow others to do their job
@@ -204,7 +243,7 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasMoreRows()) {
                 if (requested > 0)
                     downstream().end();
 
@@ -215,4 +254,124 @@ public class SortNode<Row> extends MemoryTrackingNode<Row> implements SingleNode
             inLoop = false;
         }
     }
+
+    /** */
+    private boolean hasMoreRows() {
+        if (mergeQueue != null)
+            return !mergeQueue.isEmpty();
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    /** */
+    private Row nextRow() {
+        if (mergeQueue != null) {
+            RunCursor cur = mergeQueue.poll();
+
+            Row row = cur.row;
+
+            if (cur.advance())
+                mergeQueue.add(cur);
+
+            return row;
+        }
+
+        Row row = reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+
+        nodeMemoryTracker.onRowRemoved(row);
+
+        return row;
+    }
+
+    /**
+     * Writes rows buffered in memory to disk as a sorted run and releases memory.
+     */
+    private void spill() {
+        SpillFile<Row> run = context().spillManager().createFile(context().queryId());
+
+        if (runs == null)
+            runs = new ArrayList<>();
+
+        runs.add(run);
+
+        while (!rows.isEmpty())
+            run.write(rows.poll());
+
+        nodeMemoryTracker.reset();
+    }
+
+    /**
+     * Prepares k-way merge of the spilled sorted runs and rows remaining in memory.
+     */
+    private void initMerge() {
+        Comparator<Row> cmp = comp == null ? (Comparator<Row>)Comparator.naturalOrder() : comp;
+
+        mergeQueue = new PriorityQueue<>(runs.size() + 1, (c1, c2) -> cmp.compare(c1.row, c2.row));
+
+        for (SpillFile<Row> run : runs)
+            addCursor(run.read());
+
+        addCursor(new Iterator<Row>() {
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return !rows.isEmpty();
+            }
+
+            /** {@inheritDoc} */
+            @Override public Row next() {
+                Row row = rows.poll();
+
+                nodeMemoryTracker.onRowRemoved(row);
+
+                return row;
+            }
+        });
+    }
+
+    /** */
+    private void addCursor(Iterator<Row> it) {
+        RunCursor cur = new RunCursor(it);
+
+        if (cur.advance())
+            mergeQueue.add(cur);
+    }
+
+    /** */
+    private void closeRuns() {
+        if (runs != null) {
+            for (SpillFile<Row> run : runs)
+                U.closeQuiet(run);
+        }
+
+        runs = null;
+        mergeQueue = null;
+    }
+
+    /** Cursor over a sorted run. */
+    private class RunCursor {
+        /** */
+        private final Iterator<Row> it;
+
+        /** Current row. */
+        private Row row;
+
+        /** */
+        private RunCursor(Iterator<Row> it) {
+            this.it = it;
+        }
+
+        /**
+         * Moves cursor to the next row.
+         *
+         * @return {@code False} if there are no more rows in the run.
+         */
+        private boolean advance() {
+            if (!it.hasNext())
+                return false;
+
+            row = it.next();
+
+            return true;
+        }
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.query.calcite.message.MarshallingContext;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Temporary file holding rows offloaded from heap by an execution node. Rows are appended sequentially and then read
+ * back sequentially once. The file is deleted on {@link #close()}.
+ */
+public class SpillFile<Row> implements AutoCloseable {
+    /** I/O buffer size. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /** */
+    private final SpillManager mgr;
+
+    /** */
+    private final File file;
+
+    /** */
+    private final MarshallingContext marshCtx;
+
+    /** */
+    private DataOutputStream out;
+
+    /** */
+    private DataInputStream in;
+
+    /** */
+    private boolean closed;
+
+    /** Rows written. */
+    private long rows;
+
+    /** Bytes written. */
+    private long size;
+
+    /** */
+    SpillFile(SpillManager mgr, File file, MarshallingContext marshCtx) {
+        this.mgr = mgr;
+        this.file = file;
+        this.marshCtx = marshCtx;
+    }
+
+    /**
+     * Appends row to the file.
+     *
+     * @param row Row.
+     */
+    public void write(Row row) {
+        assert in == null : "File is already being read: " + file;
+
+        try {
+            if (out == null)
+                out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUF_SIZE));
+
+            byte[] bytes = marshCtx.marshal(row);
+
+            out.writeInt(bytes.length);
+            out.write(bytes);
+
+            rows++;
+            size += bytes.length + Integer.BYTES;
+        }
+        catch (IOException | IgniteCheckedException e) {
+            throw new IgniteException("Failed to write rows to spill file: " + file, e);
+        }
+    }
+
+    /**
+     * Finishes writing and returns an iterator over the rows in the order they were written.
+     * Can be called only once.
+     *
+     * @return Rows iterator.
+     */
+    public Iterator<Row> read() {
+        assert in == null : "File is already being read: " + file;
+
+        try {
+            if (out != null) {
+                out.close();
+
+                out = null;
+
+                mgr.onSpilled(size);
+            }
+
+            if (rows > 0)
+                in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUF_SIZE));
+        }
+        catch (IOException e) {
+            throw new IgniteException("Failed to open spill file: " + file, e);
+        }
+
+        return new Iterator<Row>() {
+            /** */
+            private long remaining = rows;
+
+            /** {@inheritDoc} */
+            @Override public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            /** {@inheritDoc} */
+            @Override public Row next() {
+                if (remaining == 0)
+                    throw new NoSuchElementException();
+
+                try {
+                    byte[] bytes = new byte[in.readInt()];
+
+                    in.readFully(bytes);
+
+                    remaining--;
+
+                    return marshCtx.unmarshal(bytes);
+                }
+                catch (IOException | IgniteCheckedException e) {
+                    throw new IgniteException("Failed to read rows from spill file: " + file, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return Count of rows written to the file.
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * @return {@code True} if no rows were written to the file.
+     */
+    public boolean isEmpty() {
+        return rows == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (closed)
+            return;
+
+        closed = true;
+
+        U.closeQuiet(out);
+        U.closeQuiet(in);
+
+        out = null;
+        in = null;
+
+        mgr.onClosed();
+
+        if (file.exists() && !file.delete())
+            U.warn(mgr.log(), "Failed to delete spill file: " + file);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.spill;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.processors.query.calcite.message.MarshallingContext;
+
+/**
+ * Manages temporary files used by execution nodes (sort, hash aggregate, set operators) to offload rows from heap
+ * when query or global memory quota is reached.
+ */
+public class SpillManager {
+    /** Spill files directory. */
+    private final File dir;
+
+    /** */
+    private final MarshallingContext marshCtx;
+
+    /** */
+    private final IgniteLogger log;
+
+    /** Spill files counter, used to generate unique file names. */
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /** Currently open spill files. */
+    private final AtomicInteger openFiles = new AtomicInteger();
+
+    /** Total bytes written to spill files. */
+    private final AtomicLong spilledBytes = new AtomicLong();
+
+    /**
+     * @param dir Spill files directory.
+     * @param marshCtx Marshalling context.
+     * @param log Logger.
+     */
+    public SpillManager(File dir, MarshallingContext marshCtx, IgniteLogger log) {
+        this.dir = dir;
+        this.marshCtx = marshCtx;
+        this.log = log.getLogger(SpillManager.class);
+    }
+
+    /**
+     * Creates new spill file.
+     *
+     * @param qryId Query ID.
+     * @return Spill file.
+     */
+    public <Row> SpillFile<Row> createFile(UUID qryId) {
+        File file = new File(dir, qryId + "-" + fileIdGen.incrementAndGet() + ".spill");
+
+        openFiles.incrementAndGet();
+
+        return new SpillFile<>(this, file, marshCtx);
+    }
+
+    /**
+     * @return Spill files directory.
+     */
+    public File directory() {
+        return dir;
+    }
+
+    /**
+     * @return Count of currently open spill files.
+     */
+    public int openFiles() {
+        return openFiles.get();
+    }
+
+    /**
+     * @return Total bytes written to spill files.
+     */
+    public long spilledBytes() {
+        return spilledBytes.get();
+    }
+
+    /** */
+    IgniteLogger log() {
+        return log;
+    }
+
+    /** */
+    void onSpilled(long size) {
+        spilledBytes.addAndGet(size);
+
+        if (log.isDebugEnabled())
+            log.debug("Rows spilled to disk [size=" + size + ", total=" + spilledBytes.get() + ']');
+    }
+
+    /** */
+    void onClosed() {
+        openFiles.decrementAndGet();
+    }
+}
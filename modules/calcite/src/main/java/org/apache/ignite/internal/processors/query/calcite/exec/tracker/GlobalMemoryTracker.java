@@ -18,7 +18,6 @@
 package org.apache.ignite.internal.processors.query.calcite.exec.tracker;
 
 import java.util.concurrent.atomic.AtomicLong;
-import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.util.typedef.internal.A;
 
 /**
@@ -42,7 +41,8 @@ public class GlobalMemoryTracker implements MemoryTracker {
         if (allocated.addAndGet(size) > quota) {
             allocated.addAndGet(-size);
 
-            throw new IgniteException("Global memory quota for SQL queries exceeded [quota=" + quota + ']');
+            throw new MemoryQuotaExceededException("Global memory quota for SQL queries exceeded [quota=" +
+                quota + ']');
         }
     }
 
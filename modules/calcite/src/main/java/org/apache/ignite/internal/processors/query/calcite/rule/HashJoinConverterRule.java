@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.rule;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteConvention;
+import org.apache.ignite.internal.processors.query.calcite.rel.IgniteHashJoin;
+import org.apache.ignite.internal.util.typedef.F;
+
+/**
+ * Converts an equi-join with keys of the same types into a hash join.
+ */
+public class HashJoinConverterRule extends AbstractIgniteConverterRule<LogicalJoin> {
+    /** */
+    public static final RelOptRule INSTANCE = new HashJoinConverterRule();
+
+    /** Join types supported by the hash join. */
+    private static final Set<JoinRelType> SUPPORTED_JOIN_TYPES = EnumSet.of(
+        JoinRelType.INNER, JoinRelType.LEFT, JoinRelType.SEMI, JoinRelType.ANTI);
+
+    /**
+     * Creates a converter.
+     */
+    public HashJoinConverterRule() {
+        super(LogicalJoin.class, "HashJoinConverter");
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean matches(RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+
+        if (!SUPPORTED_JOIN_TYPES.contains(logicalJoin.getJoinType()))
+            return false;
+
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+
+        if (F.isEmpty(joinInfo.pairs()) || !joinInfo.isEqui())
+            return false;
+
+        List<Boolean> filterNulls = new ArrayList<>();
+
+        RelOptUtil.splitJoinCondition(logicalJoin.getLeft(), logicalJoin.getRight(), logicalJoin.getCondition(),
+            new ArrayList<>(), new ArrayList<>(), filterNulls, new ArrayList<>());
+
+        // Rows with NULL keys are never matched by the hash join, so IS NOT DISTINCT FROM keys are not supported.
+        if (filterNulls.contains(Boolean.FALSE))
+            return false;
+
+        List<RelDataTypeField> leftFields = logicalJoin.getLeft().getRowType().getFieldList();
+        List<RelDataTypeField> rightFields = logicalJoin.getRight().getRowType().getFieldList();
+
+        // Keys are compared by their values in the hash table, so values of different types never match.
+        for (int i = 0; i < joinInfo.pairs().size(); i++) {
+            RelDataType leftType = leftFields.get(joinInfo.leftKeys.get(i)).getType();
+            RelDataType rightType = rightFields.get(joinInfo.rightKeys.get(i)).getType();
+
+            if (!SqlTypeUtil.equalSansNullability(logicalJoin.getCluster().getTypeFactory(), leftType, rightType))
+                return false;
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalJoin rel) {
+        RelOptCluster cluster = rel.getCluster();
+        RelTraitSet outTraits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+        RelTraitSet leftInTraits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+        RelTraitSet rightInTraits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+        RelNode left = convert(rel.getLeft(), leftInTraits);
+        RelNode right = convert(rel.getRight(), rightInTraits);
+
+        return new IgniteHashJoin(cluster, outTraits, left, right, rel.getCondition(), rel.getVariablesSet(),
+            rel.getJoinType());
+    }
+}
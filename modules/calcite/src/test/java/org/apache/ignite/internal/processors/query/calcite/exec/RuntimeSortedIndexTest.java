@@ -118,6 +118,8 @@ public class RuntimeSortedIndexTest extends GridCommonAbstractTest {
                 ArrayRowHandler.INSTANCE,
                 NoOpMemoryTracker.INSTANCE,
                 NoOpIoTracker.INSTANCE,
+                null,
+                false,
                 0,
                 null),
             RelCollations.of(ImmutableIntList.copyOf(idxCols)),
@@ -286,6 +286,13 @@ public class AbstractExecutionTest extends GridCommonAbstractTest {
         return taskExecutors.get(nodeId);
     }
 
+    /**
+     * @return {@code True} if execution nodes of the test hand rows over to their consumers in batches.
+     */
+    protected boolean batchMode() {
+        return false;
+    }
+
     /** */
     protected ExecutionContext<Object[]> executionContext(UUID nodeId, UUID qryId, long fragmentId) {
         FragmentDescription fragmentDesc = new FragmentDescription(fragmentId, null, null, null);
@@ -302,6 +309,8 @@ public class AbstractExecutionTest extends GridCommonAbstractTest {
             ArrayRowHandler.INSTANCE,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
+            batchMode(),
             0,
             ImmutableMap.of()
         );
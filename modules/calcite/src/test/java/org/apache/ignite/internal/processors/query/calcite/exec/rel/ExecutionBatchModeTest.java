@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.junit.Test;
+
+/**
+ * Runs {@link ExecutionTest} with rows handed over to consumers in batches.
+ */
+public class ExecutionBatchModeTest extends ExecutionTest {
+    /** {@inheritDoc} */
+    @Override protected boolean batchMode() {
+        return true;
+    }
+
+    /**
+     * Test verifies that scan and filter nodes push their rows in batches.
+     */
+    @Test
+    public void testScanAndFilterPushBatches() throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        RelDataType rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class);
+
+        int rowsCnt = AbstractNode.IN_BUFFER_SIZE * 2 + 5;
+
+        List<Object[]> data = new ArrayList<>(rowsCnt);
+
+        for (int i = 0; i < rowsCnt; i++)
+            data.add(new Object[] {i});
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, data, r -> (Integer)r[0] % 2 == 0, null);
+
+        assertTrue(scan.batchMode);
+
+        FilterNode<Object[]> filter = new FilterNode<>(ctx, rowType, r -> (Integer)r[0] % 4 == 0);
+        filter.register(scan);
+
+        AtomicInteger rows = new AtomicInteger();
+        AtomicInteger batches = new AtomicInteger();
+        AtomicInteger singlePushes = new AtomicInteger();
+        AtomicReference<Throwable> err = new AtomicReference<>();
+        CountDownLatch end = new CountDownLatch(1);
+
+        filter.onRegister(new Downstream<Object[]>() {
+            @Override public void push(Object[] row) {
+                singlePushes.incrementAndGet();
+                rows.incrementAndGet();
+            }
+
+            @Override public void pushBatch(List<Object[]> batch) {
+                batches.incrementAndGet();
+                rows.addAndGet(batch.size());
+            }
+
+            @Override public void end() {
+                end.countDown();
+            }
+
+            @Override public void onError(Throwable e) {
+                err.set(e);
+
+                end.countDown();
+            }
+        });
+
+        ctx.execute(() -> filter.request(rowsCnt), filter::onError);
+
+        assertTrue(end.await(10, TimeUnit.SECONDS));
+        assertNull(err.get());
+
+        assertEquals((rowsCnt + 3) / 4, rows.get());
+        assertEquals(0, singlePushes.get());
+        assertTrue(batches.get() > 0);
+    }
+}
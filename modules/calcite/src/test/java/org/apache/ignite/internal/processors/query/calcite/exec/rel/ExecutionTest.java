@@ -605,6 +605,39 @@ public class ExecutionTest extends AbstractExecutionTest {
         }
     }
 
+    /**
+     * Test verifies that rows pushed in batches are properly handled by filter and project nodes.
+     */
+    @Test
+    public void testBatchPush() {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, int.class);
+
+        int rowsCnt = AbstractNode.IN_BUFFER_SIZE * 2 + 5;
+
+        BatchSourceNode src = new BatchSourceNode(ctx, rowType, rowsCnt);
+
+        FilterNode<Object[]> filter = new FilterNode<>(ctx, rowType, r -> (Integer)r[0] % 2 == 0);
+        filter.register(src);
+
+        ProjectNode<Object[]> project = new ProjectNode<>(ctx, rowType, r -> new Object[] {(Integer)r[0] * 10});
+        project.register(filter);
+
+        RootNode<Object[]> root = new RootNode<>(ctx, rowType);
+        root.register(project);
+
+        List<Object[]> res = new ArrayList<>();
+
+        while (root.hasNext())
+            res.add(root.next());
+
+        assertEquals((rowsCnt + 1) / 2, res.size());
+
+        for (int i = 0; i < res.size(); i++)
+            assertEquals(i * 20, res.get(i)[0]);
+    }
+
     /**
      * Test verifies that an AssertionError thrown from an execution node
      * properly handled by a task executor.
@@ -644,6 +677,50 @@ public class ExecutionTest extends AbstractExecutionTest {
         return fields;
     }
 
+    /**
+     * Node that pushes sequential integers to downstream in batches.
+     */
+    private static class BatchSourceNode extends AbstractNode<Object[]> {
+        /** */
+        private final int rowsCnt;
+
+        /** */
+        private int next;
+
+        /** */
+        BatchSourceNode(ExecutionContext<Object[]> ctx, RelDataType rowType, int rowsCnt) {
+            super(ctx, rowType);
+
+            this.rowsCnt = rowsCnt;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void rewindInternal() {
+            next = 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected Downstream<Object[]> requestDownstream(int idx) {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void request(int requested) {
+            context().execute(() -> {
+                List<Object[]> batch = new ArrayList<>();
+
+                while (batch.size() < requested && next < rowsCnt)
+                    batch.add(new Object[] {next++});
+
+                if (!batch.isEmpty())
+                    downstream().pushBatch(batch);
+
+                if (batch.size() < requested)
+                    downstream().end();
+            }, this::onError);
+        }
+    }
+
     /**
      * Node that always throws assertion error except for {@link #close()}
      * and {@link #onRegister(Downstream)} methods.
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.processors.query.calcite.exec.rel;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -191,6 +193,101 @@ public class HashIndexSpoolExecutionTest extends AbstractExecutionTest {
         root.closeRewindableRoot();
     }
 
+    /** */
+    @Test
+    public void testSingleKeyNulls() {
+        for (boolean allowNulls : new boolean[] {false, true}) {
+            ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+            RelDataType rowType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, int.class);
+
+            ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, new TestTable(
+                100,
+                rowType,
+                (rowId) -> rowId % 3 == 0 ? null : rowId % 10,
+                (rowId) -> rowId
+            ));
+
+            Object[] searchRow = new Object[2];
+
+            IndexSpoolNode<Object[]> spool = IndexSpoolNode.createHashSpool(
+                ctx,
+                rowType,
+                ImmutableBitSet.of(0),
+                null,
+                () -> searchRow,
+                allowNulls
+            );
+
+            spool.register(scan);
+
+            RootRewindable<Object[]> root = new RootRewindable<>(ctx, rowType);
+
+            root.register(spool);
+
+            searchRow[0] = null;
+
+            assertEquals("Invalid result size", allowNulls ? 34 : 0, root.rowsCount());
+
+            searchRow[0] = 1;
+
+            assertEquals("Invalid result size", 7, root.rowsCount());
+
+            searchRow[0] = 10;
+
+            assertEquals("Invalid result size", 0, root.rowsCount());
+
+            root.closeRewindableRoot();
+        }
+    }
+
+    /** */
+    @Test
+    public void testSingleKeySqlEquality() {
+        checkSingleKey(BigDecimal.class, new Object[] {new BigDecimal("1"), new BigDecimal("1.0"),
+            new BigDecimal("1.00"), new BigDecimal("10"), new BigDecimal("0.1")}, new BigDecimal("1.000"), 3);
+        checkSingleKey(BigDecimal.class, new Object[] {new BigDecimal("0"), new BigDecimal("0.00"),
+            new BigDecimal("1")}, new BigDecimal("0.0"), 2);
+        checkSingleKey(Double.class, new Object[] {0.0d, -0.0d, 1.0d}, 0.0d, 2);
+        checkSingleKey(Double.class, new Object[] {0.0d, -0.0d, 1.0d}, -0.0d, 2);
+    }
+
+    /**
+     * @param keyCls Key class.
+     * @param keys Keys of indexed rows.
+     * @param searchKey Search key.
+     * @param expCnt Expected count of found rows.
+     */
+    private void checkSingleKey(Class<?> keyCls, Object[] keys, Object searchKey, int expCnt) {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+        RelDataType rowType = TypeUtils.createRowType(ctx.getTypeFactory(), keyCls, int.class);
+
+        List<Object[]> data = new ArrayList<>(keys.length);
+
+        for (int i = 0; i < keys.length; i++)
+            data.add(new Object[] {keys[i], i});
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, rowType, data);
+
+        IndexSpoolNode<Object[]> spool = IndexSpoolNode.createHashSpool(
+            ctx,
+            rowType,
+            ImmutableBitSet.of(0),
+            null,
+            () -> new Object[] {searchKey, null},
+            false
+        );
+
+        spool.register(scan);
+
+        RootRewindable<Object[]> root = new RootRewindable<>(ctx, rowType);
+
+        root.register(spool);
+
+        assertEquals("Invalid result size for " + searchKey, expCnt, root.rowsCount());
+
+        root.closeRewindableRoot();
+    }
+
     /** */
     static class TestPredicate implements Predicate<Object[]> {
         /** */
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec.rel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.calcite.rel.core.JoinRelType.ANTI;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+import static org.apache.calcite.rel.core.JoinRelType.SEMI;
+import static org.apache.ignite.internal.processors.query.calcite.util.Commons.getFieldFromBiRows;
+
+/** */
+@WithSystemProperty(key = "calcite.debug", value = "true")
+public class HashJoinExecutionTest extends AbstractExecutionTest {
+    /** */
+    public static final Object[][] EMPTY = new Object[0][];
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Before
+    @Override public void setup() throws Exception {
+        nodesCnt = 1;
+        super.setup();
+    }
+
+    /** */
+    @Test
+    public void joinEmptyTables() {
+        verifyJoin(EMPTY, EMPTY, INNER, EMPTY);
+        verifyJoin(EMPTY, EMPTY, LEFT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, SEMI, EMPTY);
+        verifyJoin(EMPTY, EMPTY, ANTI, EMPTY);
+    }
+
+    /** */
+    @Test
+    public void joinEmptyRightTable() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Alexey", 2}
+        };
+
+        verifyJoin(left, EMPTY, INNER, EMPTY);
+        verifyJoin(left, EMPTY, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", null},
+            {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, SEMI, EMPTY);
+        verifyJoin(left, EMPTY, ANTI, new Object[][] {
+            {1, "Roman"},
+            {2, "Igor"},
+            {3, "Alexey"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinManyToMany() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1},
+            {3, "Taras", 1},
+            {4, "Alexey", 2},
+            {5, "Ivan", 4},
+            {6, "Andrey", 4},
+            {7, "Lisa", 5}
+        };
+
+        Object[][] right = {
+            {1, "Core"},
+            {1, "OLD_Core"},
+            {2, "SQL"},
+            {3, "Arch"},
+            {4, "QA"},
+            {4, "OLD_QA"},
+            {null, "Unknown"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Taras", "Core"},
+            {3, "Taras", "OLD_Core"},
+            {4, "Alexey", "SQL"},
+            {5, "Ivan", "QA"},
+            {5, "Ivan", "OLD_QA"},
+            {6, "Andrey", "QA"},
+            {6, "Andrey", "OLD_QA"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"},
+            {2, "Igor", "OLD_Core"},
+            {3, "Taras", "Core"},
+            {3, "Taras", "OLD_Core"},
+            {4, "Alexey", "SQL"},
+            {5, "Ivan", "QA"},
+            {5, "Ivan", "OLD_QA"},
+            {6, "Andrey", "QA"},
+            {6, "Andrey", "OLD_QA"},
+            {7, "Lisa", null}
+        });
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"},
+            {3, "Taras"},
+            {4, "Alexey"},
+            {5, "Ivan"},
+            {6, "Andrey"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"},
+            {7, "Lisa"}
+        });
+    }
+
+    /** */
+    @Test
+    public void joinLargeInputs() {
+        int rightCnt = AbstractNode.IN_BUFFER_SIZE * 3 + 7;
+        int leftCnt = AbstractNode.IN_BUFFER_SIZE * 5 + 3;
+
+        Object[][] left = new Object[leftCnt][];
+        Object[][] right = new Object[rightCnt][];
+
+        for (int i = 0; i < leftCnt; i++)
+            left[i] = new Object[] {i, "L" + i, i % (rightCnt * 2)};
+
+        for (int i = 0; i < rightCnt; i++)
+            right[i] = new Object[] {i, "R" + i};
+
+        List<Object[]> inner = new ArrayList<>();
+        List<Object[]> anti = new ArrayList<>();
+
+        for (Object[] row : left) {
+            int key = (Integer)row[2];
+
+            if (key < rightCnt)
+                inner.add(new Object[] {row[0], row[1], "R" + key});
+            else
+                anti.add(new Object[] {row[0], row[1]});
+        }
+
+        verifyJoin(left, right, INNER, inner.toArray(EMPTY));
+        verifyJoin(left, right, ANTI, anti.toArray(EMPTY));
+    }
+
+    /** Join keys equal by SQL semantics must match even if their Java objects are not equal. */
+    @Test
+    public void joinKeysEqualBySqlSemantics() {
+        Object[][] left = {
+            {1, "Roman", new BigDecimal("1.0")},
+            {2, "Igor", new BigDecimal("2.50")},
+            {3, "Taras", -0.0d},
+            {4, "Alexey", 3.0d}
+        };
+
+        Object[][] right = {
+            {new BigDecimal("1.00"), "Core"},
+            {new BigDecimal("2.5"), "SQL"},
+            {0.0d, "Arch"},
+            {-3.0d, "QA"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {1, "Roman", "Core"},
+            {2, "Igor", "SQL"},
+            {3, "Taras", "Arch"}
+        });
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {4, "Alexey"}
+        });
+    }
+
+    /** Rows with NULL keys never match, even if the join condition would accept them. */
+    @Test
+    public void joinNullKeys() {
+        Object[][] left = {
+            {1, "Roman", null},
+            {2, "Igor", 1}
+        };
+
+        Object[][] right = {
+            {null, "Unknown"},
+            {1, "Core"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][] {
+            {2, "Igor", "Core"}
+        }, Objects::equals);
+        verifyJoin(left, right, LEFT, new Object[][] {
+            {1, "Roman", null},
+            {2, "Igor", "Core"}
+        }, Objects::equals);
+        verifyJoin(left, right, SEMI, new Object[][] {
+            {2, "Igor"}
+        }, Objects::equals);
+        verifyJoin(left, right, ANTI, new Object[][] {
+            {1, "Roman"}
+        }, Objects::equals);
+    }
+
+    /**
+     * Creates execution tree and executes it. Then compares the result of the execution with the given one.
+     *
+     * @param left Data for left table.
+     * @param right Data for right table.
+     * @param joinType Join type.
+     * @param expRes Expected result.
+     */
+    private void verifyJoin(Object[][] left, Object[][] right, JoinRelType joinType, Object[][] expRes) {
+        verifyJoin(left, right, joinType, expRes, (l, r) -> l != null && sqlEquals(l, r));
+    }
+
+    /**
+     * Creates execution tree and executes it. Then compares the result of the execution with the given one.
+     *
+     * @param left Data for left table.
+     * @param right Data for right table.
+     * @param joinType Join type.
+     * @param expRes Expected result.
+     * @param keysEq Join condition on the keys.
+     */
+    private void verifyJoin(
+        Object[][] left,
+        Object[][] right,
+        JoinRelType joinType,
+        Object[][] expRes,
+        BiPredicate<Object, Object> keysEq
+    ) {
+        ExecutionContext<Object[]> ctx = executionContext(F.first(nodes()), UUID.randomUUID(), 0);
+
+        RelDataType leftType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class);
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, leftType, Arrays.asList(left));
+
+        RelDataType rightType = TypeUtils.createRowType(ctx.getTypeFactory(), Integer.class, String.class);
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, rightType, Arrays.asList(right));
+
+        boolean semiOrAnti = joinType == SEMI || joinType == ANTI;
+
+        RelDataType outType;
+        if (semiOrAnti)
+            outType = leftType;
+        else {
+            outType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, Integer.class,
+                Integer.class, String.class);
+        }
+
+        RowHandler<Object[]> hnd = ctx.rowHandler();
+
+        HashJoinNode<Object[]> join = HashJoinNode.create(ctx, outType, rightType, joinType,
+            (r1, r2) -> {
+                Object l = getFieldFromBiRows(hnd, 2, r1, r2);
+                Object r = getFieldFromBiRows(hnd, 3, r1, r2);
+
+                return keysEq.test(l, r);
+            },
+            new int[] {2}, new int[] {0});
+        join.register(F.asList(leftNode, rightNode));
+
+        RelDataType rowType;
+        ProjectNode<Object[]> project;
+        if (semiOrAnti) {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[] {r[0], r[1]});
+        }
+        else {
+            rowType = TypeUtils.createRowType(ctx.getTypeFactory(), int.class, String.class, String.class);
+            project = new ProjectNode<>(ctx, rowType, r -> new Object[] {r[0], r[1], r[4]});
+        }
+        project.register(join);
+
+        RootNode<Object[]> node = new RootNode<>(ctx, rowType);
+        node.register(project);
+
+        ArrayList<Object[]> rows = new ArrayList<>();
+
+        while (node.hasNext())
+            rows.add(node.next());
+
+        Assert.assertArrayEquals(expRes, rows.toArray(EMPTY));
+    }
+
+    /**
+     * @param l Left join key.
+     * @param r Right join key.
+     * @return {@code True} if the keys are equal by SQL semantics.
+     */
+    private static boolean sqlEquals(Object l, Object r) {
+        if (l instanceof BigDecimal && r instanceof BigDecimal)
+            return ((BigDecimal)l).compareTo((BigDecimal)r) == 0;
+
+        if (l instanceof Double && r instanceof Double)
+            return (double)l == (double)r;
+
+        return Objects.equals(l, r);
+    }
+}
@@ -823,6 +823,50 @@ public class JoinIntegrationTest extends AbstractBasicIntegrationTest {
         //    .check();
     }
 
+    /**
+     * Test verifies that equi-joins supported by the hash join are planned with it.
+     */
+    @Test
+    public void testHashJoinPlan() {
+        Assume.assumeTrue(joinType == JoinType.HASH);
+
+        assertQuery("" +
+            "select t1.c1 c11, t1.c2 c12, t2.c1 c21, t2.c2 c22 " +
+            "  from t1 " +
+            "  join t2 " +
+            "    on t1.c1 = t2.c1 " +
+            "   and t1.c2 = t2.c2 " +
+            " order by t1.c1, t1.c2"
+        )
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .ordered()
+            .returns(1, 1, 1, 1)
+            .returns(2, 2, 2, 2)
+            .returns(2, 2, 2, 2)
+            .returns(3, 3, 3, 3)
+            .returns(3, 3, 3, 3)
+            .returns(4, 4, 4, 4)
+            .check();
+
+        assertQuery("" +
+            "select t1.c1 c11, t2.c3 c23 " +
+            "  from t1 " +
+            "  left join t2 " +
+            "    on t1.c3 = t2.c3 " +
+            " order by t1.c1, t1.c3 nulls first"
+        )
+            .matches(QueryChecker.containsSubPlan("IgniteHashJoin"))
+            .ordered()
+            .returns(1, 1)
+            .returns(2, 2)
+            .returns(2, 2)
+            .returns(3, null)
+            .returns(3, 3)
+            .returns(3, 3)
+            .returns(4, 4)
+            .check();
+    }
+
     /** {@inheritDoc} */
     @Override protected QueryChecker assertQuery(String qry) {
         return super.assertQuery(qry.replace("select", "select "
@@ -835,21 +879,31 @@ public class JoinIntegrationTest extends AbstractBasicIntegrationTest {
         NESTED_LOOP(
             "CorrelatedNestedLoopJoin",
             "JoinCommuteRule",
-            "MergeJoinConverter"
+            "MergeJoinConverter",
+            "HashJoinConverter"
         ),
 
         /** */
         MERGE(
             "CorrelatedNestedLoopJoin",
             "JoinCommuteRule",
-            "NestedLoopJoinConverter"
+            "NestedLoopJoinConverter",
+            "HashJoinConverter"
+        ),
+
+        /** Join types not supported by the hash join fall back to the nested loop join. */
+        HASH(
+            "CorrelatedNestedLoopJoin",
+            "JoinCommuteRule",
+            "MergeJoinConverter"
         ),
 
         /** */
         CORRELATED(
             "MergeJoinConverter",
             "JoinCommuteRule",
-            "NestedLoopJoinConverter"
+            "NestedLoopJoinConverter",
+            "HashJoinConverter"
         );
 
         /** */
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.processors.query.calcite.QueryChecker;
+import org.junit.Test;
+
+/**
+ * Tests execution nodes spilling rows to disk when memory quota is exceeded.
+ */
+public class SpillToDiskIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final long QRY_MEMORY_QUOTA = 1_000_000L;
+
+    /** */
+    private static final int ROWS = 2_000;
+
+    /** {@inheritDoc} */
+    @Override protected int nodeCount() {
+        return 2;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName).setSqlConfiguration(
+            new SqlConfiguration().setQueryEnginesConfiguration(new CalciteQueryEngineConfiguration()
+                .setQueryMemoryQuota(QRY_MEMORY_QUOTA).setSpillToDiskEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        sql("CREATE TABLE tbl (id INT, grp INT, b VARBINARY) WITH TEMPLATE=REPLICATED");
+        sql("CREATE TABLE tbl2 (id INT, grp INT, b VARBINARY) WITH TEMPLATE=PARTITIONED");
+
+        for (int i = 0; i < ROWS; i++) {
+            sql("INSERT INTO tbl VALUES (?, ?, ?)", i, i % 1000, new byte[1000]);
+            sql("INSERT INTO tbl2 VALUES (?, ?, ?)", i, i % 1000, new byte[1000]);
+        }
+    }
+
+    /** */
+    @Test
+    public void testSortNode() {
+        List<List<?>> res = sql("SELECT id, b FROM tbl ORDER BY id DESC");
+
+        assertEquals(ROWS, res.size());
+
+        for (int i = 0; i < ROWS; i++)
+            assertEquals(ROWS - 1 - i, res.get(i).get(0));
+    }
+
+    /** */
+    @Test
+    public void testHashAggregateNode() {
+        // Colocated.
+        assertQuery("SELECT id, ANY_VALUE(b) IS NOT NULL FROM tbl GROUP BY id")
+            .matches(QueryChecker.containsSubPlan("IgniteColocatedHashAggregate"))
+            .resultSize(ROWS)
+            .check();
+
+        assertQuery("SELECT COUNT(*) FROM (SELECT b, COUNT(*) FROM tbl GROUP BY b, id)")
+            .returns((long)ROWS)
+            .check();
+
+        // Map-reduce.
+        assertQuery("SELECT grp, COUNT(*) FROM tbl2 GROUP BY grp, b HAVING grp = 10")
+            .returns(10, 2L)
+            .check();
+
+        assertQuery("SELECT COUNT(*) FROM (SELECT id, ANY_VALUE(b) FROM tbl2 GROUP BY id)")
+            .returns((long)ROWS)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testMinusNode() {
+        assertQuery("SELECT id, b FROM tbl EXCEPT SELECT id, b FROM tbl WHERE id >= 100")
+            .matches(QueryChecker.containsSubPlan("IgniteColocatedMinus"))
+            .resultSize(100)
+            .check();
+
+        assertQuery("SELECT /*+ DISABLE_RULE('ColocatedMinusConverterRule') */ * FROM " +
+            "(SELECT id, b FROM tbl2 EXCEPT SELECT id, b FROM tbl2 WHERE id < 1500)")
+            .matches(QueryChecker.containsSubPlan("IgniteMapMinus"))
+            .resultSize(500)
+            .check();
+    }
+
+    /** */
+    @Test
+    public void testIntersectNode() {
+        assertQuery("SELECT id, b FROM tbl INTERSECT SELECT id, b FROM tbl WHERE id < 300")
+            .matches(QueryChecker.containsSubPlan("IgniteColocatedIntersect"))
+            .resultSize(300)
+            .check();
+
+        assertQuery("SELECT /*+ DISABLE_RULE('ColocatedIntersectConverterRule') */ * FROM " +
+            "(SELECT id, b FROM tbl2 INTERSECT SELECT id, b FROM tbl2 WHERE id < 300)")
+            .matches(QueryChecker.containsSubPlan("IgniteMapIntersect"))
+            .resultSize(300)
+            .check();
+    }
+}
@@ -82,7 +82,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
         String sql = "SELECT COUNT(*) FROM SMALL s RIGHT JOIN HUGE h on h.id = s.id";
 
         IgniteRel phys = physicalPlan(sql, publicSchema,
-            "MergeJoinConverter", "CorrelatedNestedLoopJoin");
+            "MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin");
 
         assertNotNull(phys);
 
@@ -94,7 +94,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
 
         assertEquals(JoinRelType.LEFT, join.getJoinType());
 
-        PlanningContext ctx = plannerCtx(sql, publicSchema, "MergeJoinConverter",
+        PlanningContext ctx = plannerCtx(sql, publicSchema, "MergeJoinConverter", "HashJoinConverter",
             "CorrelatedNestedLoopJoin");
 
         RelOptPlanner pl = ctx.cluster().getPlanner();
@@ -106,7 +106,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
         assertNotNull(phys);
 
         phys = physicalPlan(sql, publicSchema,
-            "MergeJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
+            "MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
 
         join = findFirstNode(phys, byClass(IgniteNestedLoopJoin.class));
 
@@ -118,7 +118,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
         assertEquals(JoinRelType.RIGHT, join.getJoinType());
 
         ctx = plannerCtx(sql, publicSchema,
-            "MergeJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
+            "MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
 
         pl = ctx.cluster().getPlanner();
 
@@ -135,7 +135,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
         String sql = "SELECT COUNT(*) FROM SMALL s JOIN HUGE h on h.id = s.id";
 
         IgniteRel phys = physicalPlan(sql, publicSchema,
-            "MergeJoinConverter", "CorrelatedNestedLoopJoin");
+            "MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin");
 
         assertNotNull(phys);
 
@@ -162,7 +162,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
 
         assertEquals(JoinRelType.INNER, join.getJoinType());
 
-        PlanningContext ctx = plannerCtx(sql, publicSchema, "MergeJoinConverter",
+        PlanningContext ctx = plannerCtx(sql, publicSchema, "MergeJoinConverter", "HashJoinConverter",
             "CorrelatedNestedLoopJoin");
 
         RelOptPlanner pl = ctx.cluster().getPlanner();
@@ -174,7 +174,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
         assertNotNull(phys);
 
         phys = physicalPlan(sql, publicSchema,
-            "MergeJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
+            "MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
 
         join = findFirstNode(phys, byClass(IgniteNestedLoopJoin.class));
         proj = findFirstNode(phys, byClass(IgniteProject.class));
@@ -201,7 +201,7 @@ public class JoinCommutePlannerTest extends AbstractPlannerTest {
         assertEquals(JoinRelType.INNER, join.getJoinType());
 
         ctx = plannerCtx(sql, publicSchema,
-            "MergeJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
+            "MergeJoinConverter", "HashJoinConverter", "CorrelatedNestedLoopJoin", "JoinCommuteRule");
 
         pl = ctx.cluster().getPlanner();
 
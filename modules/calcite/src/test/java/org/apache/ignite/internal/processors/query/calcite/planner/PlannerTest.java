@@ -428,6 +428,8 @@ public class PlannerTest extends AbstractPlannerTest {
             ArrayRowHandler.INSTANCE,
             NoOpMemoryTracker.INSTANCE,
             NoOpIoTracker.INSTANCE,
+            null,
+            false,
             0,
             Commons.parametersMap(ctx.parameters()));
 
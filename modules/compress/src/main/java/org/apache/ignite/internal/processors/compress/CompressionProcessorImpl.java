@@ -414,6 +414,46 @@ public class CompressionProcessorImpl extends CompressionProcessor {
         setCompressionInfo(page, DiskPageCompression.DISABLED, 0, 0);
     }
 
+    /** {@inheritDoc} */
+    @Override public byte[] compress(byte[] data, DiskPageCompression compression, int compressLevel) {
+        switch (compression) {
+            case ZSTD:
+                return Zstd.compress(data, compressLevel);
+
+            case LZ4:
+                return Lz4.getCompressor(compressLevel).compress(data);
+
+            case SNAPPY:
+                try {
+                    return Snappy.compress(data);
+                }
+                catch (IOException e) {
+                    throw new IgniteException("Failed to compress data with Snappy.", e);
+                }
+        }
+        throw new IllegalStateException("Unsupported compression: " + compression);
+    }
+
+    /** {@inheritDoc} */
+    @Override public byte[] decompress(byte[] data, int plainSize, DiskPageCompression compression) {
+        switch (compression) {
+            case ZSTD:
+                return Zstd.decompress(data, plainSize);
+
+            case LZ4:
+                return Lz4.decompressor.decompress(data, plainSize);
+
+            case SNAPPY:
+                try {
+                    return Snappy.uncompress(data);
+                }
+                catch (IOException e) {
+                    throw new IgniteException("Failed to decompress data with Snappy.", e);
+                }
+        }
+        throw new IllegalStateException("Unsupported compression: " + compression);
+    }
+
     /** */
     private static int maxCompressedBufferSize(int baseSz) {
         int lz4Sz = Lz4.fastCompressor.maxCompressedLength(baseSz);
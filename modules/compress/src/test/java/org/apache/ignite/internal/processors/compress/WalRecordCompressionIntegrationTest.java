@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.compress;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.CompressedRecord;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.configuration.DiskPageCompression.LZ4;
+import static org.apache.ignite.configuration.DiskPageCompression.SKIP_GARBAGE;
+import static org.apache.ignite.configuration.DiskPageCompression.SNAPPY;
+import static org.apache.ignite.configuration.DiskPageCompression.ZSTD;
+
+/**
+ * Checks WAL data records compression.
+ */
+public class WalRecordCompressionIntegrationTest extends GridCommonAbstractTest {
+    /** */
+    private static final int ENTRIES_CNT = 1_000;
+
+    /** */
+    private static final long WAL_FORCE_ARCHIVE_TIMEOUT = 1_000;
+
+    /** */
+    private DiskPageCompression compression;
+
+    /** */
+    private boolean cdcEnabled;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteName) throws Exception {
+        DataStorageConfiguration dsCfg = new DataStorageConfiguration()
+            .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                .setPersistenceEnabled(true)
+                .setCdcEnabled(cdcEnabled))
+            .setWalRecordCompression(compression);
+
+        if (cdcEnabled)
+            dsCfg.setWalForceArchiveTimeout(WAL_FORCE_ARCHIVE_TIMEOUT);
+
+        return super.getConfiguration(igniteName).setDataStorageConfiguration(dsCfg);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids(true);
+
+        cleanPersistenceDir();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testZstd() throws Exception {
+        doTestRecordCompression(ZSTD);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testLz4() throws Exception {
+        doTestRecordCompression(LZ4);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testSnappy() throws Exception {
+        doTestRecordCompression(SNAPPY);
+    }
+
+    /**
+     * Checks that compressed data records are taken into account by the WAL force archive for CDC.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCdcForceArchive() throws Exception {
+        compression = ZSTD;
+        cdcEnabled = true;
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        IgniteWriteAheadLogManager wal = ignite.context().cache().context().wal();
+
+        long curIdx = wal.currentSegment();
+
+        // All the values are well compressible, so only compressed data records are logged.
+        for (int i = 0; i < 10; i++)
+            cache.put(i, value(i));
+
+        assertTrue(GridTestUtils.waitForCondition(() -> wal.lastArchivedSegment() >= curIdx, getTestTimeout()));
+    }
+
+    /** */
+    @Test
+    public void testSkipGarbageNotSupported() {
+        compression = SKIP_GARBAGE;
+
+        GridTestUtils.assertThrowsAnyCause(log, () -> startGrid(0), IgniteCheckedException.class,
+            "WAL records compression not supported");
+    }
+
+    /**
+     * @param compression Compression algorithm.
+     * @throws Exception If failed.
+     */
+    private void doTestRecordCompression(DiskPageCompression compression) throws Exception {
+        this.compression = compression;
+        cdcEnabled = false;
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, String> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, value(i));
+
+        int cacheId = CU.cacheId(DEFAULT_CACHE_NAME);
+
+        int entries = 0;
+
+        try (WALIterator it = ignite.context().cache().context().wal().replay(null)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                assertFalse(rec instanceof CompressedRecord);
+
+                if (rec instanceof DataRecord) {
+                    DataRecord dataRec = (DataRecord)rec;
+
+                    for (int i = 0; i < dataRec.entryCount(); i++) {
+                        if (dataRec.get(i).cacheId() == cacheId)
+                            entries++;
+                    }
+                }
+            }
+        }
+
+        assertEquals(ENTRIES_CNT, entries);
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            assertEquals(value(i), cache.get(i));
+    }
+
+    /**
+     * @param i Key.
+     * @return Well compressible value.
+     */
+    private static String value(int i) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int j = 0; j < 32; j++)
+            sb.append("value-").append(i);
+
+        return sb.toString();
+    }
+}
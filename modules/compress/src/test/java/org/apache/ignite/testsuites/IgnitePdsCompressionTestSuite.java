@@ -34,6 +34,7 @@ import org.apache.ignite.internal.processors.compress.DiskPageCompressionIntegra
 import org.apache.ignite.internal.processors.compress.DiskPageCompressionIntegrationTest;
 import org.apache.ignite.internal.processors.compress.FileSystemUtilsTest;
 import org.apache.ignite.internal.processors.compress.WalPageCompressionIntegrationTest;
+import org.apache.ignite.internal.processors.compress.WalRecordCompressionIntegrationTest;
 import org.apache.ignite.testframework.junits.DynamicSuite;
 import org.junit.runner.RunWith;
 
@@ -64,6 +65,9 @@ public class IgnitePdsCompressionTestSuite {
         suite.add(IgnitePdsCheckpointSimulationWithRealCpDisabledAndWalCompressionTest.class);
         suite.add(WalCompactionAndPageCompressionTest.class);
 
+        // WAL data records compression.
+        suite.add(WalRecordCompressionIntegrationTest.class);
+
         // Snapshots.
         suite.add(SnapshotCompressionBasicTest.class);
 
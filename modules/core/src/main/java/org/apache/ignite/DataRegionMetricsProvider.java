@@ -35,4 +35,15 @@ public interface DataRegionMetricsProvider {
      * @return empty data pages count.
      */
     public long emptyDataPages();
+
+    /**
+     * Calculates histogram of partially filled data pages of this data region by fill factor. Each element of
+     * the returned array is the count of pages which fill factor is within the corresponding equal range of
+     * {@code [0, 1)}. Empty data pages are not included.
+     *
+     * @return Pages count by fill factor range, or empty array if not supported.
+     */
+    public default long[] pagesFillFactorHistogram() {
+        return new long[0];
+    }
 }
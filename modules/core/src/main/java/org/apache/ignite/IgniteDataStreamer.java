@@ -90,6 +90,10 @@ import org.jetbrains.annotations.Nullable;
  *      Default is equal to CPU count on remote node multiply by {@link #DFLT_PARALLEL_OPS_MULTIPLIER}.
  *  </li>
  *  <li>
+ *      {@link #adaptiveBufferSize(boolean)} - makes data streamer tune the size of the buffer for every
+ *      node to the rate at which the node handles the sent data. Disabled by default.
+ *  </li>
+ *  <li>
  *      {@link #autoFlushFrequency(long)} - automatic flush frequency in milliseconds. Essentially,
  *      this is the time after which the streamer will make an attempt to submit all data
  *      added so far to remote nodes. Note that there is no guarantee that data will be
@@ -242,6 +246,29 @@ public interface IgniteDataStreamer<K, V> extends AutoCloseable {
      */
     public void perNodeParallelOperations(int parallelOps);
 
+    /**
+     * Gets flag indicating that per node buffer size is adapted to the observed throughput.
+     *
+     * @return {@code True} if per node buffer size is adaptive.
+     */
+    public boolean adaptiveBufferSize();
+
+    /**
+     * Sets flag indicating that per node buffer size should be adapted to the observed throughput.
+     * <p>
+     * If enabled, the data streamer measures the rate at which every node completes the sent batches, including
+     * the network round trip and the time to apply the entries on the node, and tunes the size of the batches for
+     * this node in the range from {@code 1/8} to {@code 8} times {@link #perNodeBufferSize()} to get the highest
+     * rate. So slow nodes are sent batches which they can handle, while fast ones get larger batches.
+     * <p>
+     * This method should be called prior to {@link #addData(Object, Object)} call.
+     * <p>
+     * Disabled by default.
+     *
+     * @param adaptiveBufSize {@code True} if per node buffer size should be adaptive.
+     */
+    public void adaptiveBufferSize(boolean adaptiveBufSize);
+
     /**
      * Allows to set buffer size for thread in case of stream by {@link #addData(Object, Object)} call.
      *
@@ -101,6 +101,7 @@ import static org.apache.ignite.internal.processors.cache.persistence.diagnostic
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.SharedPageLockTracker.DFLT_PAGE_LOCK_TRACKER_CHECK_INTERVAL;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_PAGE_MEMORY_READ_THREADS;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE;
@@ -1032,6 +1033,15 @@ public final class IgniteSystemProperties {
         "By default, the natural order is used")
     public static final String IGNITE_BINARY_SORT_OBJECT_FIELDS = "IGNITE_BINARY_SORT_OBJECT_FIELDS";
 
+    /**
+     * When set to {@code true} fields of fixed reference types (strings, boxed primitives, arrays, etc.) are
+     * written and read by BinaryMarshaller through accessors specialized for the field type at the type
+     * registration. Otherwise the write mode of such fields is resolved on each write and read.
+     */
+    @SystemProperty("Enables BinaryMarshaller field accessors specialized for the field type at the type " +
+        "registration for fields of fixed reference types")
+    public static final String IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS = "IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS";
+
     /**
      * Whether Ignite can access unaligned memory addresses.
      * <p>
@@ -1230,6 +1240,16 @@ public final class IgniteSystemProperties {
     public static final String IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD =
             "IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD";
 
+    /**
+     * If this property is set to {@code true}, then idle stripes of the striped pool will execute tasks that are
+     * queued to busy stripes and are not sensitive to the ordering within a stripe (e.g. get requests).
+     * <p>
+     * Default value is {@code false}.
+     */
+    @SystemProperty("Enables stealing of tasks that are not sensitive to the ordering by idle stripes " +
+        "of the striped pool")
+    public static final String IGNITE_STRIPED_POOL_TASKS_STEALING = "IGNITE_STRIPED_POOL_TASKS_STEALING";
+
     /**
      * If this property is set, then Ignite will use Async File IO factory by default.
      */
@@ -1353,6 +1373,14 @@ public final class IgniteSystemProperties {
         "from store, reads are protected by locking", defaults = "" + DFLT_DELAYED_REPLACED_PAGE_WRITE)
     public static final String IGNITE_DELAYED_REPLACED_PAGE_WRITE = "IGNITE_DELAYED_REPLACED_PAGE_WRITE";
 
+    /**
+     * Maximum number of threads per data region reading pages from the page store for the batched page loads.
+     * Reads of the batch are submitted concurrently to keep the storage device I/O queue deep.
+     */
+    @SystemProperty(value = "Maximum number of threads per data region reading pages from the page store for the " +
+        "batched page loads", type = Integer.class, defaults = "" + DFLT_PAGE_MEMORY_READ_THREADS)
+    public static final String IGNITE_PAGE_MEMORY_READ_THREADS = "IGNITE_PAGE_MEMORY_READ_THREADS";
+
     /**
      * When set to {@code true}, WAL implementation with dedicated worker will be used even in FSYNC mode.
      * Default is {@code false}.
@@ -1895,6 +1923,17 @@ public final class IgniteSystemProperties {
         "onheap caching")
     public static final String IGNITE_PAGES_LIST_DISABLE_ONHEAP_CACHING = "IGNITE_PAGES_LIST_DISABLE_ONHEAP_CACHING";
 
+    /**
+     * When set to {@code true}, free lists of data regions without persistence track partially filled data pages
+     * in buckets of 8 bytes of free space instead of 256 buckets per page. Rows are then placed to the page with the
+     * least sufficient free space more precisely, which packs variable size rows denser. Free lists of persistent
+     * data regions are not affected. Default is {@code false}.
+     */
+    @SystemProperty("When set to true, free lists of data regions without persistence track partially filled data " +
+        "pages in buckets of 8 bytes of free space instead of 256 buckets per page. Free lists of persistent data " +
+        "regions are not affected")
+    public static final String IGNITE_FREE_LIST_FINE_SIZE_CLASSES = "IGNITE_FREE_LIST_FINE_SIZE_CLASSES";
+
     /**
      * The master key name that the node will use during the recovery.
      * <p>
@@ -2059,6 +2098,14 @@ public final class IgniteSystemProperties {
         type = Integer.class)
     public static final String IGNITE_CALCITE_EXEC_IO_BATCH_CNT = "IGNITE_CALCITE_EXEC_IO_BATCH_CNT";
 
+    /**
+     * Calcite-based SQL engine. Enables batch execution mode, in which scan, filter and project execution nodes hand
+     * rows over to their consumers in batches instead of one by one.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Enables batch execution mode, in which scan, filter and " +
+        "project execution nodes hand rows over to their consumers in batches instead of one by one")
+    public static final String IGNITE_CALCITE_EXEC_BATCH_MODE = "IGNITE_CALCITE_EXEC_BATCH_MODE";
+
     /**
      * Calcite-based SQL engine. Pretty print serialized to JSON plan, when sending it to remote nodes.
      */
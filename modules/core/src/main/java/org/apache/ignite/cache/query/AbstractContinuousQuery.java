@@ -61,6 +61,9 @@ public abstract class AbstractContinuousQuery<K, V> extends Query<Cache.Entry<K,
     /** Whether to notify about {@link EventType#EXPIRED} events. */
     private boolean includeExpired;
 
+    /** Whether to deliver only the latest event per key of a buffered batch. */
+    private boolean coalesceEvents;
+
     /**
      * Sets initial query.
      * <p>
@@ -202,4 +205,34 @@ public abstract class AbstractContinuousQuery<K, V> extends Query<Cache.Entry<K,
     public boolean isIncludeExpired() {
         return includeExpired;
     }
+
+    /**
+     * Sets the flag value defining whether to coalesce events of the same key.
+     * <p>
+     * If {@code true}, then the events buffered on a remote node before they are sent to the master node
+     * (see {@link #setPageSize(int)} and {@link #setTimeInterval(long)}) are coalesced by key: only the latest
+     * event of every key is delivered to the local listener, while the superseded ones are sent as light-weight
+     * markers without key and values, so the ordering and failover guarantees of the query are preserved.
+     * Note, that the old value of a delivered event is the value before the latest update of the key.
+     * <p>
+     * Coalescing is applied to the remote nodes only and has no effect if buffering is disabled.
+     * This flag is {@code false} by default.
+     *
+     * @param coalesceEvents Whether to coalesce events of the same key.
+     * @return {@code this} for chaining.
+     */
+    public AbstractContinuousQuery<K, V> setCoalesceEvents(boolean coalesceEvents) {
+        this.coalesceEvents = coalesceEvents;
+
+        return this;
+    }
+
+    /**
+     * Gets the flag value defining whether to coalesce events of the same key.
+     *
+     * @return Whether to coalesce events of the same key.
+     */
+    public boolean isCoalesceEvents() {
+        return coalesceEvents;
+    }
 }
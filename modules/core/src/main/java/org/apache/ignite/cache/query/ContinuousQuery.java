@@ -211,6 +211,11 @@ public final class ContinuousQuery<K, V> extends AbstractContinuousQuery<K, V> {
         return (ContinuousQuery<K, V>)super.setPageSize(pageSize);
     }
 
+    /** {@inheritDoc} */
+    @Override public ContinuousQuery<K, V> setCoalesceEvents(boolean coalesceEvents) {
+        return (ContinuousQuery<K, V>)super.setCoalesceEvents(coalesceEvents);
+    }
+
     /**
      * Sets whether this query should be executed on a local node only.
      *
@@ -167,6 +167,11 @@ public final class ContinuousQueryWithTransformer<K, V, T> extends AbstractConti
         return (ContinuousQueryWithTransformer<K, V, T>)super.setPageSize(pageSize);
     }
 
+    /** {@inheritDoc} */
+    @Override public ContinuousQueryWithTransformer<K, V, T> setCoalesceEvents(boolean coalesceEvents) {
+        return (ContinuousQueryWithTransformer<K, V, T>)super.setCoalesceEvents(coalesceEvents);
+    }
+
     /** {@inheritDoc} */
     @Override public ContinuousQueryWithTransformer<K, V, T> setLocal(boolean loc) {
         return (ContinuousQueryWithTransformer<K, V, T>)super.setLocal(loc);
@@ -212,6 +212,12 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> {
     /** Default value for events disabled flag. */
     public static final boolean DFLT_EVENTS_DISABLED = false;
 
+    /** Default value for compact entry locking flag. */
+    public static final boolean DFLT_COMPACT_ENTRY_LOCKING = false;
+
+    /** Default row cache size, row cache is disabled by default. */
+    public static final long DFLT_ROW_CACHE_MAX_SIZE = 0;
+
     /** Default SQL on-heap cache size. */
     public static final int DFLT_SQL_ONHEAP_CACHE_MAX_SIZE = 0;
 
@@ -417,6 +423,12 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> {
     /** Events disabled. */
     private boolean evtsDisabled = DFLT_EVENTS_DISABLED;
 
+    /** Compact entry locking. */
+    private boolean compactEntryLocking = DFLT_COMPACT_ENTRY_LOCKING;
+
+    /** Row cache max size. */
+    private long rowCacheMaxSize = DFLT_ROW_CACHE_MAX_SIZE;
+
     /**
      * Flag indicating whether data must be encrypted.
      * If {@code true} data on the disk will be encrypted.
@@ -531,6 +543,8 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> {
         sqlOnheapCache = cc.isSqlOnheapCacheEnabled();
         sqlOnheapCacheMaxSize = cc.getSqlOnheapCacheMaxSize();
         evtsDisabled = cc.isEventsDisabled();
+        compactEntryLocking = cc.isCompactEntryLocking();
+        rowCacheMaxSize = cc.getRowCacheMaxSize();
     }
 
     /**
@@ -2366,6 +2380,64 @@ public class CacheConfiguration<K, V> extends MutableConfiguration<K, V> {
         return this;
     }
 
+    /**
+     * Checks whether compact entry locking is enabled for this cache.
+     *
+     * @return Compact entry locking flag.
+     * @see #setCompactEntryLocking(boolean)
+     */
+    public boolean isCompactEntryLocking() {
+        return compactEntryLocking;
+    }
+
+    /**
+     * Sets compact entry locking flag. By default each cache entry allocates its own
+     * {@link java.util.concurrent.locks.ReentrantLock}. If this flag is set, the entry is locked by means of a lock
+     * word embedded into the entry itself, which considerably reduces heap footprint of the entry and GC pressure
+     * for caches with many on-heap entries. Threads contending for such a lock spin and then park for short periods
+     * instead of being queued, so the flag is recommended for caches with low per-key contention.
+     * <p>
+     * Default value is {@link #DFLT_COMPACT_ENTRY_LOCKING}.
+     *
+     * @param compactEntryLocking Compact entry locking flag.
+     * @return {@code this} for chaining.
+     */
+    public CacheConfiguration<K, V> setCompactEntryLocking(boolean compactEntryLocking) {
+        this.compactEntryLocking = compactEntryLocking;
+
+        return this;
+    }
+
+    /**
+     * Gets maximum size of the row cache, in bytes.
+     *
+     * @return Row cache max size.
+     * @see #setRowCacheMaxSize(long)
+     */
+    public long getRowCacheMaxSize() {
+        return rowCacheMaxSize;
+    }
+
+    /**
+     * Sets maximum size of the row cache, in bytes. Row cache is an on-heap cache of entries read from
+     * the off-heap storage of the cache. It lets reads of hot keys skip page memory, so it is recommended for
+     * read-mostly caches. Cached rows are invalidated on each update of the key, rows are evicted according to
+     * their access frequency when the estimated size of cached rows reaches the maximum size.
+     * <p>
+     * Unlike {@link #setOnheapCacheEnabled(boolean) on-heap cache}, the row cache keeps only data rows and does not
+     * affect entry processing. Zero or negative value disables the row cache.
+     * <p>
+     * Default value is {@link #DFLT_ROW_CACHE_MAX_SIZE}.
+     *
+     * @param rowCacheMaxSize Row cache max size.
+     * @return {@code this} for chaining.
+     */
+    public CacheConfiguration<K, V> setRowCacheMaxSize(long rowCacheMaxSize) {
+        this.rowCacheMaxSize = rowCacheMaxSize;
+
+        return this;
+    }
+
     /**
      * Gets cache key configuration.
      *
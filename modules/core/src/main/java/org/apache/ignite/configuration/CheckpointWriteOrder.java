@@ -31,7 +31,15 @@ public enum CheckpointWriteOrder {
      * All checkpoint pages are collected into single list and sorted by page index.
      * Provides almost sequential disk writes, which can be much faster on some SSD models.
      */
-    SEQUENTIAL;
+    SEQUENTIAL,
+
+    /**
+     * Pages are sorted as for {@link #SEQUENTIAL}, then pages of every partition file are split into bounded runs
+     * of adjacent pages. Each run is handed over to a single checkpoint thread which writes its pages in ascending
+     * order of page index, so every thread issues writes at increasing offsets of one file that the OS and the
+     * device can merge, while large partitions are still written by several threads.
+     */
+    PARTITIONED;
 
     /**
      * Enumerated values.
@@ -21,15 +21,18 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.EventListener;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import javax.cache.configuration.Factory;
+import javax.cache.expiry.ExpiryPolicy;
 import javax.net.ssl.SSLContext;
 
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.client.ClientAddressFinder;
+import org.apache.ignite.client.ClientCache;
 import org.apache.ignite.client.ClientPartitionAwarenessMapper;
 import org.apache.ignite.client.ClientPartitionAwarenessMapperFactory;
 import org.apache.ignite.client.ClientRetryAllPolicy;
@@ -48,6 +51,12 @@ public final class ClientConfiguration implements Serializable {
     /** Serial version uid. */
     private static final long serialVersionUID = 0L;
 
+    /** Default maximum number of entries in each near cache. */
+    public static final int DFLT_NEAR_CACHE_MAX_SIZE = 10_000;
+
+    /** Default maximum number of single key operations coalesced into one request. */
+    public static final int DFLT_REQUEST_BATCH_MAX_SIZE = 256;
+
     /** @serial Server addresses. */
     private String[] addrs;
 
@@ -167,6 +176,18 @@ public final class ClientConfiguration implements Serializable {
     /** */
     private EventListener[] eventListeners;
 
+    /** Names of caches with client-side near cache. */
+    private String[] nearCacheNames;
+
+    /** Maximum number of entries in each near cache. */
+    private int nearCacheMaxSize = DFLT_NEAR_CACHE_MAX_SIZE;
+
+    /** Whether concurrent single key operations are coalesced into batch requests. */
+    private boolean reqBatchingEnabled;
+
+    /** Maximum number of single key operations coalesced into one request. */
+    private int reqBatchMaxSize = DFLT_REQUEST_BATCH_MAX_SIZE;
+
     /**
      * @return Host addresses.
      */
@@ -913,4 +934,116 @@ public final class ClientConfiguration implements Serializable {
     public EventListener[] getEventListeners() {
         return eventListeners;
     }
+
+    /**
+     * Gets names of caches which values are kept in client-side near cache.
+     *
+     * @return Names of caches with near cache.
+     */
+    public String[] getNearCacheNames() {
+        return nearCacheNames;
+    }
+
+    /**
+     * Sets names of caches which values are kept in client-side near cache.
+     * <p />
+     * Values read by {@link ClientCache#get(Object)} are kept on the client and are served without a network
+     * round trip until the entry is changed. The client subscribes to changes of the cache by continuous query
+     * notifications and invalidates updated entries. When the notification channel is lost, all entries of the
+     * near cache are invalidated. Near cache is not used inside transactions and by cache instances returned by
+     * {@link ClientCache#withKeepBinary()} and {@link ClientCache#withExpirePolicy(ExpiryPolicy)}.
+     * <p />
+     * Reads from near cache may observe updates made by other clients with delay of the notification delivery.
+     * Clear operations don't produce notifications, so entries cleared by other clients are not invalidated.
+     *
+     * @param nearCacheNames Names of caches with near cache.
+     * @return {@code this} for chaining.
+     */
+    public ClientConfiguration setNearCacheNames(String... nearCacheNames) {
+        this.nearCacheNames = nearCacheNames;
+
+        return this;
+    }
+
+    /**
+     * Gets maximum number of entries in each near cache. Default is {@link #DFLT_NEAR_CACHE_MAX_SIZE}.
+     *
+     * @return Maximum number of entries in each near cache.
+     */
+    public int getNearCacheMaxSize() {
+        return nearCacheMaxSize;
+    }
+
+    /**
+     * Sets maximum number of entries in each near cache. Default is {@link #DFLT_NEAR_CACHE_MAX_SIZE}.
+     * <p />
+     * See also {@link #setNearCacheNames(String...)}.
+     *
+     * @param nearCacheMaxSize Maximum number of entries in each near cache.
+     * @return {@code this} for chaining.
+     */
+    public ClientConfiguration setNearCacheMaxSize(int nearCacheMaxSize) {
+        this.nearCacheMaxSize = nearCacheMaxSize;
+
+        return this;
+    }
+
+    /**
+     * Gets a value indicating whether concurrent single key cache operations are coalesced into batch requests.
+     *
+     * @return Whether request batching is enabled.
+     */
+    public boolean isRequestBatchingEnabled() {
+        return reqBatchingEnabled;
+    }
+
+    /**
+     * Sets a value indicating whether concurrent single key cache operations are coalesced into batch requests.
+     * Default is {@code false}.
+     * <p />
+     * When enabled, {@link ClientCache#get(Object)} and {@link ClientCache#put(Object, Object)} operations
+     * (including async versions) issued concurrently outside of transactions are sent to the server as
+     * {@link ClientCache#getAll(Set)} and {@link ClientCache#putAll(Map)} requests. A few batches are in flight
+     * to each server node, operations issued while all of them are in flight are sent with the next batch, so under
+     * low load operations are sent without delay.
+     * <p />
+     * If a batch request fails, its operations are retried as individual requests, so a failure of one operation
+     * doesn't fail the operations coalesced with it. Operations are coalesced only for keys of primitive wrapper,
+     * {@link String} and {@link java.util.UUID} types, since other keys may be equal in a different way than their
+     * binary form and can't be matched with the response. Concurrent batches of puts to a transactional cache may
+     * lock keys in different order, so batching is mostly useful for atomic caches.
+     *
+     * @param reqBatchingEnabled Whether to enable request batching.
+     * @return {@code this} for chaining.
+     */
+    public ClientConfiguration setRequestBatchingEnabled(boolean reqBatchingEnabled) {
+        this.reqBatchingEnabled = reqBatchingEnabled;
+
+        return this;
+    }
+
+    /**
+     * Gets maximum number of single key operations coalesced into one request. Default is
+     * {@link #DFLT_REQUEST_BATCH_MAX_SIZE}.
+     *
+     * @return Maximum batch size.
+     */
+    public int getRequestBatchMaxSize() {
+        return reqBatchMaxSize;
+    }
+
+    /**
+     * Sets maximum number of single key operations coalesced into one request. Default is
+     * {@link #DFLT_REQUEST_BATCH_MAX_SIZE}.
+     * <p />
+     * See also {@link #setRequestBatchingEnabled(boolean)}.
+     *
+     * @param reqBatchMaxSize Maximum batch size.
+     * @return {@code this} for chaining.
+     */
+    public ClientConfiguration setRequestBatchMaxSize(int reqBatchMaxSize) {
+        this.reqBatchMaxSize = reqBatchMaxSize;
+
+        return this;
+    }
 }
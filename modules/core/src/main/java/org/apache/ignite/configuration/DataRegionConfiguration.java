@@ -19,6 +19,7 @@ package org.apache.ignite.configuration;
 import java.io.Serializable;
 import org.apache.ignite.DataRegionMetrics;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.lang.IgniteExperimental;
 import org.apache.ignite.mem.MemoryAllocator;
@@ -84,6 +85,9 @@ public final class DataRegionConfiguration implements Serializable {
     /** Default page replacement mode. */
     public static final PageReplacementMode DFLT_PAGE_REPLACEMENT_MODE = PageReplacementMode.CLOCK;
 
+    /** Default scan read-ahead depth (read-ahead is disabled). */
+    public static final int DFLT_SCAN_READ_AHEAD_DEPTH = 0;
+
     /** Data region name. */
     private String name = DFLT_DATA_REG_DEFAULT_NAME;
 
@@ -160,6 +164,9 @@ public final class DataRegionConfiguration implements Serializable {
     @IgniteExperimental
     private boolean cdcEnabled;
 
+    /** Number of leaf pages to read ahead of sequential tree scans (persistence is enabled). */
+    private int scanReadAheadDepth = DFLT_SCAN_READ_AHEAD_DEPTH;
+
     /**
      * Gets data region name.
      *
@@ -584,6 +591,34 @@ public final class DataRegionConfiguration implements Serializable {
         return cdcEnabled;
     }
 
+    /**
+     * Gets number of leaf pages which are loaded in background ahead of a cursor that sequentially traverses
+     * a tree of this data region (for example, a partition scan or a full table scan). Data pages referenced by
+     * these leaf pages are loaded as well. Applicable only if persistence is enabled.
+     * <p>
+     * Default value is {@link #DFLT_SCAN_READ_AHEAD_DEPTH}, which means that read-ahead is disabled.
+     *
+     * @return Scan read-ahead depth in leaf pages.
+     */
+    public int getScanReadAheadDepth() {
+        return scanReadAheadDepth;
+    }
+
+    /**
+     * Sets number of leaf pages which are loaded in background ahead of a cursor that sequentially traverses
+     * a tree of this data region. Zero disables read-ahead.
+     *
+     * @param scanReadAheadDepth Scan read-ahead depth in leaf pages.
+     * @return {@code this} for chaining.
+     */
+    public DataRegionConfiguration setScanReadAheadDepth(int scanReadAheadDepth) {
+        A.ensure(scanReadAheadDepth >= 0, "Scan read-ahead depth must be non-negative.");
+
+        this.scanReadAheadDepth = scanReadAheadDepth;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(DataRegionConfiguration.class, this);
@@ -188,6 +188,9 @@ public class DataStorageConfiguration implements Serializable {
     /** Default compression algorithm for WAL page snapshot records. */
     public static final DiskPageCompression DFLT_WAL_PAGE_COMPRESSION = DiskPageCompression.DISABLED;
 
+    /** Default compression algorithm for WAL data records. */
+    public static final DiskPageCompression DFLT_WAL_RECORD_COMPRESSION = DiskPageCompression.DISABLED;
+
     /** @see IgniteSystemProperties#IGNITE_USE_ASYNC_FILE_IO_FACTORY */
     public static final boolean DFLT_USE_ASYNC_FILE_IO_FACTORY = true;
 
@@ -334,6 +337,12 @@ public class DataStorageConfiguration implements Serializable {
     /** Compression level for WAL page snapshot records. */
     private Integer walPageCompressionLevel;
 
+    /** Compression algorithm for WAL data records. */
+    private DiskPageCompression walRecordCompression = DFLT_WAL_RECORD_COMPRESSION;
+
+    /** Compression level for WAL data records. */
+    private Integer walRecordCompressionLevel;
+
     /** Default warm-up configuration. */
     @Nullable private WarmUpConfiguration dfltWarmUpCfg;
 
@@ -1287,6 +1296,52 @@ public class DataStorageConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets compression algorithm for WAL data records.
+     *
+     * @return Record compression algorithm.
+     */
+    public DiskPageCompression getWalRecordCompression() {
+        return walRecordCompression == null ? DFLT_WAL_RECORD_COMPRESSION : walRecordCompression;
+    }
+
+    /**
+     * Sets compression algorithm for WAL data records. Data records are compressed by the thread which logs them,
+     * before they are put to the WAL buffer, and decompressed transparently on WAL iteration.
+     * {@link DiskPageCompression#SKIP_GARBAGE} is not applicable to WAL records.
+     *
+     * @param walRecordCompression Record compression algorithm.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalRecordCompression(DiskPageCompression walRecordCompression) {
+        this.walRecordCompression = walRecordCompression;
+
+        return this;
+    }
+
+    /**
+     * Gets {@link #getWalRecordCompression algorithm} specific WAL data record compression level.
+     *
+     * @return WAL data records compression level or {@code null} for default.
+     */
+    public Integer getWalRecordCompressionLevel() {
+        return walRecordCompressionLevel;
+    }
+
+    /**
+     * Sets {@link #setWalRecordCompression algorithm} specific WAL data record compression level.
+     *
+     * @param walRecordCompressionLevel WAL data record compression level or {@code null} to use default.
+     *      {@link DiskPageCompression#ZSTD Zstd}: from {@code -131072} to {@code 22} (default {@code 3}).
+     *      {@link DiskPageCompression#LZ4 LZ4}: from {@code 0} to {@code 17} (default {@code 0}).
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalRecordCompressionLevel(Integer walRecordCompressionLevel) {
+        this.walRecordCompressionLevel = walRecordCompressionLevel;
+
+        return this;
+    }
+
     /**
      * Gets encryyption configuration.
      *
@@ -26,6 +26,8 @@ import org.jetbrains.annotations.Nullable;
  * @see CacheConfiguration#setDiskPageCompressionLevel
  * @see DataStorageConfiguration#setWalPageCompression
  * @see DataStorageConfiguration#setWalPageCompressionLevel
+ * @see DataStorageConfiguration#setWalRecordCompression
+ * @see DataStorageConfiguration#setWalRecordCompressionLevel
  */
 public enum DiskPageCompression {
     /** Compression disabled. */
@@ -32,6 +32,9 @@ public class ExecutorConfiguration {
     /** Thread pool size. */
     private int size = DFLT_PUBLIC_THREAD_CNT;
 
+    /** Executor uses virtual threads. */
+    private boolean virtualThreadsEnabled;
+
     /**
      * Default constructor.
      */
@@ -58,6 +61,7 @@ public class ExecutorConfiguration {
 
         name = other.name;
         size = other.size;
+        virtualThreadsEnabled = other.virtualThreadsEnabled;
     }
 
     /**
@@ -108,6 +112,33 @@ public class ExecutorConfiguration {
         return this;
     }
 
+    /**
+     * Gets flag indicating whether the executor executes each task in a new virtual thread.
+     * <p>
+     * See {@link #setVirtualThreadsEnabled(boolean)} for more information.
+     *
+     * @return {@code True} if the executor uses virtual threads.
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Sets flag indicating whether the executor executes each task in a new virtual thread instead of a thread of
+     * the fixed size pool. The size of the thread pool is ignored, if enabled. Requires Java 21 or later.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @param virtualThreadsEnabled {@code True} if the executor uses virtual threads.
+     * @return {@code this} for chaining.
+     * @see IgniteConfiguration#setVirtualThreadsEnabled(boolean)
+     */
+    public ExecutorConfiguration setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(ExecutorConfiguration.class, this);
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.configuration;
+
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * "Hot pages" warm-up configuration. Resident pages of persistent data region are periodically saved to compact
+ * snapshot on checkpoint end, and on node start exactly these pages are loaded back into the data region in parallel,
+ * sequentially in order of their offsets in partition files.
+ */
+public class HotPagesWarmUpConfiguration implements WarmUpConfiguration {
+    /** Serial version uid. */
+    private static final long serialVersionUID = 0L;
+
+    /** Default minimal interval between snapshots of resident pages in milliseconds. */
+    public static final long DFLT_SNAPSHOT_FREQ = 5 * 60 * 1000L;
+
+    /** Default count of threads loading pages. */
+    public static final int DFLT_THREADS = 4;
+
+    /** Minimal interval between snapshots of resident pages in milliseconds. */
+    private long snapshotFreq = DFLT_SNAPSHOT_FREQ;
+
+    /** Count of threads loading pages. */
+    private int threads = DFLT_THREADS;
+
+    /**
+     * Gets minimal interval between snapshots of resident pages. Snapshot is taken on checkpoint end, if this interval
+     * has elapsed since the previous snapshot.
+     *
+     * @return Minimal interval between snapshots in milliseconds.
+     */
+    public long getSnapshotFrequency() {
+        return snapshotFreq;
+    }
+
+    /**
+     * Sets minimal interval between snapshots of resident pages.
+     *
+     * @param snapshotFreq Minimal interval between snapshots in milliseconds.
+     * @return {@code this} for chaining.
+     */
+    public HotPagesWarmUpConfiguration setSnapshotFrequency(long snapshotFreq) {
+        A.ensure(snapshotFreq > 0, "snapshotFreq > 0");
+
+        this.snapshotFreq = snapshotFreq;
+
+        return this;
+    }
+
+    /**
+     * Gets count of threads loading pages on warm-up. Pages of each partition are loaded by a single thread.
+     *
+     * @return Count of threads.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets count of threads loading pages on warm-up.
+     *
+     * @param threads Count of threads.
+     * @return {@code this} for chaining.
+     */
+    public HotPagesWarmUpConfiguration setThreads(int threads) {
+        A.ensure(threads > 0, "threads > 0");
+
+        this.threads = threads;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HotPagesWarmUpConfiguration.class, this);
+    }
+}
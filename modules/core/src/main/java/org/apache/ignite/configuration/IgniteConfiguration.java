@@ -294,6 +294,9 @@ public class IgniteConfiguration {
     /** Service pool size. */
     private Integer svcPoolSize;
 
+    /** Public and service pools use virtual threads. */
+    private boolean virtualThreadsEnabled;
+
     /** Async Callback pool size. */
     private int callbackPoolSize = DFLT_PUBLIC_THREAD_CNT;
 
@@ -742,6 +745,7 @@ public class IgniteConfiguration {
         userAttrs = cfg.getUserAttributes();
         utilityCacheKeepAliveTime = cfg.getUtilityCacheKeepAliveTime();
         utilityCachePoolSize = cfg.getUtilityCacheThreadPoolSize();
+        virtualThreadsEnabled = cfg.isVirtualThreadsEnabled();
         waitForSegOnStart = cfg.isWaitForSegmentOnStart();
         warmupClos = cfg.getWarmupClosure();
         sqlCfg = cfg.getSqlConfiguration();
@@ -959,6 +963,17 @@ public class IgniteConfiguration {
         return svcPoolSize != null ? svcPoolSize : getPublicThreadPoolSize();
     }
 
+    /**
+     * Gets flag indicating whether the public and service thread pools execute each task in a new virtual thread.
+     * <p>
+     * See {@link #setVirtualThreadsEnabled(boolean)} for more information.
+     *
+     * @return {@code True} if the public and service pools use virtual threads.
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
     /**
      * Size of thread pool that is in charge of processing internal system messages.
      * <p>
@@ -1192,6 +1207,27 @@ public class IgniteConfiguration {
         return this;
     }
 
+    /**
+     * Sets flag indicating whether the public and service thread pools execute each task in a new virtual thread
+     * instead of a thread of the fixed size pool. Blocking of a virtual thread doesn't occupy a platform thread,
+     * so compute jobs and service calls which block (for example, on I/O) don't limit the throughput of each other.
+     * Sizes of these pools are ignored, if enabled.
+     * <p>
+     * Requires Java 21 or later. Pinnings of virtual threads to carrier threads are reported by the metrics of the
+     * pools and in the log.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @param virtualThreadsEnabled {@code True} if the public and service pools use virtual threads.
+     * @return {@code this} for chaining.
+     * @see ExecutorConfiguration#setVirtualThreadsEnabled(boolean)
+     */
+    public IgniteConfiguration setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+
+        return this;
+    }
+
     /**
      * Sets system thread pool size to use within grid.
      *
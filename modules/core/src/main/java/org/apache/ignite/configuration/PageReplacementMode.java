@@ -70,7 +70,25 @@ public enum PageReplacementMode {
      * This algorithm has near to zero maintenance cost and replacement policy efficiency between random-LRU and
      * segmented-LRU.
      */
-    CLOCK;
+    CLOCK,
+
+    /**
+     * Adaptive two queue (2Q/ARC-like) algorithm.
+     *
+     * Pages are kept in two lists: a FIFO list of pages referenced once since they were loaded (recency list) and an
+     * LRU list of pages referenced repeatedly (frequency list). New pages are added to the tail of the recency list,
+     * hits on pages of the recency list are ignored, so a single scan can't push pages to the frequency list. The
+     * algorithm also remembers compact fingerprints of recently replaced pages of both lists (ghost entries). A page
+     * loaded again while its ghost entry is still remembered goes directly to the frequency list. Page to replace is
+     * polled from the head of the recency list while its size exceeds the target size, otherwise from the head of the
+     * frequency list. The target size is adapted on ghost hits: a ghost hit of the recency list grows the target, a
+     * ghost hit of the frequency list shrinks it.
+     *
+     * This algorithm requires more additional memory than segmented-LRU to store pages lists and ghost entries, but
+     * keeps the hot pages set resident in environments with large one-time scans mixed with hot key lookups.
+     * Hits and ghost hits are exposed by the data region metrics.
+     */
+    ADAPTIVE;
 
     /** Enumerated values. */
     private static final PageReplacementMode[] VALS = values();
@@ -142,7 +142,10 @@ public enum IgniteFeatures {
     PERFORMANCE_STATISTICS(48),
 
     /** Restore cache group from the snapshot. */
-    SNAPSHOT_RESTORE_CACHE_GROUP(49);
+    SNAPSHOT_RESTORE_CACHE_GROUP(49),
+
+    /** Coalescing of the buffered continuous query events by key. */
+    CONT_QRY_COALESCE_EVENTS(50);
 
     /**
      * Unique feature identifier.
@@ -214,6 +214,7 @@ import org.apache.ignite.spi.IgniteSpiVersionCheckException;
 import org.apache.ignite.spi.discovery.isolated.IsolatedDiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
 import org.apache.ignite.spi.tracing.TracingConfigurationManager;
+import org.apache.ignite.thread.IgniteVirtualThreadExecutor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -1421,6 +1422,10 @@ public class IgniteKernal implements IgniteEx, Externalizable {
             poolActiveThreads = exec.activeStripesCount();
             poolQSize = exec.queueSize();
         }
+        else if (execSvc instanceof IgniteVirtualThreadExecutor) {
+            poolSize = ((IgniteVirtualThreadExecutor)execSvc).getActiveCount();
+            poolActiveThreads = poolSize;
+        }
 
         int poolIdleThreads = poolSize - poolActiveThreads;
 
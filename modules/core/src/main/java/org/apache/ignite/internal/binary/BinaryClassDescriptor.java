@@ -367,7 +367,8 @@ public class BinaryClassDescriptor {
                                 if (!ids.add(fieldId))
                                     throw new BinaryObjectException("Duplicate field ID: " + name);
 
-                                BinaryFieldAccessor fieldInfo = BinaryFieldAccessor.create(f, fieldId);
+                                BinaryFieldAccessor fieldInfo =
+                                    BinaryFieldAccessor.create(f, fieldId, ctx.specializedFieldAccessors());
 
                                 fields0.put(name, fieldInfo);
 
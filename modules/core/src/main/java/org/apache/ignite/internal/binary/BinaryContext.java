@@ -48,6 +48,7 @@ import java.util.jar.JarFile;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.binary.BinaryBasicIdMapper;
 import org.apache.ignite.binary.BinaryBasicNameMapper;
 import org.apache.ignite.binary.BinaryIdMapper;
@@ -180,6 +181,10 @@ public class BinaryContext {
     /** Compact footer flag. */
     private boolean compactFooter;
 
+    /** Whether to use field accessors specialized for the field type. */
+    private final boolean specializedFieldAccessors =
+        IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_BINARY_SPECIALIZED_FIELD_ACCESSORS);
+
     /** Object schemas. */
     private volatile Map<Integer, BinarySchemaRegistry> schemas;
 
@@ -1366,6 +1371,13 @@ public class BinaryContext {
         return compactFooter;
     }
 
+    /**
+     * @return Whether to use field accessors specialized for the field type.
+     */
+    public boolean specializedFieldAccessors() {
+        return specializedFieldAccessors;
+    }
+
     /**
      * Get schema registry for type ID.
      *
@@ -54,8 +54,27 @@ public abstract class BinaryFieldAccessor {
      * @return Accessor.
      */
     public static BinaryFieldAccessor create(Field field, int id) {
+        return create(field, id, false);
+    }
+
+    /**
+     * Create accessor for the field.
+     *
+     * @param field Field.
+     * @param id FIeld ID.
+     * @param specialized Whether to create an accessor specialized for the field type if the type is fixed.
+     * @return Accessor.
+     */
+    public static BinaryFieldAccessor create(Field field, int id, boolean specialized) {
         BinaryWriteMode mode = BinaryUtils.mode(field.getType());
 
+        if (specialized) {
+            FieldWriter writeFn = fixedTypeWriter(mode);
+
+            if (writeFn != null)
+                return new FixedTypeAccessor(field, id, mode, writeFn, fixedTypeReader(mode, field.getType()));
+        }
+
         switch (mode) {
             case P_BYTE:
                 return new BytePrimitiveAccessor(field, id);
@@ -925,4 +944,296 @@ public abstract class BinaryFieldAccessor {
                 mode;
         }
     }
+
+    /**
+     * Accessor of a field of a fixed reference type. Unlike {@link DefaultFinalClassAccessor} the field value is
+     * accessed by the field offset and the functions writing and reading the value are resolved once on the accessor
+     * creation, so there is neither reflective access nor dispatch by the write mode per value.
+     */
+    private static class FixedTypeAccessor extends BinaryFieldAccessor {
+        /** Offset. */
+        private final long offset;
+
+        /** Value write function. */
+        private final FieldWriter writeFn;
+
+        /** Value read function. */
+        private final FieldReader readFn;
+
+        /**
+         * Constructor.
+         *
+         * @param field Field.
+         * @param id Field ID.
+         * @param mode Mode.
+         * @param writeFn Value write function.
+         * @param readFn Value read function.
+         */
+        FixedTypeAccessor(Field field, int id, BinaryWriteMode mode, FieldWriter writeFn, FieldReader readFn) {
+            super(field, id, mode);
+
+            assert !field.getType().isPrimitive() : field;
+
+            offset = GridUnsafe.objectFieldOffset(field);
+
+            this.writeFn = writeFn;
+            this.readFn = readFn;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void write0(Object obj, BinaryWriterExImpl writer) throws BinaryObjectException {
+            writer.writeFieldIdNoSchemaUpdate(id);
+
+            writeFn.write(writer, GridUnsafe.getObjectField(obj, offset));
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void read0(Object obj, BinaryReaderExImpl reader) throws BinaryObjectException {
+            GridUnsafe.putObjectField(obj, offset, readFn.read(reader, id));
+        }
+    }
+
+    /**
+     * @param mode Write mode of the field type.
+     * @return Function writing a value of the given fixed write mode or {@code null} if the write mode is not fixed.
+     */
+    private static FieldWriter fixedTypeWriter(BinaryWriteMode mode) {
+        switch (mode) {
+            case BYTE:
+                return (w, v) -> w.writeByteField((Byte)v);
+
+            case SHORT:
+                return (w, v) -> w.writeShortField((Short)v);
+
+            case INT:
+                return (w, v) -> w.writeIntField((Integer)v);
+
+            case LONG:
+                return (w, v) -> w.writeLongField((Long)v);
+
+            case FLOAT:
+                return (w, v) -> w.writeFloatField((Float)v);
+
+            case DOUBLE:
+                return (w, v) -> w.writeDoubleField((Double)v);
+
+            case CHAR:
+                return (w, v) -> w.writeCharField((Character)v);
+
+            case BOOLEAN:
+                return (w, v) -> w.writeBooleanField((Boolean)v);
+
+            case DECIMAL:
+                return (w, v) -> w.writeDecimalField((BigDecimal)v);
+
+            case STRING:
+                return (w, v) -> w.writeStringField((String)v);
+
+            case UUID:
+                return (w, v) -> w.writeUuidField((UUID)v);
+
+            case DATE:
+                return (w, v) -> w.writeDateField((Date)v);
+
+            case TIMESTAMP:
+                return (w, v) -> w.writeTimestampField((Timestamp)v);
+
+            case TIME:
+                return (w, v) -> w.writeTimeField((Time)v);
+
+            case BYTE_ARR:
+                return (w, v) -> w.writeByteArrayField((byte[])v);
+
+            case SHORT_ARR:
+                return (w, v) -> w.writeShortArrayField((short[])v);
+
+            case INT_ARR:
+                return (w, v) -> w.writeIntArrayField((int[])v);
+
+            case LONG_ARR:
+                return (w, v) -> w.writeLongArrayField((long[])v);
+
+            case FLOAT_ARR:
+                return (w, v) -> w.writeFloatArrayField((float[])v);
+
+            case DOUBLE_ARR:
+                return (w, v) -> w.writeDoubleArrayField((double[])v);
+
+            case CHAR_ARR:
+                return (w, v) -> w.writeCharArrayField((char[])v);
+
+            case BOOLEAN_ARR:
+                return (w, v) -> w.writeBooleanArrayField((boolean[])v);
+
+            case DECIMAL_ARR:
+                return (w, v) -> w.writeDecimalArrayField((BigDecimal[])v);
+
+            case STRING_ARR:
+                return (w, v) -> w.writeStringArrayField((String[])v);
+
+            case UUID_ARR:
+                return (w, v) -> w.writeUuidArrayField((UUID[])v);
+
+            case DATE_ARR:
+                return (w, v) -> w.writeDateArrayField((Date[])v);
+
+            case TIMESTAMP_ARR:
+                return (w, v) -> w.writeTimestampArrayField((Timestamp[])v);
+
+            case TIME_ARR:
+                return (w, v) -> w.writeTimeArrayField((Time[])v);
+
+            case ENUM_ARR:
+                return (w, v) -> w.writeEnumArrayField((Object[])v);
+
+            case OBJECT_ARR:
+                return (w, v) -> w.writeObjectArrayField((Object[])v);
+
+            case BINARY_OBJ:
+                return (w, v) -> w.writeBinaryObjectField((BinaryObjectImpl)v);
+
+            case BINARY:
+                return BinaryWriterExImpl::writeObjectField;
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param mode Fixed write mode of the field type.
+     * @param type Field type.
+     * @return Function reading a value of the given fixed write mode.
+     */
+    private static FieldReader fixedTypeReader(BinaryWriteMode mode, Class<?> type) {
+        switch (mode) {
+            case BYTE:
+                return BinaryReaderExImpl::readByteNullable;
+
+            case SHORT:
+                return BinaryReaderExImpl::readShortNullable;
+
+            case INT:
+                return BinaryReaderExImpl::readIntNullable;
+
+            case LONG:
+                return BinaryReaderExImpl::readLongNullable;
+
+            case FLOAT:
+                return BinaryReaderExImpl::readFloatNullable;
+
+            case DOUBLE:
+                return BinaryReaderExImpl::readDoubleNullable;
+
+            case CHAR:
+                return BinaryReaderExImpl::readCharNullable;
+
+            case BOOLEAN:
+                return BinaryReaderExImpl::readBooleanNullable;
+
+            case DECIMAL:
+                return BinaryReaderExImpl::readDecimal;
+
+            case STRING:
+                return BinaryReaderExImpl::readString;
+
+            case UUID:
+                return BinaryReaderExImpl::readUuid;
+
+            case DATE:
+                return BinaryReaderExImpl::readDate;
+
+            case TIMESTAMP:
+                return BinaryReaderExImpl::readTimestamp;
+
+            case TIME:
+                return BinaryReaderExImpl::readTime;
+
+            case BYTE_ARR:
+                return BinaryReaderExImpl::readByteArray;
+
+            case SHORT_ARR:
+                return BinaryReaderExImpl::readShortArray;
+
+            case INT_ARR:
+                return BinaryReaderExImpl::readIntArray;
+
+            case LONG_ARR:
+                return BinaryReaderExImpl::readLongArray;
+
+            case FLOAT_ARR:
+                return BinaryReaderExImpl::readFloatArray;
+
+            case DOUBLE_ARR:
+                return BinaryReaderExImpl::readDoubleArray;
+
+            case CHAR_ARR:
+                return BinaryReaderExImpl::readCharArray;
+
+            case BOOLEAN_ARR:
+                return BinaryReaderExImpl::readBooleanArray;
+
+            case DECIMAL_ARR:
+                return BinaryReaderExImpl::readDecimalArray;
+
+            case STRING_ARR:
+                return BinaryReaderExImpl::readStringArray;
+
+            case UUID_ARR:
+                return BinaryReaderExImpl::readUuidArray;
+
+            case DATE_ARR:
+                return BinaryReaderExImpl::readDateArray;
+
+            case TIMESTAMP_ARR:
+                return BinaryReaderExImpl::readTimestampArray;
+
+            case TIME_ARR:
+                return BinaryReaderExImpl::readTimeArray;
+
+            case ENUM_ARR:
+                Class<?> compType = type.getComponentType();
+
+                return (r, id) -> r.readEnumArray(id, compType);
+
+            case OBJECT_ARR:
+                return BinaryReaderExImpl::readObjectArray;
+
+            case BINARY_OBJ:
+                return BinaryReaderExImpl::readBinaryObject;
+
+            case BINARY:
+                return BinaryReaderExImpl::readObject;
+
+            default:
+                throw new IllegalArgumentException("Write mode is not fixed: " + mode);
+        }
+    }
+
+    /**
+     * Writes a field value.
+     */
+    @FunctionalInterface
+    private interface FieldWriter {
+        /**
+         * @param writer Writer.
+         * @param val Field value.
+         * @throws BinaryObjectException If failed.
+         */
+        void write(BinaryWriterExImpl writer, Object val) throws BinaryObjectException;
+    }
+
+    /**
+     * Reads a field value.
+     */
+    @FunctionalInterface
+    private interface FieldReader {
+        /**
+         * @param reader Reader.
+         * @param id Field ID.
+         * @return Field value.
+         * @throws BinaryObjectException If failed.
+         */
+        Object read(BinaryReaderExImpl reader, int id) throws BinaryObjectException;
+    }
 }
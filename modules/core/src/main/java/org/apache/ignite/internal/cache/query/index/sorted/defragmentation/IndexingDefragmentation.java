@@ -42,6 +42,7 @@ import org.apache.ignite.internal.processors.cache.persistence.checkpoint.Checkp
 import org.apache.ignite.internal.processors.cache.persistence.defragmentation.LinkMap;
 import org.apache.ignite.internal.processors.cache.persistence.defragmentation.TreeIterator;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.util.collection.IntMap;
@@ -155,51 +156,65 @@ public class IndexingDefragmentation {
                 int segments = oldIdx.segmentsCount();
 
                 for (int i = 0; i < segments; ++i) {
-                    treeIterator.iterate(oldIdx.segment(i), oldCachePageMem, (theTree, io, pageAddr, idx) -> {
-                        cancellationChecker.run();
+                    int segment = i;
 
-                        if (System.currentTimeMillis() - lastCpLockTs.get() >= cpLockThreshold) {
-                            cpLock.checkpointReadUnlock();
+                    // Rows of the old segment are iterated in the index order, so the new segment is built bottom-up.
+                    BPlusTree<IndexRow, IndexRow>.BulkLoad newSegmentLoad = newIdx.segment(i).bulkLoad();
 
-                            cpLock.checkpointReadLock();
+                    try {
+                        treeIterator.iterate(oldIdx.segment(i), oldCachePageMem, (theTree, io, pageAddr, idx) -> {
+                            cancellationChecker.run();
 
-                            lastCpLockTs.set(System.currentTimeMillis());
-                        }
+                            if (System.currentTimeMillis() - lastCpLockTs.get() >= cpLockThreshold) {
+                                cpLock.checkpointReadUnlock();
 
-                        assert 1 == io.getVersion()
-                            : "IO version " + io.getVersion() + " is not supported by current defragmentation algorithm." +
-                            " Please implement copying of tree in a new format.";
+                                cpLock.checkpointReadLock();
 
-                        BPlusIO<IndexRow> h2IO = DefragIndexFactory.wrap(io, oldRowHnd);
+                                lastCpLockTs.set(System.currentTimeMillis());
+                            }
 
-                        IndexRow row = theTree.getRow(h2IO, pageAddr, idx);
+                            assert 1 == io.getVersion()
+                                : "IO version " + io.getVersion() + " is not supported by current defragmentation " +
+                                "algorithm. Please implement copying of tree in a new format.";
 
-                        if (row instanceof DefragIndexRowImpl) {
-                            DefragIndexRowImpl r = (DefragIndexRowImpl)row;
+                            BPlusIO<IndexRow> h2IO = DefragIndexFactory.wrap(io, oldRowHnd);
 
-                            CacheDataRow cacheDataRow = r.cacheDataRow();
+                            IndexRow row = theTree.getRow(h2IO, pageAddr, idx);
 
-                            int partition = cacheDataRow.partition();
+                            if (row instanceof DefragIndexRowImpl) {
+                                DefragIndexRowImpl r = (DefragIndexRowImpl)row;
 
-                            long link = r.link();
+                                CacheDataRow cacheDataRow = r.cacheDataRow();
 
-                            LinkMap map = mappingByPartition.get(partition);
+                                int partition = cacheDataRow.partition();
 
-                            long newLink = map.get(link);
+                                long link = r.link();
 
-                            // Use old row handler, as MetaInfo is copied from old tree.
-                            DefragIndexRowImpl newRow = DefragIndexRowImpl.create(
-                                oldRowHnd,
-                                newLink,
-                                r,
-                                ((MvccIO)io).storeMvccInfo()
-                            );
+                                LinkMap map = mappingByPartition.get(partition);
 
-                            newIdx.putIndexRow(newRow);
-                        }
+                                long newLink = map.get(link);
 
-                        return true;
-                    });
+                                // Use old row handler, as MetaInfo is copied from old tree.
+                                DefragIndexRowImpl newRow = DefragIndexRowImpl.create(
+                                    oldRowHnd,
+                                    newLink,
+                                    r,
+                                    ((MvccIO)io).storeMvccInfo()
+                                );
+
+                                assert newIdx.segmentForRow(newRow.cacheDataRow()) == segment : segment;
+
+                                newSegmentLoad.add(newRow);
+                            }
+
+                            return true;
+                        });
+
+                        newSegmentLoad.finish();
+                    }
+                    finally {
+                        newSegmentLoad.close();
+                    }
                 }
             }
 
@@ -21,7 +21,6 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import javax.cache.Cache;
 import javax.cache.configuration.Factory;
 import javax.cache.event.CacheEntryEvent;
@@ -32,6 +31,7 @@ import org.apache.ignite.cache.query.CacheEntryEventAdapter;
 import org.apache.ignite.cache.query.ContinuousQuery;
 import org.apache.ignite.client.ClientDisconnectListener;
 import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.IgniteClientFuture;
 import org.apache.ignite.internal.binary.GridBinaryMarshaller;
 import org.apache.ignite.internal.binary.streams.BinaryByteBufferInputStream;
 import org.apache.ignite.internal.binary.streams.BinaryInputStream;
@@ -40,6 +40,7 @@ import org.apache.ignite.internal.util.typedef.T2;
 import org.apache.ignite.internal.util.typedef.internal.U;
 
 import static org.apache.ignite.internal.client.thin.ClientNotificationType.CONTINUOUS_QUERY_EVENT;
+import static org.apache.ignite.internal.client.thin.ProtocolBitmaskFeature.CONTINUOUS_QUERY_KEYS_ONLY;
 import static org.apache.ignite.internal.client.thin.TcpClientCache.JAVA_PLATFORM;
 
 /**
@@ -73,6 +74,9 @@ public class ClientCacheEntryListenerHandler<K, V> implements NotificationListen
     /** */
     private volatile Long rsrcId;
 
+    /** Handler is closed, guarded by {@code this}. */
+    private boolean closed;
+
     /** */
     ClientCacheEntryListenerHandler(
         Cache<K, V> jCacheAdapter,
@@ -97,15 +101,68 @@ public class ClientCacheEntryListenerHandler<K, V> implements NotificationListen
         long timeInterval,
         boolean includeExpired
     ) {
+        init(locLsnr, disconnectLsnr);
+
+        try {
+            onStarted(ch.service(ClientOperation.QUERY_CONTINUOUS,
+                queryWriter(rmtFilterFactory, pageSize, timeInterval, includeExpired, false), this::readQuery));
+        }
+        catch (ClientError e) {
+            throw new ClientException(e);
+        }
+    }
+
+    /**
+     * Send request to the server asynchronously and start listening when the response is received. If the server
+     * supports it, update notifications carry keys and event types only, values are {@code null}.
+     *
+     * @return Future completed when the listening is started.
+     */
+    public synchronized IgniteClientFuture<Void> startListenKeysAsync(
+        CacheEntryUpdatedListener<K, V> locLsnr,
+        ClientDisconnectListener disconnectLsnr,
+        int pageSize,
+        long timeInterval
+    ) {
+        init(locLsnr, disconnectLsnr);
+
+        try {
+            IgniteClientFuture<T2<ClientChannel, Long>> fut = ch.serviceAsync(ClientOperation.QUERY_CONTINUOUS,
+                queryWriter(null, pageSize, timeInterval, true, true), this::readQuery);
+
+            return new IgniteClientFutureImpl<>(fut.thenAccept(this::onStarted));
+        }
+        catch (ClientError e) {
+            throw new ClientException(e);
+        }
+    }
+
+    /**
+     * @param locLsnr Local listener.
+     * @param disconnectLsnr Disconnect listener.
+     */
+    private void init(CacheEntryUpdatedListener<K, V> locLsnr, ClientDisconnectListener disconnectLsnr) {
         assert locLsnr != null;
 
-        if (clientCh != null)
+        if (this.locLsnr != null)
             throw new IllegalStateException("Listener was already started");
 
         this.locLsnr = locLsnr;
         this.disconnectLsnr = disconnectLsnr;
+    }
 
-        Consumer<PayloadOutputChannel> qryWriter = payloadCh -> {
+    /**
+     * @param keysOnly Request notifications with keys only if supported by the server.
+     * @return Writer of the query request.
+     */
+    private Consumer<PayloadOutputChannel> queryWriter(
+        Factory<? extends CacheEntryEventFilter<? super K, ? super V>> rmtFilterFactory,
+        int pageSize,
+        long timeInterval,
+        boolean includeExpired,
+        boolean keysOnly
+    ) {
+        return payloadCh -> {
             BinaryOutputStream out = payloadCh.out();
 
             out.writeInt(ClientUtils.cacheId(jCacheAdapter.getName()));
@@ -120,26 +177,35 @@ public class ClientCacheEntryListenerHandler<K, V> implements NotificationListen
                 utils.writeObject(out, rmtFilterFactory);
                 out.writeByte(JAVA_PLATFORM);
             }
+
+            if (payloadCh.clientChannel().protocolCtx().isFeatureSupported(CONTINUOUS_QUERY_KEYS_ONLY))
+                out.writeBoolean(keysOnly);
         };
+    }
 
-        Function<PayloadInputChannel, T2<ClientChannel, Long>> qryReader = payloadCh -> {
-            ClientChannel ch = payloadCh.clientChannel();
-            Long rsrcId = payloadCh.in().readLong();
+    /**
+     * @param payloadCh Response payload.
+     * @return Channel and resource ID of the query.
+     */
+    private T2<ClientChannel, Long> readQuery(PayloadInputChannel payloadCh) {
+        ClientChannel ch = payloadCh.clientChannel();
+        Long rsrcId = payloadCh.in().readLong();
 
-            ch.addNotificationListener(CONTINUOUS_QUERY_EVENT, rsrcId, this);
+        ch.addNotificationListener(CONTINUOUS_QUERY_EVENT, rsrcId, this);
 
-            return new T2<>(ch, rsrcId);
-        };
+        return new T2<>(ch, rsrcId);
+    }
 
-        try {
-            T2<ClientChannel, Long> params = ch.service(ClientOperation.QUERY_CONTINUOUS, qryWriter, qryReader);
+    /**
+     * @param params Channel and resource ID of the query.
+     */
+    private synchronized void onStarted(T2<ClientChannel, Long> params) {
+        clientCh = params.get1();
+        rsrcId = params.get2();
 
-            clientCh = params.get1();
-            rsrcId = params.get2();
-        }
-        catch (ClientError e) {
-            throw new ClientException(e);
-        }
+        // Closed while the asynchronous request was in flight.
+        if (closed)
+            close();
     }
 
     /** {@inheritDoc} */
@@ -181,6 +247,8 @@ public class ClientCacheEntryListenerHandler<K, V> implements NotificationListen
 
     /** {@inheritDoc} */
     @Override public synchronized void close() {
+        closed = true;
+
         ClientChannel clientCh = this.clientCh;
 
         if (clientCh != null && !clientCh.closed()) {
@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.cache.Cache;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.IgniteClientFuture;
+import org.apache.ignite.internal.binary.streams.BinaryHeapInputStream;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.cache.query.AbstractContinuousQuery.DFLT_PAGE_SIZE;
+import static org.apache.ignite.cache.query.AbstractContinuousQuery.DFLT_TIME_INTERVAL;
+
+/**
+ * Client-side near cache of a single cache. Keeps values read by the client and invalidates them by continuous query
+ * notifications of the server the client is subscribed to.
+ * <p>
+ * Value is cached only if it was read while the subscription is active and no invalidations happened since the read
+ * request was sent. When the notification channel is lost, all values are invalidated and the subscription is
+ * restarted by the next read. Update notifications carry keys only, if the server supports it.
+ * <p>
+ * Values are kept in the binary form and deserialized on each read, so callers never share a value instance. Only
+ * values of immutable JDK types are kept as is.
+ * <p>
+ * Keys without value based equality are cached by their binary form, so the keys deserialized from the update
+ * notifications match them. The size is bounded by the CLOCK eviction: an entry read since the last pass of the clock
+ * hand gets a second chance.
+ */
+class ClientNearCache<K, V> implements AutoCloseable {
+    /** Delay before the next subscription attempt after failure, in milliseconds. */
+    private static final long RESUBSCRIBE_DELAY = 1_000L;
+
+    /** Channel. */
+    private final ReliableChannel ch;
+
+    /** Marshaller. */
+    private final ClientBinaryMarshaller marsh;
+
+    /** Serializer of cached values. */
+    private final ClientUtils serDes;
+
+    /** Maximum number of entries. */
+    private final int maxSize;
+
+    /** Cached values by {@link #nearKey(Object)}. */
+    private final ConcurrentMap<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    /** Clock hand of the eviction, guarded by {@link #entries}. */
+    private Iterator<Map.Entry<Object, Entry>> clockHand;
+
+    /** Invalidations counter. */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** Active subscription to cache updates. */
+    private final AtomicReference<ClientCacheEntryListenerHandler<K, V>> hnd = new AtomicReference<>();
+
+    /** Time of the next subscription attempt after failure. */
+    private volatile long nextSubscribeTime;
+
+    /** Subscription in progress, guarded by {@code this}. */
+    private IgniteClientFuture<Void> subscribeFut;
+
+    /**
+     * @param ch Channel.
+     * @param marsh Marshaller.
+     * @param maxSize Maximum number of entries.
+     */
+    ClientNearCache(ReliableChannel ch, ClientBinaryMarshaller marsh, int maxSize) {
+        assert maxSize > 0 : maxSize;
+
+        this.ch = ch;
+        this.marsh = marsh;
+        this.maxSize = maxSize;
+
+        serDes = new ClientUtils(marsh);
+    }
+
+    /**
+     * @param key Key.
+     * @return Cached value or {@code null} if value is not cached.
+     */
+    V get(K key) {
+        if (hnd.get() == null)
+            return null;
+
+        Entry e = entries.get(nearKey(key));
+
+        if (e == null)
+            return null;
+
+        e.referenced = true;
+
+        return e.bytes != null ? serDes.<V>readObject(BinaryHeapInputStream.create(e.bytes, 0), false) : (V)e.val;
+    }
+
+    /**
+     * Must be called before the read request is sent, subscribes to cache updates if needed and waits for the
+     * subscription.
+     *
+     * @param src Cache.
+     * @return Read version to pass to {@link #onRead(Object, Object, long)}, or {@code -1} if value can't be cached.
+     */
+    long startRead(Cache<K, V> src) {
+        if (hnd.get() == null) {
+            IgniteClientFuture<Void> fut = subscribe(src);
+
+            if (fut == null)
+                return -1;
+
+            try {
+                fut.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                return -1;
+            }
+            catch (ExecutionException e) {
+                return -1;
+            }
+
+            if (hnd.get() == null)
+                return -1;
+        }
+
+        return invalidations.get();
+    }
+
+    /**
+     * Must be called before the asynchronous read request is sent. Starts the subscription to cache updates if needed
+     * without waiting for it, the value of this read is not cached until the subscription is active.
+     *
+     * @param src Cache.
+     * @return Read version to pass to {@link #onRead(Object, Object, long)}, or {@code -1} if value can't be cached.
+     */
+    long startReadAsync(Cache<K, V> src) {
+        if (hnd.get() != null)
+            return invalidations.get();
+
+        subscribe(src);
+
+        return -1;
+    }
+
+    /**
+     * Caches value read from the server.
+     *
+     * @param key Key.
+     * @param val Value.
+     * @param ver Read version returned by {@link #startRead(Cache)}.
+     */
+    void onRead(K key, V val, long ver) {
+        if (val == null || ver < 0 || invalidations.get() != ver)
+            return;
+
+        if (entries.size() >= maxSize)
+            evict();
+
+        Object nearKey = nearKey(key);
+
+        Entry e = ClientOperationBatcher.isValueKey(val) ? new Entry(val, null) : new Entry(null, marsh.marshal(val));
+
+        entries.put(nearKey, e);
+
+        // Entry could be invalidated concurrently after the version check.
+        if (invalidations.get() != ver)
+            entries.remove(nearKey, e);
+    }
+
+    /**
+     * @param key Key.
+     */
+    void invalidate(K key) {
+        invalidations.incrementAndGet();
+
+        entries.remove(nearKey(key));
+    }
+
+    /** Invalidates all cached values. */
+    void invalidateAll() {
+        invalidations.incrementAndGet();
+
+        entries.clear();
+    }
+
+    /**
+     * @return Number of cached values.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stops listening to cache updates and invalidates all cached values. Listening is restarted by the next read.
+     */
+    @Override public void close() {
+        ClientCacheEntryListenerHandler<K, V> hnd0 = hnd.getAndSet(null);
+
+        invalidateAll();
+
+        if (hnd0 != null)
+            U.closeQuiet(hnd0);
+    }
+
+    /**
+     * Starts the subscription to cache updates unless it is started already.
+     *
+     * @param src Cache.
+     * @return Future of the subscription or {@code null} if the subscription can't be started now.
+     */
+    @Nullable private synchronized IgniteClientFuture<Void> subscribe(Cache<K, V> src) {
+        if (subscribeFut != null)
+            return subscribeFut;
+
+        if (U.currentTimeMillis() < nextSubscribeTime)
+            return null;
+
+        ClientCacheEntryListenerHandler<K, V> hnd0 = new ClientCacheEntryListenerHandler<>(src, ch, marsh, false);
+
+        IgniteClientFuture<Void> fut;
+
+        try {
+            fut = new IgniteClientFutureImpl<>(hnd0.startListenKeysAsync(
+                this::onUpdated,
+                reason -> onDisconnected(hnd0),
+                DFLT_PAGE_SIZE,
+                DFLT_TIME_INTERVAL
+            ).whenComplete((res, err) -> onSubscribed(hnd0, err)));
+        }
+        catch (ClientException e) {
+            nextSubscribeTime = U.currentTimeMillis() + RESUBSCRIBE_DELAY;
+
+            return null;
+        }
+
+        // The future is already done if the subscription has completed in this thread.
+        if (!fut.isDone())
+            subscribeFut = fut;
+
+        return fut;
+    }
+
+    /**
+     * @param hnd0 Subscription.
+     * @param err Subscription error.
+     */
+    private synchronized void onSubscribed(ClientCacheEntryListenerHandler<K, V> hnd0, @Nullable Throwable err) {
+        subscribeFut = null;
+
+        ClientChannel clientCh = hnd0.clientChannel();
+
+        if (err != null || clientCh == null || clientCh.closed()) {
+            nextSubscribeTime = U.currentTimeMillis() + RESUBSCRIBE_DELAY;
+
+            return;
+        }
+
+        // Values read before the subscription could miss updates.
+        invalidateAll();
+
+        hnd.set(hnd0);
+    }
+
+    /**
+     * @param evts Cache update events.
+     */
+    private void onUpdated(Iterable<CacheEntryEvent<? extends K, ? extends V>> evts) {
+        for (CacheEntryEvent<? extends K, ? extends V> evt : evts)
+            invalidate(evt.getKey());
+    }
+
+    /**
+     * @param hnd0 Disconnected subscription.
+     */
+    private synchronized void onDisconnected(ClientCacheEntryListenerHandler<K, V> hnd0) {
+        if (hnd.compareAndSet(hnd0, null))
+            invalidateAll();
+    }
+
+    /** Evicts an entry not read since the last pass of the clock hand to keep the size bounded. */
+    private void evict() {
+        synchronized (entries) {
+            // Two full passes at most: the first one clears all the reference bits.
+            for (int i = 2 * entries.size(); i >= 0; i--) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = entries.entrySet().iterator();
+
+                    if (!clockHand.hasNext())
+                        return;
+                }
+
+                Entry e = clockHand.next().getValue();
+
+                if (e.referenced)
+                    e.referenced = false;
+                else {
+                    clockHand.remove();
+
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @return Key of the {@link #entries} map.
+     */
+    private Object nearKey(K key) {
+        return ClientOperationBatcher.isValueKey(key) ? key : new BinaryKey(marsh.marshal(key));
+    }
+
+    /**
+     * Cached value.
+     */
+    private static class Entry {
+        /** Value of an immutable type, {@code null} if the value is marshalled. */
+        private final Object val;
+
+        /** Marshalled value, {@code null} if the value is of an immutable type. */
+        private final byte[] bytes;
+
+        /** Entry was read since the last pass of the clock hand. */
+        private volatile boolean referenced;
+
+        /**
+         * @param val Value of an immutable type.
+         * @param bytes Marshalled value.
+         */
+        private Entry(Object val, byte[] bytes) {
+            this.val = val;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Binary form of a key without value based equality.
+     */
+    private static class BinaryKey {
+        /** Marshalled key. */
+        private final byte[] bytes;
+
+        /** Hash code. */
+        private final int hash;
+
+        /**
+         * @param bytes Marshalled key.
+         */
+        private BinaryKey(byte[] bytes) {
+            this.bytes = bytes;
+
+            hash = Arrays.hashCode(bytes);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            return this == o || o instanceof BinaryKey && Arrays.equals(bytes, ((BinaryKey)o).bytes);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
+}
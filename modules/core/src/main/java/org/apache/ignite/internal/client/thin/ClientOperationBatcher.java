@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.IgniteClientFuture;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Coalesces concurrent single key operations of a cache into multi key requests.
+ * <p>
+ * Operations are grouped by the affinity node of the key. A limited number of batches is in flight to each node,
+ * operations issued while all of them are in flight are collected and sent as the next batch once one of the
+ * previous batches completes. So under low load an operation is sent immediately, and under high load the batch
+ * size follows the round trip time up to the maximum batch size.
+ * <p>
+ * Operations on the same key within a batch are merged: the last argument is sent and all operations of the key
+ * get the same result. If a batch of several keys fails, its operations are sent as individual requests, so that
+ * a failure of one operation doesn't fail the operations coalesced with it.
+ *
+ * @param <K> Key type.
+ * @param <A> Operation argument type.
+ * @param <R> Operation result type.
+ */
+class ClientOperationBatcher<K, A, R> {
+    /** Route of keys without known affinity node. */
+    private static final Object DFLT_ROUTE = new Object();
+
+    /** Default maximum number of batches in flight to a single route. */
+    static final int DFLT_MAX_BATCHES_IN_FLIGHT = 4;
+
+    /** Key classes which instances are equal to their deserialized copies. */
+    private static final Set<Class<?>> VALUE_KEY_CLASSES = new HashSet<>(Arrays.asList(Boolean.class, Byte.class,
+        Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class, String.class, UUID.class));
+
+    /** Maximum number of keys in a batch. */
+    private final int maxBatchSize;
+
+    /** Maximum number of batches in flight to a single route. */
+    private final int maxInFlight;
+
+    /** Affinity node of the key, {@code null} if unknown. */
+    private final Function<K, UUID> router;
+
+    /** Sends batch of arguments by keys to the node of the first key and returns results by keys. */
+    private final BiFunction<K, Map<K, A>, IgniteClientFuture<Map<K, R>>> snd;
+
+    /** Sends single operation, used for operations of failed batches. */
+    private final BiFunction<K, A, IgniteClientFuture<R>> sndSingle;
+
+    /** Queues by route. */
+    private final ConcurrentMap<Object, RouteQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxBatchSize Maximum number of keys in a batch.
+     * @param maxInFlight Maximum number of batches in flight to a single route.
+     * @param router Affinity node of the key, {@code null} if unknown.
+     * @param snd Sends batch of arguments by keys to the node of the first key and returns results by keys.
+     * @param sndSingle Sends single operation, used for operations of failed batches.
+     */
+    ClientOperationBatcher(
+        int maxBatchSize,
+        int maxInFlight,
+        Function<K, UUID> router,
+        BiFunction<K, Map<K, A>, IgniteClientFuture<Map<K, R>>> snd,
+        BiFunction<K, A, IgniteClientFuture<R>> sndSingle
+    ) {
+        assert maxBatchSize > 0 : maxBatchSize;
+        assert maxInFlight > 0 : maxInFlight;
+
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlight = maxInFlight;
+        this.router = router;
+        this.snd = snd;
+        this.sndSingle = sndSingle;
+    }
+
+    /**
+     * @param key Key.
+     * @param arg Operation argument.
+     * @return Operation result future.
+     */
+    IgniteClientFuture<R> submit(K key, @Nullable A arg) {
+        UUID nodeId = router.apply(key);
+
+        RouteQueue q = queues.computeIfAbsent(nodeId != null ? nodeId : DFLT_ROUTE, r -> new RouteQueue());
+
+        CompletableFuture<R> fut = new CompletableFuture<>();
+
+        if (q.add(key, arg, fut))
+            q.flush();
+
+        return new IgniteClientFutureImpl<>(fut);
+    }
+
+    /**
+     * Checks whether operations on the key can be coalesced. Keys of other classes may define equality which differs
+     * from equality of their binary form, so they can't be merged within a batch or matched with the keys returned
+     * by the server. Binary objects are deserialized in the response unless the cache works with binary objects.
+     *
+     * @param key Key.
+     * @return {@code True} if the key is equal to its deserialized copy.
+     */
+    static boolean canCoalesce(Object key) {
+        return VALUE_KEY_CLASSES.contains(key.getClass());
+    }
+
+    /**
+     * Checks whether the object is immutable and is equal to its deserialized copy.
+     *
+     * @param obj Object.
+     * @return {@code True} if the object is a value of an immutable type or a binary object.
+     */
+    static boolean isValueKey(Object obj) {
+        return canCoalesce(obj) || obj instanceof BinaryObject;
+    }
+
+    /**
+     * Operations pending to a single route.
+     */
+    private class RouteQueue {
+        /** Pending arguments by keys, in order of submission. */
+        private Map<K, A> args = new LinkedHashMap<>();
+
+        /** Pending operations by keys. */
+        private Map<K, List<CompletableFuture<R>>> futs = new LinkedHashMap<>();
+
+        /** Number of batches in flight. */
+        private int inFlight;
+
+        /**
+         * @return {@code True} if the caller must flush the queue.
+         */
+        synchronized boolean add(K key, A arg, CompletableFuture<R> fut) {
+            args.put(key, arg);
+            futs.computeIfAbsent(key, k -> new ArrayList<>(1)).add(fut);
+
+            if (inFlight == maxInFlight)
+                return false;
+
+            inFlight++;
+
+            return true;
+        }
+
+        /** Sends the next batch, if any. */
+        void flush() {
+            Batch batch = poll();
+
+            if (batch == null)
+                return;
+
+            IgniteClientFuture<Map<K, R>> resFut;
+
+            try {
+                resFut = snd.apply(batch.args.keySet().iterator().next(), batch.args);
+            }
+            catch (Throwable e) {
+                onBatchDone(batch, null, e);
+
+                return;
+            }
+
+            resFut.whenComplete((res, err) -> onBatchDone(batch, res, err));
+        }
+
+        /**
+         * Completes operations of the batch and sends the next batch.
+         *
+         * @param batch Batch.
+         * @param res Results by keys.
+         * @param err Error.
+         */
+        private void onBatchDone(Batch batch, @Nullable Map<K, R> res, @Nullable Throwable err) {
+            if (err == null || batch.args.size() == 1) {
+                batch.onDone(res, err);
+
+                flush();
+            }
+            else
+                batch.sendSingle().whenComplete((r, e) -> flush());
+        }
+
+        /**
+         * @return Next batch or {@code null} if there are no pending operations.
+         */
+        private synchronized @Nullable Batch poll() {
+            if (args.isEmpty()) {
+                inFlight--;
+
+                return null;
+            }
+
+            Batch batch;
+
+            if (args.size() <= maxBatchSize) {
+                batch = new Batch(args, futs);
+
+                args = new LinkedHashMap<>();
+                futs = new LinkedHashMap<>();
+            }
+            else {
+                batch = new Batch(new LinkedHashMap<>(), new LinkedHashMap<>());
+
+                Iterator<Map.Entry<K, A>> it = args.entrySet().iterator();
+
+                while (batch.args.size() < maxBatchSize) {
+                    Map.Entry<K, A> e = it.next();
+
+                    batch.args.put(e.getKey(), e.getValue());
+                    batch.futs.put(e.getKey(), futs.remove(e.getKey()));
+
+                    it.remove();
+                }
+            }
+
+            return batch;
+        }
+    }
+
+    /**
+     * Operations sent in a single request.
+     */
+    private class Batch {
+        /** Arguments by keys. */
+        private final Map<K, A> args;
+
+        /** Operations by keys. */
+        private final Map<K, List<CompletableFuture<R>>> futs;
+
+        /**
+         * @param args Arguments by keys.
+         * @param futs Operations by keys.
+         */
+        Batch(Map<K, A> args, Map<K, List<CompletableFuture<R>>> futs) {
+            this.args = args;
+            this.futs = futs;
+        }
+
+        /**
+         * @param res Results by keys.
+         * @param err Error.
+         */
+        void onDone(@Nullable Map<K, R> res, @Nullable Throwable err) {
+            for (Map.Entry<K, List<CompletableFuture<R>>> e : futs.entrySet())
+                complete(e.getValue(), err == null && res != null ? res.get(e.getKey()) : null, err);
+        }
+
+        /**
+         * Sends operations of the batch as individual requests.
+         *
+         * @return Future completed when all the operations are completed.
+         */
+        CompletableFuture<Void> sendSingle() {
+            CompletableFuture<?>[] singleFuts = new CompletableFuture[args.size()];
+
+            int i = 0;
+
+            for (Map.Entry<K, A> e : args.entrySet()) {
+                List<CompletableFuture<R>> keyFuts = futs.get(e.getKey());
+
+                CompletableFuture<R> singleFut = new CompletableFuture<>();
+
+                try {
+                    sndSingle.apply(e.getKey(), e.getValue()).whenComplete((res, err) -> {
+                        complete(keyFuts, res, err);
+
+                        singleFut.complete(null);
+                    });
+                }
+                catch (Throwable err) {
+                    complete(keyFuts, null, err);
+
+                    singleFut.complete(null);
+                }
+
+                singleFuts[i++] = singleFut;
+            }
+
+            return CompletableFuture.allOf(singleFuts);
+        }
+    }
+
+    /**
+     * @param futs Operations.
+     * @param res Result.
+     * @param err Error.
+     */
+    private static <R> void complete(List<CompletableFuture<R>> futs, @Nullable R res, @Nullable Throwable err) {
+        if (err instanceof CompletionException && err.getCause() != null)
+            err = err.getCause();
+
+        if (err != null && !(err instanceof ClientException))
+            err = new ClientException(err);
+
+        for (CompletableFuture<R> fut : futs) {
+            if (err != null)
+                fut.completeExceptionally(err);
+            else
+                fut.complete(res);
+        }
+    }
+}
@@ -77,7 +77,10 @@ public enum ProtocolBitmaskFeature {
     INDEX_QUERY_LIMIT(15),
 
     /** Service topology. */
-    SERVICE_TOPOLOGY(16);
+    SERVICE_TOPOLOGY(16),
+
+    /** Continuous query notifications carrying keys of updated entries only. */
+    CONTINUOUS_QUERY_KEYS_ONLY(17);
 
     /** */
     private static final EnumSet<ProtocolBitmaskFeature> ALL_FEATURES_AS_ENUM_SET =
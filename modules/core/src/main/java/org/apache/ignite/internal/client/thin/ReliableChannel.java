@@ -423,6 +423,27 @@ final class ReliableChannel implements AutoCloseable {
         affinityCtx.unregisterCache(cacheName);
     }
 
+    /**
+     * @param cacheId Cache ID.
+     * @param key Key.
+     * @return Affinity node of the key or {@code null} if partition awareness can't be applied to the key.
+     */
+    @Nullable UUID affinityNode(int cacheId, Object key) {
+        if (partitionAwarenessEnabled && affinityInfoIsUpToDate(cacheId))
+            return affinityCtx.affinityNode(cacheId, key);
+
+        return null;
+    }
+
+    /**
+     * @return Maximum number of concurrent single key operations coalesced into one request, {@code 0} if
+     * coalescing is disabled.
+     * @see ClientConfiguration#setRequestBatchingEnabled(boolean)
+     */
+    int requestBatchMaxSize() {
+        return clientCfg.isRequestBatchingEnabled() ? Math.max(clientCfg.getRequestBatchMaxSize(), 0) : 0;
+    }
+
     /**
      * Checks if affinity information for the cache is up to date and tries to update it if not.
      *
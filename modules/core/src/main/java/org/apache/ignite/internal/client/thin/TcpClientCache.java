@@ -18,13 +18,17 @@
 package org.apache.ignite.internal.client.thin;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.cache.Cache;
 import javax.cache.configuration.CacheEntryListenerConfiguration;
 import javax.cache.configuration.FactoryBuilder;
@@ -112,15 +116,31 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     /** JCache adapter. */
     private final Cache<K, V> jCacheAdapter;
 
+    /** Near cache, {@code null} if values of this cache instance are not kept on the client. */
+    @Nullable private final ClientNearCache<K, V> nearCache;
+
+    /** Coalesces concurrent gets, {@code null} if request batching is disabled. */
+    @Nullable private final ClientOperationBatcher<K, Void, V> getBatcher;
+
+    /** Coalesces concurrent puts, {@code null} if request batching is disabled. */
+    @Nullable private final ClientOperationBatcher<K, V, Void> putBatcher;
+
     /** Constructor. */
     TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
-        ClientCacheEntryListenersRegistry lsnrsRegistry) {
-        this(name, ch, marsh, transactions, lsnrsRegistry, false, null);
+        ClientCacheEntryListenersRegistry lsnrsRegistry, @Nullable ClientNearCache<K, V> nearCache) {
+        this(name, ch, marsh, transactions, lsnrsRegistry, false, null, nearCache);
     }
 
     /** Constructor. */
     TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
         ClientCacheEntryListenersRegistry lsnrsRegistry, boolean keepBinary, ExpiryPolicy expiryPlc) {
+        this(name, ch, marsh, transactions, lsnrsRegistry, keepBinary, expiryPlc, null);
+    }
+
+    /** Constructor. */
+    TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
+        ClientCacheEntryListenersRegistry lsnrsRegistry, boolean keepBinary, ExpiryPolicy expiryPlc,
+        @Nullable ClientNearCache<K, V> nearCache) {
         this.name = name;
         this.cacheId = ClientUtils.cacheId(name);
         this.ch = ch;
@@ -133,6 +153,48 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         this.keepBinary = keepBinary;
         this.expiryPlc = expiryPlc;
 
+        // Keys of binary projection can't be matched with near cache keys.
+        this.nearCache = keepBinary ? null : nearCache;
+
+        int batchSize = ch.requestBatchMaxSize();
+
+        if (batchSize > 0) {
+            getBatcher = new ClientOperationBatcher<>(
+                batchSize,
+                ClientOperationBatcher.DFLT_MAX_BATCHES_IN_FLIGHT,
+                key -> ch.affinityNode(cacheId, key),
+                (affKey, keys) -> ch.affinityServiceAsync(cacheId, affKey, ClientOperation.CACHE_GET_ALL,
+                    req -> writeKeys(keys.keySet(), req, null), this::readEntries),
+                (key, arg) -> txAwareServiceAsync(key, null, ClientOperation.CACHE_GET,
+                    req -> {
+                        writeCacheInfo(req, null);
+                        writeObject(req, key);
+                    },
+                    this::readObject)
+            );
+
+            putBatcher = new ClientOperationBatcher<>(
+                batchSize,
+                ClientOperationBatcher.DFLT_MAX_BATCHES_IN_FLIGHT,
+                key -> ch.affinityNode(cacheId, key),
+                (affKey, entries) -> new IgniteClientFutureImpl<>(
+                    ch.affinityServiceAsync(cacheId, affKey, ClientOperation.CACHE_PUT_ALL,
+                        req -> writeEntries(entries, req, null), null)
+                        .thenApply(res -> Collections.<K, Void>emptyMap())),
+                (key, val) -> txAwareServiceAsync(key, null, ClientOperation.CACHE_PUT,
+                    req -> {
+                        writeCacheInfo(req, null);
+                        writeObject(req, key);
+                        writeObject(req, val);
+                    },
+                    null)
+            );
+        }
+        else {
+            getBatcher = null;
+            putBatcher = null;
+        }
+
         jCacheAdapter = new ClientJCacheAdapter<>(this);
 
         this.ch.registerCacheIfCustomAffinity(this.name);
@@ -147,7 +209,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
             key,
             ClientOperation.CACHE_GET,
             null,
-            this::readObject
+            this::readObject,
+            batchedGet(key)
         );
     }
 
@@ -160,7 +223,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
                 key,
                 ClientOperation.CACHE_GET,
                 null,
-                this::readObject
+                this::readObject,
+                batchedGet(key)
         );
     }
 
@@ -176,7 +240,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
             key,
             ClientOperation.CACHE_PUT,
             req -> writeObject(req, val),
-            null
+            null,
+            batchedPut(key, val)
         );
     }
 
@@ -192,7 +257,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
                 key,
                 ClientOperation.CACHE_PUT,
                 req -> writeObject(req, val),
-                null
+                null,
+                batchedPut(key, val)
         );
     }
 
@@ -344,10 +410,15 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         TcpClientTransaction tx = transactions.tx();
 
-        txAwareService(null, tx,
-            ClientOperation.CACHE_PUT_ALL,
-            req -> writeEntries(map, req, tx),
-            null);
+        try {
+            txAwareService(null, tx,
+                ClientOperation.CACHE_PUT_ALL,
+                req -> writeEntries(map, req, tx),
+                null);
+        }
+        finally {
+            invalidateNear(map.keySet());
+        }
     }
 
     /** {@inheritDoc} */
@@ -360,10 +431,10 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         TcpClientTransaction tx = transactions.tx();
 
-        return txAwareServiceAsync(null, tx,
+        return invalidateNearOnComplete(txAwareServiceAsync(null, tx,
             ClientOperation.CACHE_PUT_ALL,
             req -> writeEntries(map, req, tx),
-            null);
+            null), map.keySet());
     }
 
     /** {@inheritDoc} */
@@ -510,13 +581,18 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         TcpClientTransaction tx = transactions.tx();
 
-        txAwareService(null, tx,
-            ClientOperation.CACHE_REMOVE_KEYS,
-            req -> {
-                writeKeys(keys, req, tx);
-            },
-            null
-        );
+        try {
+            txAwareService(null, tx,
+                ClientOperation.CACHE_REMOVE_KEYS,
+                req -> {
+                    writeKeys(keys, req, tx);
+                },
+                null
+            );
+        }
+        finally {
+            invalidateNear(keys);
+        }
     }
 
     /** {@inheritDoc} */
@@ -529,23 +605,28 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         TcpClientTransaction tx = transactions.tx();
 
-        return txAwareServiceAsync(null, tx,
+        return invalidateNearOnComplete(txAwareServiceAsync(null, tx,
             ClientOperation.CACHE_REMOVE_KEYS,
             req -> {
                 writeKeys(keys, req, tx);
             },
             null
-        );
+        ), keys);
     }
 
     /** {@inheritDoc} */
     @Override public void removeAll() throws ClientException {
-        ch.request(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
+        try {
+            ch.request(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
+        }
+        finally {
+            invalidateNear(null);
+        }
     }
 
     /** {@inheritDoc} */
     @Override public IgniteClientFuture<Void> removeAllAsync() throws ClientException {
-        return ch.requestAsync(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
+        return invalidateNearOnComplete(ch.requestAsync(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo), null);
     }
 
     /** {@inheritDoc} */
@@ -704,12 +785,17 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
     /** {@inheritDoc} */
     @Override public void clear() throws ClientException {
-        ch.request(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
+        try {
+            ch.request(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
+        }
+        finally {
+            invalidateNear(null);
+        }
     }
 
     /** {@inheritDoc} */
     @Override public IgniteClientFuture<Void> clearAsync() throws ClientException {
-        return ch.requestAsync(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
+        return invalidateNearOnComplete(ch.requestAsync(ClientOperation.CACHE_CLEAR, this::writeCacheInfo), null);
     }
 
     /** {@inheritDoc} */
@@ -748,11 +834,16 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         TcpClientTransaction tx = transactions.tx();
 
-        txAwareService(null, tx,
-            ClientOperation.CACHE_CLEAR_KEYS,
-            req -> writeKeys(keys, req, tx),
-            null
-        );
+        try {
+            txAwareService(null, tx,
+                ClientOperation.CACHE_CLEAR_KEYS,
+                req -> writeKeys(keys, req, tx),
+                null
+            );
+        }
+        finally {
+            invalidateNear(keys);
+        }
     }
 
     /** {@inheritDoc} */
@@ -765,11 +856,11 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         TcpClientTransaction tx = transactions.tx();
 
-        return txAwareServiceAsync(null, tx,
+        return invalidateNearOnComplete(txAwareServiceAsync(null, tx,
             ClientOperation.CACHE_CLEAR_KEYS,
             req -> writeKeys(keys, req, tx),
             null
-        );
+        ), keys);
     }
 
     /** {@inheritDoc} */
@@ -780,7 +871,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
     /** {@inheritDoc} */
     @Override public <K1, V1> ClientCache<K1, V1> withExpirePolicy(ExpiryPolicy expirePlc) {
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, keepBinary, expirePlc);
+        return (ClientCache<K1, V1>)new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, keepBinary,
+            expirePlc, nearCache);
     }
 
     /** {@inheritDoc} */
@@ -1184,6 +1276,21 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         ClientOperation op,
         Consumer<PayloadOutputChannel> additionalPayloadWriter,
         Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException {
+        return cacheSingleKeyOperation(key, op, additionalPayloadWriter, payloadReader, null);
+    }
+
+    /**
+     * Execute cache operation with a single key.
+     *
+     * @param batchedOp Operation coalesced with concurrent operations, used outside of transactions if not null.
+     */
+    private <T> T cacheSingleKeyOperation(
+        K key,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> additionalPayloadWriter,
+        Function<PayloadInputChannel, T> payloadReader,
+        @Nullable Function<K, IgniteClientFuture<T>> batchedOp
     ) throws ClientException {
         TcpClientTransaction tx = transactions.tx();
 
@@ -1195,7 +1302,38 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
                 additionalPayloadWriter.accept(req);
         };
 
-        return txAwareService(key, tx, op, payloadWriter, payloadReader);
+        Supplier<T> svc = batchedOp != null && tx == null ?
+            () -> batchedResult(batchedOp.apply(key)) :
+            () -> txAwareService(key, tx, op, payloadWriter, payloadReader);
+
+        if (nearCache == null)
+            return svc.get();
+
+        // Reads inside transactions and reads which update expiration time must be served by the server.
+        if (op == ClientOperation.CACHE_GET && tx == null && expiryPlc == null) {
+            V val = nearCache.get(key);
+
+            if (val != null)
+                return (T)val;
+
+            long ver = nearCache.startRead(jCacheAdapter);
+
+            T res = svc.get();
+
+            nearCache.onRead(key, (V)res, ver);
+
+            return res;
+        }
+
+        if (isReadOperation(op))
+            return svc.get();
+
+        try {
+            return svc.get();
+        }
+        finally {
+            nearCache.invalidate(key);
+        }
     }
 
     /**
@@ -1206,6 +1344,21 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         ClientOperation op,
         Consumer<PayloadOutputChannel> additionalPayloadWriter,
         Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException {
+        return cacheSingleKeyOperationAsync(key, op, additionalPayloadWriter, payloadReader, null);
+    }
+
+    /**
+     * Execute cache operation with a single key asynchronously.
+     *
+     * @param batchedOp Operation coalesced with concurrent operations, used outside of transactions if not null.
+     */
+    private <T> IgniteClientFuture<T> cacheSingleKeyOperationAsync(
+        K key,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> additionalPayloadWriter,
+        Function<PayloadInputChannel, T> payloadReader,
+        @Nullable Function<K, IgniteClientFuture<T>> batchedOp
     ) throws ClientException {
         TcpClientTransaction tx = transactions.tx();
 
@@ -1217,7 +1370,120 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
                 additionalPayloadWriter.accept(req);
         };
 
-        return txAwareServiceAsync(key, tx, op, payloadWriter, payloadReader);
+        Supplier<IgniteClientFuture<T>> svc = batchedOp != null && tx == null ?
+            () -> batchedOp.apply(key) :
+            () -> txAwareServiceAsync(key, tx, op, payloadWriter, payloadReader);
+
+        if (nearCache == null)
+            return svc.get();
+
+        // Reads inside transactions and reads which update expiration time must be served by the server.
+        if (op == ClientOperation.CACHE_GET && tx == null && expiryPlc == null) {
+            V val = nearCache.get(key);
+
+            if (val != null)
+                return IgniteClientFutureImpl.completedFuture((T)val);
+
+            long ver = nearCache.startReadAsync(jCacheAdapter);
+
+            return new IgniteClientFutureImpl<>(svc.get().whenComplete((res, err) -> {
+                if (err == null)
+                    nearCache.onRead(key, (V)res, ver);
+            }));
+        }
+
+        if (isReadOperation(op))
+            return svc.get();
+
+        return new IgniteClientFutureImpl<>(svc.get().whenComplete((res, err) -> nearCache.invalidate(key)));
+    }
+
+    /**
+     * @param key Key.
+     * @return Get coalesced with concurrent gets, or {@code null} if the get can't be coalesced.
+     */
+    @Nullable private Function<K, IgniteClientFuture<V>> batchedGet(K key) {
+        if (getBatcher == null || !ClientOperationBatcher.canCoalesce(key))
+            return null;
+
+        return k -> getBatcher.submit(k, null);
+    }
+
+    /**
+     * @param key Key.
+     * @param val Value.
+     * @return Put coalesced with concurrent puts, or {@code null} if the put can't be coalesced.
+     */
+    @Nullable private Function<K, IgniteClientFuture<Void>> batchedPut(K key, V val) {
+        if (putBatcher == null || !ClientOperationBatcher.canCoalesce(key))
+            return null;
+
+        return k -> putBatcher.submit(k, val);
+    }
+
+    /**
+     * Waits for the result of coalesced operation.
+     *
+     * @param fut Operation future.
+     * @return Operation result.
+     */
+    private static <T> T batchedResult(IgniteClientFuture<T> fut) throws ClientException {
+        try {
+            return fut.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new ClientException(e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof ClientException)
+                throw (ClientException)e.getCause();
+
+            throw new ClientException(e.getCause());
+        }
+    }
+
+    /**
+     * @param op Single key operation.
+     * @return {@code True} if the operation doesn't change the cache.
+     */
+    private static boolean isReadOperation(ClientOperation op) {
+        return op == ClientOperation.CACHE_GET || op == ClientOperation.CACHE_CONTAINS_KEY;
+    }
+
+    /**
+     * Invalidates near cache entries of the keys changed by this client.
+     *
+     * @param keys Keys, {@code null} to invalidate all entries.
+     */
+    private void invalidateNear(@Nullable Collection<? extends K> keys) {
+        if (nearCache == null)
+            return;
+
+        if (keys == null)
+            nearCache.invalidateAll();
+        else {
+            for (K key : keys)
+                nearCache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates near cache entries of the keys changed by this client when the operation completes.
+     *
+     * @param fut Operation future.
+     * @param keys Keys, {@code null} to invalidate all entries.
+     * @return Future completed after invalidation.
+     */
+    private <T> IgniteClientFuture<T> invalidateNearOnComplete(
+        IgniteClientFuture<T> fut,
+        @Nullable Collection<? extends K> keys
+    ) {
+        if (nearCache == null)
+            return fut;
+
+        return new IgniteClientFutureImpl<>(fut.whenComplete((res, err) -> invalidateNear(keys)));
     }
 
     /** Write cache ID and flags for non-transactional operations. */
@@ -20,9 +20,11 @@ package org.apache.ignite.internal.client.thin;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
@@ -68,6 +70,7 @@ import org.apache.ignite.internal.client.thin.io.ClientConnectionMultiplexer;
 import org.apache.ignite.internal.processors.platform.client.ClientStatus;
 import org.apache.ignite.internal.processors.platform.client.IgniteClientException;
 import org.apache.ignite.internal.util.GridArgumentCheck;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.logger.NullLogger;
@@ -110,6 +113,15 @@ public class TcpIgniteClient implements IgniteClient {
     /** Logger. */
     private final IgniteLogger log;
 
+    /** Names of caches with near cache. */
+    private final Set<String> nearCacheNames;
+
+    /** Maximum number of entries in each near cache. */
+    private final int nearCacheMaxSize;
+
+    /** Near caches by cache name. */
+    private final Map<String, ClientNearCache<?, ?>> nearCaches = new ConcurrentHashMap<>();
+
     /**
      * Private constructor. Use {@link TcpIgniteClient#start(ClientConfiguration)} to create an instance of
      * {@code TcpIgniteClient}.
@@ -127,6 +139,11 @@ public class TcpIgniteClient implements IgniteClient {
     ) throws ClientException {
         log = NullLogger.whenNull(cfg.getLogger());
 
+        nearCacheNames = F.isEmpty(cfg.getNearCacheNames()) || cfg.getNearCacheMaxSize() <= 0 ?
+            Collections.emptySet() : new HashSet<>(Arrays.asList(cfg.getNearCacheNames()));
+
+        nearCacheMaxSize = cfg.getNearCacheMaxSize();
+
         final ClientBinaryMetadataHandler metadataHnd = new ClientBinaryMetadataHandler();
 
         ClientMarshallerContext marshCtx = new ClientMarshallerContext();
@@ -176,6 +193,9 @@ public class TcpIgniteClient implements IgniteClient {
 
     /** {@inheritDoc} */
     @Override public void close() {
+        for (ClientNearCache<?, ?> nearCache : nearCaches.values())
+            nearCache.close();
+
         ch.close();
     }
 
@@ -185,7 +205,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_GET_OR_CREATE_WITH_NAME, req -> writeString(name, req.out()));
 
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name));
     }
 
     /** {@inheritDoc} */
@@ -194,7 +214,8 @@ public class TcpIgniteClient implements IgniteClient {
 
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_GET_OR_CREATE_WITH_NAME, req -> writeString(name, req.out()))
-                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry,
+                            nearCache(name))));
     }
 
     /** {@inheritDoc} */
@@ -205,7 +226,7 @@ public class TcpIgniteClient implements IgniteClient {
         ch.request(ClientOperation.CACHE_GET_OR_CREATE_WITH_CONFIGURATION,
             req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()));
 
-        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry, nearCache(cfg.getName()));
     }
 
     /** {@inheritDoc} */
@@ -216,14 +237,15 @@ public class TcpIgniteClient implements IgniteClient {
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_GET_OR_CREATE_WITH_CONFIGURATION,
                         req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()))
-                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry,
+                            nearCache(cfg.getName()))));
     }
 
     /** {@inheritDoc} */
     @Override public <K, V> ClientCache<K, V> cache(String name) {
         ensureCacheName(name);
 
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name));
     }
 
     /** {@inheritDoc} */
@@ -244,16 +266,47 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_DESTROY, req -> req.out().writeInt(ClientUtils.cacheId(name)));
         ch.unregisterCacheIfCustomAffinity(name);
+
+        closeNearCache(name);
     }
 
     /** {@inheritDoc} */
     @Override public IgniteClientFuture<Void> destroyCacheAsync(String name) throws ClientException {
         ensureCacheName(name);
 
-        return ch.requestAsync(ClientOperation.CACHE_DESTROY, req -> {
+        IgniteClientFuture<Void> fut = ch.requestAsync(ClientOperation.CACHE_DESTROY, req -> {
             req.out().writeInt(ClientUtils.cacheId(name));
             ch.unregisterCacheIfCustomAffinity(name);
         });
+
+        if (!nearCacheNames.contains(name))
+            return fut;
+
+        return new IgniteClientFutureImpl<>(fut.whenComplete((res, err) -> closeNearCache(name)));
+    }
+
+    /**
+     * @param name Cache name.
+     * @return Near cache or {@code null} if near cache is not configured for the cache.
+     */
+    @Nullable private <K, V> ClientNearCache<K, V> nearCache(String name) {
+        if (!nearCacheNames.contains(name))
+            return null;
+
+        return (ClientNearCache<K, V>)nearCaches.computeIfAbsent(name,
+            n -> new ClientNearCache<>(ch, marsh, nearCacheMaxSize));
+    }
+
+    /**
+     * Stops listening to updates of the destroyed cache, near cache is restarted if the cache is created again.
+     *
+     * @param name Cache name.
+     */
+    private void closeNearCache(String name) {
+        ClientNearCache<?, ?> nearCache = nearCaches.get(name);
+
+        if (nearCache != null)
+            nearCache.close();
     }
 
     /** {@inheritDoc} */
@@ -262,7 +315,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_CREATE_WITH_NAME, req -> writeString(name, req.out()));
 
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name));
     }
 
     /** {@inheritDoc} */
@@ -271,7 +324,8 @@ public class TcpIgniteClient implements IgniteClient {
 
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_CREATE_WITH_NAME, req -> writeString(name, req.out()))
-                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry,
+                            nearCache(name))));
     }
 
     /** {@inheritDoc} */
@@ -281,7 +335,7 @@ public class TcpIgniteClient implements IgniteClient {
         ch.request(ClientOperation.CACHE_CREATE_WITH_CONFIGURATION,
             req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()));
 
-        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry, nearCache(cfg.getName()));
     }
 
     /** {@inheritDoc} */
@@ -292,7 +346,8 @@ public class TcpIgniteClient implements IgniteClient {
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_CREATE_WITH_CONFIGURATION,
                         req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()))
-                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry,
+                            nearCache(cfg.getName()))));
     }
 
     /** {@inheritDoc} */
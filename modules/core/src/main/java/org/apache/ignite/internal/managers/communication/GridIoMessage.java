@@ -21,6 +21,7 @@ import java.io.Externalizable;
 import java.nio.ByteBuffer;
 import org.apache.ignite.internal.ExecutorAwareMessage;
 import org.apache.ignite.internal.GridDirectTransient;
+import org.apache.ignite.internal.StealableMessage;
 import org.apache.ignite.internal.processors.cache.GridCacheMessage;
 import org.apache.ignite.internal.processors.datastreamer.DataStreamerRequest;
 import org.apache.ignite.internal.processors.tracing.messages.SpanTransport;
@@ -370,6 +371,13 @@ public class GridIoMessage implements Message, SpanTransport {
             return STRIPE_DISABLED_PART;
     }
 
+    /**
+     * @return {@code True} if the message may be processed by any stripe of the striped pool.
+     */
+    public boolean stealable() {
+        return msg instanceof StealableMessage;
+    }
+
     /**
      * @return Executor name (if available).
      */
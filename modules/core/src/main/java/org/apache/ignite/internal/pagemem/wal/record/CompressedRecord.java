@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record;
+
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Wrapper of a record which is written to WAL in compressed form.
+ * Record is compressed lazily on the first size calculation by a {@code RecordDataSerializer} and is never returned
+ * from WAL iteration: the serializer returns the decompressed plain record instead.
+ */
+public class CompressedRecord extends WALRecord {
+    /** Plain record. */
+    private final WALRecord plainRec;
+
+    /** Compression algorithm. */
+    private final DiskPageCompression compression;
+
+    /** Compression level. */
+    private final int compressLevel;
+
+    /** Serialized type of plain record. */
+    private RecordType plainRecType;
+
+    /** Size of serialized plain record. */
+    private int plainSize;
+
+    /** Compression actually applied to {@link #data}. */
+    private DiskPageCompression dataCompression;
+
+    /** Serialized and possibly compressed plain record. */
+    @GridToStringExclude
+    private byte[] data;
+
+    /**
+     * @param plainRec Plain record.
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     */
+    public CompressedRecord(WALRecord plainRec, DiskPageCompression compression, int compressLevel) {
+        this.plainRec = plainRec;
+        this.compression = compression;
+        this.compressLevel = compressLevel;
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.COMPRESSED_RECORD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void position(WALPointer pos) {
+        super.position(pos);
+
+        plainRec.position(pos);
+    }
+
+    /**
+     * @return Plain record.
+     */
+    public WALRecord plainRecord() {
+        return plainRec;
+    }
+
+    /**
+     * @return Compression algorithm.
+     */
+    public DiskPageCompression compression() {
+        return compression;
+    }
+
+    /**
+     * @return Compression level.
+     */
+    public int compressionLevel() {
+        return compressLevel;
+    }
+
+    /**
+     * @param plainRecType Serialized type of plain record.
+     * @param plainSize Size of serialized plain record.
+     * @param dataCompression Compression actually applied to {@code data}.
+     * @param data Serialized and possibly compressed plain record.
+     */
+    public void data(RecordType plainRecType, int plainSize, DiskPageCompression dataCompression, byte[] data) {
+        this.plainRecType = plainRecType;
+        this.plainSize = plainSize;
+        this.dataCompression = dataCompression;
+        this.data = data;
+    }
+
+    /**
+     * @return Serialized type of plain record.
+     */
+    public RecordType plainRecordType() {
+        return plainRecType;
+    }
+
+    /**
+     * @return Size of serialized plain record.
+     */
+    public int plainSize() {
+        return plainSize;
+    }
+
+    /**
+     * @return Compression actually applied to {@link #data()}.
+     */
+    public DiskPageCompression dataCompression() {
+        return dataCompression;
+    }
+
+    /**
+     * @return Serialized and possibly compressed plain record or {@code null} if it was not serialized yet.
+     */
+    @Nullable public byte[] data() {
+        return data;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CompressedRecord.class, this, "super", super.toString());
+    }
+}
@@ -297,7 +297,10 @@ public abstract class WALRecord {
         CDC_MANAGER_RECORD(79, CUSTOM),
 
         /** CDC manager record. */
-        CDC_MANAGER_STOP_RECORD(80, CUSTOM);
+        CDC_MANAGER_STOP_RECORD(80, CUSTOM),
+
+        /** Compressed record, wraps a record of other type. */
+        COMPRESSED_RECORD(81, MIXED);
 
         /** Index for serialization. Should be consistent throughout all versions. */
         private final int idx;
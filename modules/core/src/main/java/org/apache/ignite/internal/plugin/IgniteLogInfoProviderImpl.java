@@ -64,6 +64,7 @@ import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
 import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
+import org.apache.ignite.thread.IgniteVirtualThreadExecutor;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CONFIG_URL;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOG_CLASSPATH_CONTENT_ON_STARTUP;
@@ -790,6 +791,10 @@ public class IgniteLogInfoProviderImpl implements IgniteLogInfoProvider {
             poolActiveThreads = exec.activeStripesCount();
             poolQSize = exec.queueSize();
         }
+        else if (execSvc instanceof IgniteVirtualThreadExecutor) {
+            poolSize = ((IgniteVirtualThreadExecutor)execSvc).getActiveCount();
+            poolActiveThreads = poolSize;
+        }
 
         int poolIdleThreads = poolSize - poolActiveThreads;
 
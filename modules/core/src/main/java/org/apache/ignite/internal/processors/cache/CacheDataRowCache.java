@@ -0,0 +1,555 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * On-heap cache of data rows of a cache. Rows read from the data tree are cached by key, so that subsequent reads
+ * of hot keys are served without acquiring pages and deserializing rows from page memory.
+ * <p>
+ * The cache is bounded by the estimated size of the cached rows. Admission and eviction follow W-TinyLFU: new rows
+ * enter a small LRU window, rows overflowing the window become admission candidates of the main segmented LRU area
+ * and are kept only if they were accessed more frequently than the eviction victim of the main area. Access
+ * frequencies are tracked by a count-min sketch which is periodically halved to age the history.
+ * <p>
+ * The data store invalidates the row of a key after each update of the key in the data tree and all rows of
+ * a partition when the partition is destroyed. To avoid caching a row which was read concurrently with an update,
+ * the reader takes {@link #stamp(int) stamp} of the partition before the row is read and the row is dropped
+ * if the stamp has changed by the moment the row is cached.
+ */
+public class CacheDataRowCache {
+    /** Estimated heap overhead of a cached row besides key and value bytes. */
+    static final int ROW_OVERHEAD = 128;
+
+    /** Count of partition stamps, partitions share stamps by modulo. */
+    private static final int STAMPS_CNT = 1024;
+
+    /** Minimal size of a segment, in bytes. */
+    private static final long MIN_SEGMENT_SIZE = 64 * 1024;
+
+    /** Window LRU share of a segment, in percent. */
+    private static final int WINDOW_PCT = 1;
+
+    /** Protected LRU share of the main area of a segment, in percent. */
+    private static final int PROTECTED_PCT = 80;
+
+    /** Segments. */
+    private final Segment[] segs;
+
+    /** Partition stamps, incremented on each invalidation. */
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMPS_CNT);
+
+    /**
+     * @param maxSize Maximum size of cached rows, in bytes.
+     */
+    public CacheDataRowCache(long maxSize) {
+        assert maxSize > 0 : maxSize;
+
+        int segCnt = U.ceilPow2(Runtime.getRuntime().availableProcessors() * 4);
+
+        while (segCnt > 1 && maxSize / segCnt < MIN_SEGMENT_SIZE)
+            segCnt >>= 1;
+
+        segs = new Segment[segCnt];
+
+        for (int i = 0; i < segCnt; i++)
+            segs[i] = new Segment(maxSize / segCnt);
+    }
+
+    /**
+     * Gets current stamp of the partition. The stamp must be taken before the row is read from the data tree
+     * and passed to {@link #put(int, KeyCacheObject, CacheDataRow, long)}.
+     *
+     * @param part Partition.
+     * @return Stamp.
+     */
+    public long stamp(int part) {
+        return stamps.get(part & (STAMPS_CNT - 1));
+    }
+
+    /**
+     * @param key Key.
+     * @return Cached row or {@code null} if the row is not cached.
+     */
+    @Nullable public CacheDataRow get(KeyCacheObject key) {
+        int hash = hash(key);
+
+        return segment(hash).get(key, hash);
+    }
+
+    /**
+     * Caches the row read from the data tree.
+     *
+     * @param part Partition.
+     * @param key Key.
+     * @param row Row.
+     * @param stamp Stamp of the partition taken before the row was read.
+     * @return Count of evicted rows.
+     * @throws IgniteCheckedException If failed.
+     */
+    public int put(int part, KeyCacheObject key, CacheDataRow row, long stamp) throws IgniteCheckedException {
+        if (stamp(part) != stamp)
+            return 0;
+
+        int hash = hash(key);
+
+        Segment seg = segment(hash);
+
+        int evicted = seg.put(part, key, hash, row, row.size() + ROW_OVERHEAD);
+
+        // Partition was updated while the row was read, the row might be stale.
+        if (stamp(part) != stamp)
+            seg.remove(key);
+
+        return evicted;
+    }
+
+    /**
+     * Invalidates the cached row of the key. Must be called after the key is updated in the data tree.
+     *
+     * @param part Partition.
+     * @param key Key.
+     */
+    public void invalidate(int part, KeyCacheObject key) {
+        stamps.incrementAndGet(part & (STAMPS_CNT - 1));
+
+        segment(hash(key)).remove(key);
+    }
+
+    /**
+     * Invalidates all cached rows of the partition.
+     *
+     * @param part Partition.
+     */
+    public void invalidatePartition(int part) {
+        stamps.incrementAndGet(part & (STAMPS_CNT - 1));
+
+        for (Segment seg : segs)
+            seg.removePartition(part);
+    }
+
+    /**
+     * Invalidates all cached rows.
+     */
+    public void clear() {
+        for (int i = 0; i < STAMPS_CNT; i++)
+            stamps.incrementAndGet(i);
+
+        for (Segment seg : segs)
+            seg.clear();
+    }
+
+    /**
+     * @return Estimated size of cached rows, in bytes.
+     */
+    public long sizeInBytes() {
+        long size = 0;
+
+        for (Segment seg : segs)
+            size += seg.size();
+
+        return size;
+    }
+
+    /**
+     * @return Count of cached rows.
+     */
+    public long entries() {
+        long cnt = 0;
+
+        for (Segment seg : segs)
+            cnt += seg.entries();
+
+        return cnt;
+    }
+
+    /**
+     * @param hash Hash.
+     * @return Segment.
+     */
+    private Segment segment(int hash) {
+        return segs[(hash >>> 16) & (segs.length - 1)];
+    }
+
+    /**
+     * @param key Key.
+     * @return Spread hash code of the key.
+     */
+    private static int hash(KeyCacheObject key) {
+        int h = key.hashCode() * 0x9E3779B9;
+
+        return h ^ (h >>> 15);
+    }
+
+    /**
+     * Segment of the cache, guarded by its monitor.
+     */
+    private static final class Segment {
+        /** Window LRU. */
+        private static final byte WINDOW = 0;
+
+        /** Probation LRU of the main area. */
+        private static final byte PROBATION = 1;
+
+        /** Protected LRU of the main area. */
+        private static final byte PROTECTED = 2;
+
+        /** Maximum size. */
+        private final long maxSize;
+
+        /** Maximum size of the window. */
+        private final long maxWinSize;
+
+        /** Maximum size of the protected area. */
+        private final long maxProtSize;
+
+        /** Rows by key. */
+        private final HashMap<KeyCacheObject, Node> rows = new HashMap<>();
+
+        /** Sentinels of LRU lists by type, the head is the least recently used node. */
+        private final Node[] lists = {new Node(), new Node(), new Node()};
+
+        /** Sizes of LRU lists by type. */
+        private final long[] sizes = new long[3];
+
+        /** Access frequencies. */
+        private final FrequencySketch sketch;
+
+        /**
+         * @param maxSize Maximum size.
+         */
+        Segment(long maxSize) {
+            this.maxSize = maxSize;
+
+            maxWinSize = Math.max(1, maxSize * WINDOW_PCT / 100);
+            maxProtSize = (maxSize - maxWinSize) * PROTECTED_PCT / 100;
+
+            sketch = new FrequencySketch((int)Math.min(maxSize / ROW_OVERHEAD / 4, 1 << 16));
+        }
+
+        /**
+         * @param key Key.
+         * @param hash Hash.
+         * @return Cached row or {@code null} if the row is not cached.
+         */
+        synchronized CacheDataRow get(KeyCacheObject key, int hash) {
+            sketch.increment(hash);
+
+            Node n = rows.get(key);
+
+            if (n == null)
+                return null;
+
+            if (n.type == PROBATION) {
+                move(n, PROTECTED);
+
+                while (sizes[PROTECTED] > maxProtSize)
+                    move(lists[PROTECTED].next, PROBATION);
+            }
+            else
+                move(n, n.type);
+
+            return n.row;
+        }
+
+        /**
+         * @param part Partition.
+         * @param key Key.
+         * @param hash Hash.
+         * @param row Row.
+         * @param size Size of the row.
+         * @return Count of evicted rows.
+         */
+        synchronized int put(int part, KeyCacheObject key, int hash, CacheDataRow row, long size) {
+            if (size > maxSize)
+                return 0;
+
+            Node n = rows.get(key);
+
+            if (n == null) {
+                n = new Node();
+
+                n.key = key;
+                n.hash = hash;
+                n.part = part;
+                n.type = WINDOW;
+
+                rows.put(key, n);
+            }
+            else
+                unlink(n);
+
+            n.row = row;
+            n.size = size;
+
+            link(n, n.type);
+
+            return evict();
+        }
+
+        /**
+         * @param key Key.
+         */
+        synchronized void remove(KeyCacheObject key) {
+            Node n = rows.remove(key);
+
+            if (n != null)
+                unlink(n);
+        }
+
+        /**
+         * @param part Partition.
+         */
+        synchronized void removePartition(int part) {
+            for (Iterator<Node> it = rows.values().iterator(); it.hasNext(); ) {
+                Node n = it.next();
+
+                if (n.part == part) {
+                    it.remove();
+
+                    unlink(n);
+                }
+            }
+        }
+
+        /** */
+        synchronized void clear() {
+            rows.clear();
+
+            for (int i = 0; i < lists.length; i++) {
+                lists[i].next = lists[i].prev = lists[i];
+
+                sizes[i] = 0;
+            }
+        }
+
+        /**
+         * @return Size of cached rows.
+         */
+        synchronized long size() {
+            return sizes[WINDOW] + sizes[PROBATION] + sizes[PROTECTED];
+        }
+
+        /**
+         * @return Count of cached rows.
+         */
+        synchronized int entries() {
+            return rows.size();
+        }
+
+        /**
+         * Moves rows overflowing the window to the probation area and evicts rows until the segment fits
+         * its maximum size. Rows from the window compete with the least recently used probation row.
+         *
+         * @return Count of evicted rows.
+         */
+        private int evict() {
+            while (sizes[WINDOW] > maxWinSize)
+                move(lists[WINDOW].next, PROBATION);
+
+            int evicted = 0;
+
+            while (size() > maxSize) {
+                Node victim = lists[PROBATION].next;
+
+                if (victim == lists[PROBATION])
+                    victim = lists[PROTECTED].next != lists[PROTECTED] ? lists[PROTECTED].next : lists[WINDOW].next;
+                else {
+                    Node candidate = lists[PROBATION].prev;
+
+                    if (candidate != victim && sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash))
+                        victim = candidate;
+                }
+
+                rows.remove(victim.key);
+
+                unlink(victim);
+
+                evicted++;
+            }
+
+            return evicted;
+        }
+
+        /**
+         * Moves the node to the tail of the list.
+         *
+         * @param n Node.
+         * @param type List type.
+         */
+        private void move(Node n, byte type) {
+            unlink(n);
+            link(n, type);
+        }
+
+        /**
+         * @param n Node.
+         * @param type List type.
+         */
+        private void link(Node n, byte type) {
+            Node head = lists[type];
+
+            n.type = type;
+            n.prev = head.prev;
+            n.next = head;
+
+            head.prev.next = n;
+            head.prev = n;
+
+            sizes[type] += n.size;
+        }
+
+        /**
+         * @param n Node.
+         */
+        private void unlink(Node n) {
+            n.prev.next = n.next;
+            n.next.prev = n.prev;
+
+            n.prev = n.next = null;
+
+            sizes[n.type] -= n.size;
+        }
+    }
+
+    /**
+     * Node of an LRU list.
+     */
+    private static final class Node {
+        /** */
+        private KeyCacheObject key;
+
+        /** */
+        private int hash;
+
+        /** */
+        private int part;
+
+        /** */
+        private CacheDataRow row;
+
+        /** */
+        private long size;
+
+        /** LRU list type. */
+        private byte type;
+
+        /** */
+        private Node prev = this;
+
+        /** */
+        private Node next = this;
+    }
+
+    /**
+     * Count-min sketch of access frequencies with four 4-bit counters per key. Counters are halved each time
+     * the count of increments reaches the sample size, so the sketch reflects recent accesses.
+     */
+    private static final class FrequencySketch {
+        /** Seeds of the hash functions. */
+        private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        /** Mask clearing the high bit of each counter after shift. */
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        /** Sixteen counters per element. */
+        private final long[] table;
+
+        /** Count of increments after which counters are halved. */
+        private final int sampleSize;
+
+        /** Count of increments since the last reset. */
+        private int incs;
+
+        /**
+         * @param cap Capacity.
+         */
+        FrequencySketch(int cap) {
+            table = new long[U.ceilPow2(Math.max(cap, 16))];
+
+            sampleSize = table.length * 10;
+        }
+
+        /**
+         * @param hash Hash.
+         * @return Estimated access frequency, from 0 to 15.
+         */
+        int frequency(int hash) {
+            int start = (hash & 3) << 2;
+
+            int freq = Integer.MAX_VALUE;
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                int off = (start + i) << 2;
+
+                freq = Math.min(freq, (int)((table[indexOf(hash, i)] >>> off) & 0xFL));
+            }
+
+            return freq;
+        }
+
+        /**
+         * @param hash Hash.
+         */
+        void increment(int hash) {
+            int start = (hash & 3) << 2;
+
+            boolean added = false;
+
+            for (int i = 0; i < SEEDS.length; i++) {
+                int idx = indexOf(hash, i);
+
+                long mask = 0xFL << ((start + i) << 2);
+
+                if ((table[idx] & mask) != mask) {
+                    table[idx] += 1L << ((start + i) << 2);
+
+                    added = true;
+                }
+            }
+
+            if (added && ++incs == sampleSize) {
+                for (int i = 0; i < table.length; i++)
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+
+                incs >>>= 1;
+            }
+        }
+
+        /**
+         * @param hash Hash.
+         * @param i Index of the hash function.
+         * @return Index of the table element.
+         */
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+
+            h += h >>> 32;
+
+            return (int)h & (table.length - 1);
+        }
+    }
+}
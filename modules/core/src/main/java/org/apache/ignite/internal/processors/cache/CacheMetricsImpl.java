@@ -163,6 +163,15 @@ public class CacheMetricsImpl implements CacheMetrics {
     /** Number of off-heap misses. */
     private final AtomicLongMetric offHeapMisses;
 
+    /** Number of row cache hits. */
+    private final AtomicLongMetric rowCacheHits;
+
+    /** Number of row cache misses. */
+    private final AtomicLongMetric rowCacheMisses;
+
+    /** Number of row cache evictions. */
+    private final AtomicLongMetric rowCacheEvicts;
+
     /** Rebalanced keys count. */
     private final AtomicLongMetric rebalancedKeys;
 
@@ -359,6 +368,21 @@ public class CacheMetricsImpl implements CacheMetrics {
         offHeapMisses = mreg.longMetric("OffHeapMisses",
             "A miss is a get request that is not satisfied by off-heap memory.");
 
+        rowCacheHits = mreg.longMetric("RowCacheHits",
+            "The number of row reads that were satisfied by the row cache.");
+
+        rowCacheMisses = mreg.longMetric("RowCacheMisses",
+            "The number of row reads that were not satisfied by the row cache.");
+
+        rowCacheEvicts = mreg.longMetric("RowCacheEvictions",
+            "The total number of evictions from the row cache.");
+
+        mreg.register("RowCacheSize", this::rowCacheSize,
+            "Estimated size of rows cached in the row cache, in bytes.");
+
+        mreg.register("RowCacheEntries", this::rowCacheEntries,
+            "The number of rows cached in the row cache.");
+
         rebalancedKeys = mreg.longMetric("RebalancedKeys",
             "Number of already rebalanced keys.");
 
@@ -389,6 +413,9 @@ public class CacheMetricsImpl implements CacheMetrics {
         evictingPartitions = mreg.longMetric("EvictingPartitionsLeft",
             "The number of non-affinity partitions scheduled for eviction.");
 
+        mreg.register("TtlExpiryLag", this::ttlExpiryLag,
+            "Time in milliseconds the oldest expired entry has been waiting for the eager TTL cleanup.");
+
         mreg.register("IsIndexRebuildInProgress", this::isIndexRebuildInProgress,
             "True if index rebuild is in progress.");
 
@@ -741,6 +768,10 @@ public class CacheMetricsImpl implements CacheMetrics {
         offHeapMisses.reset();
         offHeapEvicts.reset();
 
+        rowCacheHits.reset();
+        rowCacheMisses.reset();
+        rowCacheEvicts.reset();
+
         getTime.reset();
         getAllTime.reset();
         putTime.reset();
@@ -1639,6 +1670,60 @@ public class CacheMetricsImpl implements CacheMetrics {
             delegate.onOffHeapEvict();
     }
 
+    /**
+     * Row cache read callback.
+     *
+     * @param hit Hit or miss flag.
+     */
+    public void onRowCacheRead(boolean hit) {
+        if (hit)
+            rowCacheHits.increment();
+        else
+            rowCacheMisses.increment();
+
+        if (delegate != null)
+            delegate.onRowCacheRead(hit);
+    }
+
+    /**
+     * Row cache eviction callback.
+     *
+     * @param cnt Count of evicted rows.
+     */
+    public void onRowCacheEvict(int cnt) {
+        rowCacheEvicts.add(cnt);
+
+        if (delegate != null)
+            delegate.onRowCacheEvict(cnt);
+    }
+
+    /**
+     * @return Estimated size of rows cached in the row cache, in bytes.
+     */
+    private long rowCacheSize() {
+        CacheDataRowCache rowCache = cctx.rowCache();
+
+        return rowCache != null ? rowCache.sizeInBytes() : 0;
+    }
+
+    /**
+     * @return Time in milliseconds the oldest expired entry has been waiting for the eager TTL cleanup.
+     */
+    private long ttlExpiryLag() {
+        GridCacheTtlManager ttl = cctx.ttl();
+
+        return ttl != null ? ttl.expiryLag() : 0;
+    }
+
+    /**
+     * @return Count of rows cached in the row cache.
+     */
+    private long rowCacheEntries() {
+        CacheDataRowCache rowCache = cctx.rowCache();
+
+        return rowCache != null ? rowCache.entries() : 0;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isIndexRebuildInProgress() {
         IgniteInternalFuture fut = cctx.shared().kernalContext().query().indexRebuildFuture(cctx.cacheId());
@@ -287,6 +287,9 @@ public class GridCacheContext<K, V> implements Externalizable {
     /** Dump callback. */
     private volatile DumpEntryChangeListener dumpLsnr;
 
+    /** Row cache, {@code null} if disabled. */
+    private CacheDataRowCache rowCache;
+
     /** */
     private final boolean disableTriggeringCacheInterceptorOnConflict =
         Boolean.parseBoolean(System.getProperty(IGNITE_DISABLE_TRIGGERING_CACHE_INTERCEPTOR_ON_CONFLICT, "false"));
@@ -420,6 +423,9 @@ public class GridCacheContext<K, V> implements Externalizable {
 
         readFromBackup = cacheCfg.isReadFromBackup();
 
+        if (affNode && cacheCfg.getRowCacheMaxSize() > 0)
+            rowCache = new CacheDataRowCache(cacheCfg.getRowCacheMaxSize());
+
         this.dynamicDeploymentId = deploymentId;
         this.recoveryMode = recoveryMode;
 
@@ -1166,6 +1172,13 @@ public class GridCacheContext<K, V> implements Externalizable {
         return ttlMgr;
     }
 
+    /**
+     * @return Row cache or {@code null} if disabled.
+     */
+    @Nullable public CacheDataRowCache rowCache() {
+        return rowCache;
+    }
+
     /**
      * @return JTA manager.
      */
@@ -2017,6 +2030,9 @@ public class GridCacheContext<K, V> implements Externalizable {
         if (expiryPlc instanceof Closeable)
             U.closeQuiet((Closeable)expiryPlc);
 
+        if (rowCache != null)
+            rowCache.clear();
+
         mgrs.clear();
     }
 
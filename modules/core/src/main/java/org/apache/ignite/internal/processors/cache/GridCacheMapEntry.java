@@ -24,8 +24,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -39,6 +43,7 @@ import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.SystemProperty;
 import org.apache.ignite.cache.CacheInterceptor;
 import org.apache.ignite.cache.eviction.EvictableEntry;
+import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.UnregisteredBinaryTypeException;
@@ -149,6 +154,16 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     /** Entry lock time awaiting. */
     private static final long ENTRY_LOCK_TIMEOUT = getLong(ENTRY_LOCK_TIMEOUT_ENV, DFLT_LOCK_TIMEOUT_ENV);
 
+    /** Count of busy spins before compact entry lock acquirer starts yielding. */
+    private static final int COMPACT_LOCK_SPINS = 64;
+
+    /** Count of spins before compact entry lock acquirer starts parking. */
+    private static final int COMPACT_LOCK_YIELDS = COMPACT_LOCK_SPINS + 16;
+
+    /** Entry lock field updater, used to acquire the compact entry lock. */
+    private static final AtomicReferenceFieldUpdater<GridCacheMapEntry, Object> LOCK_UPD =
+        AtomicReferenceFieldUpdater.newUpdater(GridCacheMapEntry.class, Object.class, "lock");
+
     /** */
     private static final byte IS_DELETED_MASK = 0x01;
 
@@ -240,9 +255,15 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     @GridToStringInclude
     private GridCacheEntryExtras extras;
 
-    /** */
+    /**
+     * Entry lock. It is a {@link ReentrantLock} unless compact entry locking is enabled for the cache, see
+     * {@link CacheConfiguration#isCompactEntryLocking()}. Otherwise it is {@code null} if the entry is not locked,
+     * the owner thread if the entry is locked once or {@link CompactLockHolds} if the owner has reentered the lock
+     * or other threads wait for it. A compact lock released while other threads wait for it is inflated to
+     * a {@link ReentrantLock}, which is kept for the rest of the entry life.
+     */
     @GridToStringExclude
-    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Object lock;
 
     /** Read Lock for continuous query listener */
     @GridToStringExclude
@@ -278,6 +299,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         this.cctx = cctx;
         this.listenerLock = cctx.group().listenerLock();
 
+        if (!cctx.config().isCompactEntryLocking())
+            lock = new ReentrantLock();
+
         ver = cctx.shared().versions().startVersion();
     }
 
@@ -287,7 +311,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param val Value to store.
      */
     protected void value(@Nullable CacheObject val) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         this.val = val;
     }
@@ -358,7 +382,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public boolean isNew() throws GridCacheEntryRemovedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         checkObsolete();
 
@@ -537,7 +561,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return Value bytes and flag indicating whether value is byte array.
      */
     protected IgniteBiTuple<byte[], Byte> valueBytes0() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         assert val != null;
 
@@ -2423,7 +2447,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return {@code True} if entry is obsolete, {@code false} if entry is still used by other threads or nodes.
      */
     protected final boolean markObsolete0(GridCacheVersion ver, boolean clear, GridCacheObsoleteEntryExtras extras) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (evictionDisabled()) {
             assert !obsolete() : this;
@@ -2530,7 +2554,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     protected final void update(@Nullable CacheObject val, long expireTime, long ttl, GridCacheVersion ver, boolean addTracked) {
         assert ver != null;
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert ttl != CU.TTL_ZERO && ttl != CU.TTL_NOT_CHANGED && ttl >= 0 : ttl;
 
         boolean trackNear = addTracked && isNear() && cctx.config().isEagerTtl();
@@ -2595,7 +2619,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     private void updateTtlUnlocked(long ttl) throws IgniteCheckedException {
         assert ttl >= 0 || ttl == CU.TTL_ZERO : ttl;
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         long expireTime;
 
@@ -2622,7 +2646,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws GridCacheEntryRemovedException If entry is obsolete.
      */
     protected void checkObsolete() throws GridCacheEntryRemovedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (obsoleteVersionExtras() != null)
             throw new GridCacheEntryRemovedException();
@@ -2791,7 +2815,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws IgniteCheckedException In case of failure.
      */
     private boolean checkExpired() throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         long expireTime = expireTimeExtras();
 
@@ -2838,7 +2862,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @return {@code True} if this entry has value.
      */
     protected final boolean hasValueUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         return val != null;
     }
@@ -3207,7 +3231,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     private void addReaderIfNeed(@Nullable ReaderArguments readerArgs) {
         if (readerArgs != null) {
             assert this instanceof GridDhtCacheEntry : this;
-            assert lock.isHeldByCurrentThread();
+            assert lockedByCurrentThread();
 
             try {
                 ((GridDhtCacheEntry)this).addReader(readerArgs.reader(),
@@ -3527,7 +3551,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public long expireTimeUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         return expireTimeExtras();
     }
@@ -3846,7 +3870,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         @Nullable IgnitePredicate<CacheDataRow> predicate,
         @Nullable CacheDataRow row
     ) throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert localPartition() == null || localPartition().state() != RENTING : localPartition();
 
         UpdateClosure closure = new UpdateClosure(this, val, ver, expireTime, predicate, row);
@@ -3941,7 +3965,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @throws IgniteCheckedException If failed.
      */
     protected void removeValue() throws IgniteCheckedException {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         // Removals are possible from RENTING partition on clearing/evicting.
         cctx.offheap().remove(cctx, key, partition(), localPartition());
@@ -4056,7 +4080,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     private void ensureFreeSpace() throws IgniteCheckedException {
         // Deadlock alert: evicting data page causes removing (and locking) all entries on the page one by one.
-        assert !lock.isHeldByCurrentThread();
+        assert !lockedByCurrentThread();
 
         cctx.shared().database().ensureFreeSpace(cctx.dataRegion());
     }
@@ -4287,7 +4311,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      */
     @SuppressWarnings("SimplifiableIfStatement")
     protected final boolean deletedUnlocked() {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
 
         if (!cctx.deferredDelete())
             return false;
@@ -4299,7 +4323,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      * @param deleted {@code True} if deleted.
      */
     protected final void deletedUnlocked(boolean deleted) {
-        assert lock.isHeldByCurrentThread();
+        assert lockedByCurrentThread();
         assert cctx.deferredDelete();
 
         if (deleted) {
@@ -4434,7 +4458,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         CacheObject val,
         boolean inThreadChain
     ) {
-        assert !lock.isHeldByCurrentThread();
+        assert !lockedByCurrentThread();
 
         if (prevOwners != null && owners == null) {
             cctx.mvcc().callback().onOwnerChanged(this, null);
@@ -4569,24 +4593,201 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public void lockEntry() {
-        lock.lock();
+        Object lock = this.lock;
+
+        if (lock instanceof ReentrantLock)
+            ((ReentrantLock)lock).lock();
+        else
+            lockCompact(lock, false, 0);
     }
 
     /** {@inheritDoc} */
     @Override public boolean tryLockEntry(long timeout) {
-        try {
-            return lock.tryLock(timeout, TimeUnit.MILLISECONDS);
-        }
-        catch (InterruptedException ignite) {
-            Thread.currentThread().interrupt();
+        Object lock = this.lock;
 
-            return false;
+        if (lock instanceof ReentrantLock) {
+            try {
+                return ((ReentrantLock)lock).tryLock(timeout, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException ignite) {
+                Thread.currentThread().interrupt();
+
+                return false;
+            }
         }
+
+        return lockCompact(lock, true, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
     }
 
     /** {@inheritDoc} */
     @Override public void unlockEntry() {
-        lock.unlock();
+        Object lock = this.lock;
+
+        if (lock instanceof ReentrantLock) {
+            ((ReentrantLock)lock).unlock();
+
+            return;
+        }
+
+        Thread cur = Thread.currentThread();
+
+        if (lock == cur) {
+            if (LOCK_UPD.compareAndSet(this, cur, null))
+                return;
+
+            // A waiter has replaced the owner thread with the lock holds.
+            lock = this.lock;
+        }
+
+        if (lock instanceof CompactLockHolds && ((CompactLockHolds)lock).owner == cur) {
+            CompactLockHolds holds = (CompactLockHolds)lock;
+
+            if (--holds.holds == 0)
+                releaseCompactLock(holds);
+        }
+        else
+            throw new IllegalMonitorStateException();
+    }
+
+    /**
+     * Acquires the compact entry lock. The acquirer spins first, then yields, and then parks until the owner
+     * releases the lock. Once the lock is inflated the acquirer waits for the {@link ReentrantLock}.
+     *
+     * @param lock Current lock state.
+     * @param timed Whether the wait is bounded by the deadline.
+     * @param deadline Deadline in terms of {@link System#nanoTime()}, ignored if the wait is not timed.
+     * @return {@code True} if the lock has been acquired, {@code false} if the deadline has passed or the thread
+     *      has been interrupted while waiting with a timeout.
+     */
+    private boolean lockCompact(Object lock, boolean timed, long deadline) {
+        Thread cur = Thread.currentThread();
+
+        if (reenterCompactLock(lock, cur))
+            return true;
+
+        boolean interrupted = false;
+
+        try {
+            for (int spins = 0; ; spins++) {
+                lock = this.lock;
+
+                if (lock == null) {
+                    if (LOCK_UPD.compareAndSet(this, null, cur))
+                        return true;
+
+                    continue;
+                }
+
+                if (lock instanceof ReentrantLock) {
+                    if (!timed) {
+                        ((ReentrantLock)lock).lock();
+
+                        return true;
+                    }
+
+                    try {
+                        return ((ReentrantLock)lock).tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    }
+                    catch (InterruptedException ignored) {
+                        interrupted = true;
+
+                        return false;
+                    }
+                }
+
+                if (timed && (cur.isInterrupted() || System.nanoTime() - deadline >= 0))
+                    return false;
+
+                if (spins < COMPACT_LOCK_SPINS)
+                    continue;
+
+                if (spins < COMPACT_LOCK_YIELDS)
+                    Thread.yield();
+                else {
+                    awaitCompactLock(lock, cur, timed, deadline);
+
+                    // Lock waits are not interruptible, the flag is restored when the lock is acquired.
+                    if (!timed && Thread.interrupted())
+                        interrupted = true;
+                }
+            }
+        }
+        finally {
+            if (interrupted)
+                cur.interrupt();
+        }
+    }
+
+    /**
+     * Parks the current thread until the owner releases the compact entry lock. The owner unparks all the waiters
+     * registered in the lock holds, so the waiter registers itself and re-checks the lock state before parking.
+     *
+     * @param lock Lock state held by another thread.
+     * @param cur Current thread.
+     * @param timed Whether the wait is bounded by the deadline.
+     * @param deadline Deadline in terms of {@link System#nanoTime()}, ignored if the wait is not timed.
+     */
+    private void awaitCompactLock(Object lock, Thread cur, boolean timed, long deadline) {
+        CompactLockHolds holds;
+
+        if (lock instanceof Thread) {
+            holds = new CompactLockHolds((Thread)lock, 1);
+
+            if (!LOCK_UPD.compareAndSet(this, lock, holds))
+                return;
+        }
+        else
+            holds = (CompactLockHolds)lock;
+
+        holds.waiters.add(cur);
+
+        if (this.lock == holds) {
+            if (timed)
+                LockSupport.parkNanos(this, deadline - System.nanoTime());
+            else
+                LockSupport.park(this);
+        }
+
+        holds.waiters.remove(cur);
+    }
+
+    /**
+     * Releases the compact entry lock held by the current thread. If other threads wait for the lock, it is inflated
+     * to a {@link ReentrantLock} and the waiters are unparked to compete for it.
+     *
+     * @param holds Lock holds.
+     */
+    private void releaseCompactLock(CompactLockHolds holds) {
+        // The lock holds are replaced by the owner only, so no CAS is needed.
+        lock = holds.waiters.isEmpty() ? null : new ReentrantLock();
+
+        for (Thread waiter; (waiter = holds.waiters.poll()) != null; )
+            LockSupport.unpark(waiter);
+    }
+
+    /**
+     * Reenters the compact entry lock if it is held by the current thread. The hold count is changed by the owner
+     * only, waiters may only replace the owner thread with the lock holds.
+     *
+     * @param lock Current lock state.
+     * @param cur Current thread.
+     * @return {@code True} if the lock is held by the current thread and has been reentered.
+     */
+    private boolean reenterCompactLock(Object lock, Thread cur) {
+        if (lock == cur) {
+            if (LOCK_UPD.compareAndSet(this, cur, new CompactLockHolds(cur, 2)))
+                return true;
+
+            lock = this.lock;
+        }
+
+        if (lock instanceof CompactLockHolds && ((CompactLockHolds)lock).owner == cur) {
+            ((CompactLockHolds)lock).holds++;
+
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -4611,7 +4812,14 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public boolean lockedByCurrentThread() {
-        return lock.isHeldByCurrentThread();
+        Object lock = this.lock;
+
+        if (lock instanceof ReentrantLock)
+            return ((ReentrantLock)lock).isHeldByCurrentThread();
+
+        Thread cur = Thread.currentThread();
+
+        return lock == cur || lock instanceof CompactLockHolds && ((CompactLockHolds)lock).owner == cur;
     }
 
     /** {@inheritDoc} */
@@ -6609,4 +6817,28 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
         return cache != null && cache.cacheCfg.getPlatformCacheConfiguration() != null;
     }
+
+    /**
+     * State of the compact entry lock reentered by its owner or awaited by other threads. Created only on reentrance
+     * or contention, so an entry locked once keeps the owner thread in its lock field.
+     */
+    private static final class CompactLockHolds {
+        /** Owner thread. */
+        final Thread owner;
+
+        /** Hold count, accessed by the owner only. */
+        int holds;
+
+        /** Threads parked until the owner releases the lock. */
+        final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+        /**
+         * @param owner Owner thread.
+         * @param holds Hold count.
+         */
+        CompactLockHolds(Thread owner, int holds) {
+            this.owner = owner;
+            this.holds = holds;
+        }
+    }
 }
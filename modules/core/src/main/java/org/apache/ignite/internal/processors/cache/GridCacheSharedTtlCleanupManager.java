@@ -46,6 +46,12 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
     /** Limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
+    /**
+     * Upper bound of the limit of expired entries processed by worker for certain cache in one pass. The limit grows
+     * up to this value while the expired entries backlog remains and drops back once the worker catches up.
+     */
+    private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT_MAX = 16 * CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT;
+
     /** Cleanup worker. */
     private CleanupWorker cleanupWorker;
 
@@ -182,9 +188,13 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                 final AtomicBoolean expiredRemains = new AtomicBoolean();
 
+                int limit = CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT;
+
                 while (!isCancelled()) {
                     expiredRemains.set(false);
 
+                    final int passLimit = limit;
+
                     for (Map.Entry<Integer, GridCacheTtlManager> mgr : mgrs.entrySet()) {
                         updateHeartbeat();
 
@@ -196,7 +206,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
                             // Need to be sure that the cache to be processed will not be unregistered and,
                             // therefore, stopped during the process of expiration is in progress.
                             mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                                if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
+                                if (m.expire(passLimit, true))
                                     expiredRemains.set(true);
 
                                 return m;
@@ -212,8 +222,13 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                     updateHeartbeat();
 
-                    if (!expiredRemains.get())
+                    if (expiredRemains.get())
+                        limit = Math.min(limit * 2, CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT_MAX);
+                    else {
+                        limit = CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT;
+
                         U.sleep(CLEANUP_WORKER_SLEEP_INTERVAL);
+                    }
 
                     onIdle();
                 }
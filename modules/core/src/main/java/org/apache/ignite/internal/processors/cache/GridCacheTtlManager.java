@@ -27,6 +27,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheEntry;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.GridAtomicLong;
 import org.apache.ignite.internal.util.GridConcurrentSkipListSet;
 import org.apache.ignite.internal.util.lang.IgniteInClosure2X;
 import org.apache.ignite.internal.util.typedef.X;
@@ -62,6 +63,12 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
     /** See {@link CacheConfiguration#isEagerTtl()}. */
     private volatile boolean eagerTtlEnabled;
 
+    /**
+     * Time in millis the oldest expired but not yet purged entry is waiting for the cleanup. Updated by the
+     * {@link GridCacheSharedTtlCleanupManager} worker passes only.
+     */
+    private volatile long expiryLag;
+
     /** */
     private GridCacheContext dhtCtx;
 
@@ -183,6 +190,14 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         return hasPendingEntries;
     }
 
+    /**
+     * @return Time in millis the oldest expired but not yet purged entry is waiting for the cleanup,
+     * {@code 0} if the cleanup keeps up with the expiration.
+     */
+    public long expiryLag() {
+        return expiryLag;
+    }
+
     /** {@inheritDoc} */
     @Override public void printMemoryStats() {
         try {
@@ -203,6 +218,18 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
      * @return {@code True} if unprocessed expired entries remains.
      */
     public boolean expire(int amount) {
+        return expire(amount, false);
+    }
+
+    /**
+     * Processes specified amount of expired entries.
+     *
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param updateLag Whether the expiry lag should be updated by this call. Only the cleanup worker passes are
+     *      taken into account, the small batches processed by user threads on unwind are not.
+     * @return {@code True} if unprocessed expired entries remains.
+     */
+    boolean expire(int amount, boolean updateLag) {
         // TTL manager is not initialized or eagerTtl disabled for cache.
         if (!eagerTtlEnabled)
             return false;
@@ -240,10 +267,23 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
             if (!cctx.affinityNode())
                 return false;  /* Pending tree never contains entries for that cache */
 
-            if (!hasPendingEntries || nextCleanTime > U.currentTimeMillis())
+            if (!hasPendingEntries || nextCleanTime > U.currentTimeMillis()) {
+                if (updateLag)
+                    expiryLag = 0;
+
                 return false;
+            }
+
+            GridAtomicLong oldestExpireTime = updateLag ? new GridAtomicLong(Long.MAX_VALUE) : null;
+
+            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount, oldestExpireTime);
 
-            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount);
+            // The lag is only meaningful while expired entries remain in the pending tree after the pass.
+            if (updateLag) {
+                long oldest = oldestExpireTime.get();
+
+                expiryLag = more && oldest != Long.MAX_VALUE ? Math.max(0, now - oldest) : 0;
+            }
 
             if (more)
                 return true;
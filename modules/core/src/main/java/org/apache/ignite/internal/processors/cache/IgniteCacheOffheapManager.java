@@ -130,6 +130,19 @@ public interface IgniteCacheOffheapManager {
      */
     @Nullable public CacheDataRow read(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException;
 
+    /**
+     * Reads rows of the given keys. Keys of the same partition are looked up in the partition data tree as a batch.
+     * The partitions are checked to be available locally before any lookup, and the lookup stops at the first partition
+     * with a key which is not found.
+     *
+     * @param cctx Cache context.
+     * @param keys Keys.
+     * @return Rows by keys or {@code null} if any of the keys is not available locally.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable public Map<KeyCacheObject, CacheDataRow> readAll(GridCacheContext cctx, Collection<KeyCacheObject> keys)
+        throws IgniteCheckedException;
+
     /**
      * @param p Partition.
      * @return Data store.
@@ -163,11 +176,16 @@ public interface IgniteCacheOffheapManager {
      * @param cctx Cache context.
      * @param c Closure.
      * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param oldestExpireTime Accumulator of the minimal expire time of purged entries, {@code null} if not needed.
      * @return {@code True} if unprocessed expired entries remains.
      * @throws IgniteCheckedException If failed.
      */
-    public boolean expire(GridCacheContext cctx, IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c, int amount)
-        throws IgniteCheckedException;
+    public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        @Nullable GridAtomicLong oldestExpireTime
+    ) throws IgniteCheckedException;
 
     /**
      * Gets the number of entries pending expire.
@@ -950,6 +968,18 @@ public interface IgniteCacheOffheapManager {
          */
         public CacheDataRow find(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException;
 
+        /**
+         * Finds rows of the given keys. The keys are looked up in the data tree as a batch sorted in the tree order,
+         * so the keys which fall into the same leaf page are resolved without descending from the tree root again.
+         *
+         * @param cctx Cache context.
+         * @param keys Keys.
+         * @return Data rows by keys, the keys which are not found are absent.
+         * @throws IgniteCheckedException If failed.
+         */
+        public Map<KeyCacheObject, CacheDataRow> findAll(GridCacheContext cctx, Collection<KeyCacheObject> keys)
+            throws IgniteCheckedException;
+
         /**
          * Returns iterator over the all row versions for the given key.
          *
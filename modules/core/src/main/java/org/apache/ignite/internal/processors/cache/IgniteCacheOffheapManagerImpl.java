@@ -19,9 +19,11 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -620,6 +622,43 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         return row;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public Map<KeyCacheObject, CacheDataRow> readAll(
+        GridCacheContext cctx,
+        Collection<KeyCacheObject> keys
+    ) throws IgniteCheckedException {
+        Map<Integer, List<KeyCacheObject>> keysByPart = new LinkedHashMap<>();
+
+        for (KeyCacheObject key : keys)
+            keysByPart.computeIfAbsent(cctx.affinity().partition(key), p -> new ArrayList<>()).add(key);
+
+        List<CacheDataStore> dataStores = new ArrayList<>(keysByPart.size());
+
+        for (Integer p : keysByPart.keySet()) {
+            CacheDataStore dataStore = dataStore(p, false);
+
+            if (dataStore == null)
+                return null;
+
+            dataStores.add(dataStore);
+        }
+
+        Map<KeyCacheObject, CacheDataRow> res = U.newHashMap(keys.size());
+
+        int i = 0;
+
+        for (List<KeyCacheObject> partKeys : keysByPart.values()) {
+            Map<KeyCacheObject, CacheDataRow> partRows = dataStores.get(i++).findAll(cctx, partKeys);
+
+            if (partRows.size() < partKeys.size())
+                return null;
+
+            res.putAll(partRows);
+        }
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Nullable @Override public CacheDataRow mvccRead(GridCacheContext cctx, KeyCacheObject key, MvccSnapshot mvccSnapshot)
         throws IgniteCheckedException {
@@ -1275,6 +1314,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 return;
 
             destroyCacheDataStore0(store);
+
+            for (GridCacheContext cctx : grp.caches()) {
+                if (cctx.rowCache() != null)
+                    cctx.rowCache().invalidatePartition(p);
+            }
         }
         catch (IgniteCheckedException e) {
             throw new IgniteException(e);
@@ -1304,13 +1348,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
     @Override public boolean expire(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-        int amount
+        int amount,
+        @Nullable GridAtomicLong oldestExpireTime
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
         assert pendingEntries != null;
 
-        int cleared = expireInternal(cctx, c, amount);
+        int cleared = expireInternal(cctx, c, amount, oldestExpireTime);
 
         return amount != -1 && cleared >= amount;
     }
@@ -1319,13 +1364,15 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
      * @param cctx Cache context.
      * @param c Closure.
      * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param oldestExpireTime Accumulator of the minimal expire time of purged entries, {@code null} if not needed.
      * @return cleared entries count.
      * @throws IgniteCheckedException If failed.
      */
     private int expireInternal(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-        int amount
+        int amount,
+        @Nullable GridAtomicLong oldestExpireTime
     ) throws IgniteCheckedException {
         GridCacheVersion obsoleteVer = null;
 
@@ -1339,7 +1386,13 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             try {
                 List<PendingRow> rows = pendingEntries.remove(
-                    new PendingRow(cacheId, Long.MIN_VALUE, 0), new PendingRow(cacheId, U.currentTimeMillis(), 0), amount);
+                    new PendingRow(cacheId, Long.MIN_VALUE, 0),
+                    new PendingRow(cacheId, U.currentTimeMillis(), 0),
+                    amount == -1 ? 0 : amount);
+
+                // Rows are ordered by expire time, so the first one is the oldest.
+                if (oldestExpireTime != null && !rows.isEmpty())
+                    oldestExpireTime.setIfLess(rows.get(0).expireTime);
 
                 for (PendingRow row : rows) {
                     if (row.key.partition() == -1)
@@ -1710,8 +1763,12 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                     break;
                 }
 
-                case NOOP:
                 case IN_PLACE:
+                    invalidateRow(cctx, row.key());
+
+                    break;
+
+                case NOOP:
                     break;
 
                 default:
@@ -1854,6 +1911,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 }
             }
             finally {
+                invalidateRow(cctx, key);
+
                 busyLock.leaveBusy();
             }
 
@@ -1972,6 +2031,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 return clo.operationType() == PUT;
             }
             finally {
+                invalidateRow(cctx, key);
+
                 busyLock.leaveBusy();
             }
         }
@@ -2133,6 +2194,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 return updateRow;
             }
             finally {
+                invalidateRow(cctx, key);
+
                 busyLock.leaveBusy();
             }
         }
@@ -2264,6 +2327,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 return updateRow;
             }
             finally {
+                invalidateRow(cctx, key);
+
                 busyLock.leaveBusy();
             }
         }
@@ -2374,6 +2439,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             }
             finally {
+                invalidateRow(cctx, key);
+
                 busyLock.leaveBusy();
             }
         }
@@ -2429,6 +2496,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
                     rowStore.removeRow(cleanupRow.link(), grp.statisticsHolderData());
 
+                    invalidateRow(cctx, cleanupRow.key());
+
                     res++;
                 }
             }
@@ -2583,6 +2652,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 }
             }
             finally {
+                invalidateRow(cctx, key);
+
                 busyLock.leaveBusy();
             }
         }
@@ -2617,6 +2688,8 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             updatePendingEntries(cctx, newRow, oldRow);
 
+            invalidateRow(cctx, newRow.key());
+
             if (oldRow != null) {
                 assert oldRow.link() != 0 : oldRow;
 
@@ -2692,10 +2765,48 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             if (qryMgr.enabled())
                 qryMgr.remove(key, oldRow);
 
+            invalidateRow(cctx, key);
+
             if (oldRow != null)
                 rowStore.removeRow(oldRow.link(), grp.statisticsHolderData());
         }
 
+        /**
+         * Invalidates cached row of the key, must be called after the key is updated in the data tree.
+         *
+         * @param cctx Cache context.
+         * @param key Key.
+         */
+        private void invalidateRow(GridCacheContext cctx, KeyCacheObject key) {
+            CacheDataRowCache rowCache = cctx.rowCache();
+
+            if (rowCache != null)
+                rowCache.invalidate(partId, key);
+        }
+
+        /**
+         * Caches the row read from the data tree.
+         *
+         * @param cctx Cache context.
+         * @param rowCache Row cache.
+         * @param key Key.
+         * @param row Row.
+         * @param stamp Partition stamp taken before the row was read.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void cacheRow(
+            GridCacheContext cctx,
+            CacheDataRowCache rowCache,
+            KeyCacheObject key,
+            CacheDataRow row,
+            long stamp
+        ) throws IgniteCheckedException {
+            int evicted = rowCache.put(partId, key, row, stamp);
+
+            if (evicted > 0 && cctx.statisticsEnabled())
+                cctx.cache().metrics0().onRowCacheEvict(evicted);
+        }
+
         /**
          * @param cctx Cache context.
          * @param oldRow Old row.
@@ -2715,6 +2826,22 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
         /** {@inheritDoc} */
         @Override public CacheDataRow find(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException {
+            CacheDataRowCache rowCache = cctx.rowCache();
+
+            long stamp = 0;
+
+            if (rowCache != null) {
+                CacheDataRow row = rowCache.get(key);
+
+                if (cctx.statisticsEnabled())
+                    cctx.cache().metrics0().onRowCacheRead(row != null);
+
+                if (row != null)
+                    return row;
+
+                stamp = rowCache.stamp(partId);
+            }
+
             key.valueBytes(cctx.cacheObjectContext());
 
             int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
@@ -2723,9 +2850,73 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
 
             afterRowFound(row, key);
 
+            if (rowCache != null && row != null)
+                cacheRow(cctx, rowCache, key, row, stamp);
+
             return row;
         }
 
+        /** {@inheritDoc} */
+        @Override public Map<KeyCacheObject, CacheDataRow> findAll(
+            GridCacheContext cctx,
+            Collection<KeyCacheObject> keys
+        ) throws IgniteCheckedException {
+            int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+            CacheDataRowCache rowCache = cctx.rowCache();
+
+            long stamp = rowCache != null ? rowCache.stamp(partId) : 0;
+
+            Map<KeyCacheObject, CacheDataRow> res = U.newHashMap(keys.size());
+
+            List<CacheSearchRow> rows = new ArrayList<>(keys.size());
+
+            for (KeyCacheObject key : keys) {
+                if (rowCache != null) {
+                    CacheDataRow row = rowCache.get(key);
+
+                    if (cctx.statisticsEnabled())
+                        cctx.cache().metrics0().onRowCacheRead(row != null);
+
+                    if (row != null) {
+                        res.put(key, row);
+
+                        continue;
+                    }
+                }
+
+                key.valueBytes(cctx.cacheObjectContext());
+
+                rows.add(new SearchRow(cacheId, key));
+            }
+
+            if (rows.isEmpty())
+                return res;
+
+            // Rows of the same cache are ordered by hash in the tree, rows with equal hashes are ordered by keys
+            // which is not required for correctness of the lookup.
+            rows.sort(Comparator.comparingInt(CacheSearchRow::hash));
+
+            List<CacheDataRow> found = dataTree.findAll(rows, CacheDataRowAdapter.RowData.NO_KEY);
+
+            for (int i = 0; i < rows.size(); i++) {
+                CacheDataRow row = found.get(i);
+
+                if (row != null) {
+                    KeyCacheObject key = rows.get(i).key();
+
+                    afterRowFound(row, key);
+
+                    if (rowCache != null)
+                        cacheRow(cctx, rowCache, key, row, stamp);
+
+                    res.put(key, row);
+                }
+            }
+
+            return res;
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<CacheDataRow> mvccAllVersionsCursor(
             GridCacheContext cctx, KeyCacheObject key, Object x
@@ -2916,6 +3107,11 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 }
             }
 
+            GridCacheContext cctx = grp.shared().cacheContext(cacheId);
+
+            if (cctx != null && cctx.rowCache() != null)
+                cctx.rowCache().invalidatePartition(partId);
+
             if (ex != null)
                 throw new IgniteCheckedException("Fail destroy store", ex);
 
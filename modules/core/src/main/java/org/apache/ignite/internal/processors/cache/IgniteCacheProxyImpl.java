@@ -707,7 +707,8 @@ public class IgniteCacheProxyImpl<K, V> extends AsyncSupportAdapter<IgniteCache<
                 qry.isAutoUnsubscribe(),
                 loc,
                 keepBinary,
-                qry.isIncludeExpired());
+                qry.isIncludeExpired(),
+                qry.isCoalesceEvents());
 
             try {
                 final QueryCursor<Cache.Entry<K, V>> cur =
@@ -1483,10 +1483,21 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 boolean success = true;
                 boolean readNoEntry = ctx.readNoEntry(expiry, false);
 
+                Map<KeyCacheObject, CacheDataRow> rows = null;
+
+                // Look up the keys in batches per partition.
+                if (readNoEntry && keys.size() > 1) {
+                    rows = ctx.offheap().readAll(ctx, keys);
+
+                    // Some key is not available locally, so the first lookup below fails fast.
+                    if (rows == null)
+                        rows = Collections.emptyMap();
+                }
+
                 // Optimistically expect that all keys are available locally (avoid creation of get future).
                 for (KeyCacheObject key : keys) {
                     if (readNoEntry) {
-                        CacheDataRow row = ctx.offheap().read(ctx, key);
+                        CacheDataRow row = rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                         if (row != null) {
                             long expireTime = row.expireTime();
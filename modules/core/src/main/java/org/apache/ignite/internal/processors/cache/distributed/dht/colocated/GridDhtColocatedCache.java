@@ -495,11 +495,22 @@ public class GridDhtColocatedCache<K, V> extends GridDhtTransactionalCacheAdapte
                 boolean readNoEntry = ctx.readNoEntry(expiryPlc, false);
                 boolean evt = !skipVals;
 
+                Map<KeyCacheObject, CacheDataRow> rows = null;
+
+                // Look up the keys in batches per partition.
+                if (readNoEntry && mvccSnapshot == null && keys.size() > 1) {
+                    rows = ctx.offheap().readAll(ctx, keys);
+
+                    // Some key is not available locally, so the first lookup below fails fast.
+                    if (rows == null)
+                        rows = Collections.emptyMap();
+                }
+
                 for (KeyCacheObject key : keys) {
                     if (readNoEntry) {
                         CacheDataRow row = mvccSnapshot != null ?
                             ctx.offheap().mvccRead(ctx, key, mvccSnapshot) :
-                            ctx.offheap().read(ctx, key);
+                            rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                         if (row != null) {
                             long expireTime = row.expireTime();
@@ -24,6 +24,7 @@ import java.util.Optional;
 import org.apache.ignite.DataRegionMetrics;
 import org.apache.ignite.DataRegionMetricsProvider;
 import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMetrics;
@@ -130,6 +131,15 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
     /** */
     private final LongAdderMetric pageReplaceTime;
 
+    /** Number of pages requested by scan read-ahead. */
+    private final LongAdderMetric readAheadPages;
+
+    /** Number of read-ahead leaf pages found in memory by scan cursors. */
+    private final LongAdderMetric readAheadHits;
+
+    /** Number of read-ahead leaf pages not loaded yet when scan cursors reached them. */
+    private final LongAdderMetric readAheadMisses;
+
     /** */
     private final AtomicLongMetric offHeapSize;
 
@@ -259,6 +269,19 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         pageReplaceTime = mreg.longAdderMetric("PagesReplaceTime",
             "Total pages replace time in nanoseconds since last restart.");
 
+        readAheadPages = mreg.longAdderMetric("ReadAheadPagesRequested",
+            "Number of pages requested to be loaded by scan read-ahead since last restart.");
+
+        readAheadHits = mreg.longAdderMetric("ReadAheadHits",
+            "Number of read-ahead leaf pages which were already loaded when a scan cursor reached them.");
+
+        readAheadMisses = mreg.longAdderMetric("ReadAheadMisses",
+            "Number of read-ahead leaf pages which were not loaded yet when a scan cursor reached them.");
+
+        mreg.register("ReadAheadHitRatio",
+            this::readAheadHitRatio,
+            "Ratio of read-ahead leaf pages which were already loaded when a scan cursor reached them.");
+
         offHeapSize = mreg.longMetric("OffHeapSize",
             "Offheap size in bytes.");
 
@@ -294,7 +317,7 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         else
             pageTsHistogram = null;
 
-        dataRegionPageMetrics = PageMetricsImpl.builder(mreg)
+        PageMetricsImpl.Builder pageMetricsBuilder = PageMetricsImpl.builder(mreg)
             .totalPagesCallback(new LongAdderWithDelegateMetric.Delegate() {
                 @Override public void increment() {
                     add(1);
@@ -307,8 +330,12 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
 
                 @Override public void decrement() {
                 }
-            })
-            .build();
+            });
+
+        if (persistenceEnabled && dataRegionCfg.getPageReplacementMode() == PageReplacementMode.ADAPTIVE)
+            pageMetricsBuilder.replacementMetrics();
+
+        dataRegionPageMetrics = pageMetricsBuilder.build();
     }
 
     /**
@@ -401,6 +428,19 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         return totalSpace - partiallyFreeSpace - emptySpace;
     }
 
+    /**
+     * Calculates histogram of partially filled data pages by fill factor, each element is the count of pages which
+     * fill factor is within the corresponding equal range of {@code [0, 1)}.
+     *
+     * @return Pages count by fill factor range.
+     */
+    public long[] getPagesFillFactorHistogram() {
+        if (!metricsEnabled)
+            return new long[0];
+
+        return dataRegionMetricsProvider.pagesFillFactorHistogram();
+    }
+
     /** {@inheritDoc} */
     @Override public long getDirtyPages() {
         if (!metricsEnabled || !persistenceEnabled)
@@ -557,6 +597,40 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         }
     }
 
+    /**
+     * Updates number of pages requested by scan read-ahead.
+     *
+     * @param pages Number of requested pages.
+     */
+    public void onReadAhead(int pages) {
+        if (metricsEnabled)
+            readAheadPages.add(pages);
+    }
+
+    /**
+     * Updates read-ahead hits or misses.
+     *
+     * @param hit {@code True} if a read-ahead page was loaded when a scan cursor reached it.
+     */
+    public void onReadAheadAccess(boolean hit) {
+        if (metricsEnabled) {
+            if (hit)
+                readAheadHits.increment();
+            else
+                readAheadMisses.increment();
+        }
+    }
+
+    /**
+     * @return Ratio of read-ahead leaf pages which were already loaded when a scan cursor reached them.
+     */
+    private double readAheadHitRatio() {
+        long hits = readAheadHits.value();
+        long total = hits + readAheadMisses.value();
+
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
     /**
      * Updates page written.
      */
@@ -722,6 +796,12 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
             "Returns the ratio of space occupied by user and system data to the size of all pages that contain " +
                 "this data");
 
+        mreg.register("PagesFillFactorHistogram",
+            this::getPagesFillFactorHistogram,
+            long[].class,
+            "Histogram of partially filled data pages by fill factor. Each value is the count of pages which fill " +
+                "factor is within the corresponding of equal ranges from 0 to 1");
+
         mreg.register("SizeUsedByData",
             this::getSizeUsedByData,
             "Returns the number of bytes, occupied by data. Similar to TotalUsedSize, but it also takes into " +
@@ -805,6 +885,9 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         writtenPages.reset();
         replacedPages.reset();
         pageReplaceTime.reset();
+        readAheadPages.reset();
+        readAheadHits.reset();
+        readAheadMisses.reset();
         offHeapSize.reset();
         checkpointBufSize.reset();
         allocRate.reset();
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.cache.persistence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -109,6 +110,7 @@ import org.apache.ignite.internal.processors.cache.tree.mvcc.data.MvccUpdateResu
 import org.apache.ignite.internal.processors.cache.tree.mvcc.search.MvccLinkAwareSearchRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
+import org.apache.ignite.internal.util.GridAtomicLong;
 import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.GridSpinBusyLock;
 import org.apache.ignite.internal.util.lang.GridCursor;
@@ -1103,7 +1105,8 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
     @Override public boolean expire(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-        int amount
+        int amount,
+        @Nullable GridAtomicLong oldestExpireTime
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
@@ -1115,7 +1118,8 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             int cleared = 0;
 
             for (CacheDataStore store : cacheDataStores()) {
-                cleared += ((GridCacheDataStore)store).purgeExpired(cctx, c, unwindThrottlingTimeout, amount - cleared);
+                cleared += ((GridCacheDataStore)store).purgeExpired(cctx, c, unwindThrottlingTimeout,
+                    amount == -1 ? -1 : amount - cleared, oldestExpireTime);
 
                 if (amount != -1 && cleared >= amount)
                     return true;
@@ -1191,6 +1195,48 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
         return emptyDataPages;
     }
 
+    /**
+     * Calculates fill factor histogram of partially filled pages of all partition data stores.
+     *
+     * @param hist Fill factor histogram to add page counts to.
+     * @see AbstractFreeList#fillFactorHistogram(long[])
+     */
+    void fillFactorHistogram(long[] hist) {
+        for (CacheDataStore store : cacheDataStores()) {
+            assert store instanceof GridCacheDataStore;
+
+            AbstractFreeList freeList = ((GridCacheDataStore)store).getCacheStoreFreeList();
+
+            if (freeList != null)
+                freeList.fillFactorHistogram(hist);
+        }
+    }
+
+    /**
+     * Calculates fill factor histogram of partially filled pages of the partition.
+     *
+     * @param part Partition.
+     * @return Pages count by fill factor range, all zeros if partition data store is not initialized.
+     * @see AbstractFreeList#fillFactorHistogram(long[])
+     */
+    public long[] fillFactorHistogram(int part) {
+        long[] hist = new long[AbstractFreeList.FILL_FACTOR_HISTOGRAM_SIZE];
+
+        for (CacheDataStore store : cacheDataStores()) {
+            if (store.partId() != part)
+                continue;
+
+            assert store instanceof GridCacheDataStore;
+
+            AbstractFreeList freeList = ((GridCacheDataStore)store).getCacheStoreFreeList();
+
+            if (freeList != null)
+                freeList.fillFactorHistogram(hist);
+        }
+
+        return hist;
+    }
+
     /**
      * @param cacheId Which was stopped, but its data still presented.
      * @throws IgniteCheckedException If failed.
@@ -2699,6 +2745,19 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return null;
         }
 
+        /** {@inheritDoc} */
+        @Override public Map<KeyCacheObject, CacheDataRow> findAll(
+            GridCacheContext cctx,
+            Collection<KeyCacheObject> keys
+        ) throws IgniteCheckedException {
+            CacheDataStore delegate = init0(true);
+
+            if (delegate != null)
+                return delegate.findAll(cctx, keys);
+
+            return Collections.emptyMap();
+        }
+
         /** {@inheritDoc} */
         @Override public CacheDataRow mvccFind(GridCacheContext cctx, KeyCacheObject key, MvccSnapshot snapshot)
             throws IgniteCheckedException {
@@ -2895,6 +2954,8 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
          * @param cctx Cache context.
          * @param c Expiry closure that should be applied to expired entry. See {@link GridCacheTtlManager} for details.
          * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+         * @param oldestExpireTime Accumulator of the minimal expire time of purged entries,
+         *      {@code null} if not needed.
          * @return cleared entries count.
          * @throws IgniteCheckedException If failed.
          */
@@ -2902,7 +2963,8 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             GridCacheContext cctx,
             IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
             long throttlingTimeout,
-            int amount
+            int amount,
+            @Nullable GridAtomicLong oldestExpireTime
         ) throws IgniteCheckedException {
             CacheDataStore delegate0 = init0(true);
 
@@ -2913,7 +2975,7 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
             assert pendingTree != null : "Partition data store was not initialized.";
 
-            int cleared = purgeExpiredInternal(cctx, c, amount);
+            int cleared = purgeExpiredInternal(cctx, c, amount, oldestExpireTime);
 
             // Throttle if there is nothing to clean anymore.
             if (cleared < amount) {
@@ -2931,13 +2993,16 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
          * @param cctx Cache context.
          * @param c Expiry closure that should be applied to expired entry. See {@link GridCacheTtlManager} for details.
          * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+         * @param oldestExpireTime Accumulator of the minimal expire time of purged entries,
+         *      {@code null} if not needed.
          * @return cleared entries count.
          * @throws IgniteCheckedException If failed.
          */
         private int purgeExpiredInternal(
             GridCacheContext cctx,
             IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-            int amount
+            int amount,
+            @Nullable GridAtomicLong oldestExpireTime
         ) throws IgniteCheckedException {
             GridDhtLocalPartition part = null;
 
@@ -2957,47 +3022,39 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                     if (part == null || part.state() != OWNING || !cctx.topology().initialized())
                         return 0;
 
-                    long now = U.currentTimeMillis();
+                    int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
 
-                    GridCursor<PendingRow> cur;
+                    // Expired rows of the partition are removed from the pending tree by a single range operation
+                    // instead of a separate tree descent for every row.
+                    List<PendingRow> rows = pendingTree.remove(
+                        new PendingRow(cacheId, Long.MIN_VALUE, 0),
+                        new PendingRow(cacheId, U.currentTimeMillis(), 0),
+                        amount == -1 ? 0 : amount);
 
-                    if (grp.sharedGroup())
-                        cur = pendingTree.find(new PendingRow(cctx.cacheId()), new PendingRow(cctx.cacheId(), now, 0));
-                    else
-                        cur = pendingTree.find(null, new PendingRow(CU.UNDEFINED_CACHE_ID, now, 0));
-
-                    if (!cur.next())
+                    if (rows.isEmpty())
                         return 0;
 
-                    GridCacheVersion obsoleteVer = null;
-
-                    int cleared = 0;
-
-                    do {
-                        PendingRow row = cur.get();
+                    // Rows are ordered by expire time, so the first one is the oldest.
+                    if (oldestExpireTime != null)
+                        oldestExpireTime.setIfLess(rows.get(0).expireTime);
 
-                        if (amount != -1 && cleared > amount)
-                            return cleared;
+                    GridCacheVersion obsoleteVer = null;
 
+                    for (PendingRow row : rows) {
                         assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
 
                         row.key.partition(partId);
 
-                        if (pendingTree.removex(row)) {
-                            if (obsoleteVer == null)
-                                obsoleteVer = cctx.cache().nextVersion();
+                        if (obsoleteVer == null)
+                            obsoleteVer = cctx.cache().nextVersion();
 
-                            GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
-
-                            if (e1 != null)
-                                c.apply(e1, obsoleteVer);
-                        }
+                        GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
 
-                        cleared++;
+                        if (e1 != null)
+                            c.apply(e1, obsoleteVer);
                     }
-                    while (cur.next());
 
-                    return cleared;
+                    return rows.size();
                 }
                 finally {
                     if (part != null)
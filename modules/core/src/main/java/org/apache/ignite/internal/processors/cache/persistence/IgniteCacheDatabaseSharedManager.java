@@ -475,6 +475,17 @@ public class IgniteCacheDatabaseSharedManager extends GridCacheSharedManagerAdap
 
                 return freeList0 == null ? 0L : freeList0.emptyDataPages();
             }
+
+            @Override public long[] pagesFillFactorHistogram() {
+                long[] hist = new long[AbstractFreeList.FILL_FACTOR_HISTOGRAM_SIZE];
+
+                CacheFreeList freeList0 = getFreeList();
+
+                if (freeList0 != null)
+                    freeList0.fillFactorHistogram(hist);
+
+                return hist;
+            }
         };
     }
 
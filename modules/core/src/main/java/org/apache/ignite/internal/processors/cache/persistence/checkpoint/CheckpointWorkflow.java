@@ -49,6 +49,7 @@ import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.record.CacheState;
@@ -115,6 +116,13 @@ public class CheckpointWorkflow {
     private final int parallelSortThreshold = IgniteSystemProperties.getInteger(
         IgniteSystemProperties.CHECKPOINT_PARALLEL_SORT_THRESHOLD, DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD);
 
+    /**
+     * Maximum number of pages of one partition file written by a single checkpoint thread in a row in case of
+     * {@link CheckpointWriteOrder#PARTITIONED}. Longer runs are split, so that a large partition is written by
+     * several threads.
+     */
+    static final int PARTITIONED_RUN_MAX_PAGES = 1024;
+
     /** This number of threads will be created and used for parallel sorting. */
     private static final int PARALLEL_SORT_THREADS = Math.min(Runtime.getRuntime().availableProcessors(), 8);
 
@@ -473,7 +481,7 @@ public class CheckpointWorkflow {
                 cpPagesPerRegion.add(new T2<>(regPages.getKey(), pages));
         }
 
-        if (checkpointWriteOrder == CheckpointWriteOrder.SEQUENTIAL) {
+        if (checkpointWriteOrder != CheckpointWriteOrder.RANDOM) {
             Comparator<FullPageId> cmp = Comparator.comparingInt(FullPageId::groupId)
                 .thenComparingLong(FullPageId::effectivePageId);
 
@@ -490,9 +498,45 @@ public class CheckpointWorkflow {
                 pool.shutdown();
         }
 
+        if (checkpointWriteOrder == CheckpointWriteOrder.PARTITIONED)
+            return new GridConcurrentMultiPairQueue<>(
+                splitByPartitions(cpPagesPerRegion, PARTITIONED_RUN_MAX_PAGES), true);
+
         return new GridConcurrentMultiPairQueue<>(cpPagesPerRegion);
     }
 
+    /**
+     * Splits sorted pages of every region into runs of ascending pages belonging to the same partition file, so that
+     * each run can be written by a single checkpoint thread at sequential offsets.
+     *
+     * @param cpPagesPerRegion Pages per region sorted by group id and effective page id.
+     * @param maxRunPages Maximum number of pages in one run.
+     * @return Runs of pages of partition files.
+     */
+    static List<T2<PageMemoryEx, FullPageId[]>> splitByPartitions(
+        Collection<T2<PageMemoryEx, FullPageId[]>> cpPagesPerRegion,
+        int maxRunPages
+    ) {
+        List<T2<PageMemoryEx, FullPageId[]>> res = new ArrayList<>();
+
+        for (T2<PageMemoryEx, FullPageId[]> pagesPerReg : cpPagesPerRegion) {
+            FullPageId[] pages = pagesPerReg.get2();
+
+            int from = 0;
+
+            for (int i = 1; i <= pages.length; i++) {
+                if (i == pages.length || i - from == maxRunPages || pages[i].groupId() != pages[from].groupId() ||
+                    PageIdUtils.partId(pages[i].pageId()) != PageIdUtils.partId(pages[from].pageId())) {
+                    res.add(new T2<>(pagesPerReg.get1(), Arrays.copyOfRange(pages, from, i)));
+
+                    from = i;
+                }
+            }
+        }
+
+        return res;
+    }
+
     /**
      * Performs parallel sort in isolated fork join pool.
      *
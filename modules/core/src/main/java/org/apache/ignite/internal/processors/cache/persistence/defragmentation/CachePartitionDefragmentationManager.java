@@ -716,13 +716,14 @@ public class CachePartitionDefragmentationManager {
 
         CacheDataTree newTree = partCtx.newCacheDataStore.tree();
 
-        newTree.enableSequentialWriteMode();
-
         PendingEntriesTree newPendingTree = partCtx.newCacheDataStore.pendingTree();
         AbstractFreeList<CacheDataRow> freeList = partCtx.newCacheDataStore.getCacheStoreFreeList();
 
         long cpLockThreshold = 150L;
 
+        // Rows are copied in the tree order, so the new tree is built bottom-up.
+        CacheDataTree.BulkLoad newTreeLoad = newTree.bulkLoad();
+
         defragmentationCheckpoint.checkpointTimeoutLock().checkpointReadLock();
 
         try {
@@ -758,7 +759,7 @@ public class CachePartitionDefragmentationManager {
                 if (row instanceof DataRow)
                     ((DataRow)row).cacheId(cacheId);
 
-                newTree.putx(row);
+                newTreeLoad.add(row);
 
                 long newLink = row.link();
 
@@ -774,6 +775,8 @@ public class CachePartitionDefragmentationManager {
 
             checkCancellation();
 
+            newTreeLoad.finish();
+
             defragmentationCheckpoint.checkpointTimeoutLock().checkpointReadUnlock();
 
             defragmentationCheckpoint.checkpointTimeoutLock().checkpointReadLock();
@@ -783,6 +786,8 @@ public class CachePartitionDefragmentationManager {
             copyCacheMetadata(partCtx);
         }
         finally {
+            newTreeLoad.close();
+
             defragmentationCheckpoint.checkpointTimeoutLock().checkpointReadUnlock();
         }
     }
@@ -23,6 +23,8 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
@@ -51,16 +53,18 @@ import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_FREE_LIST_FINE_SIZE_CLASSES;
+import static org.apache.ignite.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
 
 /**
  */
 public abstract class AbstractFreeList<T extends Storable> extends PagesList implements FreeList<T>, ReuseList {
-    /** */
+    /** Number of buckets with default size classes. */
     private static final int BUCKETS = 256; // Must be power of 2.
 
-    /** */
-    private static final int REUSE_BUCKET = BUCKETS - 1;
+    /** Step between buckets with fine size classes, in bytes. */
+    private static final int FINE_BUCKET_STEP = 8;
 
     /** */
     private static final Integer COMPLETE = Integer.MAX_VALUE;
@@ -74,17 +78,23 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
     /** */
     private static final int MIN_PAGE_FREE_SPACE = 8;
 
+    /** Number of equal fill factor ranges in histogram of partially filled pages. */
+    public static final int FILL_FACTOR_HISTOGRAM_SIZE = 10;
+
     /**
      * Step between buckets in free list, measured in powers of two.
      * For example, for page size 4096 and 256 buckets, shift is 4 and step is 16 bytes.
      */
     private final int shift;
 
+    /** Bucket of empty pages, the last one. */
+    private final int reuseBucket;
+
     /** */
-    private final AtomicReferenceArray<Stripe[]> buckets = new AtomicReferenceArray<>(BUCKETS);
+    private final AtomicReferenceArray<Stripe[]> buckets;
 
     /** Onheap bucket page list caches. */
-    private final AtomicReferenceArray<PagesCache> bucketCaches = new AtomicReferenceArray<>(BUCKETS);
+    private final AtomicReferenceArray<PagesCache> bucketCaches;
 
     /** */
     private final int MIN_SIZE_FOR_DATA_PAGE;
@@ -446,7 +456,14 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         @Nullable AtomicLong pageListCacheLimit,
         byte pageFlag
     ) throws IgniteCheckedException {
-        super(cacheGrpId, name, dataRegion.pageMemory(), BUCKETS, wal, metaPageId, pageLockTrackerManager, ctx, pageFlag);
+        super(cacheGrpId, name, dataRegion.pageMemory(), bucketsCount(dataRegion), wal, metaPageId,
+            pageLockTrackerManager, ctx, pageFlag);
+
+        int bucketsCnt = bucketsCount();
+
+        reuseBucket = bucketsCnt - 1;
+        buckets = new AtomicReferenceArray<>(bucketsCnt);
+        bucketCaches = new AtomicReferenceArray<>(bucketsCnt);
 
         rmvRow = new RemoveRowHandler(cacheGrpId == 0);
 
@@ -455,8 +472,8 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         int pageSize = pageMem.pageSize();
 
         assert U.isPow2(pageSize) : "Page size must be a power of 2: " + pageSize;
-        assert U.isPow2(BUCKETS);
-        assert BUCKETS <= pageSize : pageSize;
+        assert U.isPow2(bucketsCnt);
+        assert bucketsCnt <= pageSize : pageSize;
 
         // TODO this constant is used because currently we cannot reuse data pages as index pages
         // TODO and vice-versa. It should be removed when data storage format is finalized.
@@ -464,7 +481,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
         int shift = 0;
 
-        while (pageSize > BUCKETS) {
+        while (pageSize > bucketsCnt) {
             shift++;
             pageSize >>>= 1;
         }
@@ -478,6 +495,23 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         init(metaPageId, initNew);
     }
 
+    /**
+     * Free lists of data regions without persistence use finer size classes if
+     * {@link IgniteSystemProperties#IGNITE_FREE_LIST_FINE_SIZE_CLASSES} is set. Free lists of persistent regions
+     * always use the default ones, since their buckets are restored from metadata pages written with that layout.
+     *
+     * @param dataRegion Data region.
+     * @return Number of buckets.
+     */
+    private static int bucketsCount(DataRegion dataRegion) {
+        DataRegionConfiguration cfg = dataRegion.config();
+
+        if (cfg == null || cfg.isPersistenceEnabled() || !getBoolean(IGNITE_FREE_LIST_FINE_SIZE_CLASSES))
+            return BUCKETS;
+
+        return Math.max(BUCKETS, dataRegion.pageMemory().pageSize() / FINE_BUCKET_STEP);
+    }
+
     /** {@inheritDoc} */
     @Override public int getPageFreeSpace(int bucket) {
         return bucket << shift;
@@ -491,7 +525,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
     public long freeSpace() {
         long freeSpace = 0;
 
-        for (int b = BUCKETS - 2; b > 0; b--) {
+        for (int b = reuseBucket - 1; b > 0; b--) {
             long perPageFreeSpace = b << shift;
 
             long pages = bucketsSize.get(b);
@@ -502,13 +536,37 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         return freeSpace;
     }
 
+    /**
+     * Adds counts of partially filled data pages tracked by this free list to the fill factor histogram. Range
+     * {@code i} of histogram of size {@code n} counts pages which are filled by {@code [i/n, (i+1)/n)} of page size.
+     * Empty pages from reuse bucket are not counted, see {@link #emptyDataPages()}.
+     *
+     * @param hist Fill factor histogram, usually of {@link #FILL_FACTOR_HISTOGRAM_SIZE} ranges.
+     */
+    public void fillFactorHistogram(long[] hist) {
+        assert hist.length > 0;
+
+        int pageSize = pageSize();
+
+        for (int b = reuseBucket - 1; b > 0; b--) {
+            long pages = bucketsSize.get(b);
+
+            if (pages == 0)
+                continue;
+
+            long used = Math.max(pageSize - (b << shift), 0);
+
+            hist[(int)Math.min(used * hist.length / pageSize, hist.length - 1)] += pages;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void dumpStatistics(IgniteLogger log) {
         long dataPages = 0;
 
         final boolean dumpBucketsInfo = false;
 
-        for (int b = 0; b < BUCKETS; b++) {
+        for (int b = 0; b <= reuseBucket; b++) {
             long size = bucketsSize.get(b);
 
             if (!isReuseBucket(b))
@@ -540,9 +598,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         if (dataPages > 0) {
             if (log.isInfoEnabled())
                 log.info("FreeList [name=" + name() +
-                    ", buckets=" + BUCKETS +
+                    ", buckets=" + bucketsCount() +
                     ", dataPages=" + dataPages +
-                    ", reusePages=" + bucketsSize.get(REUSE_BUCKET) + "]");
+                    ", reusePages=" + bucketsSize.get(reuseBucket) + "]");
         }
     }
 
@@ -556,7 +614,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
         int bucket = freeSpace >>> shift;
 
-        assert bucket >= 0 && bucket < BUCKETS : bucket;
+        assert bucket >= 0 && bucket <= reuseBucket : bucket;
 
         if (!allowReuse && isReuseBucket(bucket))
             bucket--;
@@ -720,7 +778,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         long pageId = 0;
 
         if (size < MIN_SIZE_FOR_DATA_PAGE) {
-            for (int b = bucket(size, false) + 1; b < REUSE_BUCKET; b++) {
+            for (int b = bucket(size, false) + 1; b < reuseBucket; b++) {
                 pageId = takeEmptyPage(b, row.ioVersions(), statHolder);
 
                 if (pageId != 0L)
@@ -730,7 +788,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
         if (pageId == 0L) { // Handle reuse bucket.
             if (reuseList == this)
-                pageId = takeEmptyPage(REUSE_BUCKET, row.ioVersions(), statHolder);
+                pageId = takeEmptyPage(reuseBucket, row.ioVersions(), statHolder);
             else {
                 pageId = reuseList.takeRecycledPage();
 
@@ -885,7 +943,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
     /** {@inheritDoc} */
     @Override protected boolean isReuseBucket(int bucket) {
-        return bucket == REUSE_BUCKET;
+        return bucket == reuseBucket;
     }
 
     /** {@inheritDoc} */
@@ -903,7 +961,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
      * @return Number of empty data pages in free list.
      */
     public int emptyDataPages() {
-        return (int)bucketsSize.get(REUSE_BUCKET);
+        return (int)bucketsSize.get(reuseBucket);
     }
 
     /** {@inheritDoc} */
@@ -911,7 +969,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         assert reuseList == this : "not allowed to be a reuse list";
 
         try {
-            put(bag, 0, 0, 0L, REUSE_BUCKET, IoStatisticsHolderNoOp.INSTANCE);
+            put(bag, 0, 0, 0L, reuseBucket, IoStatisticsHolderNoOp.INSTANCE);
         }
         catch (AssertionError e) {
             throw corruptedFreeListException(e);
@@ -929,7 +987,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         assert reuseList == this : "not allowed to be a reuse list";
 
         try {
-            return takeEmptyPage(REUSE_BUCKET, null, IoStatisticsHolderNoOp.INSTANCE);
+            return takeEmptyPage(reuseBucket, null, IoStatisticsHolderNoOp.INSTANCE);
         }
         catch (AssertionError e) {
             throw corruptedFreeListException(e);
@@ -952,7 +1010,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         assert reuseList == this : "not allowed to be a reuse list";
 
         try {
-            return storedPagesCount(REUSE_BUCKET);
+            return storedPagesCount(reuseBucket);
         }
         catch (AssertionError e) {
             throw corruptedFreeListException(e);
@@ -0,0 +1,491 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.U;
+
+/**
+ * Pages lists of adaptive two queue algorithm.
+ *
+ * Resident pages are linked into recency (FIFO) list or frequency (LRU) list. Ghost entries of replaced pages are
+ * stored in direct-mapped table of fingerprints, table slot is overwritten by the newer ghost entry on collision.
+ *
+ * @see PageReplacementMode#ADAPTIVE
+ */
+public class AdaptivePageList {
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** No ghost entry found. */
+    static final int GHOST_NONE = 0;
+
+    /** Ghost entry of the page replaced from the recency list. */
+    static final int GHOST_RECENCY = 1;
+
+    /** Ghost entry of the page replaced from the frequency list. */
+    static final int GHOST_FREQUENCY = 2;
+
+    /** Empty ghost table slot. */
+    private static final long EMPTY_GHOST = 0L;
+
+    /** Ghost entry tag of the page replaced from the frequency list. */
+    private static final long FREQUENCY_TAG = 1L;
+
+    /** Index of the head page of recency list. */
+    private int recencyHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of recency list. */
+    private int recencyTailIdx = NULL_IDX;
+
+    /** Index of the head page of frequency list. */
+    private int freqHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of frequency list. */
+    private int freqTailIdx = NULL_IDX;
+
+    /** Count of pages in recency list. */
+    private int recencyCnt;
+
+    /** Count of pages in frequency list. */
+    private int freqCnt;
+
+    /** Count of ghost entries of pages replaced from recency list. */
+    private int recencyGhostsCnt;
+
+    /** Count of ghost entries of pages replaced from frequency list. */
+    private int freqGhostsCnt;
+
+    /** Target size of recency list. */
+    private int recencyTarget;
+
+    /** Total pages count. */
+    private final int totalPagesCnt;
+
+    /** Ghost table slots mask. */
+    private final int ghostsMask;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store frequency list flags. */
+    private final long flagsPtr;
+
+    /** Pointer to memory region to store ghost entries. */
+    private final long ghostsPtr;
+
+    /**
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public AdaptivePageList(int totalPagesCnt, long memPtr) {
+        this.totalPagesCnt = totalPagesCnt;
+
+        int ghostsCap = ghostsCapacity(totalPagesCnt);
+
+        ghostsMask = ghostsCap - 1;
+
+        linksPtr = memPtr;
+        flagsPtr = memPtr + (((long)totalPagesCnt) << 3);
+        ghostsPtr = flagsPtr + flagsSize(totalPagesCnt);
+
+        GridUnsafe.setMemory(linksPtr, ((long)totalPagesCnt) << 3, (byte)0xFF);
+        GridUnsafe.zeroMemory(flagsPtr, flagsSize(totalPagesCnt));
+        GridUnsafe.zeroMemory(ghostsPtr, ((long)ghostsCap) << 3);
+    }
+
+    /**
+     * Add loaded page to the list. Page goes to the tail of frequency list if ghost entry of the page is found, or to
+     * the tail of recency list otherwise. Target size of recency list is adapted on ghost hit.
+     *
+     * @param pageIdx Page index.
+     * @param ghostHash Ghost hash of the page.
+     * @return {@code True} if ghost entry of the page was found.
+     */
+    public synchronized boolean onLoad(int pageIdx, long ghostHash) {
+        int ghost = removeGhost(ghostHash);
+
+        if (ghost == GHOST_RECENCY) {
+            // Page replaced from the recency list too early, give more space to the recency list.
+            recencyTarget = Math.min(totalPagesCnt,
+                recencyTarget + Math.max(1, freqGhostsCnt / Math.max(1, recencyGhostsCnt)));
+        }
+        else if (ghost == GHOST_FREQUENCY) {
+            // Page replaced from the frequency list too early, give more space to the frequency list.
+            recencyTarget = Math.max(0,
+                recencyTarget - Math.max(1, recencyGhostsCnt / Math.max(1, freqGhostsCnt)));
+        }
+
+        addToTail(pageIdx, ghost != GHOST_NONE);
+
+        return ghost != GHOST_NONE;
+    }
+
+    /**
+     * Page hit. Page of frequency list is moved to the tail of frequency list, page of recency list is kept in place,
+     * so pages referenced only by scans don't get to the frequency list.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void onHit(int pageIdx) {
+        if (!frequencyPage(pageIdx) || freqTailIdx == pageIdx)
+            return;
+
+        remove0(pageIdx, true);
+        link(pageIdx, true);
+    }
+
+    /**
+     * Remove page from the head of recency list if its size exceeds the target size, or from the head of frequency
+     * list otherwise. Frequency list flag of the page is kept, so the page can be returned back to its list.
+     *
+     * @return Page index or {@code -1} if lists are empty.
+     */
+    public synchronized int poll() {
+        int idx;
+
+        if (recencyCnt > 0 && (recencyCnt > recencyTarget || freqCnt == 0))
+            idx = recencyHeadIdx;
+        else
+            idx = freqHeadIdx;
+
+        if (idx != NULL_IDX)
+            remove0(idx, frequencyPage(idx));
+
+        return idx;
+    }
+
+    /**
+     * Remove page from the list by page index.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        remove0(pageIdx, frequencyPage(pageIdx));
+    }
+
+    /**
+     * Add page to the tail of recency or frequency list.
+     *
+     * @param pageIdx Page index.
+     * @param freqPage Frequency list flag.
+     */
+    public synchronized void addToTail(int pageIdx, boolean freqPage) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        frequencyPage(pageIdx, freqPage);
+
+        link(pageIdx, freqPage);
+    }
+
+    /**
+     * Remember ghost entry of replaced page.
+     *
+     * @param ghostHash Ghost hash of the page.
+     * @param freqPage {@code True} if page was replaced from the frequency list.
+     */
+    public synchronized void addGhost(long ghostHash, boolean freqPage) {
+        long ptr = ghostPtr(ghostHash);
+
+        long old = GridUnsafe.getLong(ptr);
+
+        if (old != EMPTY_GHOST) {
+            if ((old & FREQUENCY_TAG) != 0)
+                freqGhostsCnt--;
+            else
+                recencyGhostsCnt--;
+        }
+
+        if (freqPage)
+            freqGhostsCnt++;
+        else
+            recencyGhostsCnt++;
+
+        GridUnsafe.putLong(ptr, fingerprint(ghostHash) | (freqPage ? FREQUENCY_TAG : 0L));
+    }
+
+    /**
+     * Remove ghost entry of the page if it's found.
+     *
+     * @param ghostHash Ghost hash of the page.
+     * @return Type of removed ghost entry.
+     */
+    private int removeGhost(long ghostHash) {
+        long ptr = ghostPtr(ghostHash);
+
+        long entry = GridUnsafe.getLong(ptr);
+
+        if (entry == EMPTY_GHOST || (entry & ~FREQUENCY_TAG) != fingerprint(ghostHash))
+            return GHOST_NONE;
+
+        GridUnsafe.putLong(ptr, EMPTY_GHOST);
+
+        if ((entry & FREQUENCY_TAG) != 0) {
+            freqGhostsCnt--;
+
+            return GHOST_FREQUENCY;
+        }
+        else {
+            recencyGhostsCnt--;
+
+            return GHOST_RECENCY;
+        }
+    }
+
+    /**
+     * @param ghostHash Ghost hash of the page.
+     * @return Pointer to ghost table slot.
+     */
+    private long ghostPtr(long ghostHash) {
+        return ghostsPtr + (((long)((int)(ghostHash >>> 32) & ghostsMask)) << 3);
+    }
+
+    /**
+     * @param ghostHash Ghost hash of the page.
+     * @return Non-empty fingerprint without tag bit.
+     */
+    private static long fingerprint(long ghostHash) {
+        return (ghostHash | 2L) & ~FREQUENCY_TAG;
+    }
+
+    /**
+     * Link page to the tail of recency or frequency list.
+     *
+     * @param pageIdx Page index.
+     * @param freqPage Frequency list flag.
+     */
+    private void link(int pageIdx, boolean freqPage) {
+        int tailIdx = freqPage ? freqTailIdx : recencyTailIdx;
+
+        if (tailIdx == NULL_IDX) {
+            // In case of empty list.
+            if (freqPage)
+                freqHeadIdx = pageIdx;
+            else
+                recencyHeadIdx = pageIdx;
+        }
+        else {
+            assert next(tailIdx) == NULL_IDX : "Unexpected page index [pageIdx=" + pageIdx +
+                ", tailIdx=" + tailIdx + ", nextIdx=" + next(tailIdx) + ']';
+
+            prev(pageIdx, tailIdx);
+            next(tailIdx, pageIdx);
+        }
+
+        if (freqPage) {
+            freqTailIdx = pageIdx;
+            freqCnt++;
+        }
+        else {
+            recencyTailIdx = pageIdx;
+            recencyCnt++;
+        }
+    }
+
+    /**
+     * @param pageIdx Page index.
+     * @param freqPage Frequency list flag.
+     */
+    private void remove0(int pageIdx, boolean freqPage) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            assert (freqPage ? freqHeadIdx : recencyHeadIdx) == pageIdx : "Unexpected page index [pageIdx=" +
+                pageIdx + ", freqPage=" + freqPage + ']';
+
+            if (freqPage)
+                freqHeadIdx = nextIdx;
+            else
+                recencyHeadIdx = nextIdx;
+        }
+        else
+            next(prevIdx, nextIdx);
+
+        if (nextIdx == NULL_IDX) {
+            assert (freqPage ? freqTailIdx : recencyTailIdx) == pageIdx : "Unexpected page index [pageIdx=" +
+                pageIdx + ", freqPage=" + freqPage + ']';
+
+            if (freqPage)
+                freqTailIdx = prevIdx;
+            else
+                recencyTailIdx = prevIdx;
+        }
+        else
+            prev(nextIdx, prevIdx);
+
+        GridUnsafe.putLong(linksPtr + (((long)pageIdx) << 3), -1L);
+
+        if (freqPage)
+            freqCnt--;
+        else
+            recencyCnt--;
+    }
+
+    /**
+     * Gets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3));
+    }
+
+    /**
+     * Gets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return GridUnsafe.getInt(linksPtr + (((long)pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Gets frequency list flag.
+     *
+     * @param pageIdx Page index.
+     */
+    boolean frequencyPage(int pageIdx) {
+        long flags = GridUnsafe.getLong(flagsPtr + ((pageIdx >> 3) & (~7)));
+
+        return (flags & (1L << pageIdx)) != 0L;
+    }
+
+    /**
+     * Sets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Sets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        GridUnsafe.putInt(linksPtr + (((long)pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Sets frequency list flag.
+     *
+     * @param pageIdx Page index.
+     * @param freqPage Frequency list flag.
+     */
+    private void frequencyPage(int pageIdx, boolean freqPage) {
+        long ptr = flagsPtr + ((pageIdx >> 3) & (~7));
+
+        if (freqPage)
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) | (1L << pageIdx));
+        else
+            GridUnsafe.putLong(ptr, GridUnsafe.getLong(ptr) & ~(1L << pageIdx));
+    }
+
+    /**
+     * Gets the index of the head page of recency list.
+     */
+    synchronized int recencyHeadIdx() {
+        return recencyHeadIdx;
+    }
+
+    /**
+     * Gets the index of the head page of frequency list.
+     */
+    synchronized int frequencyHeadIdx() {
+        return freqHeadIdx;
+    }
+
+    /**
+     * Gets count of pages in recency list.
+     */
+    synchronized int recencyCount() {
+        return recencyCnt;
+    }
+
+    /**
+     * Gets count of pages in frequency list.
+     */
+    synchronized int frequencyCount() {
+        return freqCnt;
+    }
+
+    /**
+     * Gets target size of recency list.
+     */
+    synchronized int recencyTarget() {
+        return recencyTarget;
+    }
+
+    /**
+     * Gets count of ghost entries.
+     */
+    synchronized int ghostsCount() {
+        return recencyGhostsCnt + freqGhostsCnt;
+    }
+
+    /**
+     * Ghost hash of the page, the same hash is computed for all generations of the page.
+     *
+     * @param grpId Cache group ID.
+     * @param effectivePageId Effective page ID.
+     */
+    public static long ghostHash(int grpId, long effectivePageId) {
+        long h = effectivePageId * 0x9E3779B97F4A7C15L + grpId;
+
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Size of frequency list flags = 1 bit per page + 8 byte align.
+     */
+    private static long flagsSize(int pagesCnt) {
+        return ((pagesCnt + 63L) / 8) & (~7L);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Count of ghost table slots.
+     */
+    private static int ghostsCapacity(int pagesCnt) {
+        return U.ceilPow2(Math.max(pagesCnt, 1));
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return pagesCnt * 8L /* links = 2 ints per page */ +
+            flagsSize(pagesCnt) /* frequency list flags */ +
+            ghostsCapacity(pagesCnt) * 8L /* ghost entries = 1 long per slot */;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.INVALID_REL_PTR;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.OUTDATED_REL_PTR;
+
+/**
+ * Adaptive two queue page replacement policy implementation.
+ *
+ * @see PageReplacementMode#ADAPTIVE
+ */
+public class AdaptivePageReplacementPolicy extends PageReplacementPolicy {
+    /** Pages lists. */
+    private final AdaptivePageList pageList;
+
+    /** Page metrics of data region. */
+    private final PageMetrics metrics;
+
+    /**
+     * @param seg Page memory segment.
+     */
+    protected AdaptivePageReplacementPolicy(PageMemoryImpl.Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        pageList = new AdaptivePageList(pagesCnt, ptr);
+        metrics = seg.pageMetrics();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onHit(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        pageList.onHit(pageIdx);
+
+        if (metrics.replacementHits() != null)
+            metrics.replacementHits().increment();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMiss(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        FullPageId fullId = PageHeader.fullPageId(seg.absolute(relPtr));
+
+        boolean ghostHit = pageList.onLoad(pageIdx, ghostHash(fullId));
+
+        if (metrics.replacementMisses() != null) {
+            metrics.replacementMisses().increment();
+
+            if (ghostHit)
+                metrics.replacementGhostHits().increment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRemove(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        pageList.remove(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long replace() throws IgniteCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        for (int i = 0; i < loadedPages.size(); i++) {
+            int pageIdx = pageList.poll();
+
+            boolean freqPage = pageList.frequencyPage(pageIdx);
+
+            long relPtr = seg.relative(pageIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = PageHeader.fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                fullId.groupId(),
+                fullId.effectivePageId(),
+                seg.partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR;
+
+            if (relPtr == OUTDATED_REL_PTR)
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+
+            if (seg.tryToRemovePage(fullId, absPtr)) {
+                pageList.addGhost(ghostHash(fullId), freqPage);
+
+                return relPtr;
+            }
+
+            // Return page to the list it was polled from.
+            pageList.addToTail(pageIdx, freqPage);
+        }
+
+        throw seg.oomException("no pages to replace");
+    }
+
+    /**
+     * @param fullId Full page ID.
+     * @return Ghost hash of the page.
+     */
+    private static long ghostHash(FullPageId fullId) {
+        return AdaptivePageList.ghostHash(fullId.groupId(), fullId.effectivePageId());
+    }
+}
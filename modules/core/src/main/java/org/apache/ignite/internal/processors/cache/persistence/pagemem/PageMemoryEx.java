@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.IgniteInternalFuture;
@@ -190,4 +191,35 @@ public interface PageMemoryEx extends PageMemory {
      * Total pages can be placed to memory.
      */
     public long totalPages();
+
+    /**
+     * Iterates over pages loaded into memory. Page IDs passed to the action are effective page IDs.
+     *
+     * @param act Action.
+     */
+    public void forEachLoadedPage(Consumer<FullPageId> act);
+
+    /**
+     * Loads the given pages of the cache group to the memory if they are not loaded yet. Reads of the missing pages
+     * are submitted to the page store concurrently instead of one by one. A thread acquiring a page which is being
+     * loaded waits for the in-flight read instead of issuing its own one. The number of queued reads is bounded, when
+     * the queue is full the calling thread reads the pages itself.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs.
+     * @return Future which will be completed when all the pages are loaded.
+     */
+    public IgniteInternalFuture<?> loadPages(int grpId, long[] pageIds);
+
+    /**
+     * @param fullPageId Full page ID to check.
+     * @return {@code true} if the page is contained in the loaded pages table, {@code false} otherwise.
+     */
+    public boolean hasLoadedPage(FullPageId fullPageId);
+
+    /**
+     * @return Number of leaf pages to load ahead of sequential tree scans, {@code 0} if read-ahead is disabled.
+     * @see org.apache.ignite.configuration.DataRegionConfiguration#getScanReadAheadDepth()
+     */
+    public int scanReadAheadDepth();
 }
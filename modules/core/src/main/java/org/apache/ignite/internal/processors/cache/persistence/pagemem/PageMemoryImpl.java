@@ -35,6 +35,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
@@ -82,6 +83,7 @@ import org.apache.ignite.internal.util.GridMultiCollectionWrapper;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.internal.util.future.CountDownFuture;
+import org.apache.ignite.internal.util.future.GridFinishedFuture;
 import org.apache.ignite.internal.util.lang.GridPlainRunnable;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -97,7 +99,9 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_MEMORY_READ_THREADS;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePool.SEGMENT_INDEX_MASK;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
@@ -160,6 +164,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** @see IgniteSystemProperties#IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP */
     public static final boolean DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP = true;
 
+    /** @see IgniteSystemProperties#IGNITE_PAGE_MEMORY_READ_THREADS */
+    public static final int DFLT_PAGE_MEMORY_READ_THREADS = 8;
+
     /** Tracking io. */
     private static final TrackingPageIO trackingIO = TrackingPageIO.VERSIONS.latest();
 
@@ -189,6 +196,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** */
     private final ExecutorService asyncRunner;
 
+    /** Executor of the page reads for the batched page loads. */
+    private final ThreadPoolExecutor pageReadExec;
+
     /** Page manager. */
     private final PageReadWriteManager pmPageMgr;
 
@@ -338,6 +348,18 @@ public class PageMemoryImpl implements PageMemoryEx {
             TimeUnit.SECONDS,
             new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors()),
             new IgniteThreadFactory(ctx.igniteInstanceName(), "page-mem-op"));
+
+        int readThreads = Math.max(1, getInteger(IGNITE_PAGE_MEMORY_READ_THREADS, DFLT_PAGE_MEMORY_READ_THREADS));
+
+        pageReadExec = new ThreadPoolExecutor(
+            readThreads,
+            readThreads,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(readThreads * 2),
+            new IgniteThreadFactory(ctx.igniteInstanceName(), "page-mem-read"));
+
+        pageReadExec.allowCoreThreadTimeOut(true);
         
         switch (dataRegionCfg.getPageReplacementMode()) {
             case RANDOM_LRU:
@@ -351,6 +373,10 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case ADAPTIVE:
+                pageReplacementPolicyFactory = new AdaptivePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
@@ -444,6 +470,7 @@ public class PageMemoryImpl implements PageMemoryEx {
                 log.debug("Stopping page memory.");
 
             U.shutdownNow(getClass(), asyncRunner, log);
+            U.shutdownNow(getClass(), pageReadExec, log);
 
             if (segments != null) {
                 for (Segment seg : segments)
@@ -1108,6 +1135,25 @@ public class PageMemoryImpl implements PageMemoryEx {
         return res;
     }
 
+    /** {@inheritDoc} */
+    @Override public void forEachLoadedPage(Consumer<FullPageId> act) {
+        Segment[] segments = this.segments;
+
+        if (segments == null)
+            return;
+
+        for (Segment seg : segments) {
+            seg.readLock().lock();
+
+            try {
+                seg.loadedPages.forEach((fullId, relPtr) -> act.accept(fullId));
+            }
+            finally {
+                seg.readLock().unlock();
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public GridMultiCollectionWrapper<FullPageId> beginCheckpoint(
         IgniteInternalFuture allowToReplace
@@ -1521,11 +1567,63 @@ public class PageMemoryImpl implements PageMemoryEx {
         return total;
     }
 
-    /**
-     * @param fullPageId Full page ID to check.
-     * @return {@code true} if the page is contained in the loaded pages table, {@code false} otherwise.
-     */
-    public boolean hasLoadedPage(FullPageId fullPageId) {
+    /** {@inheritDoc} */
+    @Override public IgniteInternalFuture<?> loadPages(int grpId, long[] pageIds) {
+        assert started;
+
+        GridLongList missed = new GridLongList(pageIds.length);
+
+        for (long pageId : pageIds) {
+            if (!hasLoadedPage(new FullPageId(pageId, grpId)))
+                missed.add(pageId);
+        }
+
+        if (missed.isEmpty())
+            return new GridFinishedFuture<>();
+
+        CountDownFuture fut = new CountDownFuture(missed.size());
+
+        for (int i = 0; i < missed.size(); i++) {
+            long pageId = missed.get(i);
+
+            // The page is put to the loaded pages table and write locked until the read completes,
+            // so concurrent acquisitions of the page wait for this read.
+            Runnable read = () -> {
+                try {
+                    long page = acquirePage(grpId, pageId);
+
+                    releasePage(grpId, pageId, page);
+
+                    fut.onDone();
+                }
+                catch (Throwable e) {
+                    fut.onDone(e);
+                }
+            };
+
+            try {
+                pageReadExec.execute(read);
+            }
+            catch (RejectedExecutionException e) {
+                // The read queue is full, the caller reads the page itself and so does not submit more
+                // reads than the pool is able to process.
+                if (pageReadExec.isShutdown())
+                    fut.onDone(e);
+                else
+                    read.run();
+            }
+        }
+
+        return fut;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int scanReadAheadDepth() {
+        return dataRegionCfg.getScanReadAheadDepth();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean hasLoadedPage(FullPageId fullPageId) {
         int grpId = fullPageId.groupId();
         long pageId = fullPageId.effectivePageId();
         int partId = PageIdUtils.partId(pageId);
@@ -2396,6 +2494,13 @@ public class PageMemoryImpl implements PageMemoryEx {
             return loadedPages;
         }
 
+        /**
+         * Gets page metrics of data region.
+         */
+        public PageMetrics pageMetrics() {
+            return dataRegionMetrics.pageMetrics();
+        }
+
         /**
          * Gets checkpoint pages.
          */
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.pagemem;
 
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Container for different memory page-related metrics.
@@ -33,6 +34,24 @@ public interface PageMetrics {
      */
     public LongAdderMetric indexPages();
 
+    /**
+     * Number of hits on pages loaded into memory tracked by page replacement policy,
+     * or {@code null} if page replacement is not tracked by this container.
+     */
+    @Nullable public LongAdderMetric replacementHits();
+
+    /**
+     * Number of pages loaded into memory tracked by page replacement policy,
+     * or {@code null} if page replacement is not tracked by this container.
+     */
+    @Nullable public LongAdderMetric replacementMisses();
+
+    /**
+     * Number of loaded pages which were recently replaced and still remembered by page replacement policy,
+     * or {@code null} if page replacement is not tracked by this container.
+     */
+    @Nullable public LongAdderMetric replacementGhostHits();
+
     /**
      * Resets all metric counters.
      */
@@ -30,11 +30,21 @@ public class PageMetricsImpl implements PageMetrics {
     /** Index pages in memory. */
     private final LongAdderMetric idxPages;
 
+    /** Page replacement hits. */
+    @Nullable private final LongAdderMetric replacementHits;
+
+    /** Page replacement misses. */
+    @Nullable private final LongAdderMetric replacementMisses;
+
+    /** Page replacement ghost hits. */
+    @Nullable private final LongAdderMetric replacementGhostHits;
+
     /** */
     private PageMetricsImpl(
         MetricRegistry metricRegistry,
         @Nullable LongAdderWithDelegateMetric.Delegate totalPagesCb,
-        @Nullable LongAdderWithDelegateMetric.Delegate idxPagesCb
+        @Nullable LongAdderWithDelegateMetric.Delegate idxPagesCb,
+        boolean replacementMetrics
     ) {
         totalPages = createMetricWithOptionalDelegate(
             metricRegistry, "TotalAllocatedPages", "Total allocated pages.", totalPagesCb
@@ -43,6 +53,39 @@ public class PageMetricsImpl implements PageMetrics {
         idxPages = createMetricWithOptionalDelegate(
             metricRegistry, "InMemoryIndexPages", "Amount of index pages loaded into memory.", idxPagesCb
         );
+
+        if (replacementMetrics) {
+            replacementHits = metricRegistry.longAdderMetric("PageReplacementHits",
+                "Number of hits on pages loaded into memory tracked by page replacement policy.");
+
+            replacementMisses = metricRegistry.longAdderMetric("PageReplacementMisses",
+                "Number of pages loaded into memory tracked by page replacement policy.");
+
+            replacementGhostHits = metricRegistry.longAdderMetric("PageReplacementGhostHits",
+                "Number of loaded pages which were recently replaced and still remembered by page replacement policy.");
+
+            metricRegistry.register("PageReplacementHitRatio",
+                () -> ratio(replacementHits.value(), replacementHits.value() + replacementMisses.value()),
+                "Ratio of page hits to all page accesses tracked by page replacement policy.");
+
+            metricRegistry.register("PageReplacementGhostHitRatio",
+                () -> ratio(replacementGhostHits.value(), replacementMisses.value()),
+                "Ratio of ghost hits to all pages loaded into memory tracked by page replacement policy.");
+        }
+        else {
+            replacementHits = null;
+            replacementMisses = null;
+            replacementGhostHits = null;
+        }
+    }
+
+    /**
+     * @param part Count of events of interest.
+     * @param total Total count of events.
+     * @return Ratio of {@code part} to {@code total}.
+     */
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : (double)part / total;
     }
 
     /**
@@ -58,6 +101,9 @@ public class PageMetricsImpl implements PageMetrics {
         /** Index pages callback. */
         private LongAdderWithDelegateMetric.Delegate idxPagesCb;
 
+        /** Page replacement metrics flag. */
+        private boolean replacementMetrics;
+
         /**
          * @param metricRegistry Metric registry.
          */
@@ -81,12 +127,21 @@ public class PageMetricsImpl implements PageMetrics {
             return this;
         }
 
+        /**
+         * Enables page replacement metrics.
+         */
+        public Builder replacementMetrics() {
+            replacementMetrics = true;
+            return this;
+        }
+
         /** */
         public PageMetricsImpl build() {
             return new PageMetricsImpl(
                 metricRegistry,
                 totalPagesCb,
-                idxPagesCb
+                idxPagesCb,
+                replacementMetrics
             );
         }
     }
@@ -125,9 +180,30 @@ public class PageMetricsImpl implements PageMetrics {
         return idxPages;
     }
 
+    /** {@inheritDoc} */
+    @Override public @Nullable LongAdderMetric replacementHits() {
+        return replacementHits;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable LongAdderMetric replacementMisses() {
+        return replacementMisses;
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable LongAdderMetric replacementGhostHits() {
+        return replacementGhostHits;
+    }
+
     /** {@inheritDoc} */
     @Override public void reset() {
         totalPages.reset();
         idxPages.reset();
+
+        if (replacementHits != null) {
+            replacementHits.reset();
+            replacementMisses.reset();
+            replacementGhostHits.reset();
+        }
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.tree;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +39,7 @@ import org.apache.ignite.internal.UnregisteredBinaryTypeException;
 import org.apache.ignite.internal.UnregisteredClassException;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
@@ -55,6 +57,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.SplitExistingPageReco
 import org.apache.ignite.internal.processors.cache.persistence.CorruptedDataStructureException;
 import org.apache.ignite.internal.processors.cache.persistence.DataStructure;
 import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusLeafIO;
@@ -70,6 +73,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.util.GridArrays;
 import org.apache.ignite.internal.util.GridLongList;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
@@ -235,6 +239,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     private static final int LOCK_RETRIES = IgniteSystemProperties.getInteger(
         IGNITE_BPLUS_TREE_LOCK_RETRIES, IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT);
 
+    /** Number of leaf pages a cursor moves through one by one before read-ahead is started. */
+    private static final int READ_AHEAD_SEQ_LEAVES = 2;
+
     /** */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -268,6 +275,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     /** Flag for enabling single-threaded append-only tree creation. */
     private boolean sequentialWriteOptsEnabled;
 
+    /** Number of leaf pages to load ahead of sequential cursors, {@code 0} if read-ahead is disabled. */
+    private final int readAheadDepth;
+
     /** */
     private final GridTreePrinter<Long> treePrinter = new GridTreePrinter<Long>() {
         /** */
@@ -393,6 +403,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /** */
+    private final PageHandler<FindAll, Integer> findInLeaf = new FindInLeaf();
+
     /** */
     private final PageHandler<Get, Result> search;
 
@@ -1035,6 +1048,8 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         this.globalRmvId = globalRmvId;
         this.failureProcessor = failureProcessor;
 
+        readAheadDepth = pageMem instanceof PageMemoryEx ? ((PageMemoryEx)pageMem).scanReadAheadDepth() : 0;
+
         // Initialize page handlers.
         askNeighbor = wrap(hndWrapper, new AskNeighbor());
         search = wrap(hndWrapper, new Search());
@@ -1639,6 +1654,83 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return findOne(row, null, null);
     }
 
+    /**
+     * Finds rows exactly matching the given lookup rows. The lookup rows which fall into the key range of the leaf page
+     * where the previous lookup row has been resolved are resolved under a single read lock of that leaf page without
+     * descending from the root again, so lookup rows sorted in the tree order are resolved with a minimal number of
+     * descents. The tree must not contain equal rows.
+     *
+     * @param rows Lookup rows for exact match.
+     * @param x Implementation specific argument, {@code null} always means that we need to return full detached data row.
+     * @return Found results in the order of the lookup rows, {@code null} elements for the rows which are not found.
+     * @throws IgniteCheckedException If failed.
+     */
+    public final List<T> findAll(List<L> rows, Object x) throws IgniteCheckedException {
+        checkDestroyed();
+
+        FindAll f = new FindAll(rows, x);
+
+        long leafId = 0L;
+
+        int i = 0;
+
+        try {
+            while (i < rows.size()) {
+                int found = leafId == 0L ? 0 : read(leafId, findInLeaf, f, i, 0);
+
+                if (found == 0) {
+                    GetLeaf g = new GetLeaf(rows.get(i), x);
+
+                    doFind(g);
+
+                    f.res.set(i, g.res);
+
+                    leafId = g.leafId;
+                    f.leafRmvId = g.leafRmvId;
+
+                    found = 1;
+                }
+
+                i += found;
+            }
+
+            return f.res;
+        }
+        catch (CorruptedDataStructureException e) {
+            throw e;
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteCheckedException("Runtime failure on lookup row: " + rows.get(i), e);
+        }
+        catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on lookup row: " + rows.get(i), e, grpId, leafId);
+        }
+        finally {
+            checkDestroyed();
+        }
+    }
+
+    /**
+     * Starts bottom-up building of this tree from rows sorted in the tree order. The tree must be empty and must not
+     * be accessed concurrently until the build is finished. Pages are filled completely in the order of the rows and
+     * written to the page memory as a whole once filled, inner levels are built along with the leaf level.
+     * The rows become visible only when {@link BulkLoad#finish()} is called.
+     * <p>
+     * Online index rebuild can't use it: the index is updated by concurrent cache operations during the rebuild
+     * and the rows come in the data tree order. Defragmentation copies data and index trees offline and in order.
+     *
+     * @return Bulk load.
+     * @throws IgniteCheckedException If the tree is not empty or failed.
+     */
+    public final BulkLoad bulkLoad() throws IgniteCheckedException {
+        checkDestroyed();
+
+        if (!isEmpty() || treeMeta().rootLvl != 0)
+            throw new IgniteCheckedException("Bulk load is possible only into an empty tree: " + name());
+
+        return new BulkLoad(treeMeta().rootId);
+    }
+
     /**
      * @param g Get.
      * @throws IgniteCheckedException If failed.
@@ -3444,6 +3536,404 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Get a single entry from a leaf page remembering the leaf page.
+     */
+    private final class GetLeaf extends Get {
+        /** */
+        final Object x;
+
+        /** Found result or {@code null}. */
+        T res;
+
+        /** Leaf page ID where the search has stopped. */
+        long leafId;
+
+        /** Remove ID of the leaf page where the search has stopped. */
+        long leafRmvId;
+
+        /**
+         * @param row Row.
+         * @param x Implementation specific argument.
+         */
+        private GetLeaf(L row, Object x) {
+            super(row, false);
+
+            this.x = x;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean found(BPlusIO<L> io, long pageAddr, int idx, int lvl) throws IgniteCheckedException {
+            if (lvl != 0)
+                return false;
+
+            res = getRow(io, pageAddr, idx, x);
+            leafId = PageIO.getPageId(pageAddr);
+            leafRmvId = io.getRemoveId(pageAddr);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean notFound(BPlusIO<L> io, long pageAddr, int idx, int lvl) throws IgniteCheckedException {
+            if (lvl != 0)
+                return false;
+
+            leafId = PageIO.getPageId(pageAddr);
+            leafRmvId = io.getRemoveId(pageAddr);
+
+            return true;
+        }
+    }
+
+    /**
+     * Batch of lookup rows.
+     */
+    private final class FindAll {
+        /** Lookup rows. */
+        final List<L> rows;
+
+        /** */
+        final Object x;
+
+        /** Found results in the order of the lookup rows. */
+        final List<T> res;
+
+        /** Remove ID of the remembered leaf page at the moment it has been resolved. */
+        long leafRmvId;
+
+        /**
+         * @param rows Lookup rows.
+         * @param x Implementation specific argument.
+         */
+        private FindAll(List<L> rows, Object x) {
+            this.rows = rows;
+            this.x = x;
+
+            res = new ArrayList<>(Collections.nCopies(rows.size(), null));
+        }
+    }
+
+    /**
+     * Resolves consecutive lookup rows of the batch which fall into the key range of the leaf page.
+     * Returns the number of resolved rows starting from the given one, {@code 0} if the first row does not fall
+     * into the key range or the page is not a leaf page of this tree anymore. The page is trusted only if it is still
+     * a leaf page of this tree and its remove ID has not changed since it has been resolved, otherwise the page might
+     * have been merged, recycled or reused by another tree and the row must be looked up from the root.
+     */
+    private final class FindInLeaf extends PageHandler<FindAll, Integer> {
+        /** {@inheritDoc} */
+        @Override public Integer run(int cacheId, long pageId, long page, long pageAddr, PageIO iox, Boolean walPlc,
+            FindAll f, int from, IoStatisticsHolder statHolder) throws IgniteCheckedException {
+            if (PageIO.getPageId(pageAddr) != pageId || iox.getType() != leafIos.getType())
+                return 0;
+
+            BPlusIO<L> io = (BPlusIO<L>)iox;
+
+            if (io.getRemoveId(pageAddr) != f.leafRmvId)
+                return 0;
+
+            int cnt = io.getCount(pageAddr);
+
+            if (cnt == 0)
+                return 0;
+
+            int i = from;
+
+            for (; i < f.rows.size(); i++) {
+                L row = f.rows.get(i);
+
+                // Stop at the first row out of the key range of the page.
+                if (compare(0, io, pageAddr, 0, row) > 0 || compare(0, io, pageAddr, cnt - 1, row) < 0)
+                    break;
+
+                int idx = findInsertionPoint(0, io, pageAddr, 0, cnt, row, 0);
+
+                if (idx >= 0)
+                    f.res.set(i, getRow(io, pageAddr, idx, f.x));
+            }
+
+            return i - from;
+        }
+    }
+
+    /**
+     * Bottom-up build of an empty tree from sorted rows.
+     */
+    public final class BulkLoad implements AutoCloseable {
+        /** Page of the empty tree to be recycled when the build is finished. */
+        private final long emptyRootId;
+
+        /** Levels of the tree being built, the leaf level is the first one. */
+        private final List<BulkLevel> lvls = new ArrayList<>();
+
+        /** Last added row. */
+        private T lastRow;
+
+        /** Number of added rows. */
+        private long rowsCnt;
+
+        /**
+         * @param emptyRootId Root page of the empty tree.
+         */
+        private BulkLoad(long emptyRootId) {
+            this.emptyRootId = emptyRootId;
+        }
+
+        /**
+         * Adds the row to the tree. The row must be greater than the previously added one.
+         *
+         * @param row Row.
+         * @throws IgniteCheckedException If failed.
+         */
+        public void add(T row) throws IgniteCheckedException {
+            assert row != null;
+
+            if (lvls.isEmpty())
+                lvls.add(new BulkLevel(0, latestLeafIO(), allocatePage(null)));
+
+            BulkLevel leaf = lvls.get(0);
+
+            if (leaf.cnt == leaf.maxCnt) {
+                long nextId = leaf.next();
+
+                // Last row of the leaf goes up, leaf pages keep all the rows.
+                addChild(1, lastRow, nextId);
+            }
+
+            leaf.io.store(leaf.bufAddr, leaf.cnt++, row, null, false);
+
+            lastRow = row;
+            rowsCnt++;
+        }
+
+        /**
+         * @param lvl Inner level.
+         * @param row Row separating the child from the previous one.
+         * @param childId Child page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void addChild(int lvl, L row, long childId) throws IgniteCheckedException {
+            if (lvls.size() == lvl) {
+                BulkLevel inner = new BulkLevel(lvl, latestInnerIO(), allocatePage(null));
+
+                inner(inner.io).setLeft(inner.bufAddr, 0, lvls.get(lvl - 1).firstPageId);
+
+                lvls.add(inner);
+            }
+
+            BulkLevel inner = lvls.get(lvl);
+
+            if (inner.cnt == inner.maxCnt) {
+                long nextId = inner.next();
+
+                inner(inner.io).setLeft(inner.bufAddr, 0, childId);
+
+                // Inner pages do not keep the row which goes up.
+                addChild(lvl + 1, row, nextId);
+            }
+            else {
+                inner.io.store(inner.bufAddr, inner.cnt, row, null, false);
+
+                inner(inner.io).setLeft(inner.bufAddr, ++inner.cnt, childId);
+            }
+        }
+
+        /**
+         * Writes the last pages of all the levels and makes the rows visible.
+         *
+         * @return Number of added rows.
+         * @throws IgniteCheckedException If failed.
+         */
+        public long finish() throws IgniteCheckedException {
+            try {
+                if (lvls.isEmpty())
+                    return 0;
+
+                for (BulkLevel lvl : lvls)
+                    lvl.flush(0L);
+
+                BulkLevel root = lvls.get(lvls.size() - 1);
+
+                long metaPage = acquirePage(metaPageId);
+
+                try {
+                    long metaPageAddr = writeLock(metaPageId, metaPage);
+
+                    assert metaPageAddr != 0L;
+
+                    try {
+                        BPlusMetaIO io = BPlusMetaIO.VERSIONS.forPage(metaPageAddr);
+
+                        io.initRoot(metaPageAddr, lvls.get(0).firstPageId, pageSize());
+
+                        for (int lvl = 1; lvl < lvls.size(); lvl++)
+                            io.addRoot(metaPageAddr, lvls.get(lvl).firstPageId, pageSize());
+
+                        treeMeta = new TreeMetaData(root.lvl, root.firstPageId);
+                    }
+                    finally {
+                        // Write the whole meta page to WAL.
+                        writeUnlock(metaPageId, metaPage, metaPageAddr, Boolean.TRUE, true);
+                    }
+                }
+                finally {
+                    releasePage(metaPageId, metaPage);
+                }
+
+                recycleEmptyRoot();
+
+                return rowsCnt;
+            }
+            finally {
+                close();
+            }
+        }
+
+        /**
+         * @throws IgniteCheckedException If failed.
+         */
+        private void recycleEmptyRoot() throws IgniteCheckedException {
+            LongListReuseBag bag = new LongListReuseBag();
+
+            long page = acquirePage(emptyRootId);
+
+            try {
+                long pageAddr = writeLock(emptyRootId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    bag.addFreePage(recyclePage(emptyRootId, page, pageAddr, null));
+                }
+                finally {
+                    writeUnlock(emptyRootId, page, pageAddr, true);
+                }
+            }
+            finally {
+                releasePage(emptyRootId, page);
+            }
+
+            if (reuseList != null)
+                reuseList.addForRecycle(bag);
+        }
+
+        /**
+         * Releases the page buffers. Pages written by an unfinished build are not reachable from the tree.
+         */
+        @Override public void close() {
+            for (BulkLevel lvl : lvls)
+                GridUnsafe.freeBuffer(lvl.buf);
+
+            lvls.clear();
+        }
+    }
+
+    /**
+     * Level of the tree being built by {@link BulkLoad}. The page being filled is kept in an off-heap buffer and written
+     * to the page memory as a whole, so there are no page locks held and no WAL delta records between the rows.
+     */
+    private final class BulkLevel {
+        /** */
+        final int lvl;
+
+        /** */
+        final BPlusIO<L> io;
+
+        /** */
+        final ByteBuffer buf;
+
+        /** */
+        final long bufAddr;
+
+        /** */
+        final int maxCnt;
+
+        /** First page of the level. */
+        final long firstPageId;
+
+        /** ID of the page being filled. */
+        long pageId;
+
+        /** Number of items in the page being filled. */
+        int cnt;
+
+        /**
+         * @param lvl Level.
+         * @param io Page IO.
+         * @param pageId First page ID.
+         */
+        BulkLevel(int lvl, BPlusIO<L> io, long pageId) {
+            this.lvl = lvl;
+            this.io = io;
+
+            buf = GridUnsafe.allocateBuffer(pageSize());
+            bufAddr = GridUnsafe.bufferAddress(buf);
+            maxCnt = io.getMaxCount(bufAddr, pageSize());
+
+            firstPageId = pageId;
+
+            start(pageId);
+        }
+
+        /**
+         * @param pageId ID of the page to fill.
+         */
+        private void start(long pageId) {
+            this.pageId = pageId;
+
+            GridUnsafe.setMemory(bufAddr, pageSize(), (byte)0);
+
+            io.initNewPage(bufAddr, pageId, pageSize(), metrics);
+
+            cnt = 0;
+        }
+
+        /**
+         * Writes the filled page and starts the forward one.
+         *
+         * @return Forward page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        long next() throws IgniteCheckedException {
+            long fwdId = allocatePage(null);
+
+            flush(fwdId);
+
+            start(fwdId);
+
+            return fwdId;
+        }
+
+        /**
+         * @param fwdId Forward page ID.
+         * @throws IgniteCheckedException If failed.
+         */
+        void flush(long fwdId) throws IgniteCheckedException {
+            io.setCount(bufAddr, cnt);
+            io.setForward(bufAddr, fwdId);
+
+            long page = acquirePage(pageId);
+
+            try {
+                long pageAddr = writeLock(pageId, page);
+
+                assert pageAddr != 0L;
+
+                try {
+                    GridUnsafe.copyMemory(bufAddr, pageAddr, pageSize());
+                }
+                finally {
+                    // Write the whole page to WAL.
+                    writeUnlock(pageId, page, pageAddr, Boolean.TRUE, true);
+                }
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+        }
+    }
+
     /**
      * Get a cursor for range.
      */
@@ -5793,6 +6283,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         /** Cached value for retrieving diagnosting info in case of failure. */
         public GetCursor getCursor;
 
+        /** Read-ahead of sequentially traversed leaf pages or {@code null} if disabled. */
+        @Nullable ReadAhead readAhead;
+
         /**
          * @param lowerBound Lower bound.
          * @param upperBound Upper bound.
@@ -5949,6 +6442,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             // to the previous lower bound.
             find();
 
+            if (readAhead != null)
+                readAhead.reset();
+
             return reinitialize0();
         }
 
@@ -5970,6 +6466,12 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 }
 
                 long pageId = nextPageId;
+
+                if (readAhead != null)
+                    readAhead.onLeafAccess(pageId);
+
+                boolean filled;
+
                 long page = acquirePage(pageId);
                 try {
                     long pageAddr = readLock(pageId, page); // Doing explicit null check.
@@ -5981,10 +6483,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                     try {
                         BPlusIO<L> io = io(pageAddr);
 
-                        if (fillFromBuffer(pageAddr, io, -1, io.getCount(pageAddr)))
-                            return true;
-
-                        // Continue fetching forward.
+                        filled = fillFromBuffer(pageAddr, io, -1, io.getCount(pageAddr));
                     }
                     finally {
                         readUnlock(pageId, page, pageAddr);
@@ -5999,6 +6498,15 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 finally {
                     releasePage(pageId, page);
                 }
+
+                // Read-ahead is started when no page locks are held by the cursor.
+                if (readAhead != null)
+                    readAhead.onLeafRead(nextPageId);
+
+                if (filled)
+                    return true;
+
+                // Continue fetching forward.
             }
 
             // Reinitialize when `next` is released.
@@ -6016,6 +6524,72 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Read-ahead of a forward cursor. Once the cursor moves through {@link #READ_AHEAD_SEQ_LEAVES} leaf pages one by
+     * one, the next leaf pages are loaded in background by following the forward links, together with the pages
+     * referenced by their rows (see {@link #collectReadAheadPages(BPlusIO, long, int, Object, GridLongList)}).
+     * Requests are issued each time the cursor passes a half of the previously requested leaf pages, so the cursor
+     * does not wait for page reads when the storage keeps up with it.
+     */
+    private final class ReadAhead {
+        /** Implementation specific argument of the cursor. */
+        private final Object x;
+
+        /** Number of leaf pages the cursor moved through one by one. */
+        private int seqLeaves;
+
+        /** Number of leaf pages the cursor can move through before the next read-ahead request. */
+        private int untilNext;
+
+        /** Number of requested leaf pages the cursor has not reached yet. */
+        private int pending;
+
+        /**
+         * @param x Implementation specific argument of the cursor.
+         */
+        ReadAhead(Object x) {
+            this.x = x;
+        }
+
+        /**
+         * Resets the sequence when the cursor is reinitialized from the tree root.
+         */
+        void reset() {
+            seqLeaves = 0;
+            untilNext = 0;
+            pending = 0;
+        }
+
+        /**
+         * Updates read-ahead metrics when the cursor moves to the next leaf page.
+         *
+         * @param pageId Leaf page ID.
+         */
+        void onLeafAccess(long pageId) {
+            if (pending == 0)
+                return;
+
+            pending--;
+
+            pageMem.metrics().onReadAheadAccess(((PageMemoryEx)pageMem).hasLoadedPage(new FullPageId(pageId, grpId)));
+        }
+
+        /**
+         * Requests next leaf pages if the cursor moves through the tree sequentially.
+         *
+         * @param fwdId Forward page ID of the leaf page read by the cursor, {@code 0} if there are no more pages.
+         */
+        void onLeafRead(long fwdId) {
+            if (fwdId == 0L || ++seqLeaves < READ_AHEAD_SEQ_LEAVES || untilNext-- > 0)
+                return;
+
+            untilNext = Math.max(readAheadDepth / 2, 1) - 1;
+            pending = readAheadDepth;
+
+            readAheadLeaf(fwdId, readAheadDepth, x);
+        }
+    }
+
     /**
      * Closure cursor.
      */
@@ -6166,6 +6740,9 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             this.c = c;
             this.rowFactory = rowFactory;
             this.x = x;
+
+            if (readAheadDepth > 0)
+                readAhead = new ReadAhead(x);
         }
 
         /** {@inheritDoc} */
@@ -6456,6 +7033,98 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return LOCK_RETRIES;
     }
 
+    /**
+     * Collects IDs of the pages referenced by rows of a leaf page to load them ahead of a sequential cursor.
+     * Called under the read lock of the leaf page.
+     *
+     * @param io Leaf page IO.
+     * @param pageAddr Leaf page address.
+     * @param cnt Number of rows in the leaf page.
+     * @param x Implementation specific argument of the cursor.
+     * @param pageIds Page IDs to load.
+     */
+    protected void collectReadAheadPages(BPlusIO<L> io, long pageAddr, int cnt, Object x, GridLongList pageIds) {
+        // No-op.
+    }
+
+    /**
+     * Loads the leaf page in background, then loads the pages referenced by its rows and proceeds
+     * to the forward leaf page. Read-ahead is best effort, so it silently stops on any failure.
+     *
+     * @param pageId Leaf page ID.
+     * @param left Number of leaf pages to load including the given one.
+     * @param x Implementation specific argument of the cursor.
+     */
+    private void readAheadLeaf(long pageId, int left, Object x) {
+        PageMemoryEx pageMemEx = (PageMemoryEx)pageMem;
+
+        try {
+            pageMem.metrics().onReadAhead(1);
+
+            pageMemEx.loadPages(grpId, new long[] {pageId}).listen(f -> {
+                if (f.error() != null || destroyed.get())
+                    return;
+
+                try {
+                    GridLongList pageIds = new GridLongList();
+
+                    long fwdId = readAheadPages(pageId, x, pageIds);
+
+                    if (!pageIds.isEmpty()) {
+                        pageMem.metrics().onReadAhead(pageIds.size());
+
+                        pageMemEx.loadPages(grpId, pageIds.array());
+                    }
+
+                    if (fwdId != 0L && left > 1)
+                        readAheadLeaf(fwdId, left - 1, x);
+                }
+                catch (Throwable ignore) {
+                    // No-op.
+                }
+            });
+        }
+        catch (Throwable ignore) {
+            // No-op.
+        }
+    }
+
+    /**
+     * @param pageId Leaf page ID.
+     * @param x Implementation specific argument of the cursor.
+     * @param pageIds Page IDs referenced by the rows of the leaf page.
+     * @return Forward page ID or {@code 0} if there are no more leaf pages or the page is not a leaf page anymore.
+     * @throws IgniteCheckedException If failed.
+     */
+    private long readAheadPages(long pageId, Object x, GridLongList pageIds) throws IgniteCheckedException {
+        long page = acquirePage(pageId, IoStatisticsHolderNoOp.INSTANCE);
+
+        try {
+            long pageAddr = readLock(pageId, page);
+
+            // The page was concurrently recycled.
+            if (pageAddr == 0L)
+                return 0L;
+
+            try {
+                BPlusIO<L> io = io(pageAddr);
+
+                if (!io.isLeaf())
+                    return 0L;
+
+                collectReadAheadPages(io, pageAddr, io.getCount(pageAddr), x, pageIds);
+
+                return io.getForward(pageAddr);
+            }
+            finally {
+                readUnlock(pageId, page, pageAddr);
+            }
+        }
+        finally {
+            releasePage(pageId, page);
+        }
+    }
+
     /**
      * @param pageId Page ID.
      * @return Page absolute pointer.
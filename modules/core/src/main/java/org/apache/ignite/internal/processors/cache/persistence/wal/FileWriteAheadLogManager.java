@@ -72,6 +72,7 @@ import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.managers.eventstorage.GridEventStorageManager;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
 import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.CompressedRecord;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.MarshalledRecord;
 import org.apache.ignite.internal.pagemem.wal.record.MemoryRecoveryRecord;
@@ -80,6 +81,7 @@ import org.apache.ignite.internal.pagemem.wal.record.RolloverType;
 import org.apache.ignite.internal.pagemem.wal.record.SwitchSegmentRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedManagerAdapter;
 import org.apache.ignite.internal.processors.cache.WalStateManager.WALDisableContext;
@@ -213,6 +215,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Buffer size. */
     private static final int BUF_SIZE = 1024 * 1024;
 
+    /** Minimal serialized size of a data record to be compressed. */
+    private static final int RECORD_COMPRESSION_MIN_SIZE = 128;
+
     /** @see IgniteSystemProperties#IGNITE_WAL_MMAP */
     public static final boolean DFLT_WAL_MMAP = true;
 
@@ -407,6 +412,12 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Page snapshot records compression level. */
     private int pageCompressionLevel;
 
+    /** Data records compression algorithm. */
+    private DiskPageCompression recordCompression;
+
+    /** Data records compression level. */
+    private int recordCompressionLevel;
+
     /**
      * Local segment sizes: absolute segment index -> size in bytes.
      * For segments from {@link #walWorkDir} and {@link #walArchiveDir}.
@@ -611,6 +622,24 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     checkCompressionLevelBounds(dsCfg.getWalPageCompressionLevel(), pageCompression) :
                     getDefaultCompressionLevel(pageCompression);
             }
+
+            recordCompression = dsCfg.getWalRecordCompression();
+
+            if (recordCompression != DiskPageCompression.DISABLED) {
+                if (serializerVer < 2) {
+                    throw new IgniteCheckedException("WAL records compression not supported for serializerVer=" +
+                        serializerVer);
+                }
+
+                if (recordCompression == DiskPageCompression.SKIP_GARBAGE)
+                    throw new IgniteCheckedException("WAL records compression not supported for " + recordCompression);
+
+                cctx.kernalContext().compress().checkPageCompressionSupported();
+
+                recordCompressionLevel = dsCfg.getWalRecordCompressionLevel() != null ?
+                    checkCompressionLevelBounds(dsCfg.getWalRecordCompressionLevel(), recordCompression) :
+                    getDefaultCompressionLevel(recordCompression);
+            }
         }
     }
 
@@ -961,6 +990,17 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         // Need to calculate record size first.
         rec.size(serializer.size(rec));
 
+        // Type of the plain record, the record may be wrapped into a compressed one below.
+        WALRecord.RecordType recType = rec.type();
+
+        // Do data records compression if configured, small and encrypted records are not worth it.
+        if (recordCompression != DiskPageCompression.DISABLED && rec instanceof DataRecord &&
+            rec.size() >= RECORD_COMPRESSION_MIN_SIZE && !encrypted((DataRecord)rec)) {
+            rec = new CompressedRecord(rec, recordCompression, recordCompressionLevel);
+
+            rec.size(serializer.size(rec));
+        }
+
         while (true) {
             WALPointer ptr;
 
@@ -998,7 +1038,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
 
                     // Only data records handled by CDC.
                     // No need to forcefully rollover for other record types.
-                    if (walForceArchiveTimeout > 0 && (rec.type() == DATA_RECORD_V2 || rec.type() == CDC_DATA_RECORD))
+                    if (walForceArchiveTimeout > 0 && (recType == DATA_RECORD_V2 || recType == CDC_DATA_RECORD))
                         lastDataRecordLoggedMs.set(millis);
                 }
 
@@ -1014,6 +1054,21 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         }
     }
 
+    /**
+     * @param rec Data record.
+     * @return {@code True} if the record contains entries of encrypted caches.
+     */
+    private boolean encrypted(DataRecord rec) {
+        for (int i = 0; i < rec.entryCount(); i++) {
+            GridCacheContext<?, ?> cacheCtx = cctx.cacheContext(rec.get(i).cacheId());
+
+            if (cacheCtx != null && cacheCtx.config().isEncryptionEnabled())
+                return true;
+        }
+
+        return false;
+    }
+
     /** */
     private FileWriteHandle closeBufAndRollover(
         FileWriteHandle currWriteHandle,
@@ -110,6 +110,8 @@ import org.apache.ignite.spi.metric.noop.NoopMetricExporterSpi;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.IgniteComponentType.COMPRESSION;
+
 /**
  * Dummy context for offline utilities. All grid components registered in the standalone context
  * must be properly stopped since the lifecycle of them are controlled by kernal.
@@ -219,7 +221,8 @@ public class StandaloneGridKernalContext implements GridKernalContext {
             marshallerCtx.onMarshallerProcessorStarted(this, null);
         }
 
-        this.compressProc = compressProc;
+        // Compressed WAL records can't be read without compression processor.
+        this.compressProc = compressProc != null ? compressProc : COMPRESSION.createOptional(this);
     }
 
     /**
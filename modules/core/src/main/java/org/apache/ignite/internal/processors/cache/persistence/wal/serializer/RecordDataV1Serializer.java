@@ -32,6 +32,7 @@ import java.util.Set;
 import java.util.UUID;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.internal.managers.encryption.GridEncryptionManager;
 import org.apache.ignite.internal.managers.encryption.GroupKey;
 import org.apache.ignite.internal.managers.encryption.GroupKeyEncrypted;
@@ -40,6 +41,7 @@ import org.apache.ignite.internal.pagemem.wal.record.CacheState;
 import org.apache.ignite.internal.pagemem.wal.record.CdcManagerRecord;
 import org.apache.ignite.internal.pagemem.wal.record.CdcManagerStopRecord;
 import org.apache.ignite.internal.pagemem.wal.record.CheckpointRecord;
+import org.apache.ignite.internal.pagemem.wal.record.CompressedRecord;
 import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
 import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
 import org.apache.ignite.internal.pagemem.wal.record.EncryptedRecord;
@@ -116,6 +118,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.CacheVersionIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBackedDataInput;
+import org.apache.ignite.internal.processors.cache.persistence.wal.ByteBufferBackedDataInputImpl;
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.record.HeaderRecord;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
@@ -129,6 +132,7 @@ import org.apache.ignite.spi.encryption.noop.NoopEncryptionSpi;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.CDC_DATA_RECORD;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.COMPRESSED_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD_V2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_DATA_RECORD_V2;
@@ -204,6 +208,9 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
     /** {@inheritDoc} */
     @Override public int size(WALRecord record) throws IgniteCheckedException {
+        if (record instanceof CompressedRecord)
+            return compressedSize((CompressedRecord)record);
+
         int clSz = plainSize(record);
 
         if (needEncryption(record))
@@ -227,11 +234,20 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
                 return new EncryptedRecord(decryptionResult.grpId(), decryptionResult.recordType());
         }
 
+        if (type == COMPRESSED_RECORD)
+            return readCompressedRecord(in);
+
         return readPlainRecord(type, in, false, size);
     }
 
     /** {@inheritDoc} */
     @Override public void writeRecord(WALRecord rec, ByteBuffer buf) throws IgniteCheckedException {
+        if (rec instanceof CompressedRecord) {
+            writeCompressedRecord((CompressedRecord)rec, buf);
+
+            return;
+        }
+
         if (needEncryption(rec)) {
             int clSz = plainSize(rec);
 
@@ -249,6 +265,79 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
         writePlainRecord(rec, buf);
     }
 
+    /**
+     * Serializes and compresses the wrapped record unless it was already done, and calculates the record size.
+     * Compressed data is kept only if it is smaller than the plain one.
+     *
+     * @param rec Compressed record.
+     * @return Size of serialized record in bytes.
+     * @throws IgniteCheckedException If failed.
+     */
+    private int compressedSize(CompressedRecord rec) throws IgniteCheckedException {
+        if (rec.data() == null) {
+            WALRecord plainRec = rec.plainRecord();
+
+            ByteBuffer clData = ByteBuffer.allocate(size(plainRec));
+
+            writeRecord(plainRec, clData);
+
+            byte[] plain = clData.array();
+
+            byte[] compressed = cctx.kernalContext().compress()
+                .compress(plain, rec.compression(), rec.compressionLevel());
+
+            if (compressed.length < plain.length)
+                rec.data(recordType(plainRec), plain.length, rec.compression(), compressed);
+            else
+                rec.data(recordType(plainRec), plain.length, DiskPageCompression.DISABLED, plain);
+        }
+
+        return REC_TYPE_SIZE + 1 /* compression */ + 4 /* plain size */ + 4 /* data size */ + rec.data().length;
+    }
+
+    /**
+     * @param rec Compressed record.
+     * @param buf Destination buffer.
+     */
+    private void writeCompressedRecord(CompressedRecord rec, ByteBuffer buf) {
+        assert rec.data() != null : "Size of compressed record must be calculated before write: " + rec;
+
+        putRecordType(buf, rec.plainRecordType());
+
+        buf.put((byte)rec.dataCompression().ordinal());
+        buf.putInt(rec.plainSize());
+        buf.putInt(rec.data().length);
+        buf.put(rec.data());
+    }
+
+    /**
+     * Reads and decompresses wrapped record.
+     *
+     * @param in Input stream.
+     * @return Plain record.
+     * @throws IOException If failed.
+     * @throws IgniteCheckedException If failed.
+     */
+    private WALRecord readCompressedRecord(ByteBufferBackedDataInput in) throws IOException, IgniteCheckedException {
+        RecordType plainRecType = RecordV1Serializer.readRecordType(in);
+
+        DiskPageCompression compression = DiskPageCompression.fromOrdinal(in.readByte());
+
+        int plainSz = in.readInt();
+
+        byte[] data = new byte[in.readInt()];
+
+        in.readFully(data);
+
+        if (compression == null)
+            throw new IOException("Unknown compression of WAL record [type=" + plainRecType + ']');
+
+        if (compression != DiskPageCompression.DISABLED)
+            data = cctx.kernalContext().compress().decompress(data, plainSz, compression);
+
+        return readRecord(plainRecType, new ByteBufferBackedDataInputImpl().buffer(ByteBuffer.wrap(data)), plainSz);
+    }
+
     /**
      * @param rec Record to check.
      * @return {@code True} if this record should be encrypted.
@@ -37,6 +37,7 @@ import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.lang.IgniteBiPredicate;
 
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.COMPRESSED_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD_V2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.SWITCH_SEGMENT_RECORD;
@@ -136,6 +137,16 @@ public class RecordV2Serializer implements RecordSerializer {
 
                 in.buffer().reset();
             }
+            else if (recType == COMPRESSED_RECORD) {
+                // 1 byte for record type.
+                in.ensure(1);
+
+                in.buffer().mark();
+
+                actualType = readRecordType(in);
+
+                in.buffer().reset();
+            }
 
             if (actualType.purpose() != WALRecord.RecordPurpose.INTERNAL
                 && recordFilter != null && !recordFilter.apply(actualType, ptr)) {
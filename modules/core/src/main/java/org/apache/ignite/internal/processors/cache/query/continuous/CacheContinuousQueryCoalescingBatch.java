@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.continuous.GridContinuousQueryBatch;
+
+/**
+ * Continuous query batch which keeps only the latest event of every key. Superseded events stay in the batch
+ * marked as filtered, so they are sent without key and values, but still carry their update counters which are
+ * required by the partition recovery on the master node.
+ */
+public class CacheContinuousQueryCoalescingBatch extends GridContinuousQueryBatch {
+    /** Latest events by key. */
+    private final ConcurrentMap<KeyCacheObject, CacheContinuousQueryEntry> latest = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override public void add(Object obj) {
+        if (obj instanceof CacheContinuousQueryEntry)
+            coalesce((CacheContinuousQueryEntry)obj);
+        else if (obj instanceof List) {
+            for (Object e : (List<Object>)obj)
+                coalesce((CacheContinuousQueryEntry)e);
+        }
+
+        super.add(obj);
+    }
+
+    /**
+     * @param e Entry to add.
+     */
+    private void coalesce(CacheContinuousQueryEntry e) {
+        if (e.isFiltered() || e.key() == null)
+            return;
+
+        KeyCacheObject key = e.key();
+
+        while (true) {
+            CacheContinuousQueryEntry prev = latest.putIfAbsent(key, e);
+
+            if (prev == null)
+                return;
+
+            // Entries of the same key may be added out of order by concurrent threads.
+            if (!newer(e, prev)) {
+                e.markFiltered();
+
+                return;
+            }
+
+            if (latest.replace(key, prev, e)) {
+                prev.markFiltered();
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param e Entry.
+     * @param prev Previous entry of the same key.
+     * @return {@code True} if the entry reflects a later update than the previous one.
+     */
+    private static boolean newer(CacheContinuousQueryEntry e, CacheContinuousQueryEntry prev) {
+        AffinityTopologyVersion topVer = e.topologyVersion();
+        AffinityTopologyVersion prevTopVer = prev.topologyVersion();
+
+        // Update counters are reset if partition is lost.
+        if (topVer != null && prevTopVer != null && !topVer.equals(prevTopVer))
+            return topVer.compareTo(prevTopVer) > 0;
+
+        return e.updateCounter() > prev.updateCounter();
+    }
+
+    /**
+     * @return Count of keys with events in this batch.
+     */
+    int keysCount() {
+        return latest.size();
+    }
+}
@@ -803,6 +803,13 @@ public class CacheContinuousQueryHandler<K, V> implements GridContinuousHandler
         return rmtFilter;
     }
 
+    /**
+     * @return Remote filter.
+     */
+    @Nullable protected CacheEntryEventSerializableFilter<K, V> remoteFilter() {
+        return rmtFilter;
+    }
+
     /**
      * @return Cache entry event transformer.
      */
@@ -24,7 +24,9 @@ import java.util.UUID;
 import javax.cache.configuration.Factory;
 import javax.cache.event.CacheEntryEvent;
 import javax.cache.event.CacheEntryEventFilter;
+import javax.cache.event.CacheEntryUpdatedListener;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
 import org.apache.ignite.cache.query.ContinuousQueryWithTransformer;
 import org.apache.ignite.cache.query.ContinuousQueryWithTransformer.EventListener;
 import org.apache.ignite.internal.GridKernalContext;
@@ -84,10 +86,42 @@ public class CacheContinuousQueryHandlerV3<K, V> extends CacheContinuousQueryHan
         boolean sync,
         boolean ignoreExpired,
         boolean ignoreClsNotFound) {
+        this(cacheName, topic, null, locTransLsnr, null, rmtFilterFactory, rmtTransFactory, oldValRequired, sync,
+            ignoreExpired, ignoreClsNotFound);
+
+        assert rmtTransFactory != null;
+    }
+
+    /**
+     * @param cacheName Cache name.
+     * @param topic Topic.
+     * @param locLsnr Local listener, used if remote transformer factory is not set.
+     * @param locTransLsnr Local listener of transformed events.
+     * @param rmtFilter Remote filter, used if remote filter factory is not set.
+     * @param rmtFilterFactory Remote filter factory.
+     * @param rmtTransFactory Remote transformer factory.
+     * @param oldValRequired OldValRequired flag.
+     * @param sync Sync flag.
+     * @param ignoreExpired IgnoreExpired flag.
+     * @param ignoreClsNotFound IgnoreClassNotFoundException flag.
+     */
+    protected CacheContinuousQueryHandlerV3(
+        String cacheName,
+        Object topic,
+        @Nullable CacheEntryUpdatedListener<K, V> locLsnr,
+        @Nullable EventListener<?> locTransLsnr,
+        @Nullable CacheEntryEventSerializableFilter<K, V> rmtFilter,
+        @Nullable Factory<? extends CacheEntryEventFilter<K, V>> rmtFilterFactory,
+        @Nullable Factory<? extends IgniteClosure<CacheEntryEvent<? extends K, ? extends V>, ?>> rmtTransFactory,
+        boolean oldValRequired,
+        boolean sync,
+        boolean ignoreExpired,
+        boolean ignoreClsNotFound) {
         super(
             cacheName,
             topic,
-            null,
+            locLsnr,
+            rmtFilter,
             rmtFilterFactory,
             oldValRequired,
             sync,
@@ -95,8 +129,6 @@ public class CacheContinuousQueryHandlerV3<K, V> extends CacheContinuousQueryHan
             ignoreClsNotFound,
             null);
 
-        assert rmtTransFactory != null;
-
         this.locTransLsnr = locTransLsnr;
         this.rmtTransFactory = rmtTransFactory;
     }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import javax.cache.configuration.Factory;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryEventFilter;
+import javax.cache.event.CacheEntryUpdatedListener;
+import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
+import org.apache.ignite.cache.query.AbstractContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQueryWithTransformer.EventListener;
+import org.apache.ignite.internal.IgniteFeatures;
+import org.apache.ignite.internal.processors.continuous.GridContinuousBatch;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteClosure;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Continuous query handler V4 version. Contains the flag of the buffered events coalescing,
+ * see {@link AbstractContinuousQuery#setCoalesceEvents(boolean)}. Accepts any combination of the remote filter,
+ * filter factory and transformer factory of the previous versions.
+ * <p>
+ * Used only if all nodes support {@link IgniteFeatures#CONT_QRY_COALESCE_EVENTS}.
+ */
+public class CacheContinuousQueryHandlerV4<K, V> extends CacheContinuousQueryHandlerV3<K, V> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Whether to send only the latest buffered event of a key. */
+    private boolean coalesceEvents;
+
+    /**
+     * Empty constructor.
+     */
+    public CacheContinuousQueryHandlerV4() {
+        super();
+    }
+
+    /**
+     * @param cacheName Cache name.
+     * @param topic Topic.
+     * @param locLsnr Local listener, used if remote transformer factory is not set.
+     * @param locTransLsnr Local listener of transformed events.
+     * @param rmtFilter Remote filter, used if remote filter factory is not set.
+     * @param rmtFilterFactory Remote filter factory.
+     * @param rmtTransFactory Remote transformer factory.
+     * @param oldValRequired OldValRequired flag.
+     * @param sync Sync flag.
+     * @param ignoreExpired IgnoreExpired flag.
+     * @param ignoreClsNotFound IgnoreClassNotFoundException flag.
+     * @param coalesceEvents Whether to send only the latest buffered event of a key.
+     */
+    public CacheContinuousQueryHandlerV4(
+        String cacheName,
+        Object topic,
+        @Nullable CacheEntryUpdatedListener<K, V> locLsnr,
+        @Nullable EventListener<?> locTransLsnr,
+        @Nullable CacheEntryEventSerializableFilter<K, V> rmtFilter,
+        @Nullable Factory<? extends CacheEntryEventFilter<K, V>> rmtFilterFactory,
+        @Nullable Factory<? extends IgniteClosure<CacheEntryEvent<? extends K, ? extends V>, ?>> rmtTransFactory,
+        boolean oldValRequired,
+        boolean sync,
+        boolean ignoreExpired,
+        boolean ignoreClsNotFound,
+        boolean coalesceEvents) {
+        super(
+            cacheName,
+            topic,
+            locLsnr,
+            locTransLsnr,
+            rmtFilter,
+            rmtFilterFactory,
+            rmtTransFactory,
+            oldValRequired,
+            sync,
+            ignoreExpired,
+            ignoreClsNotFound);
+
+        assert rmtFilter == null || rmtFilterFactory == null;
+        assert locLsnr == null || locTransLsnr == null;
+
+        this.coalesceEvents = coalesceEvents;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheEntryEventFilter getEventFilter0() {
+        if (rmtFilterFactory == null)
+            return remoteFilter();
+
+        return super.getEventFilter0();
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridContinuousBatch createBatch() {
+        return coalesceEvents ? new CacheContinuousQueryCoalescingBatch() : super.createBatch();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheContinuousQueryHandlerV4.class, this, "super", super.toString());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void writeExternal(ObjectOutput out) throws IOException {
+        super.writeExternal(out);
+
+        out.writeBoolean(coalesceEvents);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        super.readExternal(in);
+
+        coalesceEvents = in.readBoolean();
+    }
+}
@@ -90,6 +90,7 @@ import static javax.cache.event.EventType.REMOVED;
 import static javax.cache.event.EventType.UPDATED;
 import static org.apache.ignite.events.EventType.EVT_CACHE_QUERY_OBJECT_READ;
 import static org.apache.ignite.internal.GridTopic.TOPIC_CACHE;
+import static org.apache.ignite.internal.IgniteFeatures.CONT_QRY_COALESCE_EVENTS;
 import static org.apache.ignite.internal.IgniteFeatures.CONT_QRY_SECURITY_AWARE;
 import static org.apache.ignite.internal.IgniteFeatures.allNodesSupports;
 import static org.apache.ignite.internal.IgniteNodeAttributes.ATTR_CLIENT_MODE;
@@ -520,6 +521,7 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
      * @param timeInterval Time interval.
      * @param autoUnsubscribe Auto unsubscribe flag.
      * @param loc Local flag.
+     * @param coalesceEvents Whether to coalesce buffered events of the same key.
      * @return Continuous routine ID.
      * @throws IgniteCheckedException In case of error.
      */
@@ -533,11 +535,38 @@ public class CacheContinuousQueryManager<K, V> extends GridCacheManagerAdapter<K
         boolean autoUnsubscribe,
         boolean loc,
         final boolean keepBinary,
-        final boolean includeExpired
+        final boolean includeExpired,
+        boolean coalesceEvents
     ) throws IgniteCheckedException {
         IgniteOutClosure<CacheContinuousQueryHandler> clsr;
 
-        if (rmtTransFactory != null) {
+        if (coalesceEvents && !allNodesSupports(cctx.discovery().allNodes(), CONT_QRY_COALESCE_EVENTS)) {
+            U.warn(log, "Continuous query events will not be coalesced, not all nodes in the cluster support it " +
+                "[cache=" + cctx.name() + ']');
+
+            coalesceEvents = false;
+        }
+
+        if (coalesceEvents) {
+            clsr = new IgniteOutClosure<CacheContinuousQueryHandler>() {
+                @Override public CacheContinuousQueryHandler apply() {
+                    return new CacheContinuousQueryHandlerV4(
+                        cctx.name(),
+                        TOPIC_CACHE.topic(topicPrefix, cctx.localNodeId(), seq.getAndIncrement()),
+                        rmtTransFactory == null ? locLsnr : null,
+                        locTransLsnr,
+                        rmtFilterFactory == null ? securityAwareFilter(rmtFilter) : null,
+                        securityAwareFilterFactory(rmtFilterFactory),
+                        securityAwareTransformerFactory(rmtTransFactory),
+                        true,
+                        false,
+                        !includeExpired,
+                        false,
+                        true);
+                }
+            };
+        }
+        else if (rmtTransFactory != null) {
             clsr = new IgniteOutClosure<CacheContinuousQueryHandler>() {
                 @Override public CacheContinuousQueryHandler apply() {
                     return new CacheContinuousQueryHandlerV3(
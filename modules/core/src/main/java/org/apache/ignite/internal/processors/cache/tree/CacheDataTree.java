@@ -38,6 +38,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersion
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.tree.mvcc.search.MvccDataPageClosure;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.CU;
@@ -390,6 +391,33 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         return rowStore.dataRow(cacheId, hash, link, x);
     }
 
+    /** {@inheritDoc} */
+    @Override protected void collectReadAheadPages(
+        BPlusIO<CacheSearchRow> io,
+        long pageAddr,
+        int cnt,
+        Object x,
+        GridLongList pageIds
+    ) {
+        if (asRowData(x) == CacheDataRowAdapter.RowData.LINK_ONLY)
+            return;
+
+        RowLinkIO rowIo = (RowLinkIO)io;
+
+        long prevPageId = 0L;
+
+        for (int i = 0; i < cnt; i++) {
+            long pageId = pageId(rowIo.getLink(pageAddr, i));
+
+            // Rows inserted one after another are usually stored in the same data page.
+            if (pageId != prevPageId) {
+                pageIds.add(pageId);
+
+                prevPageId = pageId;
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override protected IoStatisticsHolder statisticsHolder() {
         return grp.statisticsHolderIdx();
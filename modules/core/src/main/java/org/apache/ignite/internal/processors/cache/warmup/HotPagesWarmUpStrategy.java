@@ -0,0 +1,533 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.HotPagesWarmUpConfiguration;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.IgniteInterruptedCheckedException;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointListener;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.internal.util.GridIntList;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThreadPoolExecutor;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.FLAG_IDX;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
+
+/**
+ * "Hot pages" warm-up strategy, which loads to persistent data region pages that were resident in it at the time
+ * of the last snapshot of resident pages. Snapshot is saved to the node storage directory after checkpoint end not
+ * more often than {@link HotPagesWarmUpConfiguration#getSnapshotFrequency}, in the system pool, so the checkpointer
+ * is not delayed by it. Pages are loaded in parallel by partitions,
+ * pages of each partition are loaded sequentially in order of their offsets in partition file, until the data region
+ * reaches {@link DataRegionConfiguration#getMaxSize}.
+ */
+public class HotPagesWarmUpStrategy implements WarmUpStrategy<HotPagesWarmUpConfiguration> {
+    /** Snapshot file name prefix. */
+    static final String SNAPSHOT_FILE_PREFIX = "hot-pages-";
+
+    /** Snapshot file name extension. */
+    static final String SNAPSHOT_FILE_EXT = ".snapshot";
+
+    /** Snapshot file magic number. */
+    private static final int SNAPSHOT_MAGIC = 0x484F5450;
+
+    /** Snapshot file format version. */
+    private static final int SNAPSHOT_VER = 1;
+
+    /** Kernal context. */
+    @GridToStringExclude
+    private final GridKernalContext ctx;
+
+    /** Logger. */
+    @GridToStringExclude
+    private final IgniteLogger log;
+
+    /** Stop flag. */
+    private volatile boolean stop;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Kernal context.
+     */
+    public HotPagesWarmUpStrategy(GridKernalContext ctx) {
+        this.ctx = ctx;
+
+        log = ctx.log(HotPagesWarmUpStrategy.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override public Class<HotPagesWarmUpConfiguration> configClass() {
+        return HotPagesWarmUpConfiguration.class;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void warmUp(
+        HotPagesWarmUpConfiguration cfg,
+        DataRegion region
+    ) throws IgniteCheckedException {
+        assert region.config().isPersistenceEnabled();
+
+        GridCacheSharedContext<?, ?> cctx = ctx.cache().context();
+
+        if (!(cctx.pageStore() instanceof FilePageStoreManager)) {
+            U.warn(log, "Hot pages warm-up is not supported by page store manager, warm-up skipped [region=" +
+                region.config().getName() + ", pageStore=" + cctx.pageStore().getClass().getName() + ']');
+
+            return;
+        }
+
+        File snapshotFile = snapshotFile((FilePageStoreManager)cctx.pageStore(), region);
+
+        // Snapshots are taken even if warm-up is stopped, so the next start of the node can be warmed up.
+        ((GridCacheDatabaseSharedManager)cctx.database())
+            .addCheckpointListener(new SnapshotWriter(cfg, region, snapshotFile), region);
+
+        if (stop)
+            return;
+
+        if (!snapshotFile.exists()) {
+            if (log.isInfoEnabled())
+                log.info("Hot pages snapshot not found, warm-up skipped [region=" + region.config().getName() + ']');
+
+            return;
+        }
+
+        Map<GroupPartitionId, int[]> pages;
+
+        try {
+            pages = readSnapshot(snapshotFile);
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to read hot pages snapshot, warm-up skipped [region=" + region.config().getName() +
+                ", file=" + snapshotFile.getAbsolutePath() + ']', e);
+
+            return;
+        }
+
+        loadPages(cfg, region, cctx.pageStore(), pages);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop() throws IgniteCheckedException {
+        stop = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HotPagesWarmUpStrategy.class, this);
+    }
+
+    /**
+     * Loads pages of the snapshot into data region.
+     *
+     * @param cfg Warm-up configuration.
+     * @param region Data region.
+     * @param pageStore Page store manager.
+     * @param pages Page indexes by partitions.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void loadPages(
+        HotPagesWarmUpConfiguration cfg,
+        DataRegion region,
+        IgnitePageStoreManager pageStore,
+        Map<GroupPartitionId, int[]> pages
+    ) throws IgniteCheckedException {
+        long availableLoadPageCnt = availableLoadPageCount(region);
+
+        Map<GroupPartitionId, int[]> loadParts = new TreeMap<>();
+
+        long pageCnt = 0;
+
+        for (Map.Entry<GroupPartitionId, int[]> e : pages.entrySet()) {
+            if (pageCnt >= availableLoadPageCnt)
+                break;
+
+            int grpId = e.getKey().getGroupId();
+            int partId = e.getKey().getPartitionId();
+
+            CacheGroupContext grp = ctx.cache().cacheGroup(grpId);
+
+            // Skip destroyed groups and partitions, and groups moved to other data region.
+            if (grp == null || !region.equals(grp.dataRegion()) || !pageStore.exists(grpId, partId))
+                continue;
+
+            int partPageCnt = pageStore.pages(grpId, partId);
+
+            int[] idxs = e.getValue();
+
+            int cnt = 0;
+
+            while (cnt < idxs.length && idxs[cnt] < partPageCnt && pageCnt + cnt < availableLoadPageCnt)
+                cnt++;
+
+            if (cnt > 0) {
+                loadParts.put(e.getKey(), cnt == idxs.length ? idxs : Arrays.copyOf(idxs, cnt));
+
+                pageCnt += cnt;
+            }
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Start hot pages warm-up of data region [name=" + region.config().getName() +
+                ", partCnt=" + loadParts.size() + ", pageCnt=" + pageCnt +
+                ", availablePageCnt=" + availableLoadPageCnt + ", threads=" + cfg.getThreads() + ']');
+        }
+
+        if (loadParts.isEmpty())
+            return;
+
+        PageMemoryEx pageMem = (PageMemoryEx)region.pageMemory();
+
+        AtomicLong loadedPageCnt = new AtomicLong();
+
+        IgniteThreadPoolExecutor exec = new IgniteThreadPoolExecutor(
+            "hot-pages-warm-up",
+            ctx.igniteInstanceName(),
+            cfg.getThreads(),
+            cfg.getThreads(),
+            30_000,
+            new LinkedBlockingQueue<>()
+        );
+
+        try {
+            List<Future<?>> futs = new ArrayList<>(loadParts.size());
+
+            for (Map.Entry<GroupPartitionId, int[]> e : loadParts.entrySet()) {
+                futs.add(exec.submit(() -> {
+                    loadPartition(pageMem, e.getKey(), e.getValue(), loadedPageCnt);
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> fut : futs)
+                fut.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new IgniteInterruptedCheckedException(e);
+        }
+        catch (ExecutionException e) {
+            throw new IgniteCheckedException("Failed to load hot pages into data region [name=" +
+                region.config().getName() + ']', e.getCause());
+        }
+        finally {
+            exec.shutdownNow();
+
+            if (stop && log.isInfoEnabled()) {
+                log.info("Stop hot pages warm-up of data region [name=" + region.config().getName() +
+                    ", pageCnt=" + loadedPageCnt.get() + ", remainingPageCnt=" + (pageCnt - loadedPageCnt.get()) + ']');
+            }
+        }
+    }
+
+    /**
+     * Loads pages of the partition in order of their indexes.
+     *
+     * @param pageMem Page memory.
+     * @param part Partition.
+     * @param idxs Sorted page indexes.
+     * @param loadedPageCnt Counter of loaded pages.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void loadPartition(
+        PageMemoryEx pageMem,
+        GroupPartitionId part,
+        int[] idxs,
+        AtomicLong loadedPageCnt
+    ) throws IgniteCheckedException {
+        int grpId = part.getGroupId();
+
+        for (int idx : idxs) {
+            if (stop)
+                return;
+
+            long pageId = pageId(part, idx);
+
+            long pagePtr = -1;
+
+            try {
+                pagePtr = pageMem.acquirePage(grpId, pageId);
+            }
+            finally {
+                if (pagePtr != -1)
+                    pageMem.releasePage(grpId, pageId, pagePtr);
+            }
+
+            loadedPageCnt.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param part Partition.
+     * @param idx Page index.
+     * @return Page ID, index partition pages have index flag.
+     */
+    static long pageId(GroupPartitionId part, int idx) {
+        int partId = part.getPartitionId();
+
+        return PageIdUtils.pageId(partId, partId == INDEX_PARTITION ? FLAG_IDX : FLAG_DATA, idx);
+    }
+
+    /**
+     * Getting count of pages available for loading into data region.
+     *
+     * @param region Data region.
+     * @return Count(non-negative) of pages available for loading into data region.
+     */
+    private long availableLoadPageCount(DataRegion region) {
+        long maxSize = region.config().getMaxSize();
+        long curSize = region.pageMemory().loadedPages() * region.pageMemory().systemPageSize();
+
+        return Math.max(0, (maxSize - curSize) / region.pageMemory().systemPageSize());
+    }
+
+    /**
+     * @param pageStore Page store manager.
+     * @param region Data region.
+     * @return Snapshot file of data region.
+     */
+    static File snapshotFile(FilePageStoreManager pageStore, DataRegion region) {
+        return new File(pageStore.workDir(),
+            SNAPSHOT_FILE_PREFIX + U.maskForFileName(region.config().getName()) + SNAPSHOT_FILE_EXT);
+    }
+
+    /**
+     * Saves snapshot of pages resident in data region.
+     *
+     * @param region Data region.
+     * @param file Snapshot file.
+     * @return Count of pages in snapshot.
+     * @throws IOException If failed.
+     */
+    static long writeSnapshot(DataRegion region, File file) throws IOException {
+        Map<GroupPartitionId, GridIntList> pages = new TreeMap<>();
+
+        ((PageMemoryEx)region.pageMemory()).forEachLoadedPage(fullId -> {
+            long pageId = fullId.pageId();
+
+            pages.computeIfAbsent(new GroupPartitionId(fullId.groupId(), PageIdUtils.partId(pageId)),
+                k -> new GridIntList()).add(PageIdUtils.pageIndex(pageId));
+        });
+
+        File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+
+        long pageCnt = 0;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VER);
+            out.writeInt(pages.size());
+
+            for (Map.Entry<GroupPartitionId, GridIntList> e : pages.entrySet()) {
+                GridIntList idxs = e.getValue().sort();
+
+                out.writeInt(e.getKey().getGroupId());
+                out.writeInt(e.getKey().getPartitionId());
+                out.writeInt(idxs.size());
+
+                for (int i = 0; i < idxs.size(); i++)
+                    out.writeInt(idxs.get(i));
+
+                pageCnt += idxs.size();
+            }
+        }
+
+        Files.move(tmp.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+
+        return pageCnt;
+    }
+
+    /**
+     * Reads snapshot of pages resident in data region.
+     *
+     * @param file Snapshot file.
+     * @return Sorted page indexes by partitions.
+     * @throws IOException If failed.
+     */
+    static Map<GroupPartitionId, int[]> readSnapshot(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int magic = in.readInt();
+            int ver = in.readInt();
+
+            if (magic != SNAPSHOT_MAGIC || ver != SNAPSHOT_VER)
+                throw new IOException("Unsupported hot pages snapshot [magic=" + magic + ", ver=" + ver + ']');
+
+            int partCnt = in.readInt();
+
+            Map<GroupPartitionId, int[]> pages = new TreeMap<>();
+
+            for (int i = 0; i < partCnt; i++) {
+                int grpId = in.readInt();
+                int partId = in.readInt();
+
+                int[] idxs = new int[in.readInt()];
+
+                for (int j = 0; j < idxs.length; j++)
+                    idxs[j] = in.readInt();
+
+                Arrays.sort(idxs);
+
+                pages.put(new GroupPartitionId(grpId, partId), idxs);
+            }
+
+            return pages;
+        }
+    }
+
+    /**
+     * Checkpoint listener saving snapshots of pages resident in data region.
+     */
+    private class SnapshotWriter implements CheckpointListener {
+        /** Warm-up configuration. */
+        private final HotPagesWarmUpConfiguration cfg;
+
+        /** Data region. */
+        private final DataRegion region;
+
+        /** Snapshot file. */
+        private final File file;
+
+        /** Timestamp of the last snapshot. */
+        private long lastSnapshotTs = U.currentTimeMillis();
+
+        /** Whether a snapshot is being saved in the system pool. */
+        private final AtomicBoolean saving = new AtomicBoolean();
+
+        /**
+         * @param cfg Warm-up configuration.
+         * @param region Data region.
+         * @param file Snapshot file.
+         */
+        SnapshotWriter(HotPagesWarmUpConfiguration cfg, DataRegion region, File file) {
+            this.cfg = cfg;
+            this.region = region;
+            this.file = file;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onMarkCheckpointBegin(Context ctx) {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onCheckpointBegin(Context ctx) {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override public void beforeCheckpointBegin(Context ctx) {
+            // No-op.
+        }
+
+        /** {@inheritDoc} */
+        @Override public void afterCheckpointEnd(Context cpCtx) {
+            long now = U.currentTimeMillis();
+
+            // The last checkpoint on node stop always saves snapshot, in the checkpointer thread since pools stop.
+            if (ctx.isStopping()) {
+                saveSnapshot();
+
+                return;
+            }
+
+            if (now - lastSnapshotTs < cfg.getSnapshotFrequency())
+                return;
+
+            // Skip the snapshot if the previous one is still being saved.
+            if (!saving.compareAndSet(false, true))
+                return;
+
+            lastSnapshotTs = now;
+
+            try {
+                ctx.pools().getSystemExecutorService().execute(() -> {
+                    try {
+                        saveSnapshot();
+                    }
+                    finally {
+                        saving.set(false);
+                    }
+                });
+            }
+            catch (RejectedExecutionException ignored) {
+                // Node is stopping, the snapshot is saved on the last checkpoint.
+                saving.set(false);
+            }
+        }
+
+        /**
+         * Saves snapshot of pages resident in data region.
+         */
+        private synchronized void saveSnapshot() {
+            long start = U.currentTimeMillis();
+
+            try {
+                long pageCnt = writeSnapshot(region, file);
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Hot pages snapshot saved [region=" + region.config().getName() +
+                        ", pageCnt=" + pageCnt + ", time=" + (U.currentTimeMillis() - start) + "ms]");
+                }
+            }
+            catch (IOException e) {
+                U.warn(log, "Failed to save hot pages snapshot [region=" + region.config().getName() +
+                    ", file=" + file.getAbsolutePath() + ']', e);
+            }
+        }
+    }
+}
@@ -170,6 +170,30 @@ public class CompressionProcessor extends GridProcessorAdapter {
         return fail();
     }
 
+    /**
+     * @param data Data to compress.
+     * @param compression Compression algorithm.
+     * @param compressLevel Compression level.
+     * @return Compressed data.
+     * @throws IgniteCheckedException If failed.
+     */
+    public byte[] compress(byte[] data, DiskPageCompression compression, int compressLevel)
+        throws IgniteCheckedException {
+        return fail();
+    }
+
+    /**
+     * @param data Compressed data.
+     * @param plainSize Size of decompressed data.
+     * @param compression Compression algorithm.
+     * @return Decompressed data.
+     * @throws IgniteCheckedException If failed.
+     */
+    public byte[] decompress(byte[] data, int plainSize, DiskPageCompression compression)
+        throws IgniteCheckedException {
+        return fail();
+    }
+
     /**
      * @param page Possibly compressed page buffer.
      * @param pageSize Page size.
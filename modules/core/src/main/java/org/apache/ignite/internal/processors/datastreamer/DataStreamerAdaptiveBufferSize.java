@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.datastreamer;
+
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Size of the batches sent to a node, which is adapted to the rate at which the node completes them. The size is
+ * tuned by hill climbing: every window of completed batches it is changed by a step in the current direction,
+ * the direction is kept while the rate grows and is reversed when the rate drops.
+ */
+class DataStreamerAdaptiveBufferSize {
+    /** Multiplier of the size change. */
+    static final double STEP = 1.25;
+
+    /** Number of completed batches to measure the rate for the current size. */
+    static final int WINDOW = 8;
+
+    /** Relative change of the rate which is treated as noise. */
+    private static final double TOLERANCE = 0.05;
+
+    /** Minimal size. */
+    private final int minSize;
+
+    /** Maximal size. */
+    private final int maxSize;
+
+    /** Current size. */
+    private volatile int size;
+
+    /** {@code True} if the size is growing. */
+    private boolean grow = true;
+
+    /** Start of the current window in nanoseconds. */
+    private long windowStart;
+
+    /** Batches completed in the current window. */
+    private int windowBatches;
+
+    /** Entries completed in the current window. */
+    private long windowEntries;
+
+    /** Rate of the previous window in entries per nanosecond. */
+    private double prevRate;
+
+    /**
+     * @param initSize Initial size.
+     * @param now Current time in nanoseconds.
+     */
+    DataStreamerAdaptiveBufferSize(int initSize, long now) {
+        assert initSize > 0 : initSize;
+
+        minSize = Math.max(1, initSize >> 3);
+        maxSize = initSize << 3;
+        size = initSize;
+        windowStart = now;
+    }
+
+    /**
+     * @return Current size.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param entries Number of entries of the completed batch.
+     * @param now Current time in nanoseconds.
+     */
+    synchronized void onBatchCompleted(int entries, long now) {
+        windowEntries += entries;
+
+        if (++windowBatches < WINDOW)
+            return;
+
+        long elapsed = now - windowStart;
+
+        if (elapsed <= 0)
+            return;
+
+        double rate = (double)windowEntries / elapsed;
+
+        if (prevRate > 0) {
+            if (rate < prevRate * (1 - TOLERANCE))
+                grow = !grow;
+            else if (rate <= prevRate * (1 + TOLERANCE)) {
+                // No notable change, keep the size.
+                resetWindow(now);
+
+                prevRate = rate;
+
+                return;
+            }
+        }
+
+        prevRate = rate;
+
+        int size0 = grow ? (int)Math.ceil(size * STEP) : (int)(size / STEP);
+
+        size = Math.max(minSize, Math.min(maxSize, size0));
+
+        resetWindow(now);
+    }
+
+    /**
+     * @param now Current time in nanoseconds.
+     */
+    private void resetWindow(long now) {
+        windowStart = now;
+        windowBatches = 0;
+        windowEntries = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(DataStreamerAdaptiveBufferSize.class, this);
+    }
+}
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -178,6 +179,9 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
     /** */
     private int parallelOps;
 
+    /** Adaptive per-node buffer size flag. */
+    private boolean adaptiveBufSize;
+
     /** */
     private long timeout = DFLT_UNLIMIT_TIMEOUT;
 
@@ -553,6 +557,16 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
         this.parallelOps = parallelOps;
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean adaptiveBufferSize() {
+        return adaptiveBufSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void adaptiveBufferSize(boolean adaptiveBufSize) {
+        this.adaptiveBufSize = adaptiveBufSize;
+    }
+
     /** {@inheritDoc} */
     @Override public void timeout(long timeout) {
         if (timeout < -1 || timeout == 0)
@@ -1576,6 +1590,9 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
         /** */
         private final int perNodeParallelOps;
 
+        /** Adaptive batch size, {@code null} if batch size is fixed. */
+        @Nullable private final DataStreamerAdaptiveBufferSize adaptiveSize;
+
         /** Closure to signal on task finish. */
         @GridToStringExclude
         private final IgniteInClosure<IgniteInternalFuture<Object>> signalC =
@@ -1608,6 +1625,8 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
 
             sem = new Semaphore(perNodeParallelOps);
 
+            adaptiveSize = adaptiveBufSize ? new DataStreamerAdaptiveBufferSize(bufSize, System.nanoTime()) : null;
+
             stripes = (PerStripeBuffer[])Array.newInstance(PerStripeBuffer.class, streamerPoolSize);
 
             for (int i = 0; i < stripes.length; i++)
@@ -1673,7 +1692,7 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
 
                     b.entries.add(entry);
 
-                    if (b.entries.size() >= bufSize) {
+                    if (b.entries.size() >= batchSize()) {
                         entries0 = b.entries;
 
                         b.renewBatch(remap);
@@ -1720,6 +1739,13 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             return res;
         }
 
+        /**
+         * @return Number of entries of a stripe to send them to the node.
+         */
+        private int batchSize() {
+            return adaptiveSize != null ? adaptiveSize.size() : bufSize;
+        }
+
         /**
          * @return Future if any submitted.
          * @throws IgniteInterruptedCheckedException If thread has been interrupted.
@@ -1923,6 +1949,15 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
                 }
             }
 
+            if (adaptiveSize != null) {
+                int cnt = entries.size();
+
+                curFut.listen(f -> {
+                    if (f.error() == null)
+                        adaptiveSize.onBatchCompleted(cnt, System.nanoTime());
+                });
+            }
+
             IgniteInternalFuture<Object> fut;
 
             byte plc = DataStreamProcessor.ioPolicy(ioPlcRslvr, node);
@@ -2238,6 +2273,31 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
         /** */
         private static final long serialVersionUID = 0L;
 
+        /** Order of the entries in partition data trees, which are sorted by key hash code within a partition. */
+        private static final Comparator<Entry<KeyCacheObject, CacheObject>> TREE_ORDER =
+            Comparator.<Entry<KeyCacheObject, CacheObject>>comparingInt(e -> e.getKey().partition())
+                .thenComparingInt(e -> e.getKey().hashCode());
+
+        /**
+         * Sorts entries in the order of partition data trees, so that consecutive updates go to the same or
+         * adjacent tree pages. The sort is stable, so updates of the same key keep their order.
+         *
+         * @param entries Entries.
+         * @return Sorted entries.
+         */
+        private static Collection<Entry<KeyCacheObject, CacheObject>> sortByTreeOrder(
+            Collection<Entry<KeyCacheObject, CacheObject>> entries
+        ) {
+            if (entries.size() < 2)
+                return entries;
+
+            List<Entry<KeyCacheObject, CacheObject>> sorted = new ArrayList<>(entries);
+
+            sorted.sort(TREE_ORDER);
+
+            return sorted;
+        }
+
         /** {@inheritDoc} */
         @Override public void receive(
             IgniteCache<KeyCacheObject, CacheObject> cache,
@@ -2269,7 +2329,7 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
             try {
                 snapshotWarning(cctx);
 
-                for (Entry<KeyCacheObject, CacheObject> e : entries) {
+                for (Entry<KeyCacheObject, CacheObject> e : sortByTreeOrder(entries)) {
                     cctx.shared().database().checkpointReadLock();
 
                     try {
@@ -586,7 +586,7 @@ public class ClientMessageParser implements ClientListenerMessageParser {
                 return new ClientCacheQueryNextPageRequest(reader);
 
             case OP_QUERY_CONTINUOUS:
-                return new ClientCacheQueryContinuousRequest(reader);
+                return new ClientCacheQueryContinuousRequest(reader, protocolCtx);
 
             case OP_QUERY_INDEX:
                 return new ClientCacheIndexQueryRequest(reader, protocolCtx);
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.processors.platform.client.cache;
 
 import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.EventType;
 import org.apache.ignite.internal.binary.BinaryRawWriterEx;
 import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
 import org.apache.ignite.internal.processors.platform.client.ClientNotification;
+import org.apache.ignite.internal.util.typedef.T2;
 
 import static javax.cache.event.EventType.EXPIRED;
 import static javax.cache.event.EventType.REMOVED;
@@ -28,10 +30,13 @@ import static javax.cache.event.EventType.REMOVED;
 /**
  * Continuous query notification.
  */
-@SuppressWarnings("rawtypes")
+@SuppressWarnings({"rawtypes", "unchecked"})
 public class ClientCacheEntryEventNotification extends ClientNotification {
-    /** */
-    private final Iterable<CacheEntryEvent<?, ?>> evts;
+    /** Events or keys and types of the events. */
+    private final Iterable<?> evts;
+
+    /** Events are represented by keys and types, values are written as nulls. */
+    private final boolean keysOnly;
 
     /**
      * Ctor.
@@ -40,10 +45,22 @@ public class ClientCacheEntryEventNotification extends ClientNotification {
      * @param evts Events.
      */
     public ClientCacheEntryEventNotification(short opCode, long rsrcId, Iterable<CacheEntryEvent<?, ?>> evts) {
+        this(opCode, rsrcId, evts, false);
+    }
+
+    /**
+     * Ctor.
+     * @param opCode Operation code.
+     * @param rsrcId Resource ID.
+     * @param evts Events, or keys and types of the events if {@code keysOnly} is set.
+     * @param keysOnly Events are represented by keys and types.
+     */
+    public ClientCacheEntryEventNotification(short opCode, long rsrcId, Iterable<?> evts, boolean keysOnly) {
         super(opCode, rsrcId);
 
         assert evts != null;
         this.evts = evts;
+        this.keysOnly = keysOnly;
     }
 
     /** {@inheritDoc} */
@@ -53,12 +70,29 @@ public class ClientCacheEntryEventNotification extends ClientNotification {
         int pos = writer.reserveInt();
         int cnt = 0;
 
-        for (CacheEntryEvent evt : evts) {
-            writer.writeObjectDetached(evt.getKey());
-            writer.writeObjectDetached(evt.getOldValue());
-            writer.writeObjectDetached(evt.getEventType() == EXPIRED || evt.getEventType() == REMOVED ? null : evt.getValue());
+        for (Object e : evts) {
+            EventType evtType;
+
+            if (keysOnly) {
+                T2<Object, EventType> keyEvt = (T2<Object, EventType>)e;
+
+                evtType = keyEvt.get2();
+
+                writer.writeObjectDetached(keyEvt.get1());
+                writer.writeObjectDetached(null);
+                writer.writeObjectDetached(null);
+            }
+            else {
+                CacheEntryEvent evt = (CacheEntryEvent)e;
+
+                evtType = evt.getEventType();
+
+                writer.writeObjectDetached(evt.getKey());
+                writer.writeObjectDetached(evt.getOldValue());
+                writer.writeObjectDetached(evtType == EXPIRED || evtType == REMOVED ? null : evt.getValue());
+            }
 
-            switch (evt.getEventType()) {
+            switch (evtType) {
                 case CREATED:
                     writer.writeByte((byte)0);
                     break;
@@ -76,7 +110,7 @@ public class ClientCacheEntryEventNotification extends ClientNotification {
                     break;
 
                 default:
-                    throw new IllegalArgumentException("Unknown event type: " + evt.getEventType());
+                    throw new IllegalArgumentException("Unknown event type: " + evtType);
             }
 
             cnt++;
@@ -21,10 +21,12 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import javax.cache.event.CacheEntryEvent;
 import javax.cache.event.CacheEntryListenerException;
 import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.event.EventType;
 import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.internal.processors.platform.client.ClientCloseableResource;
 import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
 import org.apache.ignite.internal.processors.platform.client.ClientMessageParser;
+import org.apache.ignite.internal.util.typedef.T2;
 
 /**
  * Continuous query handle.
@@ -66,6 +68,22 @@ public class ClientCacheQueryContinuousHandle implements CacheEntryUpdatedListen
         ctx.notifyClient(notification);
     }
 
+    /**
+     * Listener of the query which sends keys and types of the events only.
+     *
+     * @param keyEvts Keys and types of the events.
+     */
+    public void onKeysUpdated(Iterable<? extends T2<Object, EventType>> keyEvts) {
+        // Client is not yet ready to receive notifications - skip them.
+        if (id == null)
+            return;
+
+        ClientCacheEntryEventNotification notification = new ClientCacheEntryEventNotification(
+                ClientMessageParser.OP_QUERY_CONTINUOUS_EVENT_NOTIFICATION, id, keyEvts, true);
+
+        ctx.notifyClient(notification);
+    }
+
     /**
      * Sets the cursor.
      * @param cur Cursor.
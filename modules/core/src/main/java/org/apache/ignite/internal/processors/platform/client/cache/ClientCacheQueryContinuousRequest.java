@@ -19,23 +19,31 @@ package org.apache.ignite.internal.processors.platform.client.cache;
 
 import javax.cache.configuration.Factory;
 import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
 import javax.cache.event.CacheEntryEventFilter;
+import javax.cache.event.EventType;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.binary.BinaryObject;
 import org.apache.ignite.cache.CacheEntryEventSerializableFilter;
+import org.apache.ignite.cache.query.AbstractContinuousQuery;
 import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.ContinuousQueryWithTransformer;
 import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.internal.binary.BinaryObjectImpl;
 import org.apache.ignite.internal.binary.BinaryRawReaderEx;
 import org.apache.ignite.internal.binary.GridBinaryMarshaller;
 import org.apache.ignite.internal.processors.platform.PlatformContext;
 import org.apache.ignite.internal.processors.platform.PlatformJavaObjectFactoryProxy;
+import org.apache.ignite.internal.processors.platform.client.ClientBitmaskFeature;
 import org.apache.ignite.internal.processors.platform.client.ClientConnectionContext;
 import org.apache.ignite.internal.processors.platform.client.ClientPlatform;
+import org.apache.ignite.internal.processors.platform.client.ClientProtocolContext;
 import org.apache.ignite.internal.processors.platform.client.ClientResponse;
 import org.apache.ignite.internal.processors.platform.client.ClientStatus;
 import org.apache.ignite.internal.processors.platform.client.IgniteClientException;
 import org.apache.ignite.internal.processors.platform.utils.PlatformUtils;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.lang.IgniteClosure;
 
 /**
  * Continuous query request.
@@ -43,7 +51,10 @@ import org.apache.ignite.internal.processors.platform.utils.PlatformUtils;
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ClientCacheQueryContinuousRequest extends ClientCacheRequest {
     /** Query. */
-    private final ContinuousQuery qry;
+    private final AbstractContinuousQuery qry;
+
+    /** Only keys and types of the events are sent to the client. */
+    private final boolean keysOnly;
 
     /** */
     private final Object filter;
@@ -55,8 +66,9 @@ public class ClientCacheQueryContinuousRequest extends ClientCacheRequest {
      * Ctor.
      *
      * @param reader Reader.
+     * @param protocolCtx Protocol context.
      */
-    public ClientCacheQueryContinuousRequest(BinaryRawReaderEx reader) {
+    public ClientCacheQueryContinuousRequest(BinaryRawReaderEx reader, ClientProtocolContext protocolCtx) {
         super(reader);
 
         int pageSize = reader.readInt();
@@ -66,11 +78,15 @@ public class ClientCacheQueryContinuousRequest extends ClientCacheRequest {
         filter = reader.readObjectDetached();
         filterPlatform = filter == null ? 0 : reader.readByte();
 
-        qry = new ContinuousQuery();
+        keysOnly = protocolCtx.isFeatureSupported(ClientBitmaskFeature.CONTINUOUS_QUERY_KEYS_ONLY) &&
+            reader.readBoolean();
+
+        // Values are stripped by the remote transformer on the nodes where the events happen.
+        qry = keysOnly ? new ContinuousQueryWithTransformer() : new ContinuousQuery();
 
-        qry.setPageSize(pageSize)
-            .setTimeInterval(timeInterval)
-            .setIncludeExpired(includeExpired);
+        qry.setPageSize(pageSize);
+        qry.setTimeInterval(timeInterval);
+        qry.setIncludeExpired(includeExpired);
     }
 
     /** {@inheritDoc} */
@@ -85,7 +101,14 @@ public class ClientCacheQueryContinuousRequest extends ClientCacheRequest {
                     : cache(ctx);
 
             ClientCacheQueryContinuousHandle handle = new ClientCacheQueryContinuousHandle(ctx);
-            qry.setLocalListener(handle);
+
+            if (keysOnly) {
+                ((ContinuousQueryWithTransformer)qry)
+                    .setRemoteTransformerFactory(FactoryBuilder.factoryOf(new KeyTransformer()))
+                    .setLocalListener(handle::onKeysUpdated);
+            }
+            else
+                ((ContinuousQuery)qry).setLocalListener(handle);
 
             QueryCursor cur = cache.query(qry);
             long cursorId = ctx.resources().put(handle);
@@ -144,4 +167,17 @@ public class ClientCacheQueryContinuousRequest extends ClientCacheRequest {
                 throw new IgniteClientException(ClientStatus.FAILED, "Unsupported filter platform: " + filterPlatform);
         }
     }
+
+    /**
+     * Transforms an event to the key and the type of the event.
+     */
+    private static class KeyTransformer implements IgniteClosure<CacheEntryEvent<?, ?>, T2<Object, EventType>> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** {@inheritDoc} */
+        @Override public T2<Object, EventType> apply(CacheEntryEvent<?, ?> evt) {
+            return new T2<>(evt.getKey(), evt.getEventType());
+        }
+    }
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.ExecutorConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.failure.FailureContext;
@@ -48,6 +49,7 @@ import org.apache.ignite.internal.processors.security.thread.SecurityAwareIoPool
 import org.apache.ignite.internal.processors.security.thread.SecurityAwareStripedExecutor;
 import org.apache.ignite.internal.processors.security.thread.SecurityAwareStripedThreadPoolExecutor;
 import org.apache.ignite.internal.processors.security.thread.SecurityAwareThreadPoolExecutor;
+import org.apache.ignite.internal.processors.security.thread.SecurityAwareVirtualThreadExecutor;
 import org.apache.ignite.internal.util.StripedExecutor;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.F;
@@ -60,9 +62,11 @@ import org.apache.ignite.plugin.extensions.communication.IoPool;
 import org.apache.ignite.spi.systemview.view.StripedExecutorTaskView;
 import org.apache.ignite.thread.IgniteStripedThreadPoolExecutor;
 import org.apache.ignite.thread.IgniteThreadPoolExecutor;
+import org.apache.ignite.thread.IgniteVirtualThreadExecutor;
 import org.apache.ignite.thread.SameThreadExecutor;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_STRIPED_POOL_TASKS_STEALING;
 import static org.apache.ignite.configuration.IgniteConfiguration.DFLT_THREAD_KEEP_ALIVE_TIME;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.SNAPSHOT_RUNNER_THREAD_PREFIX;
@@ -141,11 +145,11 @@ public class PoolProcessor extends GridProcessorAdapter {
 
     /** Executor service. */
     @GridToStringExclude
-    private ThreadPoolExecutor execSvc;
+    private ExecutorService execSvc;
 
     /** Executor service for services. */
     @GridToStringExclude
-    private ThreadPoolExecutor svcExecSvc;
+    private ExecutorService svcExecSvc;
 
     /** System executor service. */
     @GridToStringExclude
@@ -222,7 +226,10 @@ public class PoolProcessor extends GridProcessorAdapter {
     private final IoPool[] extPools = new IoPool[128];
 
     /** Custom named pools. */
-    private Map<String, ThreadPoolExecutor> customExecs;
+    private Map<String, ExecutorService> customExecs;
+
+    /** Pinning detection of virtual threads, {@code null} if there are no executors with virtual threads. */
+    private VirtualThreadPinningMonitor pinningMonitor;
 
     /**
      * Constructor.
@@ -278,33 +285,45 @@ public class PoolProcessor extends GridProcessorAdapter {
             }
         };
 
-        validateThreadPoolSize(cfg.getPublicThreadPoolSize(), "public");
+        Map<String, IgniteVirtualThreadExecutor> virtualExecs = new HashMap<>();
 
-        execSvc = createExecutorService(
-            "pub",
-            cfg.getIgniteInstanceName(),
-            cfg.getPublicThreadPoolSize(),
-            cfg.getPublicThreadPoolSize(),
-            DFLT_THREAD_KEEP_ALIVE_TIME,
-            new LinkedBlockingQueue<>(),
-            GridIoPolicy.PUBLIC_POOL,
-            oomeHnd);
+        if (cfg.isVirtualThreadsEnabled()) {
+            execSvc = createVirtualThreadExecutor("pub", cfg.getIgniteInstanceName(), oomeHnd, virtualExecs);
+            svcExecSvc = createVirtualThreadExecutor("svc", cfg.getIgniteInstanceName(), oomeHnd, virtualExecs);
+        }
+        else {
+            validateThreadPoolSize(cfg.getPublicThreadPoolSize(), "public");
 
-        execSvc.allowCoreThreadTimeOut(true);
+            IgniteThreadPoolExecutor execSvc0 = createExecutorService(
+                "pub",
+                cfg.getIgniteInstanceName(),
+                cfg.getPublicThreadPoolSize(),
+                cfg.getPublicThreadPoolSize(),
+                DFLT_THREAD_KEEP_ALIVE_TIME,
+                new LinkedBlockingQueue<>(),
+                GridIoPolicy.PUBLIC_POOL,
+                oomeHnd);
 
-        validateThreadPoolSize(cfg.getServiceThreadPoolSize(), "service");
+            execSvc0.allowCoreThreadTimeOut(true);
 
-        svcExecSvc = createExecutorService(
-            "svc",
-            cfg.getIgniteInstanceName(),
-            cfg.getServiceThreadPoolSize(),
-            cfg.getServiceThreadPoolSize(),
-            DFLT_THREAD_KEEP_ALIVE_TIME,
-            new LinkedBlockingQueue<>(),
-            GridIoPolicy.SERVICE_POOL,
-            oomeHnd);
+            execSvc = execSvc0;
+
+            validateThreadPoolSize(cfg.getServiceThreadPoolSize(), "service");
+
+            IgniteThreadPoolExecutor svcExecSvc0 = createExecutorService(
+                "svc",
+                cfg.getIgniteInstanceName(),
+                cfg.getServiceThreadPoolSize(),
+                cfg.getServiceThreadPoolSize(),
+                DFLT_THREAD_KEEP_ALIVE_TIME,
+                new LinkedBlockingQueue<>(),
+                GridIoPolicy.SERVICE_POOL,
+                oomeHnd);
+
+            svcExecSvc0.allowCoreThreadTimeOut(true);
 
-        svcExecSvc.allowCoreThreadTimeOut(true);
+            svcExecSvc = svcExecSvc0;
+        }
 
         validateThreadPoolSize(cfg.getSystemThreadPoolSize(), "system");
 
@@ -334,7 +353,8 @@ public class PoolProcessor extends GridProcessorAdapter {
                     ctx.failure().process(new FailureContext(SYSTEM_WORKER_TERMINATION, t));
                 }
             },
-            false,
+            IgniteSystemProperties.getBoolean(IGNITE_STRIPED_POOL_TASKS_STEALING),
+            true,
             workerRegistry,
             cfg.getFailureDetectionTimeout());
 
@@ -385,6 +405,7 @@ public class PoolProcessor extends GridProcessorAdapter {
                 }
             },
             true,
+            false,
             workerRegistry,
             cfg.getFailureDetectionTimeout());
 
@@ -568,19 +589,27 @@ public class PoolProcessor extends GridProcessorAdapter {
             customExecs = new HashMap<>();
 
             for (ExecutorConfiguration execCfg : cfg.getExecutorConfiguration()) {
-                ThreadPoolExecutor exec = createExecutorService(
-                    execCfg.getName(),
-                    cfg.getIgniteInstanceName(),
-                    execCfg.getSize(),
-                    execCfg.getSize(),
-                    DFLT_THREAD_KEEP_ALIVE_TIME,
-                    new LinkedBlockingQueue<>(),
-                    GridIoPolicy.UNDEFINED,
-                    oomeHnd);
+                ExecutorService exec = execCfg.isVirtualThreadsEnabled()
+                    ? createVirtualThreadExecutor(execCfg.getName(), cfg.getIgniteInstanceName(), oomeHnd, virtualExecs)
+                    : createExecutorService(
+                        execCfg.getName(),
+                        cfg.getIgniteInstanceName(),
+                        execCfg.getSize(),
+                        execCfg.getSize(),
+                        DFLT_THREAD_KEEP_ALIVE_TIME,
+                        new LinkedBlockingQueue<>(),
+                        GridIoPolicy.UNDEFINED,
+                        oomeHnd);
 
                 customExecs.put(execCfg.getName(), exec);
             }
         }
+
+        if (!virtualExecs.isEmpty()) {
+            pinningMonitor = new VirtualThreadPinningMonitor(virtualExecs, log);
+
+            pinningMonitor.start();
+        }
     }
 
     /** {@inheritDoc} */
@@ -588,6 +617,12 @@ public class PoolProcessor extends GridProcessorAdapter {
         // Avoid external thread pools GC retention.
         Arrays.fill(extPools, null);
 
+        if (pinningMonitor != null) {
+            pinningMonitor.stop();
+
+            pinningMonitor = null;
+        }
+
         stopExecutors(log);
     }
 
@@ -1045,7 +1080,7 @@ public class PoolProcessor extends GridProcessorAdapter {
         reencryptExecSvc = null;
 
         if (!F.isEmpty(customExecs)) {
-            for (ThreadPoolExecutor exec : customExecs.values())
+            for (ExecutorService exec : customExecs.values())
                 U.shutdownNow(getClass(), exec, log);
 
             customExecs = null;
@@ -1124,6 +1159,7 @@ public class PoolProcessor extends GridProcessorAdapter {
         final IgniteLogger log,
         IgniteInClosure<Throwable> errHnd,
         boolean stealTasks,
+        boolean stealableOnly,
         GridWorkerListener gridWorkerLsnr,
         long failureDetectionTimeout
     ) {
@@ -1136,9 +1172,35 @@ public class PoolProcessor extends GridProcessorAdapter {
                 log,
                 errHnd,
                 stealTasks,
+                stealableOnly,
                 gridWorkerLsnr,
                 failureDetectionTimeout)
-            : new StripedExecutor(cnt, igniteInstanceName, poolName, log, errHnd, stealTasks, gridWorkerLsnr, failureDetectionTimeout);
+            : new StripedExecutor(cnt, igniteInstanceName, poolName, log, errHnd, stealTasks, stealableOnly,
+                gridWorkerLsnr, failureDetectionTimeout);
+    }
+
+    /**
+     * Creates instance {@link IgniteVirtualThreadExecutor} with a notion of whether {@link IgniteSecurity} is enabled.
+     *
+     * @param threadName Thread name.
+     * @param igniteInstanceName Ignite instance name.
+     * @param eHnd Uncaught exception handler.
+     * @param virtualExecs Executors with virtual threads by names to add the created executor to.
+     * @return Executor.
+     */
+    private IgniteVirtualThreadExecutor createVirtualThreadExecutor(
+        String threadName,
+        String igniteInstanceName,
+        UncaughtExceptionHandler eHnd,
+        Map<String, IgniteVirtualThreadExecutor> virtualExecs
+    ) {
+        IgniteVirtualThreadExecutor exec = ctx.security().enabled()
+            ? new SecurityAwareVirtualThreadExecutor(ctx.security(), threadName, igniteInstanceName, eHnd)
+            : new IgniteVirtualThreadExecutor(threadName, igniteInstanceName, eHnd);
+
+        virtualExecs.put(threadName, exec);
+
+        return exec;
     }
 
     /** Creates instance {@link IgniteThreadPoolExecutor} with a notion of whether {@link IgniteSecurity} is enabled. */
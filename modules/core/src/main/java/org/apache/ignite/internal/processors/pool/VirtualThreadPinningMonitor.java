@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.pool;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.LT;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteVirtualThreadExecutor;
+
+/**
+ * Detects pinnings of virtual threads to their carrier threads. A virtual thread blocked inside a {@code synchronized}
+ * block or a native frame can't release its carrier thread, which reduces the parallelism of all virtual threads.
+ * <p>
+ * Pinnings are reported by the JFR {@code jdk.VirtualThreadPinned} event, which is consumed using the JFR event
+ * streaming. The API is available since Java 14 only, so it is accessed using reflection.
+ */
+class VirtualThreadPinningMonitor {
+    /** JFR event of virtual thread pinning. */
+    private static final String PINNED_EVT = "jdk.VirtualThreadPinned";
+
+    /** Minimal duration of reported pinnings, the same as the default threshold of the event. */
+    private static final Duration THRESHOLD = Duration.ofMillis(20);
+
+    /** Executors by names. */
+    private final Map<String, IgniteVirtualThreadExecutor> execs;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** JFR recording stream. */
+    private AutoCloseable stream;
+
+    /**
+     * @param execs Executors by names.
+     * @param log Logger.
+     */
+    VirtualThreadPinningMonitor(Map<String, IgniteVirtualThreadExecutor> execs, IgniteLogger log) {
+        this.execs = execs;
+        this.log = log;
+    }
+
+    /**
+     * Starts the detection, if JFR event streaming is available.
+     */
+    void start() {
+        try {
+            Class<?> streamCls = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> settingsCls = Class.forName("jdk.jfr.EventSettings");
+            Class<?> evtCls = Class.forName("jdk.jfr.consumer.RecordedEvent");
+
+            Method getThread = evtCls.getMethod("getThread");
+            Method getDuration = evtCls.getMethod("getDuration");
+            Method getJavaName = Class.forName("jdk.jfr.consumer.RecordedThread").getMethod("getJavaName");
+
+            Object stream0 = streamCls.getConstructor().newInstance();
+
+            Object settings = streamCls.getMethod("enable", String.class).invoke(stream0, PINNED_EVT);
+
+            settingsCls.getMethod("withThreshold", Duration.class).invoke(settings, THRESHOLD);
+            settingsCls.getMethod("withStackTrace").invoke(settings);
+
+            Consumer<Object> hnd = evt -> {
+                try {
+                    Object thread = getThread.invoke(evt);
+
+                    if (thread == null)
+                        return;
+
+                    onPinned((String)getJavaName.invoke(thread), (Duration)getDuration.invoke(evt), evt);
+                }
+                catch (ReflectiveOperationException e) {
+                    LT.warn(log, "Failed to process virtual thread pinning event: " + e);
+                }
+            };
+
+            streamCls.getMethod("onEvent", String.class, Consumer.class).invoke(stream0, PINNED_EVT, hnd);
+            streamCls.getMethod("startAsync").invoke(stream0);
+
+            stream = (AutoCloseable)stream0;
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            U.warn(log, "Virtual threads pinning detection is not available, JFR event streaming isn't " +
+                "supported by the JVM: " + e);
+        }
+    }
+
+    /**
+     * @param threadName Name of the pinned virtual thread.
+     * @param duration Pinning duration.
+     * @param evt JFR event.
+     */
+    private void onPinned(String threadName, Duration duration, Object evt) {
+        if (threadName == null)
+            return;
+
+        for (Map.Entry<String, IgniteVirtualThreadExecutor> e : execs.entrySet()) {
+            if (!e.getValue().isOwnThread(threadName))
+                continue;
+
+            e.getValue().onPinned(duration.toMillis());
+
+            LT.warn(log, "Virtual thread was pinned to its carrier thread, blocking inside synchronized blocks " +
+                "and native frames should be avoided by tasks of the executor (enable DEBUG logging level " +
+                "to see the stack traces) [executor=" + e.getKey() + ']');
+
+            if (log.isDebugEnabled())
+                log.debug("Virtual thread was pinned to its carrier thread: " + evt);
+
+            return;
+        }
+    }
+
+    /**
+     * Stops the detection.
+     */
+    void stop() {
+        if (stream == null)
+            return;
+
+        try {
+            stream.close();
+        }
+        catch (Exception e) {
+            U.warn(log, "Failed to stop virtual threads pinning detection: " + e);
+        }
+
+        stream = null;
+    }
+}
@@ -65,9 +65,28 @@ public class SecurityAwareStripedExecutor extends StripedExecutor {
         this.security = security;
     }
 
+    /** */
+    public SecurityAwareStripedExecutor(
+        IgniteSecurity security,
+        int cnt,
+        String igniteInstanceName,
+        String poolName,
+        IgniteLogger log,
+        IgniteInClosure<Throwable> errHnd,
+        boolean stealTasks,
+        boolean stealableOnly,
+        GridWorkerListener gridWorkerLsnr,
+        long failureDetectionTimeout
+    ) {
+        super(cnt, igniteInstanceName, poolName, log, errHnd, stealTasks, stealableOnly, gridWorkerLsnr,
+            failureDetectionTimeout);
+
+        this.security = security;
+    }
+
     /** {@inheritDoc} */
-    @Override public void execute(int idx, Runnable cmd) {
-        super.execute(idx, SecurityAwareRunnable.of(security, cmd));
+    @Override public void execute(int idx, Runnable cmd, boolean stealable) {
+        super.execute(idx, SecurityAwareRunnable.of(security, cmd), stealable);
     }
 
     /** {@inheritDoc} */
@@ -34,6 +34,9 @@ import org.apache.ignite.internal.util.typedef.internal.S;
  * p3 = new Pair<3, [200, 100]> <br>
  * and further sequence of {@code poll} or {@code forEach} calls may produce output like: <br>
  * [3, 200], [3, 100], [1, 1], [1, 3], [1, 5], [1, 7], [2, 2], [2, 3]
+ * <p>
+ * In segment affine mode every key array is claimed as a whole by the first {@link Result} which reaches it, so
+ * all values of one array are polled through the same {@link Result} instance (i.e. the same consumer).
  *
  * @param <K> The type of key in input pair collection.
  * @param <V> The type of value array.
@@ -58,8 +61,16 @@ public class GridConcurrentMultiPairQueue<K, V> {
     /** Keys array. */
     private final K[] keysArr;
 
+    /** Whether every key array is polled by a single consumer. */
+    private final boolean segmentAffine;
+
+    /** Next segment to claim in segment affine mode. */
+    private final AtomicInteger segPos = new AtomicInteger();
+
     /** */
     public GridConcurrentMultiPairQueue(Map<K, ? extends Collection<V>> items) {
+        segmentAffine = false;
+
         int pairCnt = (int)items.entrySet().stream().map(Map.Entry::getValue).filter(k -> k.size() > 0).count();
 
         vals = (V[][])new Object[pairCnt][];
@@ -88,6 +99,16 @@ public class GridConcurrentMultiPairQueue<K, V> {
 
     /** */
     public GridConcurrentMultiPairQueue(Collection<T2<K, V[]>> items) {
+        this(items, false);
+    }
+
+    /**
+     * @param items Key arrays.
+     * @param segmentAffine If {@code true} every key array is polled as a whole by a single consumer.
+     */
+    public GridConcurrentMultiPairQueue(Collection<T2<K, V[]>> items, boolean segmentAffine) {
+        this.segmentAffine = segmentAffine;
+
         int pairCnt = (int)items.stream().map(Map.Entry::getValue).filter(k -> k.length > 0).count();
 
         vals = (V[][])new Object[pairCnt][];
@@ -121,6 +142,9 @@ public class GridConcurrentMultiPairQueue<K, V> {
      * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
      */
     public boolean next(Result<K, V> res) {
+        if (segmentAffine)
+            return nextAffine(res);
+
         int absPos = pos.getAndIncrement();
 
         if (absPos >= maxPos) {
@@ -146,6 +170,39 @@ public class GridConcurrentMultiPairQueue<K, V> {
         return true;
     }
 
+    /**
+     * Polls the next value of the key array owned by {@code res}, claiming a new array when the owned one is
+     * exhausted.
+     *
+     * @param res Result holder, owns the current key array.
+     * @return {@code true} if {@link #next} return non empty result, or {@code false} if this queue is empty
+     */
+    private boolean nextAffine(Result<K, V> res) {
+        int segment = res.getSegment();
+
+        int relPos = res.relPos + 1;
+
+        if (res.relPos < 0 || relPos >= vals[segment].length) {
+            segment = segPos.getAndIncrement();
+
+            if (segment >= vals.length) {
+                res.set(null, null, 0);
+
+                return false;
+            }
+
+            relPos = 0;
+        }
+
+        pos.getAndIncrement();
+
+        res.set(keysArr[segment], vals[segment][relPos], segment);
+
+        res.relPos = relPos;
+
+        return true;
+    }
+
     /**
      * @return {@code true} if empty.
      */
@@ -171,11 +228,15 @@ public class GridConcurrentMultiPairQueue<K, V> {
         /** Value holeder. */
         private V val;
 
+        /** Position inside the owned segment in segment affine mode, {@code -1} if no segment is owned. */
+        private int relPos = -1;
+
         /** Current state setter. */
         public void set(K k, V v, int seg) {
             key = k;
             val = v;
             segment = seg;
+            relPos = -1;
         }
 
         /** Current segment. */
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Callable;
@@ -49,6 +50,7 @@ import org.apache.ignite.internal.util.worker.GridWorkerListener;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import static java.util.stream.IntStream.range;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD;
@@ -117,6 +119,32 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
         boolean stealTasks,
         GridWorkerListener gridWorkerLsnr,
         long failureDetectionTimeout
+    ) {
+        this(cnt, igniteInstanceName, poolName, log, errHnd, stealTasks, false, gridWorkerLsnr,
+            failureDetectionTimeout);
+    }
+
+    /**
+     * @param cnt Count.
+     * @param igniteInstanceName Node name.
+     * @param poolName Pool name.
+     * @param log Logger.
+     * @param errHnd Critical failure handler.
+     * @param stealTasks {@code True} to steal tasks.
+     * @param stealableOnly {@code True} to steal only tasks submitted as stealable and only from busy stripes,
+     *      {@code false} to steal any task from stripes which queue size exceeds the threshold.
+     * @param gridWorkerLsnr listener to link with every stripe worker.
+     */
+    public StripedExecutor(
+        int cnt,
+        String igniteInstanceName,
+        String poolName,
+        final IgniteLogger log,
+        IgniteInClosure<Throwable> errHnd,
+        boolean stealTasks,
+        boolean stealableOnly,
+        GridWorkerListener gridWorkerLsnr,
+        long failureDetectionTimeout
     ) {
         A.ensure(cnt > 0, "cnt > 0");
 
@@ -133,7 +161,8 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
         try {
             for (int i = 0; i < cnt; i++) {
                 stripes[i] = stealTasks
-                    ? new StripeConcurrentQueue(igniteInstanceName, poolName, i, log, stripes, errHnd, gridWorkerLsnr, execTime)
+                    ? new StripeConcurrentQueue(igniteInstanceName, poolName, i, log, stripes, stealableOnly, errHnd,
+                        gridWorkerLsnr, execTime)
                     : new StripeConcurrentQueue(igniteInstanceName, poolName, i, log, errHnd, gridWorkerLsnr, execTime);
             }
 
@@ -217,12 +246,25 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
      * @param cmd Command.
      */
     public void execute(int idx, Runnable cmd) {
+        execute(idx, cmd, false);
+    }
+
+    /**
+     * Execute command. Stealable command is not sensitive to the ordering within the stripe, so it may be executed
+     * by another stripe if tasks stealing is enabled. Note, that {@link #awaitComplete(int...)} doesn't wait for
+     * stolen commands.
+     *
+     * @param idx Index.
+     * @param cmd Command.
+     * @param stealable {@code True} if the command may be executed by another stripe.
+     */
+    public void execute(int idx, Runnable cmd, boolean stealable) {
         if (idx == -1)
             execute(cmd);
         else {
             assert idx >= 0 : idx;
 
-            stripes[idx % stripes.length].execute(cmd);
+            stripes[idx % stripes.length].execute(cmd, stealable);
         }
     }
 
@@ -233,7 +275,8 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
 
     /** {@inheritDoc} */
     @Override public void execute(@NotNull Runnable cmd) {
-        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].execute(cmd);
+        // Command without a stripe is not sensitive to the ordering by definition.
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].execute(cmd, true);
     }
 
     /**
@@ -348,6 +391,30 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
         return res;
     }
 
+    /**
+     * @return Count of tasks stolen from other stripes.
+     */
+    public long stolenTasks() {
+        long cnt = 0;
+
+        for (Stripe stripe : stripes)
+            cnt += stripe.stolenCnt;
+
+        return cnt;
+    }
+
+    /**
+     * @return Count of tasks stolen from other stripes per stripe.
+     */
+    public long[] stripesStolenTasks() {
+        long[] res = new long[stripesCount()];
+
+        for (int i = 0; i < res.length; i++)
+            res[i] = stripes[i].stolenCnt;
+
+        return res;
+    }
+
     /**
      * @return Number of active tasks per stripe.
      */
@@ -509,6 +576,15 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
             long[].class,
             "Number of completed tasks per stripe.");
 
+        mreg.register("TotalStolenTasksCount",
+            this::stolenTasks,
+            "Count of tasks stolen from other stripes of all stripes.");
+
+        mreg.register("StripesStolenTasksCounts",
+            this::stripesStolenTasks,
+            long[].class,
+            "Count of tasks stolen from other stripes per stripe.");
+
         mreg.register("ActiveCount",
             this::activeStripesCount,
             "Number of active tasks of all stripes.");
@@ -554,6 +630,9 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
         /** */
         private volatile long completedCnt;
 
+        /** Count of tasks stolen from other stripes. */
+        protected volatile long stolenCnt;
+
         /** */
         private volatile boolean active;
 
@@ -668,8 +747,9 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
          * Execute the command.
          *
          * @param cmd Command.
+         * @param stealable {@code True} if the command may be executed by another stripe.
          */
-        abstract void execute(Runnable cmd);
+        abstract void execute(Runnable cmd, boolean stealable);
 
         /**
          * @return Next runnable.
@@ -714,6 +794,9 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
             IgniteSystemProperties.getInteger(IGNITE_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD,
                 DFLT_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD);
 
+        /** Maximum number of tasks from the tail of other stripe's queue checked for a stealable one. */
+        private static final int STEALABLE_SCAN_LIMIT = 64;
+
         /** Queue. */
         private final Queue<Runnable> queue;
 
@@ -721,6 +804,9 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
         @GridToStringExclude
         private final Stripe[] others;
 
+        /** Only tasks submitted as stealable may be stolen. */
+        private final boolean stealableOnly;
+
         /** */
         private volatile boolean parked;
 
@@ -742,7 +828,7 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
             GridWorkerListener gridWorkerLsnr,
             HistogramMetricImpl execTime
         ) {
-            this(igniteInstanceName, poolName, idx, log, null, errHnd, gridWorkerLsnr, execTime);
+            this(igniteInstanceName, poolName, idx, log, null, false, errHnd, gridWorkerLsnr, execTime);
         }
 
         /**
@@ -750,6 +836,8 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
          * @param poolName Pool name.
          * @param idx Stripe index.
          * @param log Logger.
+         * @param others Stripes to steal tasks from, {@code null} if tasks stealing is disabled.
+         * @param stealableOnly Only tasks submitted as stealable may be stolen.
          * @param errHnd Critical failure handler.
          * @param gridWorkerLsnr listener to link with stripe worker.
          * @param execTime Task execution time metric.
@@ -760,6 +848,7 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
             int idx,
             IgniteLogger log,
             Stripe[] others,
+            boolean stealableOnly,
             IgniteInClosure<Throwable> errHnd,
             GridWorkerListener gridWorkerLsnr,
             HistogramMetricImpl execTime
@@ -774,6 +863,7 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
                 execTime);
 
             this.others = others;
+            this.stealableOnly = stealableOnly;
 
             this.queue = others == null ? new ConcurrentLinkedQueue<Runnable>() : new ConcurrentLinkedDeque<Runnable>();
         }
@@ -804,11 +894,10 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
                         int cur = init;
 
                         while (true) {
-                            if (cur != idx) {
-                                Deque<Runnable> queue = (Deque<Runnable>)((StripeConcurrentQueue)others[cur]).queue;
+                            if (cur != idx && (r = steal(others[cur])) != null) {
+                                stolenCnt++;
 
-                                if (queue.size() > IGNITE_TASKS_STEALING_THRESHOLD && (r = queue.pollLast()) != null)
-                                    return r;
+                                return r;
                             }
 
                             if ((cur = (cur + 1) % len) == init)
@@ -827,17 +916,69 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
             }
         }
 
+        /**
+         * @param other Stripe to steal a task from.
+         * @return Stolen task or {@code null} if there is no task to steal.
+         */
+        @Nullable private Runnable steal(Stripe other) {
+            Deque<Runnable> queue = (Deque<Runnable>)((StripeConcurrentQueue)other).queue;
+
+            if (!stealableOnly)
+                return queue.size() > IGNITE_TASKS_STEALING_THRESHOLD ? queue.pollLast() : null;
+
+            // Stealable task waits only if the stripe is busy with another task.
+            if (!other.active)
+                return null;
+
+            Iterator<Runnable> it = queue.descendingIterator();
+
+            for (int i = 0; i < STEALABLE_SCAN_LIMIT && it.hasNext(); i++) {
+                Runnable r = it.next();
+
+                // Removal fails if the task is concurrently taken by the owner or another stripe.
+                if (r instanceof StealableTask && queue.removeLastOccurrence(r))
+                    return r;
+            }
+
+            return null;
+        }
+
         /** {@inheritDoc} */
-        @Override void execute(Runnable cmd) {
-            queue.add(cmd);
+        @Override void execute(Runnable cmd, boolean stealable) {
+            boolean wakeOther = false;
+
+            if (others == null)
+                queue.add(cmd);
+            else if (!stealableOnly) {
+                queue.add(cmd);
+
+                wakeOther = queueSize() > IGNITE_TASKS_STEALING_THRESHOLD;
+            }
+            else if (stealable) {
+                queue.add(new StealableTask(cmd));
+
+                wakeOther = true;
+            }
+            else
+                queue.add(cmd);
 
-            if (parked)
+            if (parked) {
                 LockSupport.unpark(thread);
 
-            if (others != null && queueSize() > IGNITE_TASKS_STEALING_THRESHOLD) {
+                // Parked stripe will take the task itself.
+                if (stealableOnly)
+                    return;
+            }
+
+            if (wakeOther) {
                 for (Stripe other : others) {
-                    if (((StripeConcurrentQueue)other).parked)
+                    if (other != this && ((StripeConcurrentQueue)other).parked) {
                         LockSupport.unpark(other.thread);
+
+                        // A single idle stripe is enough to execute a single stealable task.
+                        if (stealableOnly)
+                            break;
+                    }
                 }
             }
         }
@@ -862,4 +1003,29 @@ public class StripedExecutor implements ExecutorService, MetricsAwareExecutorSer
             return S.toString(StripeConcurrentQueue.class, this, super.toString());
         }
     }
+
+    /**
+     * Task that may be executed by another stripe.
+     */
+    private static class StealableTask implements Runnable {
+        /** Task. */
+        private final Runnable task;
+
+        /**
+         * @param task Task.
+         */
+        StealableTask(Runnable task) {
+            this.task = task;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void run() {
+            task.run();
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return String.valueOf(task);
+        }
+    }
 }
@@ -35,6 +35,7 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.channels.spi.SelectorProvider;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -88,6 +89,9 @@ import org.apache.ignite.plugin.extensions.communication.MessageWriter;
 import org.apache.ignite.thread.IgniteThread;
 import org.jetbrains.annotations.Nullable;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.processors.tracing.SpanTags.SOCKET_WRITE_BYTES;
@@ -169,6 +173,19 @@ public class GridNioServer<T> {
     /** The name of the metric that provides the active TCP sessions count. */
     public static final String SESSIONS_CNT_METRIC_NAME = "ActiveSessionsCount";
 
+    /** */
+    public static final String SOCKET_WRITES_METRIC_NAME = "SocketWritesCount";
+
+    /** */
+    public static final String SOCKET_WRITES_METRIC_DESC = "Total number of socket writes made by current node";
+
+    /** */
+    public static final String DEFERRED_WRITES_METRIC_NAME = "DeferredWritesCount";
+
+    /** */
+    public static final String DEFERRED_WRITES_METRIC_DESC =
+        "Total number of socket writes postponed by current node to combine them with subsequent messages";
+
     /** Defines how many times selector should do {@code selectNow()} before doing {@code select(long)}. */
     private long selectorSpins;
 
@@ -218,6 +235,9 @@ public class GridNioServer<T> {
     /** Write timeout */
     private volatile long writeTimeout = DFLT_SES_WRITE_TIMEOUT;
 
+    /** Write combining delay in nanoseconds, {@code 0} if write combining is disabled. */
+    private volatile long writeCombiningDelay;
+
     /** Idle timeout. */
     private volatile long idleTimeout = ConnectorConfiguration.DFLT_IDLE_TIMEOUT;
 
@@ -251,6 +271,12 @@ public class GridNioServer<T> {
     /** Outbound messages queue size. */
     @Nullable private final LongAdderMetric outboundMessagesQueueSizeMetric;
 
+    /** Socket writes count metric. */
+    @Nullable private final LongAdderMetric sockWritesCntMetric;
+
+    /** Deferred socket writes count metric. */
+    @Nullable private final LongAdderMetric deferredWritesCntMetric;
+
     /** Sessions. */
     private final GridConcurrentHashSet<GridSelectorNioSessionImpl> sessions = new GridConcurrentHashSet<>();
 
@@ -458,6 +484,12 @@ public class GridNioServer<T> {
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC
         );
 
+        sockWritesCntMetric = mreg == null ?
+            null : mreg.longAdderMetric(SOCKET_WRITES_METRIC_NAME, SOCKET_WRITES_METRIC_DESC);
+
+        deferredWritesCntMetric = mreg == null ?
+            null : mreg.longAdderMetric(DEFERRED_WRITES_METRIC_NAME, DEFERRED_WRITES_METRIC_DESC);
+
         if (mreg != null) {
             mreg.register(SESSIONS_CNT_METRIC_NAME, sessions::size, "Active TCP sessions count.");
 
@@ -989,6 +1021,26 @@ public class GridNioServer<T> {
         this.writeTimeout = writeTimeout;
     }
 
+    /**
+     * Gets write combining delay, {@code 0} if write combining is disabled.
+     *
+     * @return Write combining delay in microseconds.
+     */
+    public long writeCombiningDelay() {
+        return NANOSECONDS.toMicros(writeCombiningDelay);
+    }
+
+    /**
+     * Sets write combining delay. If set, a socket write of a session which has all its queued messages written into
+     * the write buffer, but has filled less than a half of the buffer, is postponed up to this delay, so that
+     * messages sent in the meantime go to the socket by the same write. Applied in direct mode without SSL only.
+     *
+     * @param writeCombiningDelay Write combining delay in microseconds, {@code 0} to disable write combining.
+     */
+    public void writeCombiningDelay(long writeCombiningDelay) {
+        this.writeCombiningDelay = MICROSECONDS.toNanos(writeCombiningDelay);
+    }
+
     /**
      * Gets configurable idle timeout for this session. If not set, default value is
      * {@link ConnectorConfiguration#DFLT_IDLE_TIMEOUT}.
@@ -1674,6 +1726,9 @@ public class GridNioServer<T> {
 
             MessageWriter writer = messageWriter(ses);
 
+            // Only writes of new data are deferred, data left by a previous deferred or partial write is written as is.
+            boolean newBatch = buf.position() == 0;
+
             if (req == null) {
                 req = systemMessage(ses);
 
@@ -1708,6 +1763,16 @@ public class GridNioServer<T> {
                 finished = writeToBuffer(ses, buf, req, writer);
             }
 
+            long delay = writeCombiningDelay;
+
+            if (finished && newBatch && delay > 0 && buf.position() < buf.capacity() >> 1) {
+                deferWrite(key, ses, delay);
+
+                return;
+            }
+
+            ses.writeDeadline(0);
+
             buf.flip();
 
             assert buf.hasRemaining();
@@ -1721,6 +1786,9 @@ public class GridNioServer<T> {
                 if (sentBytesCntMetric != null)
                     sentBytesCntMetric.add(cnt);
 
+                if (sockWritesCntMetric != null)
+                    sockWritesCntMetric.increment();
+
                 ses.bytesSent(cnt);
                 onWrite(cnt);
             }
@@ -1872,6 +1940,10 @@ public class GridNioServer<T> {
         /** {@code True} if worker has called or is about to call {@code Selector.select()}. */
         private volatile boolean select;
 
+        /** Deferred writes in order of their deadlines. */
+        @GridToStringExclude
+        private final ArrayDeque<DeferredWrite> deferredWrites = new ArrayDeque<>();
+
         /**
          * @param idx Index of this worker in server's array.
          * @param igniteInstanceName Ignite instance name.
@@ -2242,6 +2314,9 @@ public class GridNioServer<T> {
                         if (!changeReqs.isEmpty())
                             continue mainLoop;
 
+                        if (!deferredWrites.isEmpty())
+                            flushDeferredWrites();
+
                         // Just in case we do busy selects.
                         long now = U.currentTimeMillis();
 
@@ -2270,7 +2345,23 @@ public class GridNioServer<T> {
                         // call a selectNow() during session migration (to make sure the selector is deregistered
                         // before trying to re-register it again), and in such a case our select() could return 0,
                         // even though the selection set is not empty.
-                        selector.select(2000);
+                        long flushDelay = flushDeferredWrites();
+
+                        if (flushDelay < 0)
+                            selector.select(2000);
+                        else if (flushDelay >= MILLISECONDS.toNanos(1))
+                            selector.select(NANOSECONDS.toMillis(flushDelay));
+                        else {
+                            // Sub-millisecond wait, which is not supported by select(long), so the selector is
+                            // polled until the deadline to keep reacting to network events and change requests.
+                            long deadline = System.nanoTime() + flushDelay;
+
+                            do {
+                                selector.selectNow();
+                            }
+                            while (selector.selectedKeys().isEmpty() && changeReqs.isEmpty() &&
+                                deadline - System.nanoTime() > 0);
+                        }
 
                         blockingSectionEnd();
 
@@ -2343,6 +2434,59 @@ public class GridNioServer<T> {
             selector.selectNow();
         }
 
+        /**
+         * Postpones the socket write of the session. The session stops polling for write until the deadline,
+         * while its messages are still accumulated in the write queue.
+         *
+         * @param key Key.
+         * @param ses Session.
+         * @param delay Delay in nanoseconds.
+         */
+        protected final void deferWrite(SelectionKey key, GridSelectorNioSessionImpl ses, long delay) {
+            long deadline = System.nanoTime() + delay;
+
+            ses.writeDeadline(deadline);
+
+            key.interestOps(key.interestOps() & (~SelectionKey.OP_WRITE));
+
+            deferredWrites.add(new DeferredWrite(ses, deadline));
+
+            if (deferredWritesCntMetric != null)
+                deferredWritesCntMetric.increment();
+        }
+
+        /**
+         * Resumes polling for write for sessions with expired write deadlines.
+         *
+         * @return Nanoseconds to the nearest deadline or {@code -1} if there are no deferred writes.
+         */
+        private long flushDeferredWrites() {
+            long now = System.nanoTime();
+
+            DeferredWrite w;
+
+            while ((w = deferredWrites.peek()) != null) {
+                GridSelectorNioSessionImpl ses = w.ses;
+
+                // Write was made or deferred again since.
+                boolean stale = ses.writeDeadline() != w.deadline || ses.worker() != this;
+
+                if (!stale && w.deadline - now > 0)
+                    return w.deadline - now;
+
+                deferredWrites.poll();
+
+                if (!stale) {
+                    SelectionKey key = ses.key();
+
+                    if (key.isValid())
+                        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                }
+            }
+
+            return -1;
+        }
+
         /**
          * @param ses Session.
          */
@@ -3685,6 +3829,26 @@ public class GridNioServer<T> {
         }
     }
 
+    /**
+     * Write of a session deferred by write combining.
+     */
+    private static final class DeferredWrite {
+        /** Session. */
+        private final GridSelectorNioSessionImpl ses;
+
+        /** Deadline in nanoseconds. */
+        private final long deadline;
+
+        /**
+         * @param ses Session.
+         * @param deadline Deadline in nanoseconds.
+         */
+        DeferredWrite(GridSelectorNioSessionImpl ses, long deadline) {
+            this.ses = ses;
+            this.deadline = deadline;
+        }
+    }
+
     /**
      * Filter forwarding messages from chain's head to this server.
      */
@@ -3835,6 +3999,9 @@ public class GridNioServer<T> {
         /** Write timeout. */
         private long writeTimeout = -1;
 
+        /** Write combining delay in microseconds. */
+        private long writeCombiningDelay;
+
         /** Daemon flag. */
         private boolean daemon;
 
@@ -3905,6 +4072,9 @@ public class GridNioServer<T> {
             if (writeTimeout >= 0)
                 ret.writeTimeout(writeTimeout);
 
+            if (writeCombiningDelay > 0)
+                ret.writeCombiningDelay(writeCombiningDelay);
+
             return ret;
         }
 
@@ -4111,6 +4281,16 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * @param writeCombiningDelay Write combining delay in microseconds.
+         * @return This for chaining.
+         */
+        public Builder<T> writeCombiningDelay(long writeCombiningDelay) {
+            this.writeCombiningDelay = writeCombiningDelay;
+
+            return this;
+        }
+
         /**
          * @param daemon Daemon flag to create threads.
          * @return This for chaining.
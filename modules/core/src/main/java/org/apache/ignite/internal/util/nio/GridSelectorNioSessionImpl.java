@@ -85,6 +85,9 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     /** */
     private Object sysMsg;
 
+    /** Deadline of the deferred socket write in nanoseconds, {@code 0} if the write is not deferred. */
+    private long writeDeadline;
+
     /** Close channel on session #close() called. */
     private volatile boolean closeSocket = true;
 
@@ -167,6 +170,21 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         return worker;
     }
 
+    /**
+     * @return Deadline of the deferred socket write in nanoseconds, {@code 0} if the write is not deferred.
+     */
+    long writeDeadline() {
+        return writeDeadline;
+    }
+
+    /**
+     * @param writeDeadline Deadline of the deferred socket write in nanoseconds, {@code 0} if the write
+     *      is not deferred.
+     */
+    void writeDeadline(long writeDeadline) {
+        this.writeDeadline = writeDeadline;
+    }
+
     /**
      * Sets selection key for this session.
      *
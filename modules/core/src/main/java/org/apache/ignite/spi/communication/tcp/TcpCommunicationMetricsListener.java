@@ -43,10 +43,14 @@ import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
 import static java.util.stream.Collectors.toMap;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.SEPARATOR;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DEFERRED_WRITES_METRIC_DESC;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DEFERRED_WRITES_METRIC_NAME;
 import static org.apache.ignite.internal.util.nio.GridNioServer.RECEIVED_BYTES_METRIC_DESC;
 import static org.apache.ignite.internal.util.nio.GridNioServer.RECEIVED_BYTES_METRIC_NAME;
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_DESC;
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_NAME;
+import static org.apache.ignite.internal.util.nio.GridNioServer.SOCKET_WRITES_METRIC_DESC;
+import static org.apache.ignite.internal.util.nio.GridNioServer.SOCKET_WRITES_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_DESC;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_NAME;
@@ -98,6 +102,12 @@ public class TcpCommunicationMetricsListener {
     /** Received bytes count metric. */
     private final LongAdderMetric rcvdBytesMetric;
 
+    /** Socket writes count metric. */
+    private final LongAdderMetric sockWritesMetric;
+
+    /** Deferred socket writes count metric. */
+    private final LongAdderMetric deferredWritesMetric;
+
     /** Sent messages count metric. */
     private final LongAdderMetric sentMsgsMetric;
 
@@ -142,6 +152,9 @@ public class TcpCommunicationMetricsListener {
         sentBytesMetric = mreg.longAdderMetric(SENT_BYTES_METRIC_NAME, SENT_BYTES_METRIC_DESC);
         rcvdBytesMetric = mreg.longAdderMetric(RECEIVED_BYTES_METRIC_NAME, RECEIVED_BYTES_METRIC_DESC);
 
+        sockWritesMetric = mreg.longAdderMetric(SOCKET_WRITES_METRIC_NAME, SOCKET_WRITES_METRIC_DESC);
+        deferredWritesMetric = mreg.longAdderMetric(DEFERRED_WRITES_METRIC_NAME, DEFERRED_WRITES_METRIC_DESC);
+
         sentMsgsMetric = mreg.longAdderMetric(SENT_MESSAGES_METRIC_NAME, SENT_MESSAGES_METRIC_DESC);
         rcvdMsgsMetric = mreg.longAdderMetric(RECEIVED_MESSAGES_METRIC_NAME, RECEIVED_MESSAGES_METRIC_DESC);
 
@@ -275,6 +288,25 @@ public class TcpCommunicationMetricsListener {
         return rcvdBytesMetric.value();
     }
 
+    /**
+     * Gets count of socket writes. Together with sent messages count it shows how many messages are combined
+     * into a single write.
+     *
+     * @return Socket writes count.
+     */
+    public long socketWritesCount() {
+        return sockWritesMetric.value();
+    }
+
+    /**
+     * Gets count of socket writes postponed by write combining.
+     *
+     * @return Deferred socket writes count.
+     */
+    public long deferredWritesCount() {
+        return deferredWritesMetric.value();
+    }
+
     /**
      * Gets received messages counts (grouped by type).
      *
@@ -371,6 +403,9 @@ public class TcpCommunicationMetricsListener {
         sentBytesMetric.reset();
         rcvdBytesMetric.reset();
 
+        sockWritesMetric.reset();
+        deferredWritesMetric.reset();
+
         for (Metric metric : mreg) {
             if (metric.name().startsWith(SENT_MESSAGES_BY_TYPE_METRIC_NAME))
                 metric.reset();
@@ -274,6 +274,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Default socket write timeout. */
     public static final long DFLT_SOCK_WRITE_TIMEOUT = 2000;
 
+    /** Default write combining delay in microseconds, write combining is disabled by default. */
+    public static final long DFLT_WRITE_COMBINING_DELAY = 0;
+
     /** Default connections per node. */
     public static final int DFLT_CONN_PER_NODE = 1;
 
@@ -277,6 +277,15 @@ public interface TcpCommunicationSpiMBean extends IgniteSpiManagementMBean {
     @MXBeanDescription("Socket write timeout.")
     public long getSocketWriteTimeout();
 
+    /**
+     * Gets write combining delay. A socket write of a connection with few pending bytes is postponed up to this
+     * delay to combine it with messages sent later.
+     *
+     * @return Write combining delay in microseconds.
+     */
+    @MXBeanDescription("Write combining delay in microseconds.")
+    public long getWriteCombiningDelay();
+
     /**
      * Gets number of received messages per connection to node after which acknowledgment message is sent.
      *
@@ -910,6 +910,7 @@ public class GridNioServerWrapper {
                     .sendQueueLimit(cfg.messageQueueLimit())
                     .directMode(true)
                     .writeTimeout(cfg.socketWriteTimeout())
+                    .writeCombiningDelay(cfg.writeCombiningDelay())
                     .selectorSpins(cfg.selectorSpins())
                     .filters(filters.toArray(new GridNioFilter[filters.size()]))
                     .writerFactory(writerFactory)
@@ -328,6 +328,34 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         return (TcpCommunicationSpi)this;
     }
 
+    /**
+     * See {@link #setWriteCombiningDelay(long)}.
+     *
+     * @return Write combining delay in microseconds.
+     */
+    public long getWriteCombiningDelay() {
+        return cfg.writeCombiningDelay();
+    }
+
+    /**
+     * Sets write combining delay in microseconds. If set, a selector thread which has written all queued messages of
+     * a connection into the write buffer, but has filled less than a half of the buffer, postpones the socket write
+     * up to this delay, so that messages sent to the same node in the meantime go to the socket by the same write.
+     * This reduces count of system calls for workloads with many small messages at the cost of message latency.
+     * <p>
+     * Not applied to SSL connections. Default to {@link TcpCommunicationSpi#DFLT_WRITE_COMBINING_DELAY},
+     * which disables write combining.
+     *
+     * @param writeCombiningDelay Write combining delay in microseconds.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setWriteCombiningDelay(long writeCombiningDelay) {
+        cfg.writeCombiningDelay(writeCombiningDelay);
+
+        return (TcpCommunicationSpi)this;
+    }
+
     /**
      * See {@link #setAckSendThreshold(int)}.
      *
@@ -827,6 +855,7 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         }
 
         assertParameter(cfg.socketWriteTimeout() >= 0, "sockWriteTimeout >= 0");
+        assertParameter(cfg.writeCombiningDelay() >= 0, "writeCombiningDelay >= 0");
         assertParameter(cfg.ackSendThreshold() > 0, "ackSndThreshold > 0");
         assertParameter(cfg.unackedMsgsBufferSize() >= 0, "unackedMsgsBufSize >= 0");
 
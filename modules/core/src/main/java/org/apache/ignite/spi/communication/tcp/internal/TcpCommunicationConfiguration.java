@@ -41,6 +41,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_S
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SOCK_BUF_SIZE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SOCK_WRITE_TIMEOUT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_TCP_NODELAY;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_WRITE_COMBINING_DELAY;
 
 /**
  * Class of configuration for {@link TcpCommunicationSpi} segregation.
@@ -121,6 +122,9 @@ public class TcpCommunicationConfiguration implements Serializable {
     /** Socket write timeout. */
     private long sockWriteTimeout = DFLT_SOCK_WRITE_TIMEOUT;
 
+    /** Write combining delay in microseconds. */
+    private long writeCombiningDelay = DFLT_WRITE_COMBINING_DELAY;
+
     /** Bound port. */
     private int boundTcpPort = -1;
 
@@ -452,6 +456,20 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.sockWriteTimeout = sockWriteTimeout;
     }
 
+    /**
+     * @return Write combining delay in microseconds.
+     */
+    public long writeCombiningDelay() {
+        return writeCombiningDelay;
+    }
+
+    /**
+     * @param writeCombiningDelay New write combining delay in microseconds.
+     */
+    public void writeCombiningDelay(long writeCombiningDelay) {
+        this.writeCombiningDelay = writeCombiningDelay;
+    }
+
     /**
      * @return Bound port.
      */
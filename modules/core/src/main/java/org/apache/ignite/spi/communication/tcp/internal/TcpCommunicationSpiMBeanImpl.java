@@ -95,6 +95,11 @@ public class TcpCommunicationSpiMBeanImpl extends IgniteSpiMBeanAdapter implemen
         return cfg.socketWriteTimeout();
     }
 
+    /** {@inheritDoc} */
+    @Override public long getWriteCombiningDelay() {
+        return cfg.writeCombiningDelay();
+    }
+
     /** {@inheritDoc} */
     @Override public int getAckSendThreshold() {
         return cfg.ackSendThreshold();
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.thread;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.HistogramMetricImpl;
+import org.apache.ignite.internal.processors.pool.MetricsAwareExecutorService;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.ACTIVE_COUNT_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.COMPLETED_TASK_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.IS_SHUTDOWN_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.IS_TERMINATED_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.LARGEST_SIZE_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.TASK_COUNT_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.TASK_EXEC_TIME;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.TASK_EXEC_TIME_DESC;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.TASK_EXEC_TIME_HISTOGRAM_BUCKETS;
+
+/**
+ * An {@link ExecutorService} that executes each submitted task in a new virtual thread.
+ * <p>
+ * Virtual threads are available since Java 21. Blocking of a virtual thread releases its carrier thread, so the
+ * number of concurrently executed blocking tasks is not limited by the number of platform threads. Note, that
+ * a virtual thread blocked inside a {@code synchronized} block or a native frame pins its carrier thread, such
+ * pinnings are counted by {@link #onPinned(long)}.
+ * <p>
+ * Virtual threads are not {@link IgniteThread} instances, so they have no {@link IgniteThread#policy()}.
+ */
+public class IgniteVirtualThreadExecutor extends AbstractExecutorService implements MetricsAwareExecutorService {
+    /** Thread name prefix. */
+    private final String threadNamePrefix;
+
+    /** Thread name suffix. */
+    private final String threadNameSuffix;
+
+    /** Index generator for threads. */
+    private final AtomicLong idxGen = new AtomicLong();
+
+    /** Virtual threads factory. */
+    @GridToStringExclude
+    private final ThreadFactory threadFactory;
+
+    /** Threads executing tasks. */
+    @GridToStringExclude
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    /** Mutex to wait for termination. */
+    @GridToStringExclude
+    private final Object termMux = new Object();
+
+    /** Count of submitted tasks. */
+    private final LongAdder taskCnt = new LongAdder();
+
+    /** Count of completed tasks. */
+    private final LongAdder completedTaskCnt = new LongAdder();
+
+    /** Largest number of simultaneously executed tasks. */
+    private final AtomicInteger largestActiveCnt = new AtomicInteger();
+
+    /** Count of virtual threads pinnings. */
+    private final LongAdder pinnedCnt = new LongAdder();
+
+    /** Total time of virtual threads pinnings in milliseconds. */
+    private final LongAdder pinnedTime = new LongAdder();
+
+    /** Shutdown flag. */
+    private volatile boolean shutdown;
+
+    /** Task execution time metric. */
+    @GridToStringExclude
+    private volatile HistogramMetricImpl execTime;
+
+    /**
+     * @param threadName Will be added at the beginning of all created threads.
+     * @param igniteInstanceName Must be the name of the grid.
+     * @param eHnd Uncaught exception handler for threads.
+     * @throws IgniteException If virtual threads are not supported by the JVM.
+     */
+    public IgniteVirtualThreadExecutor(
+        String threadName,
+        String igniteInstanceName,
+        @Nullable UncaughtExceptionHandler eHnd
+    ) {
+        threadNamePrefix = threadName + "-virtual-#";
+        threadNameSuffix = igniteInstanceName != null ? '%' + igniteInstanceName + '%' : "";
+
+        threadFactory = virtualThreadFactory(eHnd);
+
+        execTime = new HistogramMetricImpl(TASK_EXEC_TIME, TASK_EXEC_TIME_DESC, TASK_EXEC_TIME_HISTOGRAM_BUCKETS);
+    }
+
+    /**
+     * @return {@code True} if virtual threads are supported by the JVM.
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+
+            return true;
+        }
+        catch (NoSuchMethodException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates factory of virtual threads using reflection, since virtual threads API isn't available at compile time.
+     *
+     * @param eHnd Uncaught exception handler for threads.
+     * @return Virtual threads factory.
+     */
+    private static ThreadFactory virtualThreadFactory(@Nullable UncaughtExceptionHandler eHnd) {
+        if (!isSupported()) {
+            throw new IgniteException("Virtual threads are not supported by the JVM, Java 21 or later is required " +
+                "[jdk=" + U.jdkString() + ']');
+        }
+
+        try {
+            Class<?> builderCls = Class.forName("java.lang.Thread$Builder");
+
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+            if (eHnd != null) {
+                Method setHnd = builderCls.getMethod("uncaughtExceptionHandler", UncaughtExceptionHandler.class);
+
+                builder = setHnd.invoke(builder, eHnd);
+            }
+
+            return (ThreadFactory)builderCls.getMethod("factory").invoke(builder);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IgniteException("Failed to create virtual threads factory.", e);
+        }
+    }
+
+    /**
+     * @param threadName Thread name.
+     * @return {@code True} if the thread was created by this executor.
+     */
+    public boolean isOwnThread(String threadName) {
+        return threadName.startsWith(threadNamePrefix) && threadName.endsWith(threadNameSuffix);
+    }
+
+    /**
+     * Callback for a pinning of virtual thread of this executor to its carrier thread.
+     *
+     * @param duration Pinning duration in milliseconds.
+     */
+    public void onPinned(long duration) {
+        pinnedCnt.increment();
+        pinnedTime.add(duration);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void execute(@NotNull Runnable cmd) {
+        if (shutdown)
+            throw new RejectedExecutionException("Executor has been shut down: " + threadNamePrefix);
+
+        Thread thread = threadFactory.newThread(() -> run(cmd));
+
+        thread.setName(threadNamePrefix + idxGen.incrementAndGet() + threadNameSuffix);
+
+        threads.add(thread);
+
+        // Check again, since the thread may not be seen by concurrent shutdown.
+        if (shutdown) {
+            threads.remove(thread);
+
+            onThreadFinished();
+
+            throw new RejectedExecutionException("Executor has been shut down: " + threadNamePrefix);
+        }
+
+        taskCnt.increment();
+
+        largestActiveCnt.accumulateAndGet(threads.size(), Math::max);
+
+        thread.start();
+    }
+
+    /**
+     * @param cmd Task.
+     */
+    private void run(Runnable cmd) {
+        long start = U.currentTimeMillis();
+
+        try {
+            cmd.run();
+        }
+        finally {
+            execTime.value(U.currentTimeMillis() - start);
+
+            completedTaskCnt.increment();
+
+            threads.remove(Thread.currentThread());
+
+            onThreadFinished();
+        }
+    }
+
+    /** Notifies threads awaiting termination. */
+    private void onThreadFinished() {
+        if (isTerminated()) {
+            synchronized (termMux) {
+                termMux.notifyAll();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void shutdown() {
+        shutdown = true;
+
+        onThreadFinished();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Empty list (always), since tasks are not queued.
+     */
+    @NotNull @Override public List<Runnable> shutdownNow() {
+        shutdown();
+
+        for (Thread thread : threads)
+            thread.interrupt();
+
+        return Collections.emptyList();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isTerminated() {
+        return shutdown && threads.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean awaitTermination(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        synchronized (termMux) {
+            while (!isTerminated()) {
+                long rmv = deadline - System.nanoTime();
+
+                if (rmv <= 0)
+                    return false;
+
+                TimeUnit.NANOSECONDS.timedWait(termMux, rmv);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return Number of tasks being executed.
+     */
+    public int getActiveCount() {
+        return threads.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void registerMetrics(MetricRegistry mreg) {
+        mreg.register("ActiveCount", this::getActiveCount, ACTIVE_COUNT_DESC);
+        mreg.register("CompletedTaskCount", completedTaskCnt::sum, COMPLETED_TASK_DESC);
+        mreg.register("LargestPoolSize", largestActiveCnt::get, LARGEST_SIZE_DESC);
+        mreg.register("PoolSize", this::getActiveCount, "Current number of virtual threads.");
+        mreg.register("TaskCount", taskCnt::sum, TASK_COUNT_DESC);
+        mreg.register("QueueSize", () -> 0, "Current size of the execution queue, always 0 since tasks " +
+            "are not queued.");
+        mreg.register("Shutdown", this::isShutdown, IS_SHUTDOWN_DESC);
+        mreg.register("Terminated", this::isTerminated, IS_TERMINATED_DESC);
+        mreg.register("VirtualThreadsPinnedCount", pinnedCnt::sum,
+            "Count of virtual threads pinnings to carrier threads longer than the threshold.");
+        mreg.register("VirtualThreadsPinnedTime", pinnedTime::sum,
+            "Total time of virtual threads pinnings to carrier threads longer than the threshold (milliseconds).");
+
+        HistogramMetricImpl execTime0 = execTime;
+
+        execTime = new HistogramMetricImpl(metricName(mreg.name(), TASK_EXEC_TIME), execTime0);
+
+        mreg.register(execTime);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(IgniteVirtualThreadExecutor.class, this);
+    }
+}
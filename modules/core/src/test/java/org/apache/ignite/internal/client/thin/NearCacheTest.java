@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.EventType;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.ClientTransaction;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Thin client near cache test.
+ */
+public class NearCacheTest extends AbstractThinClientTest {
+    /** Timeout. */
+    private static final long TIMEOUT = 5_000L;
+
+    /** Cache name. */
+    private static final String CACHE_NAME = "nearCache";
+
+    /** Near cache maximum size. */
+    private static final int MAX_SIZE = 100;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        grid(0).createCache(new CacheConfiguration<>(CACHE_NAME).setAtomicityMode(TRANSACTIONAL));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(CACHE_NAME).clear();
+
+        super.afterTest();
+    }
+
+    /** Tests that values changed by other clients and server nodes are invalidated. */
+    @Test
+    public void testInvalidation() throws Exception {
+        try (IgniteClient client = startNearClient(); IgniteClient other = startClient(1)) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+            ClientCache<Integer, Integer> otherCache = other.cache(CACHE_NAME);
+
+            for (int i = 0; i < 10; i++)
+                otherCache.put(i, i);
+
+            for (int i = 0; i < 10; i++)
+                assertEquals(i, (int)cache.get(i));
+
+            assertEquals(10, nearCache(cache).size());
+
+            for (int i = 0; i < 10; i++)
+                assertEquals(i, (int)cache.get(i));
+
+            otherCache.put(0, -1);
+            otherCache.remove(1);
+            grid(1).cache(CACHE_NAME).put(2, -2);
+
+            assertTrue(waitForCondition(() -> nearCache(cache).size() == 7, TIMEOUT));
+
+            assertEquals(-1, (int)cache.get(0));
+            assertNull(cache.get(1));
+            assertEquals(-2, (int)cache.get(2));
+            assertEquals(-2, (int)cache.getAsync(2).get());
+        }
+    }
+
+    /** Tests that values of keys without value based equality changed by other nodes are invalidated. */
+    @Test
+    public void testInvalidationOfPojoKeys() throws Exception {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<PojoKey, Integer> cache = client.cache(CACHE_NAME);
+
+            for (int i = 0; i < 10; i++)
+                cache.put(new PojoKey(i), i);
+
+            for (int i = 0; i < 10; i++)
+                assertEquals(i, (int)cache.get(new PojoKey(i)));
+
+            assertEquals(10, nearCache(cache).size());
+
+            for (int i = 0; i < 10; i++)
+                assertEquals(i, (int)nearCache(cache).get(new PojoKey(i)));
+
+            grid(1).cache(CACHE_NAME).put(new PojoKey(0), -1);
+            grid(1).cache(CACHE_NAME).remove(new PojoKey(1));
+
+            assertTrue(waitForCondition(() -> nearCache(cache).size() == 8, TIMEOUT));
+
+            assertEquals(-1, (int)cache.get(new PojoKey(0)));
+            assertNull(cache.get(new PojoKey(1)));
+        }
+    }
+
+    /** Tests that callers never share an instance of a cached value. */
+    @Test
+    public void testValueCopiedOnRead() throws Exception {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, PojoValue> cache = client.cache(CACHE_NAME);
+
+            cache.put(0, new PojoValue(0));
+
+            PojoValue val = cache.get(0);
+
+            assertEquals(1, nearCache(cache).size());
+
+            val.val = -1;
+
+            PojoValue cached = cache.get(0);
+
+            assertNotSame(val, cached);
+            assertEquals(0, cached.val);
+            assertEquals(0, cache.getAsync(0).get().val);
+        }
+    }
+
+    /** Tests that the first asynchronous read doesn't wait for the subscription to cache updates. */
+    @Test
+    public void testAsyncReadSubscribesInBackground() throws Exception {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+
+            cache.put(0, 0);
+
+            assertEquals(0, (int)cache.getAsync(0).get(TIMEOUT, MILLISECONDS));
+
+            // The value read before the subscription is active is not cached.
+            assertEquals(0, nearCache(cache).size());
+
+            assertTrue(waitForCondition(() -> U.<AtomicReference<?>>field(nearCache(cache), "hnd").get() != null,
+                TIMEOUT));
+
+            assertEquals(0, (int)cache.getAsync(0).get(TIMEOUT, MILLISECONDS));
+            assertEquals(1, nearCache(cache).size());
+        }
+    }
+
+    /** Tests that update notifications requested by the near cache carry keys only. */
+    @Test
+    public void testKeysOnlyNotifications() throws Exception {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+
+            List<CacheEntryEvent<? extends Integer, ? extends Integer>> evts = new CopyOnWriteArrayList<>();
+
+            ClientCacheEntryListenerHandler<Integer, Integer> hnd = new ClientCacheEntryListenerHandler<>(
+                U.field(cache, "jCacheAdapter"), U.field(client, "ch"), U.field(client, "marsh"), false);
+
+            try {
+                hnd.startListenKeysAsync(e -> e.forEach(evts::add), null, 1, 0).get(TIMEOUT, MILLISECONDS);
+
+                grid(1).cache(CACHE_NAME).put(0, 0);
+                grid(1).cache(CACHE_NAME).put(0, 1);
+                grid(1).cache(CACHE_NAME).remove(0);
+
+                assertTrue(waitForCondition(() -> evts.size() == 3, TIMEOUT));
+
+                assertEquals(EventType.CREATED, evts.get(0).getEventType());
+                assertEquals(EventType.UPDATED, evts.get(1).getEventType());
+                assertEquals(EventType.REMOVED, evts.get(2).getEventType());
+
+                for (CacheEntryEvent<? extends Integer, ? extends Integer> evt : evts) {
+                    assertEquals(0, (int)evt.getKey());
+                    assertNull(evt.getValue());
+                    assertNull(evt.getOldValue());
+                }
+            }
+            finally {
+                hnd.close();
+            }
+        }
+    }
+
+    /** Tests that values changed by the client itself are visible right after the change. */
+    @Test
+    public void testReadYourWrites() throws Exception {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+
+            cache.put(0, 0);
+
+            assertEquals(0, (int)cache.get(0));
+
+            cache.put(0, 1);
+
+            assertEquals(1, (int)cache.get(0));
+
+            cache.putAsync(0, 2).get();
+
+            assertEquals(2, (int)cache.getAsync(0).get());
+
+            cache.putAll(F.asMap(0, 3, 1, 3));
+
+            assertEquals(3, (int)cache.get(0));
+            assertEquals(3, (int)cache.get(1));
+
+            cache.removeAll();
+
+            assertNull(cache.get(0));
+            assertEquals(0, nearCache(cache).size());
+        }
+    }
+
+    /** Tests that near cache size is bounded. */
+    @Test
+    public void testMaxSize() {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+
+            for (int i = 0; i < MAX_SIZE * 3; i++) {
+                cache.put(i, i);
+
+                assertEquals(i, (int)cache.get(i));
+            }
+
+            assertTrue(nearCache(cache).size() <= MAX_SIZE);
+        }
+    }
+
+    /** Tests that frequently read values are not evicted. */
+    @Test
+    public void testEvictionKeepsHotEntries() {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+
+            cache.put(-1, -1);
+
+            assertEquals(-1, (int)cache.get(-1));
+
+            for (int i = 0; i < MAX_SIZE * 3; i++) {
+                cache.put(i, i);
+
+                assertEquals(i, (int)cache.get(i));
+                assertEquals(-1, (int)cache.get(-1));
+            }
+
+            assertTrue(nearCache(cache).size() <= MAX_SIZE);
+            assertEquals(-1, (int)nearCache(cache).get(-1));
+        }
+    }
+
+    /** Tests that near cache is not used by binary projection and inside transactions. */
+    @Test
+    public void testBypass() {
+        try (IgniteClient client = startNearClient()) {
+            ClientCache<Integer, Integer> cache = client.cache(CACHE_NAME);
+
+            cache.put(0, 0);
+
+            assertNull(U.field(cache.withKeepBinary(), "nearCache"));
+
+            try (ClientTransaction tx = client.transactions().txStart()) {
+                assertEquals(0, (int)cache.get(0));
+            }
+
+            assertEquals(0, nearCache(cache).size());
+        }
+    }
+
+    /**
+     * @return Thin client with near cache.
+     */
+    private IgniteClient startNearClient() {
+        return Ignition.startClient(getClientConfiguration(grid(0))
+            .setNearCacheNames(CACHE_NAME)
+            .setNearCacheMaxSize(MAX_SIZE));
+    }
+
+    /**
+     * @param cache Cache.
+     * @return Near cache.
+     */
+    private static <K, V> ClientNearCache<K, V> nearCache(ClientCache<K, V> cache) {
+        return U.field(cache, "nearCache");
+    }
+
+    /**
+     * Mutable value.
+     */
+    private static class PojoValue {
+        /** */
+        private int val;
+
+        /**
+         * @param val Value.
+         */
+        private PojoValue(int val) {
+            this.val = val;
+        }
+    }
+
+    /**
+     * Key without value based equality.
+     */
+    private static class PojoKey {
+        /** */
+        private final int id;
+
+        /**
+         * @param id Id.
+         */
+        private PojoKey(int id) {
+            this.id = id;
+        }
+    }
+}
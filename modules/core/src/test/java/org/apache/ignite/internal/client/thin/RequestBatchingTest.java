@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.client.IgniteClientFuture;
+import org.apache.ignite.client.Person;
+import org.apache.ignite.client.events.RequestEventListener;
+import org.apache.ignite.client.events.RequestStartEvent;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.junit.Test;
+
+/**
+ * Thin client request batching test.
+ */
+public class RequestBatchingTest extends AbstractThinClientTest {
+    /** Cache name. */
+    private static final String CACHE_NAME = "batchingCache";
+
+    /** Keys count. */
+    private static final int KEYS = 2_000;
+
+    /** Maximum batch size. */
+    private static final int MAX_BATCH_SIZE = 16;
+
+    /** Counts of requests sent by the client by operations. */
+    private final Map<ClientOperation, AtomicInteger> reqs = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+
+        grid(0).createCache(new CacheConfiguration<>(CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(CACHE_NAME).clear();
+
+        reqs.clear();
+
+        super.afterTest();
+    }
+
+    /** Tests that concurrent single key operations complete with correct results. */
+    @Test
+    public void testConcurrentOperations() throws Exception {
+        try (IgniteClient client = startBatchingClient()) {
+            ClientCache<Integer, String> cache = client.cache(CACHE_NAME);
+
+            assertNotNull(U.field(cache, "getBatcher"));
+            assertNotNull(U.field(cache, "putBatcher"));
+
+            List<IgniteClientFuture<Void>> putFuts = new ArrayList<>(KEYS);
+
+            for (int i = 0; i < KEYS; i++)
+                putFuts.add(cache.putAsync(i, "val" + i));
+
+            for (IgniteClientFuture<Void> fut : putFuts)
+                fut.get();
+
+            for (int i = 0; i < KEYS; i++)
+                assertEquals("val" + i, grid(1).cache(CACHE_NAME).get(i));
+
+            assertCoalesced(ClientOperation.CACHE_PUT, ClientOperation.CACHE_PUT_ALL);
+
+            List<IgniteClientFuture<String>> getFuts = new ArrayList<>(KEYS + 1);
+
+            for (int i = 0; i < KEYS; i++)
+                getFuts.add(cache.getAsync(i % 2 == 0 ? i : KEYS - i));
+
+            getFuts.add(cache.getAsync(KEYS));
+
+            for (int i = 0; i < KEYS; i++)
+                assertEquals("val" + (i % 2 == 0 ? i : KEYS - i), getFuts.get(i).get());
+
+            assertNull(getFuts.get(KEYS).get());
+
+            assertCoalesced(ClientOperation.CACHE_GET, ClientOperation.CACHE_GET_ALL);
+
+            cache.put(0, "new");
+
+            assertEquals("new", cache.get(0));
+        }
+    }
+
+    /** Tests that batches never exceed the maximum size and keep operations issued while a batch is in flight. */
+    @Test
+    public void testMaxBatchSize() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Map<Integer, Integer>>> resFuts = new CopyOnWriteArrayList<>();
+
+        ClientOperationBatcher<Integer, Integer, Integer> batcher = heldBatcher(1, batchSizes, resFuts);
+
+        int ops = MAX_BATCH_SIZE * 5 + 3;
+
+        List<IgniteClientFuture<Integer>> futs = new ArrayList<>(ops);
+
+        for (int i = 0; i < ops; i++)
+            futs.add(batcher.submit(i, i));
+
+        // The first operation is sent at once, the rest wait for the batch in flight.
+        for (int i = 0; i < resFuts.size(); i++)
+            resFuts.get(i).complete(null);
+
+        for (int i = 0; i < ops; i++)
+            assertEquals(i, (int)futs.get(i).get());
+
+        assertEquals(F.asList(1, MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, 2),
+            batchSizes);
+    }
+
+    /** Tests that several batches are sent to a route while the previous ones are in flight. */
+    @Test
+    public void testBatchesInFlight() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Map<Integer, Integer>>> resFuts = new CopyOnWriteArrayList<>();
+
+        ClientOperationBatcher<Integer, Integer, Integer> batcher = heldBatcher(2, batchSizes, resFuts);
+
+        int ops = MAX_BATCH_SIZE * 5 + 3;
+
+        List<IgniteClientFuture<Integer>> futs = new ArrayList<>(ops);
+
+        for (int i = 0; i < ops; i++)
+            futs.add(batcher.submit(i, i));
+
+        // Two first operations are sent at once, the rest wait for one of the batches in flight.
+        assertEquals(2, resFuts.size());
+
+        for (int i = 0; i < resFuts.size(); i++)
+            resFuts.get(i).complete(null);
+
+        for (int i = 0; i < ops; i++)
+            assertEquals(i, (int)futs.get(i).get());
+
+        assertEquals(F.asList(1, 1, MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, 1),
+            batchSizes);
+    }
+
+    /** Tests that operations of a failed batch are retried as individual requests. */
+    @Test
+    public void testFailedBatch() throws Exception {
+        List<CompletableFuture<Map<Integer, Integer>>> resFuts = new CopyOnWriteArrayList<>();
+        List<Integer> singleKeys = new CopyOnWriteArrayList<>();
+
+        ClientOperationBatcher<Integer, Integer, Integer> batcher = new ClientOperationBatcher<>(
+            MAX_BATCH_SIZE,
+            1,
+            key -> null,
+            (affKey, args) -> {
+                CompletableFuture<Map<Integer, Integer>> resFut = new CompletableFuture<>();
+
+                resFuts.add(resFut);
+
+                return new IgniteClientFutureImpl<>(resFut);
+            },
+            (key, arg) -> {
+                singleKeys.add(key);
+
+                CompletableFuture<Integer> fut = new CompletableFuture<>();
+
+                if (key == 3)
+                    fut.completeExceptionally(new ClientException("Failed key"));
+                else
+                    fut.complete(arg);
+
+                return new IgniteClientFutureImpl<>(fut);
+            });
+
+        List<IgniteClientFuture<Integer>> futs = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++)
+            futs.add(batcher.submit(i, i));
+
+        // Failure of a single operation batch is not retried.
+        resFuts.get(0).completeExceptionally(new ClientException("Failed batch"));
+
+        assertEquals(2, resFuts.size());
+
+        resFuts.get(1).completeExceptionally(new ClientException("Failed batch"));
+
+        GridTestUtils.assertThrows(log, () -> futs.get(0).get(), ExecutionException.class, "Failed batch");
+
+        assertEquals(F.asList(1, 2, 3, 4), singleKeys);
+
+        assertEquals(1, (int)futs.get(1).get());
+        assertEquals(2, (int)futs.get(2).get());
+        GridTestUtils.assertThrows(log, () -> futs.get(3).get(), ExecutionException.class, "Failed key");
+        assertEquals(4, (int)futs.get(4).get());
+
+        assertEquals(2, resFuts.size());
+    }
+
+    /** Tests that operations on keys without value based equality and on binary object keys are not batched. */
+    @Test
+    public void testNonValueKeys() {
+        try (IgniteClient client = startBatchingClient()) {
+            ClientCache<Person, Integer> cache = client.cache(CACHE_NAME);
+
+            Person key = new Person(1, "name");
+
+            cache.put(key, 1);
+
+            assertEquals(1, (int)cache.get(new Person(1, "name")));
+
+            ClientCache<BinaryObject, Integer> binCache = cache.withKeepBinary();
+
+            BinaryObject binKey = client.binary().toBinary(new Person(2, "name"));
+
+            binCache.put(binKey, 2);
+
+            assertEquals(2, (int)binCache.get(binKey));
+
+            assertEquals(2, requests(ClientOperation.CACHE_PUT));
+            assertEquals(2, requests(ClientOperation.CACHE_GET));
+            assertEquals(0, requests(ClientOperation.CACHE_PUT_ALL));
+            assertEquals(0, requests(ClientOperation.CACHE_GET_ALL));
+        }
+    }
+
+    /** Tests that batching is disabled by default. */
+    @Test
+    public void testDisabledByDefault() {
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, String> cache = client.cache(CACHE_NAME);
+
+            assertNull(U.field(cache, "getBatcher"));
+            assertNull(U.field(cache, "putBatcher"));
+        }
+    }
+
+    /**
+     * Creates batcher which holds batches in flight until their futures are completed and returns the arguments as
+     * results.
+     *
+     * @param maxInFlight Maximum number of batches in flight.
+     * @param batchSizes Sizes of sent batches.
+     * @param resFuts Futures of sent batches.
+     * @return Batcher.
+     */
+    private ClientOperationBatcher<Integer, Integer, Integer> heldBatcher(
+        int maxInFlight,
+        List<Integer> batchSizes,
+        List<CompletableFuture<Map<Integer, Integer>>> resFuts
+    ) {
+        return new ClientOperationBatcher<>(
+            MAX_BATCH_SIZE,
+            maxInFlight,
+            key -> null,
+            (affKey, args) -> {
+                batchSizes.add(args.size());
+
+                CompletableFuture<Map<Integer, Integer>> resFut = new CompletableFuture<>();
+
+                resFuts.add(resFut);
+
+                // Results are the arguments, copied as the batcher owns the map.
+                return new IgniteClientFutureImpl<>(resFut.thenApply(res -> new HashMap<>(args)));
+            },
+            (key, arg) -> {
+                throw new AssertionError("Unexpected single operation: " + key);
+            });
+    }
+
+    /**
+     * Checks that the single key operations were sent as multi key requests and the keys were coalesced.
+     *
+     * @param singleOp Single key operation.
+     * @param batchOp Multi key operation.
+     */
+    private void assertCoalesced(ClientOperation singleOp, ClientOperation batchOp) {
+        assertEquals(0, requests(singleOp));
+
+        int batches = requests(batchOp);
+
+        assertTrue("Unexpected count of requests: " + batches, batches >= KEYS / MAX_BATCH_SIZE && batches < KEYS / 2);
+    }
+
+    /**
+     * @param op Operation.
+     * @return Count of requests of the operation sent by the client.
+     */
+    private int requests(ClientOperation op) {
+        AtomicInteger cnt = reqs.get(op);
+
+        return cnt == null ? 0 : cnt.get();
+    }
+
+    /**
+     * @return Thin client with request batching.
+     */
+    private IgniteClient startBatchingClient() {
+        return Ignition.startClient(getClientConfiguration(grid(0), grid(1))
+            .setRequestBatchingEnabled(true)
+            .setRequestBatchMaxSize(MAX_BATCH_SIZE)
+            .setEventListeners(new RequestEventListener() {
+                @Override public void onRequestStart(RequestStartEvent evt) {
+                    ClientOperation op = ClientOperation.fromCode(evt.operationCode());
+
+                    if (op != null)
+                        reqs.computeIfAbsent(op, k -> new AtomicInteger()).incrementAndGet();
+                }
+            }));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Checks cache operations on caches with compact entry locking enabled.
+ */
+public class CacheCompactEntryLockingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 8;
+
+    /** */
+    private static final int THREADS = 8;
+
+    /** */
+    private static final int OPS_PER_THREAD = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testAtomicInvoke() throws Exception {
+        IgniteCache<Integer, Integer> cache = createCache(ATOMIC);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++)
+                cache.invoke(ThreadLocalRandom.current().nextInt(KEYS), new IncrementProcessor());
+        }, THREADS, "atomic-invoke");
+
+        checkSum(cache);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testPessimisticTx() throws Exception {
+        IgniteCache<Integer, Integer> cache = createCache(TRANSACTIONAL);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                int key = ThreadLocalRandom.current().nextInt(KEYS);
+
+                try (Transaction tx = grid(0).transactions().txStart(PESSIMISTIC, REPEATABLE_READ)) {
+                    Integer val = cache.get(key);
+
+                    cache.put(key, val == null ? 1 : val + 1);
+
+                    tx.commit();
+                }
+            }
+        }, THREADS, "pessimistic-tx");
+
+        checkSum(cache);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testReentrance() throws Exception {
+        IgniteCache<Integer, Integer> cache = createCache(ATOMIC);
+
+        cache.put(0, 0);
+
+        GridCacheEntryEx entry = internalCache(0, DEFAULT_CACHE_NAME).entryEx(0);
+
+        entry.lockEntry();
+
+        try {
+            assertSame(Thread.currentThread(), U.field(entry, "lock"));
+
+            assertTrue(entry.tryLockEntry(0));
+
+            try {
+                assertTrue(entry.lockedByCurrentThread());
+
+                assertFalse(GridTestUtils.runAsync(() -> entry.tryLockEntry(10)).get());
+            }
+            finally {
+                entry.unlockEntry();
+            }
+
+            assertTrue(entry.lockedByCurrentThread());
+        }
+        finally {
+            entry.unlockEntry();
+        }
+
+        assertNull(U.field(entry, "lock"));
+        assertFalse(entry.lockedByCurrentThread());
+
+        assertTrue(GridTestUtils.runAsync(() -> {
+            boolean locked = entry.tryLockEntry(10);
+
+            if (locked)
+                entry.unlockEntry();
+
+            return locked;
+        }).get());
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testInflation() throws Exception {
+        IgniteCache<Integer, Integer> cache = createCache(ATOMIC);
+
+        cache.put(0, 0);
+
+        GridCacheEntryEx entry = internalCache(0, DEFAULT_CACHE_NAME).entryEx(0);
+
+        IgniteInternalFuture<?> fut;
+
+        entry.lockEntry();
+
+        try {
+            fut = GridTestUtils.runAsync(() -> {
+                entry.lockEntry();
+
+                try {
+                    assertTrue(entry.lockedByCurrentThread());
+                }
+                finally {
+                    entry.unlockEntry();
+                }
+            });
+
+            // The waiter replaces the owner thread with the lock holds and registers itself before parking.
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                Object lock = U.field(entry, "lock");
+
+                return !(lock instanceof Thread) && !U.<Collection<Thread>>field(lock, "waiters").isEmpty();
+            }, getTestTimeout()));
+
+            assertTrue(entry.lockedByCurrentThread());
+        }
+        finally {
+            entry.unlockEntry();
+        }
+
+        fut.get(getTestTimeout());
+
+        Object lock = U.field(entry, "lock");
+
+        assertTrue(lock instanceof ReentrantLock);
+        assertFalse(((ReentrantLock)lock).isLocked());
+        assertFalse(entry.lockedByCurrentThread());
+
+        assertTrue(entry.tryLockEntry(0));
+
+        entry.unlockEntry();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testDefaultLocking() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(DEFAULT_CACHE_NAME);
+
+        cache.put(0, 0);
+
+        GridCacheEntryEx entry = internalCache(0, DEFAULT_CACHE_NAME).entryEx(0);
+
+        assertTrue(U.field(entry, "lock") instanceof ReentrantLock);
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @return Cache with compact entry locking.
+     */
+    private IgniteCache<Integer, Integer> createCache(CacheAtomicityMode atomicityMode) {
+        return grid(0).createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(atomicityMode)
+            .setBackups(1)
+            .setCompactEntryLocking(true));
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkSum(IgniteCache<Integer, Integer> cache) {
+        int sum = 0;
+
+        for (int key = 0; key < KEYS; key++) {
+            Integer val = cache.get(key);
+
+            if (val != null)
+                sum += val;
+
+            GridCacheEntryEx entry = internalCache(0, DEFAULT_CACHE_NAME).peekEx(key);
+
+            if (entry != null) {
+                Object lock = U.field(entry, "lock");
+
+                // Contended entries have their locks inflated.
+                assertTrue(lock == null || lock instanceof ReentrantLock && !((ReentrantLock)lock).isLocked());
+                assertFalse(entry.lockedByCurrentThread());
+            }
+        }
+
+        assertEquals(THREADS * OPS_PER_THREAD, sum);
+    }
+
+    /** */
+    private static class IncrementProcessor implements EntryProcessor<Integer, Integer, Void> {
+        /** {@inheritDoc} */
+        @Override public Void process(MutableEntry<Integer, Integer> e, Object... args) {
+            Integer val = e.getValue();
+
+            e.setValue(val == null ? 1 : val + 1);
+
+            return null;
+        }
+    }
+}
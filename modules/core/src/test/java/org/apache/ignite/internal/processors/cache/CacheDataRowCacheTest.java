@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
+/**
+ * Checks reads through the row cache.
+ */
+public class CacheDataRowCacheTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrid(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testAtomic() throws Exception {
+        checkReadsAndUpdates(ATOMIC);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testTransactional() throws Exception {
+        checkReadsAndUpdates(TRANSACTIONAL);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testEviction() throws Exception {
+        long maxSize = 256 * 1024;
+
+        IgniteCache<Integer, byte[]> cache = grid(0).createCache(
+            new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+                .setStatisticsEnabled(true)
+                .setRowCacheMaxSize(maxSize));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, new byte[1024]);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(1024, cache.get(i).length);
+
+        CacheDataRowCache rowCache = grid(0).cachex(DEFAULT_CACHE_NAME).context().rowCache();
+
+        assertTrue(rowCache.sizeInBytes() <= maxSize);
+        assertTrue(rowCache.entries() > 0);
+        assertTrue(metric("RowCacheEvictions") > 0);
+
+        // Frequently read keys are retained.
+        for (int r = 0; r < 10; r++) {
+            for (int i = 0; i < 10; i++)
+                cache.get(i);
+        }
+
+        for (int i = 10; i < KEYS; i++)
+            cache.get(i);
+
+        long hits = metric("RowCacheHits");
+
+        for (int i = 0; i < 10; i++)
+            cache.get(i);
+
+        assertTrue(metric("RowCacheHits") - hits >= 5);
+    }
+
+    /**
+     * Checks that rows cached before partitions moved to other nodes are not read after partitions return.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRebalance() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setBackups(1)
+                .setRowCacheMaxSize(16 * 1024 * 1024));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i, (int)cache.localPeek(i));
+
+        try {
+            startGrid(1);
+            startGrid(2);
+
+            awaitPartitionMapExchange(true, true, null);
+
+            IgniteCache<Integer, Integer> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS; i++)
+                cache1.put(i, -i);
+
+            stopGrid(2);
+
+            awaitPartitionMapExchange(true, true, null);
+
+            for (int i = 0; i < KEYS; i++) {
+                assertEquals(-i, (int)cache.localPeek(i));
+                assertEquals(-i, (int)cache.get(i));
+            }
+        }
+        finally {
+            stopGrid(2);
+            stopGrid(1);
+
+            awaitPartitionMapExchange();
+        }
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private void checkReadsAndUpdates(CacheAtomicityMode atomicityMode) throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(atomicityMode)
+                .setStatisticsEnabled(true)
+                .setRowCacheMaxSize(16 * 1024 * 1024));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        for (int r = 0; r < 2; r++) {
+            for (int i = 0; i < KEYS; i++)
+                assertEquals(i, (int)cache.get(i));
+        }
+
+        assertTrue(metric("RowCacheHits") > 0);
+        assertTrue(metric("RowCacheMisses") > 0);
+
+        CacheDataRowCache rowCache = grid(0).cachex(DEFAULT_CACHE_NAME).context().rowCache();
+
+        assertTrue(rowCache.entries() > 0);
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, -i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(-i, (int)cache.get(i));
+
+        for (int i = 0; i < KEYS; i += 2)
+            cache.remove(i);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i % 2 == 0 ? null : -i, cache.get(i));
+
+        cache.clear();
+
+        for (int i = 0; i < KEYS; i++)
+            assertNull(cache.get(i));
+    }
+
+    /**
+     * @param name Metric name.
+     * @return Metric value.
+     */
+    private long metric(String name) {
+        MetricRegistry mreg = grid(0).context().metric().registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+        return ((LongMetric)mreg.findMetric(name)).value();
+    }
+}
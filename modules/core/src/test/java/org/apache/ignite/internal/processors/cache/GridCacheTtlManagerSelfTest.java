@@ -19,8 +19,14 @@ package org.apache.ignite.internal.processors.cache;
 
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.TouchedExpiryPolicy;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
 import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.IgniteKernal;
 import org.apache.ignite.internal.util.typedef.CAX;
@@ -40,10 +46,36 @@ public class GridCacheTtlManagerSelfTest extends GridCommonAbstractTest {
     /** Test cache mode. */
     protected CacheMode cacheMode;
 
+    /** Persistence enabled flag. */
+    private boolean persistenceEnabled;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        persistenceEnabled = false;
+
+        super.afterTest();
+    }
+
     /** {@inheritDoc} */
     @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
         IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
 
+        if (persistenceEnabled) {
+            cfg.setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+        }
+
         CacheConfiguration ccfg = new CacheConfiguration(DEFAULT_CACHE_NAME);
 
         ccfg.setCacheMode(cacheMode);
@@ -70,6 +102,76 @@ public class GridCacheTtlManagerSelfTest extends GridCommonAbstractTest {
         checkTtl(REPLICATED);
     }
 
+    /**
+     * Checks that a backlog exceeding a single cleanup pass limit is purged and the expiry lag drops to zero.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpiryBacklogPurge() throws Exception {
+        checkExpiryBacklogPurge();
+    }
+
+    /**
+     * Checks that the range purge of the persistent partition stores removes a backlog exceeding a single cleanup
+     * pass limit and that an unlimited expiration pass is handled.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testExpiryBacklogPurgePersistent() throws Exception {
+        persistenceEnabled = true;
+
+        checkExpiryBacklogPurge();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    private void checkExpiryBacklogPurge() throws Exception {
+        cacheMode = PARTITIONED;
+
+        final IgniteKernal g = (IgniteKernal)startGrid(0);
+
+        g.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = g.<Integer, Integer>cache(DEFAULT_CACHE_NAME).withExpiryPolicy(
+            new TouchedExpiryPolicy(new Duration(MILLISECONDS, 500)));
+
+        for (int i = 0; i < 20_000; i++)
+            cache.put(i, i);
+
+        GridCacheTtlManager ttl = g.internalCache(DEFAULT_CACHE_NAME).context().ttl();
+
+        assertTrue(GridTestUtils.waitForCondition(() -> {
+            try {
+                return ttl.pendingSize() == 0 && ttl.expiryLag() == 0;
+            }
+            catch (IgniteCheckedException e) {
+                throw new IgniteException(e);
+            }
+        }, getTestTimeout()));
+
+        assertEquals(0, g.cache(DEFAULT_CACHE_NAME).size());
+
+        for (int i = 0; i < 1_000; i++)
+            cache.put(i, i);
+
+        U.sleep(600);
+
+        // Unlimited pass must not hit the range remove limit checks.
+        g.context().cache().context().database().checkpointReadLock();
+
+        try {
+            assertFalse(ttl.expire(-1));
+        }
+        finally {
+            g.context().cache().context().database().checkpointReadUnlock();
+        }
+
+        assertTrue(GridTestUtils.waitForCondition(() -> g.cache(DEFAULT_CACHE_NAME).size() == 0, getTestTimeout()));
+    }
+
     /**
      * @param mode Cache mode.
      * @throws Exception If failed.
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db;
+
+import java.util.List;
+import javax.cache.Cache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Tests read-ahead of sequential tree scans configured by {@link DataRegionConfiguration#getScanReadAheadDepth()}.
+ */
+public class IgnitePdsScanReadAheadTest extends GridCommonAbstractTest {
+    /** Data region name. */
+    private static final String REGION_NAME = "dr_0";
+
+    /** Number of entries. */
+    private static final int ENTRIES_CNT = 20_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(
+                new DataStorageConfiguration()
+                    .setDataRegionConfigurations(
+                        new DataRegionConfiguration()
+                            .setName(REGION_NAME)
+                            .setPersistenceEnabled(true)
+                            .setMetricsEnabled(true)
+                            .setScanReadAheadDepth(4)
+                    )
+            ).setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                    .setDataRegionName(REGION_NAME)
+                    .setAffinity(new RendezvousAffinityFunction(false, 4))
+            );
+    }
+
+    /**
+     * Checks that a scan of the data which is not loaded after restart requests pages ahead of the cursor
+     * and returns all the entries.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testScanAfterRestart() throws Exception {
+        IgniteEx n = startGrid(0);
+
+        n.cluster().state(ClusterState.ACTIVE);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            n.cache(DEFAULT_CACHE_NAME).put(i, new byte[64]);
+
+        forceCheckpoint();
+
+        stopAllGrids();
+
+        n = startGrid(0);
+
+        List<Cache.Entry<Object, Object>> entries = n.cache(DEFAULT_CACHE_NAME).query(new ScanQuery<>()).getAll();
+
+        assertEquals(ENTRIES_CNT, entries.size());
+
+        MetricRegistry mreg = n.context().metric().registry(metricName(DATAREGION_METRICS_PREFIX, REGION_NAME));
+
+        assertTrue(mreg.<LongMetric>findMetric("ReadAheadPagesRequested").value() > 0);
+
+        long accessed = mreg.<LongMetric>findMetric("ReadAheadHits").value() +
+            mreg.<LongMetric>findMetric("ReadAheadMisses").value();
+
+        assertTrue(accessed > 0);
+    }
+}
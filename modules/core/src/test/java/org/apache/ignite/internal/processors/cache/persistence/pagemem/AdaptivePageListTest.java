@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.AdaptivePageList.NULL_IDX;
+
+/**
+ * Test adaptive two queue pages lists implementation.
+ */
+public class AdaptivePageListTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 20;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** Pages lists. */
+    AdaptivePageList list;
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {AdaptivePageList.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /** */
+    @Test
+    public void testScanResistance() {
+        list = new AdaptivePageList(MAX_PAGES_CNT, region.address());
+
+        for (int i = 0; i < 4; i++)
+            assertFalse(list.onLoad(i, hash(i)));
+
+        // Hits on pages of the recency list don't change pages order.
+        list.onHit(0);
+        list.onHit(2);
+
+        assertRecencyList(0, 1, 2, 3);
+        assertFrequencyList();
+
+        assertEquals(0, list.poll());
+        assertEquals(1, list.poll());
+
+        assertRecencyList(2, 3);
+    }
+
+    /** */
+    @Test
+    public void testFrequencyList() {
+        list = new AdaptivePageList(MAX_PAGES_CNT, region.address());
+
+        for (int i = 0; i < 3; i++)
+            list.addToTail(i, true);
+
+        list.onHit(0);
+
+        assertFrequencyList(1, 2, 0);
+
+        list.onHit(0);
+
+        assertFrequencyList(1, 2, 0);
+
+        list.remove(2);
+
+        assertFrequencyList(1, 0);
+
+        // Frequency list is used if the recency list is empty.
+        assertEquals(1, list.poll());
+        assertTrue(list.frequencyPage(1));
+
+        assertFrequencyList(0);
+
+        assertEquals(0, list.poll());
+        assertEquals(NULL_IDX, list.poll());
+    }
+
+    /** */
+    @Test
+    public void testGhostHits() {
+        list = new AdaptivePageList(MAX_PAGES_CNT, region.address());
+
+        for (int i = 0; i < 4; i++)
+            list.onLoad(i, hash(i));
+
+        list.addToTail(4, true);
+
+        // Target size of the recency list is 0, so pages are replaced from the recency list while it's not empty.
+        assertEquals(0, list.poll());
+        assertFalse(list.frequencyPage(0));
+
+        list.addGhost(hash(0), false);
+
+        assertEquals(1, list.ghostsCount());
+
+        // Ghost hit of the recency list - page goes to the frequency list, target size of recency list grows.
+        assertTrue(list.onLoad(0, hash(0)));
+
+        assertEquals(0, list.ghostsCount());
+        assertEquals(1, list.recencyTarget());
+
+        assertRecencyList(1, 2, 3);
+        assertFrequencyList(4, 0);
+
+        assertEquals(1, list.poll());
+
+        list.addGhost(hash(1), false);
+
+        list.remove(2);
+        list.remove(3);
+
+        // Recency list size is not greater than target size, page is replaced from the frequency list.
+        list.addToTail(1, false);
+
+        assertEquals(4, list.poll());
+
+        list.addGhost(hash(4), true);
+
+        assertEquals(2, list.ghostsCount());
+
+        // Ghost hit of the frequency list - target size of recency list shrinks.
+        assertTrue(list.onLoad(4, hash(4)));
+
+        assertEquals(0, list.recencyTarget());
+
+        assertRecencyList(1);
+        assertFrequencyList(0, 4);
+
+        assertFalse(list.onLoad(5, hash(5)));
+
+        assertRecencyList(1, 5);
+    }
+
+    /** */
+    private static long hash(int pageIdx) {
+        return AdaptivePageList.ghostHash(1, pageIdx);
+    }
+
+    /** */
+    private void assertRecencyList(int... pageIdxs) {
+        assertEquals(toList(pageIdxs), pages(list.recencyHeadIdx(), false));
+        assertEquals(pageIdxs.length, list.recencyCount());
+    }
+
+    /** */
+    private void assertFrequencyList(int... pageIdxs) {
+        assertEquals(toList(pageIdxs), pages(list.frequencyHeadIdx(), true));
+        assertEquals(pageIdxs.length, list.frequencyCount());
+    }
+
+    /** */
+    private static List<Integer> toList(int... pageIdxs) {
+        return Arrays.stream(pageIdxs).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * @param headIdx Index of the head page.
+     * @param freqPage Expected frequency list flag.
+     * @return Pages of the list.
+     */
+    private List<Integer> pages(int headIdx, boolean freqPage) {
+        List<Integer> res = new ArrayList<>();
+
+        int prevIdx = NULL_IDX;
+
+        for (int curIdx = headIdx; curIdx != NULL_IDX; curIdx = list.next(curIdx)) {
+            assertTrue(res.size() < MAX_PAGES_CNT);
+            assertEquals(prevIdx, list.prev(curIdx));
+            assertEquals(freqPage, list.frequencyPage(curIdx));
+
+            res.add(curIdx);
+
+            prevIdx = curIdx;
+        }
+
+        return res;
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.ignite.internal.mem.DirectMemoryProvider;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -419,6 +420,51 @@ public class PageMemoryImplTest extends GridCommonAbstractTest {
             }, null);
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLoadPages() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+
+        TestPageStoreManager pageStoreMgr = new TestPageStoreManager() {
+            @Override public void read(int grpId, long pageId, ByteBuffer pageBuf, boolean keepCrc)
+                throws IgniteCheckedException {
+                reads.incrementAndGet();
+
+                super.read(grpId, pageId, pageBuf, keepCrc);
+            }
+        };
+
+        PageMemoryImpl memory = createPageMemory(
+            MAX_SIZE,
+            PageMemoryImpl.ThrottlingPolicy.DISABLED,
+            pageStoreMgr,
+            pageStoreMgr,
+            null);
+
+        long[] pageIds = new long[100];
+
+        for (int i = 0; i < pageIds.length; i++)
+            pageIds[i] = PageIdUtils.pageId(INDEX_PARTITION, FLAG_IDX, i + 1);
+
+        memory.loadPages(1, pageIds).get(getTestTimeout());
+
+        assertEquals(pageIds.length, reads.get());
+
+        for (long pageId : pageIds)
+            assertTrue(memory.hasLoadedPage(new FullPageId(pageId, 1)));
+
+        // Loaded pages must not be read again.
+        memory.loadPages(1, pageIds).get(getTestTimeout());
+
+        long page = memory.acquirePage(1, pageIds[0]);
+
+        memory.releasePage(1, pageIds[0], page);
+
+        assertEquals(pageIds.length, reads.get());
+    }
+
     /**
      * @param mem Page memory.
      * @param fullPageId Full page ID to write.
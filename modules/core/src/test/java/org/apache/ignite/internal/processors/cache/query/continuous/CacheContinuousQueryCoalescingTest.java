@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query.continuous;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryEventFilter;
+import javax.cache.event.EventType;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.KeyCacheObjectImpl;
+import org.apache.ignite.marshaller.jdk.JdkMarshaller;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests continuous query events coalescing.
+ */
+public class CacheContinuousQueryCoalescingTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS = 10;
+
+    /** Updates count per key. */
+    private static final int UPDATES = 500;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testBatchKeepsLatestEntryOfKey() {
+        CacheContinuousQueryCoalescingBatch batch = new CacheContinuousQueryCoalescingBatch();
+
+        CacheContinuousQueryEntry e1 = entry(1, 1);
+        CacheContinuousQueryEntry e2 = entry(2, 2);
+        CacheContinuousQueryEntry e3 = entry(1, 3);
+        CacheContinuousQueryEntry e4 = entry(1, 5);
+        CacheContinuousQueryEntry e5 = entry(2, 4);
+
+        batch.add(e1);
+        batch.add(Arrays.asList(e2, e3));
+
+        // Out of order entry of the same key.
+        batch.add(e4);
+        batch.add(e5);
+
+        assertEquals(5, batch.entriesCount());
+        assertEquals(2, batch.keysCount());
+
+        assertTrue(e1.isFiltered());
+        assertTrue(e2.isFiltered());
+        assertTrue(e3.isFiltered());
+        assertFalse(e4.isFiltered());
+        assertFalse(e5.isFiltered());
+
+        // Superseded entries are still sent to keep the update counters sequence.
+        assertEquals(Arrays.asList(e1, e2, e3, e4, e5), Arrays.asList(batch.collect().toArray()));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoalesceEvents() throws Exception {
+        checkCoalesceEvents(false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCoalesceEventsWithRemoteFilterFactory() throws Exception {
+        checkCoalesceEvents(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testHandlerSerialization() throws Exception {
+        CacheContinuousQueryHandlerV4<Integer, Integer> hnd = new CacheContinuousQueryHandlerV4<>(
+            DEFAULT_CACHE_NAME,
+            "topic",
+            null,
+            null,
+            null,
+            FactoryBuilder.factoryOf(EvenKeysFilter.class),
+            null,
+            true,
+            false,
+            true,
+            false,
+            true);
+
+        JdkMarshaller marsh = new JdkMarshaller();
+
+        CacheContinuousQueryHandlerV4<Integer, Integer> res = marsh.unmarshal(marsh.marshal(hnd), null);
+
+        assertTrue(res.createBatch() instanceof CacheContinuousQueryCoalescingBatch);
+        assertTrue(res.getEventFilter0() instanceof EvenKeysFilter);
+        assertNull(res.getTransformer0());
+
+        // Handlers of the previous versions keep their format and never coalesce.
+        assertFalse(new CacheContinuousQueryHandlerV2<>().createBatch() instanceof CacheContinuousQueryCoalescingBatch);
+    }
+
+    /**
+     * @param withFilter Whether to filter out odd keys on the remote nodes.
+     * @throws Exception If failed.
+     */
+    private void checkCoalesceEvents(boolean withFilter) throws Exception {
+        startGrids(2);
+
+        IgniteCache<Integer, Integer> cache = startClientGrid(2).createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setBackups(1));
+
+        ConcurrentMap<Integer, Integer> vals = new ConcurrentHashMap<>();
+
+        AtomicInteger evts = new AtomicInteger();
+
+        AtomicBoolean reordered = new AtomicBoolean();
+
+        ContinuousQuery<Integer, Integer> qry = new ContinuousQuery<Integer, Integer>()
+            .setPageSize(100)
+            .setTimeInterval(100)
+            .setCoalesceEvents(true);
+
+        if (withFilter)
+            qry.setRemoteFilterFactory(FactoryBuilder.factoryOf(EvenKeysFilter.class));
+
+        AtomicBoolean filtered = new AtomicBoolean(true);
+
+        qry.setLocalListener(events -> {
+            for (CacheEntryEvent<? extends Integer, ? extends Integer> evt : events) {
+                evts.incrementAndGet();
+
+                if (withFilter && evt.getKey() % 2 != 0)
+                    filtered.set(false);
+
+                Integer prev = vals.put(evt.getKey(), evt.getValue());
+
+                if (prev != null && prev >= evt.getValue())
+                    reordered.set(true);
+            }
+        });
+
+        try (QueryCursor<?> ignored = cache.query(qry)) {
+            for (int i = 0; i < UPDATES; i++) {
+                for (int k = 0; k < KEYS; k++)
+                    cache.put(k, i);
+            }
+
+            assertTrue(waitForCondition(() -> {
+                for (int k = 0; k < KEYS; k += withFilter ? 2 : 1) {
+                    if (!Integer.valueOf(UPDATES - 1).equals(vals.get(k)))
+                        return false;
+                }
+
+                return true;
+            }, getTestTimeout()));
+        }
+
+        assertFalse("Events of a key were delivered out of order.", reordered.get());
+        assertTrue("Events of filtered out keys were delivered.", filtered.get());
+
+        assertTrue("Events were not coalesced [evts=" + evts.get() + ']', evts.get() < KEYS * UPDATES / 2);
+    }
+
+    /** Remote filter that passes events of even keys only. */
+    public static class EvenKeysFilter implements CacheEntryEventFilter<Integer, Integer> {
+        /** {@inheritDoc} */
+        @Override public boolean evaluate(CacheEntryEvent<? extends Integer, ? extends Integer> evt) {
+            return evt.getKey() % 2 == 0;
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @param cntr Update counter.
+     * @return Entry.
+     */
+    private static CacheContinuousQueryEntry entry(int key, long cntr) {
+        return new CacheContinuousQueryEntry(
+            0,
+            EventType.UPDATED,
+            new KeyCacheObjectImpl(key, null, 0),
+            null,
+            null,
+            false,
+            0,
+            cntr,
+            new AffinityTopologyVersion(1),
+            (byte)0);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.warmup;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.HotPagesWarmUpConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryEx;
+import org.apache.ignite.internal.processors.cache.persistence.partstate.GroupPartitionId;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Test class for testing {@link HotPagesWarmUpStrategy}.
+ */
+public class HotPagesWarmUpStrategySelfTest extends GridCommonAbstractTest {
+    /** Data region name. */
+    private static final String REGION_NAME = "dr_0";
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        super.afterTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(
+                new DataStorageConfiguration()
+                    .setDataRegionConfigurations(
+                        new DataRegionConfiguration().setName(REGION_NAME).setPersistenceEnabled(true)
+                            .setWarmUpConfiguration(new HotPagesWarmUpConfiguration()
+                                .setSnapshotFrequency(1)
+                                .setThreads(2))
+                    )
+            ).setCacheConfiguration(
+                new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                    .setDataRegionName(REGION_NAME)
+                    .setAffinity(new RendezvousAffinityFunction(false, 16))
+            );
+    }
+
+    /**
+     * Test checks that pages of the snapshot saved on checkpoint are loaded into data region on restart.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRestoreHotPages() throws Exception {
+        IgniteEx n = startGrid(0);
+        n.cluster().state(ClusterState.ACTIVE);
+
+        for (int i = 0; i < 10_000; i++)
+            n.cache(DEFAULT_CACHE_NAME).put(i, new byte[256]);
+
+        forceCheckpoint();
+
+        stopAllGrids();
+
+        // Snapshot writer is registered by warm-up on node start.
+        n = startGrid(0);
+
+        for (int i = 0; i < 1_000; i++)
+            n.cache(DEFAULT_CACHE_NAME).get(i);
+
+        forceCheckpoint();
+
+        File snapshotFile = HotPagesWarmUpStrategy.snapshotFile(
+            (FilePageStoreManager)n.context().cache().context().pageStore(),
+            dataRegion(n)
+        );
+
+        // Snapshot is saved asynchronously after the checkpoint.
+        assertTrue(waitForCondition(snapshotFile::exists, getTestTimeout()));
+
+        stopAllGrids();
+
+        Map<GroupPartitionId, int[]> snapshot = HotPagesWarmUpStrategy.readSnapshot(snapshotFile);
+
+        assertFalse(snapshot.isEmpty());
+
+        n = startGrid(0);
+
+        Set<FullPageId> loadedPages = new HashSet<>();
+
+        ((PageMemoryEx)dataRegion(n).pageMemory()).forEachLoadedPage(loadedPages::add);
+
+        snapshot.forEach((part, idxs) -> {
+            for (int idx : idxs) {
+                FullPageId fullId = new FullPageId(HotPagesWarmUpStrategy.pageId(part, idx), part.getGroupId());
+
+                assertTrue("Page is not loaded: " + fullId, loadedPages.contains(fullId));
+            }
+        });
+    }
+
+    /**
+     * @param n Node.
+     * @return Data region.
+     */
+    private DataRegion dataRegion(IgniteEx n) throws Exception {
+        return n.context().cache().context().database().dataRegion(REGION_NAME);
+    }
+}
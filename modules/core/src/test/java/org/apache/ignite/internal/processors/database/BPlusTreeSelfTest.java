@@ -262,6 +262,168 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         checkCursor(tree.find(10L, 70L), map.subMap(10L, true, 70L, true).values().iterator());
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testFindAll() throws IgniteCheckedException {
+        MAX_PER_PAGE = 5;
+
+        TestTree tree = createTestTree(true);
+
+        assertEquals(Arrays.asList(null, null), tree.findAll(Arrays.asList(1L, 2L), null));
+
+        // Even rows only, so that odd lookup rows are not found.
+        for (long i = 0; i < 200; i += 2)
+            tree.put(i);
+
+        List<Long> sorted = new ArrayList<>();
+
+        for (long i = -1; i <= 201; i++)
+            sorted.add(i);
+
+        List<Long> shuffled = new ArrayList<>(sorted);
+
+        Collections.shuffle(shuffled);
+
+        for (List<Long> rows : Arrays.asList(sorted, shuffled)) {
+            List<Long> res = tree.findAll(rows, null);
+
+            assertEquals(rows.size(), res.size());
+
+            for (int i = 0; i < rows.size(); i++)
+                assertEquals(tree.findOne(rows.get(i)), res.get(i));
+        }
+
+        assertNoLocks();
+    }
+
+    /**
+     * Checks that rows resolved through a remembered leaf page are correct while concurrent removes merge and recycle
+     * leaf pages.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFindAllConcurrentRemove() throws Exception {
+        MAX_PER_PAGE = 5;
+
+        final int keys = 2000;
+
+        final TestTree tree = createTestTree(true);
+
+        for (long i = 0; i < keys; i++)
+            tree.put(i);
+
+        final AtomicBoolean stopRmv = new AtomicBoolean();
+
+        // Even rows are removed and put back concurrently, odd rows stay in the tree all the time.
+        IgniteInternalFuture<?> rmvFut = multithreadedAsync(() -> {
+            Random rnd = ThreadLocalRandom.current();
+
+            while (!stopRmv.get()) {
+                long from = rnd.nextInt(keys / 2) * 2L;
+                long to = Math.min(keys, from + 2 * (1 + rnd.nextInt(50)));
+
+                for (long i = from; i < to; i += 2)
+                    tree.remove(i);
+
+                for (long i = from; i < to; i += 2)
+                    tree.put(i);
+            }
+
+            return null;
+        }, 4, "remove");
+
+        try {
+            List<Long> rows = new ArrayList<>(keys);
+
+            for (long i = 0; i < keys; i++)
+                rows.add(i);
+
+            for (int iter = 0; iter < 200; iter++) {
+                if (iter % 2 == 1)
+                    Collections.shuffle(rows);
+                else
+                    Collections.sort(rows);
+
+                List<Long> res = tree.findAll(rows, null);
+
+                for (int i = 0; i < rows.size(); i++) {
+                    Long row = rows.get(i);
+
+                    if (row % 2 == 1 || res.get(i) != null)
+                        assertEquals(row, res.get(i));
+                }
+            }
+        }
+        finally {
+            stopRmv.set(true);
+        }
+
+        rmvFut.get(getTestTimeout());
+
+        assertEquals(keys, tree.size());
+
+        tree.validateTree();
+
+        assertNoLocks();
+    }
+
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testBulkLoad() throws IgniteCheckedException {
+        MAX_PER_PAGE = 5;
+
+        for (long size : new long[] {0, 1, 5, 6, 31, 1000}) {
+            TestTree tree = createTestTree(true);
+
+            BPlusTree<Long, Long>.BulkLoad load = tree.bulkLoad();
+
+            for (long i = 0; i < size; i++)
+                load.add(i * 2);
+
+            assertEquals(size, load.finish());
+
+            tree.validateTree();
+
+            assertEquals(size, tree.size());
+
+            for (long i = 0; i < size; i++) {
+                assertEquals((Long)(i * 2), tree.findOne(i * 2));
+                assertNull(tree.findOne(i * 2 + 1));
+            }
+
+            // The tree built bottom-up must support regular updates.
+            for (long i = 0; i < size; i++)
+                tree.put(i * 2 + 1);
+
+            for (long i = 0; i < size; i += 2)
+                tree.remove(i);
+
+            tree.validateTree();
+
+            assertEquals(size * 2 - (size + 1) / 2, tree.size());
+
+            if (size != 0) {
+                try {
+                    tree.bulkLoad();
+
+                    fail();
+                }
+                catch (IgniteCheckedException ignored) {
+                    // Expected, the tree is not empty.
+                }
+            }
+
+            assertNoLocks();
+
+            tree.destroy();
+        }
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
@@ -48,6 +48,7 @@ import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
 import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
 import org.apache.ignite.internal.processors.cache.persistence.evict.NoOpPageEvictionTracker;
+import org.apache.ignite.internal.processors.cache.persistence.freelist.AbstractFreeList;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.CacheFreeList;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.FreeList;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.CacheVersionIO;
@@ -59,11 +60,13 @@ import org.apache.ignite.plugin.extensions.communication.MessageWriter;
 import org.apache.ignite.spi.metric.noop.NoopMetricExporterSpi;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.GridTestKernalContext;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.apache.ignite.testframework.junits.logger.GridTestLog4jLogger;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_FREE_LIST_FINE_SIZE_CLASSES;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -254,6 +257,86 @@ public class CacheFreeListSelfTest extends GridCommonAbstractTest {
         checkInsertDeleteMultiThreaded(16384, true);
     }
 
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_FREE_LIST_FINE_SIZE_CLASSES, value = "true")
+    public void testFineSizeClasses() throws Exception {
+        int pageSize = 4096;
+
+        AbstractFreeList<CacheDataRow> list = (AbstractFreeList<CacheDataRow>)createFreeList(pageSize);
+
+        assertEquals(pageSize / 8, list.bucketsCount());
+
+        list.insertDataRow(new TestDataRow(900, 900), IoStatisticsHolderNoOp.INSTANCE);
+
+        long freeSpace = list.freeSpace();
+
+        // Row of the same size fits the partially filled page and must not take a new one.
+        list.insertDataRow(new TestDataRow(900, 900), IoStatisticsHolderNoOp.INSTANCE);
+
+        assertTrue(list.freeSpace() < freeSpace);
+
+        pageMem.stop(true);
+
+        checkInsertDeleteSingleThreaded(pageSize);
+    }
+
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testFillFactorHistogram() throws Exception {
+        int pageSize = 4096;
+
+        AbstractFreeList<CacheDataRow> list = (AbstractFreeList<CacheDataRow>)createFreeList(pageSize);
+
+        TestDataRow row = new TestDataRow(1000, 1000);
+
+        list.insertDataRow(row, IoStatisticsHolderNoOp.INSTANCE);
+
+        long[] hist = new long[AbstractFreeList.FILL_FACTOR_HISTOGRAM_SIZE];
+
+        list.fillFactorHistogram(hist);
+
+        long[] exp = new long[hist.length];
+
+        exp[(int)((pageSize - list.freeSpace()) * hist.length / pageSize)] = 1;
+
+        assertTrue(Arrays.toString(hist), Arrays.equals(exp, hist));
+
+        Random rnd = new Random();
+
+        List<CacheDataRow> rows = new ArrayList<>();
+
+        rows.add(row);
+
+        for (int i = 0; i < 1_000; i++) {
+            TestDataRow row0 = new TestDataRow(rnd.nextInt(pageSize / 2) + 10, rnd.nextInt(pageSize * 2) + 10);
+
+            list.insertDataRow(row0, IoStatisticsHolderNoOp.INSTANCE);
+
+            rows.add(row0);
+        }
+
+        hist = new long[AbstractFreeList.FILL_FACTOR_HISTOGRAM_SIZE];
+
+        list.fillFactorHistogram(hist);
+
+        assertTrue(Arrays.toString(hist), Arrays.stream(hist).sum() > 0);
+
+        for (CacheDataRow row0 : rows)
+            list.removeDataRowByLink(row0.link(), IoStatisticsHolderNoOp.INSTANCE);
+
+        hist = new long[AbstractFreeList.FILL_FACTOR_HISTOGRAM_SIZE];
+
+        list.fillFactorHistogram(hist);
+
+        assertEquals(Arrays.toString(hist), 0, Arrays.stream(hist).sum());
+        assertTrue(list.emptyDataPages() > 0);
+    }
+
     /**
      * @param pageSize Page size.
      * @throws Exception if failed.
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.datastreamer;
+
+import java.util.function.IntToLongFunction;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.datastreamer.DataStreamerAdaptiveBufferSize.STEP;
+import static org.apache.ignite.internal.processors.datastreamer.DataStreamerAdaptiveBufferSize.WINDOW;
+
+/**
+ * Tests {@link DataStreamerAdaptiveBufferSize}.
+ */
+public class DataStreamerAdaptiveBufferSizeTest extends GridCommonAbstractTest {
+    /** Initial size. */
+    private static final int INIT_SIZE = 512;
+
+    /** */
+    @Test
+    public void testGrowsWhileRateGrows() {
+        // Constant time per batch, so larger batches give higher rate.
+        assertEquals(INIT_SIZE * 8, simulate(size -> 1_000_000L));
+    }
+
+    /** */
+    @Test
+    public void testShrinksWhenRateDrops() {
+        // Time per batch grows faster than its size, so smaller batches give higher rate.
+        assertEquals(INIT_SIZE / 8, simulate(size -> (long)size * size));
+    }
+
+    /** */
+    @Test
+    public void testConvergesToBestSize() {
+        // Fixed overhead and quadratic cost per batch, the rate is highest for batches of 1000 entries.
+        int size = simulate(size0 -> 1_000_000L + (long)size0 * size0);
+
+        assertTrue("Unexpected size: " + size, size >= 1000 / (STEP * STEP) && size <= 1000 * STEP * STEP);
+    }
+
+    /**
+     * @param batchTime Time to complete a batch in nanoseconds by its size.
+     * @return Size after adaptation.
+     */
+    private int simulate(IntToLongFunction batchTime) {
+        long now = 0;
+
+        DataStreamerAdaptiveBufferSize adaptiveSize = new DataStreamerAdaptiveBufferSize(INIT_SIZE, now);
+
+        for (int i = 0; i < 100 * WINDOW; i++) {
+            int size = adaptiveSize.size();
+
+            now += batchTime.applyAsLong(size);
+
+            adaptiveSize.onBatchCompleted(size, now);
+        }
+
+        return adaptiveSize.size();
+    }
+}
@@ -311,6 +311,35 @@ public class DataStreamerImplSelfTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAdaptiveBufferSize() throws Exception {
+        cnt = 0;
+
+        startGrids(2);
+
+        Ignite g0 = grid(0);
+
+        try (IgniteDataStreamer<Integer, String> dataLdr = g0.dataStreamer(DEFAULT_CACHE_NAME)) {
+            dataLdr.adaptiveBufferSize(true);
+            dataLdr.perNodeBufferSize(16);
+
+            assertTrue(dataLdr.adaptiveBufferSize());
+
+            for (int i = 0; i < KEYS_COUNT * 10; i++)
+                dataLdr.addData(i, String.valueOf(i));
+        }
+
+        IgniteCache<Integer, String> c = g0.cache(DEFAULT_CACHE_NAME);
+
+        assertEquals(KEYS_COUNT * 10, c.size());
+
+        for (int i = 0; i < KEYS_COUNT * 10; i++)
+            assertEquals(String.valueOf(i), c.get(i));
+    }
+
     /**
      * Test logging on {@code DataStreamer.addData()} method when cache have no data nodes
      *
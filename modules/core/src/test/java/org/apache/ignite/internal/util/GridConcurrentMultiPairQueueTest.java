@@ -151,4 +151,41 @@ public class GridConcurrentMultiPairQueueTest extends GridCommonAbstractTest {
 
         assertTrue(queue2.initialSize() == arr1.length + arr2.length + arr3.length + arr4.length);
     }
+
+    /** */
+    @Test
+    public void testSegmentAffinity() throws Exception {
+        Collection<T2<Integer, Integer[]>> keyWithArr = new ArrayList<>();
+
+        keyWithArr.add(new T2<>(10, arr2));
+        keyWithArr.add(new T2<>(20, arr1));
+        keyWithArr.add(new T2<>(30, arr4));
+        keyWithArr.add(new T2<>(50, arr3));
+
+        GridConcurrentMultiPairQueue<Integer, Integer> affineQueue = new GridConcurrentMultiPairQueue<>(keyWithArr, true);
+
+        Map<Integer, Long> owners = new ConcurrentHashMap<>();
+
+        Map<Integer, Collection<Integer>> polled = new ConcurrentHashMap<>();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            GridConcurrentMultiPairQueue.Result<Integer, Integer> res =
+                new GridConcurrentMultiPairQueue.Result<>();
+
+            while (affineQueue.next(res)) {
+                long owner = owners.computeIfAbsent(res.getKey(), k -> Thread.currentThread().getId());
+
+                assertEquals(owner, Thread.currentThread().getId());
+
+                polled.computeIfAbsent(res.getKey(), k -> new ArrayList<>()).add(res.getValue());
+            }
+        }, ThreadLocalRandom.current().nextInt(1, 20), "GridConcurrentMultiPairQueue affinity test");
+
+        assertTrue(affineQueue.isEmpty());
+
+        assertEquals(3, polled.size());
+        assertEquals(Arrays.asList(arr2), polled.get(10));
+        assertEquals(Arrays.asList(arr1), polled.get(20));
+        assertEquals(Arrays.asList(arr3), polled.get(50));
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.util;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.ignite.lang.IgniteInClosure;
 import org.apache.ignite.logger.java.JavaLogger;
 import org.apache.ignite.testframework.GridTestUtils;
@@ -158,6 +160,42 @@ public class StripedExecutorTest extends GridCommonAbstractTest {
         assertTrue(stripedExecSvc.detectStarvation());
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStealableTasksStealing() throws Exception {
+        StripedExecutor stealingExecSvc = new StripedExecutor(3, "foo name", "pool name", new JavaLogger(),
+            new IgniteInClosure<Throwable>() {
+                @Override public void apply(Throwable throwable) {}
+            }, true, true, null, 2000);
+
+        try {
+            stealingExecSvc.execute(0, new TestRunnable(true));
+
+            assertTrue(GridTestUtils.waitForCondition(() -> stealingExecSvc.activeStripesCount() == 1, 10000));
+
+            CountDownLatch stolenLatch = new CountDownLatch(1);
+
+            stealingExecSvc.execute(0, new TestRunnable());
+            stealingExecSvc.execute(0, stolenLatch::countDown, true);
+
+            assertTrue(stolenLatch.await(10, TimeUnit.SECONDS));
+
+            long[] stolenTasks = stealingExecSvc.stripesStolenTasks();
+
+            assertEquals(0, stolenTasks[0]);
+            assertEquals(1, stolenTasks[1] + stolenTasks[2]);
+            assertEquals(1, stealingExecSvc.stolenTasks());
+
+            // Task which is sensitive to the ordering waits for the busy stripe.
+            assertEquals(1, stealingExecSvc.queueStripeSize(0));
+        }
+        finally {
+            stealingExecSvc.shutdown();
+        }
+    }
+
     /**
      *
      */
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteMessaging;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.util.nio.GridNioServer.DEFERRED_WRITES_METRIC_NAME;
+import static org.apache.ignite.internal.util.nio.GridNioServer.SOCKET_WRITES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+
+/**
+ * Checks that socket writes of small messages are postponed and combined when write combining is enabled.
+ */
+public class GridTcpCommunicationSpiWriteCombiningSelfTest extends GridCommonAbstractTest {
+    /** */
+    private static final String TOPIC = "write-combining";
+
+    /** */
+    private static final int MSGS = 1_000;
+
+    /** Write combining delay in microseconds. */
+    private long writeCombiningDelay;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi().setWriteCombiningDelay(writeCombiningDelay));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testWriteCombining() throws Exception {
+        writeCombiningDelay = 10_000;
+
+        startGrids(2);
+
+        long[] writes = sendMessages();
+
+        assertTrue("Socket writes were not deferred", writes[1] > 0);
+        assertTrue("Messages were not combined [msgs=" + MSGS + ", writes=" + writes[0] + ']', writes[0] < MSGS);
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testWriteCombiningDisabled() throws Exception {
+        startGrids(2);
+
+        long[] writes = sendMessages();
+
+        assertTrue(writes[0] > 0);
+        assertEquals(0, writes[1]);
+    }
+
+    /**
+     * Sends messages from the first node to the second one and waits for them to be received.
+     *
+     * @return Counts of socket writes and deferred socket writes made by the first node while sending.
+     * @throws Exception If failed.
+     */
+    private long[] sendMessages() throws Exception {
+        CountDownLatch latch = new CountDownLatch(MSGS);
+
+        grid(1).message().localListen(TOPIC, (nodeId, msg) -> {
+            latch.countDown();
+
+            return true;
+        });
+
+        IgniteEx ignite = grid(0);
+
+        MetricRegistry mreg = ignite.context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME);
+
+        LongAdderMetric sockWrites = mreg.findMetric(SOCKET_WRITES_METRIC_NAME);
+        LongAdderMetric deferredWrites = mreg.findMetric(DEFERRED_WRITES_METRIC_NAME);
+
+        long sockWrites0 = sockWrites.value();
+        long deferredWrites0 = deferredWrites.value();
+
+        IgniteMessaging msg = ignite.message(ignite.cluster().forRemotes());
+
+        for (int i = 0; i < MSGS; i++)
+            msg.send(TOPIC, i);
+
+        assertTrue(latch.await(getTestTimeout(), TimeUnit.MILLISECONDS));
+
+        return new long[] {sockWrites.value() - sockWrites0, deferredWrites.value() - deferredWrites0};
+    }
+}
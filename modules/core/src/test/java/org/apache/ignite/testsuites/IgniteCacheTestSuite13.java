@@ -35,6 +35,8 @@ import org.apache.ignite.internal.metric.SystemViewClusterActivationTest;
 import org.apache.ignite.internal.metric.SystemViewComputeJobTest;
 import org.apache.ignite.internal.metric.SystemViewSelfTest;
 import org.apache.ignite.internal.processors.cache.CacheClearAsyncDeadlockTest;
+import org.apache.ignite.internal.processors.cache.CacheCompactEntryLockingTest;
+import org.apache.ignite.internal.processors.cache.CacheDataRowCacheTest;
 import org.apache.ignite.internal.processors.cache.GridCacheDataTypesCoverageTest;
 import org.apache.ignite.internal.processors.cache.GridCacheLongRunningTransactionDiagnosticsTest;
 import org.apache.ignite.internal.processors.cache.GridCacheVersionGenerationWithCacheStorageTest;
@@ -102,6 +104,8 @@ public class IgniteCacheTestSuite13 {
         GridTestUtils.addTestIfNeeded(suite, ClusterNameBeforeActivation.class, ignoredTests);
 
         GridTestUtils.addTestIfNeeded(suite, CacheClearAsyncDeadlockTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, CacheCompactEntryLockingTest.class, ignoredTests);
+        GridTestUtils.addTestIfNeeded(suite, CacheDataRowCacheTest.class, ignoredTests);
 
         GridTestUtils.addTestIfNeeded(suite, TxAsyncOpsSemaphorePermitsExceededTest.class, ignoredTests);
 
@@ -57,6 +57,7 @@ import org.apache.ignite.thread.GridThreadPoolExecutorServiceSelfTest;
 import org.apache.ignite.thread.GridThreadTest;
 import org.apache.ignite.thread.IgniteThreadPoolSizeTest;
 import org.apache.ignite.thread.ThreadPoolMetricsTest;
+import org.apache.ignite.thread.VirtualThreadExecutorTest;
 import org.apache.ignite.util.GridConcurrentLinkedDequeMultiThreadedTest;
 import org.apache.ignite.util.GridIntListSelfTest;
 import org.apache.ignite.util.GridLogThrottleTest;
@@ -126,6 +127,7 @@ import org.junit.runners.Suite;
     ClusterMetricsSelfTest.class,
     ClusterRebalancedMetricTest.class,
     ThreadPoolMetricsTest.class,
+    VirtualThreadExecutorTest.class,
 
     // Unsafe.
     GridUnsafeMemorySelfTest.class,
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.thread;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.ExecutorConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+import static org.apache.ignite.internal.processors.pool.PoolProcessor.THREAD_POOLS;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrowsAnyCause;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests executors with virtual threads.
+ */
+public class VirtualThreadExecutorTest extends GridCommonAbstractTest {
+    /** Custom executor name. */
+    private static final String CUSTOM_EXEC = "customExec";
+
+    /** Count of tasks. */
+    private static final int TASKS = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setVirtualThreadsEnabled(true)
+            .setExecutorConfiguration(new ExecutorConfiguration(CUSTOM_EXEC).setVirtualThreadsEnabled(true));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * Tests that blocked tasks don't prevent execution of other tasks.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBlockingTasks() throws Exception {
+        assumeTrue(IgniteVirtualThreadExecutor.isSupported());
+
+        IgniteVirtualThreadExecutor exec = new IgniteVirtualThreadExecutor("test", getTestIgniteInstanceName(), null);
+
+        CountDownLatch startLatch = new CountDownLatch(TASKS);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+
+        try {
+            for (int i = 0; i < TASKS; i++) {
+                exec.execute(() -> {
+                    startLatch.countDown();
+
+                    try {
+                        releaseLatch.await();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertTrue(startLatch.await(getTestTimeout(), TimeUnit.MILLISECONDS));
+
+            assertEquals(TASKS, exec.getActiveCount());
+        }
+        finally {
+            releaseLatch.countDown();
+        }
+
+        assertTrue(waitForCondition(() -> exec.getActiveCount() == 0, getTestTimeout()));
+
+        exec.shutdown();
+
+        assertTrue(exec.awaitTermination(getTestTimeout(), TimeUnit.MILLISECONDS));
+        assertTrue(exec.isTerminated());
+    }
+
+    /**
+     * Tests that compute jobs are executed by virtual threads of public and custom executors.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testComputeJobs() throws Exception {
+        assumeTrue(IgniteVirtualThreadExecutor.isSupported());
+
+        IgniteEx ignite = startGrid(0);
+
+        String name = ignite.compute().call(() -> Thread.currentThread().getName());
+
+        IgniteVirtualThreadExecutor pubExec =
+            (IgniteVirtualThreadExecutor)ignite.context().pools().getExecutorService();
+
+        assertTrue(name, pubExec.isOwnThread(name));
+
+        name = ignite.compute().withExecutor(CUSTOM_EXEC).call(() -> Thread.currentThread().getName());
+
+        assertTrue(name, name.startsWith(CUSTOM_EXEC + "-virtual-#"));
+
+        ReadOnlyMetricRegistry mreg = ignite.context().metric().registry(metricName(THREAD_POOLS,
+            "GridExecutionExecutor"));
+
+        assertTrue(mreg.<LongMetric>findMetric("TaskCount").value() > 0);
+        assertNotNull(mreg.findMetric("VirtualThreadsPinnedCount"));
+    }
+
+    /**
+     * Tests that node start fails if virtual threads are not supported.
+     */
+    @Test
+    public void testNotSupported() {
+        assumeFalse(IgniteVirtualThreadExecutor.isSupported());
+
+        assertThrowsAnyCause(log, () -> startGrid(0), IgniteException.class, "Virtual threads are not supported");
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.testsuites;
 
+import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryCoalescingTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryEventBufferTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryFactoryFilterRandomOperationTest;
 import org.apache.ignite.internal.processors.cache.query.continuous.CacheContinuousQueryLostPartitionTest;
@@ -43,6 +44,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
     IgniteCacheContinuousQueryImmutableEntryTest.class,
     CacheContinuousQueryEventBufferTest.class,
+    CacheContinuousQueryCoalescingTest.class,
     GridCacheContinuousQueryReplicatedTxOneNodeTest.class,
     CacheContinuousWithTransformerFailoverTest.class,
     ContinuousQueryRemoteFilterMissingInClassPathSelfTest.class,
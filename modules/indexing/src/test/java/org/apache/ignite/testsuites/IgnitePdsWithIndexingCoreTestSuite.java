@@ -25,6 +25,7 @@ import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsCorrupte
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsMarshallerMappingRestoreOnNodeStartTest;
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsTxCacheRebalancingTest;
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePdsTxHistoricalRebalancingTest;
+import org.apache.ignite.internal.processors.cache.persistence.IgnitePersistencePartitionedCheckpointTest;
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePersistenceSequentialCheckpointTest;
 import org.apache.ignite.internal.processors.cache.persistence.IgnitePersistentStoreCacheGroupsTest;
 import org.apache.ignite.internal.processors.cache.persistence.PersistenceDirectoryWarningLoggingTest;
@@ -65,6 +66,7 @@ import org.junit.runners.Suite;
     IgnitePdsMultiNodePutGetRestartTest.class,
     IgnitePersistentStoreCacheGroupsTest.class,
     IgnitePersistenceSequentialCheckpointTest.class,
+    IgnitePersistencePartitionedCheckpointTest.class,
     PersistenceDirectoryWarningLoggingTest.class,
     WalPathsTest.class,
     WalRecoveryTxLogicalRecordsTest.class,
@@ -32,6 +32,12 @@ namespace Apache.Ignite.Core.Configuration
         /// All checkpoint pages are collected into single list and sorted by page index.
         /// Provides almost sequential disk writes, which can be much faster on some SSD models.
         /// </summary>
-        Sequential
+        Sequential,
+
+        /// <summary>
+        /// Pages are sorted as for <see cref="Sequential"/>, but every partition file is written
+        /// by a single checkpoint thread in ascending order of page index.
+        /// </summary>
+        Partitioned
     }
 }